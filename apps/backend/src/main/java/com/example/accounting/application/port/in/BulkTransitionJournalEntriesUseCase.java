@@ -0,0 +1,19 @@
+package com.example.accounting.application.port.in;
+
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand;
+import com.example.accounting.application.port.out.BulkTransitionJournalEntriesResult;
+import io.vavr.control.Either;
+
+/**
+ * 仕訳一括状態遷移ユースケース（一括承認・確定・差し戻し）
+ */
+public interface BulkTransitionJournalEntriesUseCase {
+
+    /**
+     * 対象の仕訳をまとめて状態遷移する
+     *
+     * @param command 一括状態遷移コマンド
+     * @return 遷移結果（対象件数が上限を超える場合はエラーメッセージ）
+     */
+    Either<String, BulkTransitionJournalEntriesResult> execute(BulkTransitionJournalEntriesCommand command);
+}
@@ -0,0 +1,11 @@
+package com.example.accounting.application.port.in;
+
+import com.example.accounting.application.port.in.command.CancelJournalEntryConfirmationCommand;
+import com.example.accounting.application.port.out.CancelJournalEntryConfirmationResult;
+
+/**
+ * 仕訳確定取消ユースケース
+ */
+public interface CancelJournalEntryConfirmationUseCase {
+    CancelJournalEntryConfirmationResult execute(CancelJournalEntryConfirmationCommand command);
+}
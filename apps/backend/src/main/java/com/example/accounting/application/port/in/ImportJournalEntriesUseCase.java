@@ -0,0 +1,53 @@
+package com.example.accounting.application.port.in;
+
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult;
+import io.vavr.control.Either;
+
+import java.util.Optional;
+
+/**
+ * 仕訳一括取込ユースケース
+ */
+public interface ImportJournalEntriesUseCase {
+
+    /**
+     * 取込ファイルを保管し、仕訳を下書きとして一括登録するジョブを非同期で開始する
+     *
+     * @param command 取込コマンド
+     * @return Either（左: エラーメッセージ、右: 開始したジョブの進捗）
+     */
+    Either<String, ImportJournalEntriesResult> start(ImportJournalEntriesCommand command);
+
+    /**
+     * ジョブの進捗を取得する
+     *
+     * @param jobId ジョブID
+     * @return ジョブの進捗（存在しない場合は empty）
+     */
+    Optional<ImportJournalEntriesResult> findJob(String jobId);
+
+    /**
+     * ジョブを開始したユーザーを取得する（照会・中止・再開の権限確認用）
+     *
+     * @param jobId ジョブID
+     * @return 作成者ユーザーID（ジョブが存在しない場合は empty）
+     */
+    Optional<String> findOwner(String jobId);
+
+    /**
+     * 実行中のジョブを中止する（最後にコミットしたチャンクまでは登録済みのまま残る）
+     *
+     * @param jobId ジョブID
+     * @return Either（左: エラーメッセージ、右: 中止を受け付けたジョブの進捗）
+     */
+    Either<String, ImportJournalEntriesResult> cancel(String jobId);
+
+    /**
+     * 失敗・中止したジョブを最後にコミットしたチャンクの次の行から再開する
+     *
+     * @param jobId ジョブID
+     * @return Either（左: エラーメッセージ、右: 再開したジョブの進捗）
+     */
+    Either<String, ImportJournalEntriesResult> resume(String jobId);
+}
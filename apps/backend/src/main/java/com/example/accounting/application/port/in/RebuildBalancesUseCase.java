@@ -0,0 +1,29 @@
+package com.example.accounting.application.port.in;
+
+import com.example.accounting.application.port.in.command.RebuildBalancesCommand;
+import com.example.accounting.application.port.out.RebuildBalancesResult;
+import io.vavr.control.Either;
+
+import java.util.Optional;
+
+/**
+ * 残高再構築ユースケース
+ */
+public interface RebuildBalancesUseCase {
+
+    /**
+     * 会計期間の日次・月次残高の再構築を非同期で開始する
+     *
+     * @param command 再構築コマンド
+     * @return Either（左: エラーメッセージ、右: 開始したジョブの進捗）
+     */
+    Either<String, RebuildBalancesResult> start(RebuildBalancesCommand command);
+
+    /**
+     * ジョブの進捗を取得する
+     *
+     * @param jobId ジョブID
+     * @return ジョブの進捗（存在しない場合は empty）
+     */
+    Optional<RebuildBalancesResult> findJob(String jobId);
+}
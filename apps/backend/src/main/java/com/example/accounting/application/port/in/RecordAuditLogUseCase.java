@@ -4,10 +4,20 @@ import com.example.accounting.domain.model.audit.AuditAction;
 import com.example.accounting.domain.model.audit.EntityType;
 import io.vavr.control.Either;
 
+import java.util.List;
+
 public interface RecordAuditLogUseCase {
 
     Either<String, Void> execute(RecordAuditLogCommand command);
 
+    /**
+     * 複数の監査ログをまとめて記録する（一括操作用）
+     *
+     * @param commands 記録する監査ログ
+     * @return 成功時は Right、保存に失敗した場合はエラーメッセージ
+     */
+    Either<String, Void> executeAll(List<RecordAuditLogCommand> commands);
+
     record RecordAuditLogCommand(
             String userId,
             AuditAction actionType,
@@ -0,0 +1,108 @@
+package com.example.accounting.application.port.in.command;
+
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
+import io.vavr.control.Either;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 仕訳一括状態遷移コマンド（一括承認・確定・差し戻し）
+ *
+ * <p>対象は仕訳IDの一覧、または仕訳日付の範囲のどちらか一方で指定する。
+ * 範囲で指定した場合は、範囲内で遷移元ステータスにある仕訳すべてが対象になる。</p>
+ *
+ * @param action 操作
+ * @param journalEntryIds 対象の仕訳ID（範囲で指定する場合は空）
+ * @param dateFrom 仕訳日付開始（null 可）
+ * @param dateTo 仕訳日付終了（null 可）
+ * @param operatorId 操作者ID
+ * @param rejectionReason 差し戻し理由（差し戻しの場合のみ）
+ */
+public record BulkTransitionJournalEntriesCommand(
+        Action action,
+        List<Integer> journalEntryIds,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        String operatorId,
+        String rejectionReason
+) {
+
+    /**
+     * 1 回の一括操作で扱える仕訳の上限件数
+     */
+    public static final int MAX_ENTRIES = 10_000;
+
+    /**
+     * 一括操作の種類と遷移元・遷移先ステータス
+     */
+    public enum Action {
+        APPROVE(JournalEntryStatus.PENDING, JournalEntryStatus.APPROVED),
+        CONFIRM(JournalEntryStatus.APPROVED, JournalEntryStatus.CONFIRMED),
+        REJECT(JournalEntryStatus.PENDING, JournalEntryStatus.DRAFT);
+
+        private final JournalEntryStatus sourceStatus;
+        private final JournalEntryStatus targetStatus;
+
+        Action(JournalEntryStatus sourceStatus, JournalEntryStatus targetStatus) {
+            this.sourceStatus = sourceStatus;
+            this.targetStatus = targetStatus;
+        }
+
+        public JournalEntryStatus sourceStatus() {
+            return sourceStatus;
+        }
+
+        public JournalEntryStatus targetStatus() {
+            return targetStatus;
+        }
+    }
+
+    public BulkTransitionJournalEntriesCommand {
+        journalEntryIds = journalEntryIds == null ? List.of() : List.copyOf(journalEntryIds);
+    }
+
+    public static Either<String, BulkTransitionJournalEntriesCommand> of(
+            Action action,
+            List<Integer> journalEntryIds,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            String operatorId,
+            String rejectionReason
+    ) {
+        if (action == null) {
+            return Either.left("操作は必須です");
+        }
+        if (operatorId == null || operatorId.isBlank()) {
+            return Either.left("操作者IDは必須です");
+        }
+        boolean byIds = journalEntryIds != null && !journalEntryIds.isEmpty();
+        boolean byRange = dateFrom != null || dateTo != null;
+        if (byIds == byRange) {
+            return Either.left("仕訳IDの一覧または仕訳日付の範囲のどちらか一方を指定してください");
+        }
+        if (byIds && journalEntryIds.stream().anyMatch(Objects::isNull)) {
+            return Either.left("仕訳IDは必須です");
+        }
+        List<Integer> distinctIds = byIds ? journalEntryIds.stream().distinct().toList() : List.of();
+        if (distinctIds.size() > MAX_ENTRIES) {
+            return Either.left("一度に操作できる仕訳は " + MAX_ENTRIES + " 件までです");
+        }
+        if (dateFrom != null && dateTo != null && dateFrom.isAfter(dateTo)) {
+            return Either.left("仕訳日付の範囲が正しくありません");
+        }
+        if (action == Action.REJECT && (rejectionReason == null || rejectionReason.isBlank())) {
+            return Either.left("差し戻し理由は必須です");
+        }
+        return Either.right(new BulkTransitionJournalEntriesCommand(
+                action, distinctIds, dateFrom, dateTo, operatorId, rejectionReason));
+    }
+
+    /**
+     * 仕訳日付の範囲で対象を指定しているか
+     */
+    public boolean isRangeSelection() {
+        return journalEntryIds.isEmpty();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.accounting.application.port.in.command;
+
+/**
+ * 仕訳確定取消コマンド
+ *
+ * @param journalEntryId 仕訳ID
+ */
+public record CancelJournalEntryConfirmationCommand(Integer journalEntryId) {
+}
@@ -0,0 +1,47 @@
+package com.example.accounting.application.port.in.command;
+
+import io.vavr.control.Either;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * 仕訳一括取込コマンド
+ *
+ * @param content         取込ファイルの内容（先頭行は見出し行。呼び出し側で閉じる）
+ * @param fileName        取込ファイル名
+ * @param format          ファイル形式
+ * @param createdByUserId 作成者ユーザーID
+ */
+public record ImportJournalEntriesCommand(
+        InputStream content,
+        String fileName,
+        Format format,
+        String createdByUserId
+) {
+
+    /**
+     * 取込ファイル形式
+     */
+    public enum Format {
+        CSV,
+        XLSX;
+
+        /**
+         * ファイル名の拡張子から形式を判定する
+         *
+         * @param fileName ファイル名
+         * @return Either（左: エラーメッセージ、右: ファイル形式）
+         */
+        public static Either<String, Format> fromFileName(String fileName) {
+            String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return Either.right(CSV);
+            }
+            if (name.endsWith(".xlsx")) {
+                return Either.right(XLSX);
+            }
+            return Either.left("取込ファイルは CSV（.csv）または Excel（.xlsx）を指定してください");
+        }
+    }
+}
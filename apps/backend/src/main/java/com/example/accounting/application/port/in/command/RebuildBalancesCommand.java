@@ -0,0 +1,19 @@
+package com.example.accounting.application.port.in.command;
+
+import io.vavr.control.Either;
+
+public record RebuildBalancesCommand(Integer fiscalPeriod) {
+
+    private static final int MIN_FISCAL_PERIOD = 1900;
+    private static final int MAX_FISCAL_PERIOD = 9999;
+
+    public static Either<String, RebuildBalancesCommand> of(Integer fiscalPeriod) {
+        if (fiscalPeriod == null) {
+            return Either.left("会計期間は必須です");
+        }
+        if (fiscalPeriod < MIN_FISCAL_PERIOD || fiscalPeriod > MAX_FISCAL_PERIOD) {
+            return Either.left("会計期間が不正です");
+        }
+        return Either.right(new RebuildBalancesCommand(fiscalPeriod));
+    }
+}
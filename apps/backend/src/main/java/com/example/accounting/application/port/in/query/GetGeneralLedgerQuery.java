@@ -1,17 +1,41 @@
 package com.example.accounting.application.port.in.query;
 
+import com.example.accounting.application.port.out.LedgerCursor;
 import io.vavr.control.Either;
 
 import java.time.LocalDate;
 
+/**
+ * 総勘定元帳照会クエリ
+ *
+ * <p>{@code withTotal} が false の場合は総件数を数えず、次ページの有無（hasNext）のみを返す。
+ * {@code cursor} を指定した場合は page を無視し、前ページの最後の明細の続きから取得する。</p>
+ */
 public record GetGeneralLedgerQuery(
         Integer accountId,
         LocalDate dateFrom,
         LocalDate dateTo,
         int page,
-        int size
+        int size,
+        boolean withTotal,
+        LedgerCursor cursor
 ) {
 
+    /**
+     * 総件数を数えるクエリを生成する
+     */
+    public GetGeneralLedgerQuery(Integer accountId, LocalDate dateFrom, LocalDate dateTo, int page, int size) {
+        this(accountId, dateFrom, dateTo, page, size, true);
+    }
+
+    /**
+     * ページ番号指定（オフセット）のクエリを生成する
+     */
+    public GetGeneralLedgerQuery(Integer accountId, LocalDate dateFrom, LocalDate dateTo, int page, int size,
+                                 boolean withTotal) {
+        this(accountId, dateFrom, dateTo, page, size, withTotal, null);
+    }
+
     public static Either<String, GetGeneralLedgerQuery> of(
             Integer accountId,
             LocalDate dateFrom,
@@ -1,5 +1,6 @@
 package com.example.accounting.application.port.in.query;
 
+import com.example.accounting.application.port.out.JournalEntryCursor;
 import io.vavr.control.Either;
 
 import java.time.LocalDate;
@@ -13,13 +14,17 @@ import java.util.List;
  * @param statuses フィルタ対象ステータス（空の場合は全ステータス）
  * @param dateFrom 仕訳日付開始
  * @param dateTo   仕訳日付終了
+ * @param cursor   キーセットページング用カーソル（指定時は page を無視して続きから取得）
+ * @param withTotal 総件数を数えるか（false の場合は COUNT を発行せず hasNext のみ返す）
  */
 public record GetJournalEntriesQuery(
         int page,
         int size,
         List<String> statuses,
         LocalDate dateFrom,
-        LocalDate dateTo
+        LocalDate dateTo,
+        JournalEntryCursor cursor,
+        boolean withTotal
 ) {
     /**
      * コンパクトコンストラクタ - 防御的コピー
@@ -28,6 +33,13 @@ public record GetJournalEntriesQuery(
         statuses = statuses == null ? List.of() : List.copyOf(statuses);
     }
 
+    /**
+     * ページ番号指定（オフセット）のクエリを生成する
+     */
+    public GetJournalEntriesQuery(int page, int size, List<String> statuses, LocalDate dateFrom, LocalDate dateTo) {
+        this(page, size, statuses, dateFrom, dateTo, null, true);
+    }
+
     public static Either<String, GetJournalEntriesQuery> of(
             int page,
             int size,
@@ -0,0 +1,115 @@
+package com.example.accounting.application.port.in.query;
+
+import io.vavr.control.Either;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 複数期間財務諸表照会クエリ
+ *
+ * <p>開始月から {@code periodCount} 期間分を並べて照会する。期間の単位は月または年（12 か月）。
+ * 貸借対照表は各期間の末日時点の残高、損益計算書は各期間の発生額を列とする。</p>
+ */
+public record GetMultiPeriodStatementQuery(
+        StatementType statementType,
+        YearMonth startMonth,
+        int periodCount,
+        PeriodUnit periodUnit
+) {
+
+    /** 1 回の照会で並べられる期間の上限 */
+    public static final int MAX_PERIODS = 36;
+
+    public static Either<String, GetMultiPeriodStatementQuery> of(
+            String statementType,
+            YearMonth startMonth,
+            Integer periodCount,
+            String periodUnit
+    ) {
+        StatementType type = StatementType.parse(statementType);
+        if (type == null) {
+            return Either.left("帳票の種類は BALANCE_SHEET または PROFIT_AND_LOSS を指定してください");
+        }
+        if (startMonth == null) {
+            return Either.left("開始月は必須です");
+        }
+        if (periodCount == null || periodCount < 1 || periodCount > MAX_PERIODS) {
+            return Either.left("期間数は 1 以上 " + MAX_PERIODS + " 以下である必要があります");
+        }
+        PeriodUnit unit = periodUnit == null ? PeriodUnit.MONTH : PeriodUnit.parse(periodUnit);
+        if (unit == null) {
+            return Either.left("期間の単位は MONTH または YEAR を指定してください");
+        }
+        return Either.right(new GetMultiPeriodStatementQuery(type, startMonth, periodCount, unit));
+    }
+
+    /**
+     * 指定した期間の開始日
+     *
+     * @param index 期間の位置（0 始まり）
+     * @return 開始日
+     */
+    public LocalDate periodStart(int index) {
+        return startMonth.plusMonths((long) index * periodUnit.months()).atDay(1);
+    }
+
+    /**
+     * 指定した期間の末日
+     *
+     * @param index 期間の位置（0 始まり）
+     * @return 末日
+     */
+    public LocalDate periodEnd(int index) {
+        return startMonth.plusMonths((long) (index + 1) * periodUnit.months() - 1).atEndOfMonth();
+    }
+
+    /**
+     * 帳票の種類
+     */
+    public enum StatementType {
+        BALANCE_SHEET,
+        PROFIT_AND_LOSS;
+
+        @SuppressWarnings("PMD.AvoidReturningNull")
+        private static StatementType parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            for (StatementType type : values()) {
+                if (type.name().equalsIgnoreCase(value)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 期間の単位
+     */
+    public enum PeriodUnit {
+        MONTH(1),
+        YEAR(12);
+
+        private final int months;
+
+        PeriodUnit(int months) {
+            this.months = months;
+        }
+
+        public int months() {
+            return months;
+        }
+
+        @SuppressWarnings("PMD.AvoidReturningNull")
+        private static PeriodUnit parse(String value) {
+            for (PeriodUnit unit : values()) {
+                if (unit.name().equalsIgnoreCase(value)) {
+                    return unit;
+                }
+            }
+            return null;
+        }
+    }
+}
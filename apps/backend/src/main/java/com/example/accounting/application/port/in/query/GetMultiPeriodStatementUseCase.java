@@ -0,0 +1,10 @@
+package com.example.accounting.application.port.in.query;
+
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult;
+
+/**
+ * 複数期間財務諸表照会ユースケース
+ */
+public interface GetMultiPeriodStatementUseCase {
+    GetMultiPeriodStatementResult execute(GetMultiPeriodStatementQuery query);
+}
@@ -1,18 +1,43 @@
 package com.example.accounting.application.port.in.query;
 
+import com.example.accounting.application.port.out.LedgerCursor;
 import io.vavr.control.Either;
 
 import java.time.LocalDate;
 
+/**
+ * 補助元帳照会クエリ
+ *
+ * <p>{@code withTotal} が false の場合は総件数を数えず、次ページの有無（hasNext）のみを返す。
+ * {@code cursor} を指定した場合は page を無視し、前ページの最後の明細の続きから取得する。</p>
+ */
 public record GetSubsidiaryLedgerQuery(
         String accountCode,
         String subAccountCode,
         LocalDate dateFrom,
         LocalDate dateTo,
         int page,
-        int size
+        int size,
+        boolean withTotal,
+        LedgerCursor cursor
 ) {
 
+    /**
+     * 総件数を数えるクエリを生成する
+     */
+    public GetSubsidiaryLedgerQuery(String accountCode, String subAccountCode, LocalDate dateFrom, LocalDate dateTo,
+                                    int page, int size) {
+        this(accountCode, subAccountCode, dateFrom, dateTo, page, size, true);
+    }
+
+    /**
+     * ページ番号指定（オフセット）のクエリを生成する
+     */
+    public GetSubsidiaryLedgerQuery(String accountCode, String subAccountCode, LocalDate dateFrom, LocalDate dateTo,
+                                    int page, int size, boolean withTotal) {
+        this(accountCode, subAccountCode, dateFrom, dateTo, page, size, withTotal, null);
+    }
+
     public static Either<String, GetSubsidiaryLedgerQuery> of(
             String accountCode,
             String subAccountCode,
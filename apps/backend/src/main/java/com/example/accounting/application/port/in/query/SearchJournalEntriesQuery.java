@@ -1,5 +1,6 @@
 package com.example.accounting.application.port.in.query;
 
+import com.example.accounting.application.port.out.JournalEntryCursor;
 import io.vavr.control.Either;
 
 import java.math.BigDecimal;
@@ -8,6 +9,11 @@ import java.util.List;
 
 /**
  * 仕訳検索クエリ
+ *
+ * <p>{@code cursor} を指定した場合は page を無視し、カーソル位置の続きから取得する。
+ * {@code withTotal} が false の場合は総件数を数えず、次ページの有無（hasNext）のみを返す。
+ * {@code rankByRelevance} が true の場合は摘要との関連度順に並べる。関連度順はオフセットページングのみで、
+ * {@code cursor} は無視する。</p>
  */
 public record SearchJournalEntriesQuery(
         int page,
@@ -18,12 +24,36 @@ public record SearchJournalEntriesQuery(
         Integer accountId,
         BigDecimal amountFrom,
         BigDecimal amountTo,
-        String description
+        String description,
+        JournalEntryCursor cursor,
+        boolean withTotal,
+        boolean rankByRelevance
 ) {
     public SearchJournalEntriesQuery {
         statuses = statuses == null ? List.of() : List.copyOf(statuses);
     }
 
+    /**
+     * 仕訳日付順（関連度順を使わない）のクエリを生成する
+     */
+    @SuppressWarnings("java:S107") // 検索条件の項目数に合わせるため
+    public SearchJournalEntriesQuery(int page, int size, List<String> statuses, LocalDate dateFrom, LocalDate dateTo,
+                                     Integer accountId, BigDecimal amountFrom, BigDecimal amountTo,
+                                     String description, JournalEntryCursor cursor, boolean withTotal) {
+        this(page, size, statuses, dateFrom, dateTo, accountId, amountFrom, amountTo, description,
+                cursor, withTotal, false);
+    }
+
+    /**
+     * ページ番号指定（オフセット）のクエリを生成する
+     */
+    @SuppressWarnings("java:S107") // 検索条件の項目数に合わせるため
+    public SearchJournalEntriesQuery(int page, int size, List<String> statuses, LocalDate dateFrom, LocalDate dateTo,
+                                     Integer accountId, BigDecimal amountFrom, BigDecimal amountTo,
+                                     String description) {
+        this(page, size, statuses, dateFrom, dateTo, accountId, amountFrom, amountTo, description, null, true);
+    }
+
     public static Either<String, SearchJournalEntriesQuery> of(
             int page,
             int size,
@@ -10,6 +10,14 @@ import java.util.List;
 public interface AuditLogRepository {
     Try<AuditLog> save(AuditLog auditLog);
 
+    /**
+     * 監査ログをまとめて登録する（複数行 INSERT で送信する）
+     *
+     * @param auditLogs 監査ログ
+     * @return Try でラップされた登録件数
+     */
+    Try<Integer> saveAll(List<AuditLog> auditLogs);
+
     Try<List<AuditLog>> search(
             String userId,
             AuditAction actionType,
@@ -0,0 +1,68 @@
+package com.example.accounting.application.port.out;
+
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import io.vavr.control.Try;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 残高チェックポイントリポジトリインターフェース（Output Port）
+ *
+ * <p>月末時点の確定仕訳の借方・貸方累計を勘定科目単位・補助科目単位で保持する。
+ * 元帳・日次残高の開始残高は直近のチェックポイントとそれ以降の明細だけから求めるため、
+ * 転記・転記取消と同一トランザクション内で起票日以降のチェックポイントを更新すること。</p>
+ */
+public interface BalanceCheckpointRepository {
+
+    /**
+     * 仕訳の明細を起票日以降のチェックポイントへ加算する
+     *
+     * @param journalEntryId 仕訳ID
+     * @return Try でラップされた更新（または追加）されたチェックポイント行数
+     */
+    Try<Integer> post(JournalEntryId journalEntryId);
+
+    /**
+     * 複数の仕訳の明細をまとめて起票日以降のチェックポイントへ加算する（一括確定用）
+     *
+     * @param journalEntryIds 仕訳ID
+     * @return Try でラップされた更新（または追加）されたチェックポイント行数
+     */
+    Try<Integer> postAll(List<JournalEntryId> journalEntryIds);
+
+    /**
+     * 仕訳の明細を起票日以降のチェックポイントから減算する（確定取消・逆仕訳用）
+     *
+     * @param journalEntryId 仕訳ID
+     * @return Try でラップされた更新されたチェックポイント行数
+     */
+    Try<Integer> unpost(JournalEntryId journalEntryId);
+
+    /**
+     * 指定日のチェックポイントを直前のチェックポイントと確定仕訳から作り直す
+     *
+     * <p>直前のチェックポイントを起点に積み上げるため、古い日付から順に呼び出すこと。</p>
+     *
+     * @param checkpointDate チェックポイント日（月末日）
+     * @return Try でラップされた登録件数
+     */
+    Try<Integer> rebuild(LocalDate checkpointDate);
+
+    /**
+     * 指定日以前で最も新しいチェックポイント日を取得する
+     *
+     * @param date 基準日
+     * @return Try でラップされたチェックポイント日（無い場合は empty）
+     */
+    Try<Optional<LocalDate>> findLatestCheckpointDateOnOrBefore(LocalDate date);
+
+    /**
+     * 指定日より後のチェックポイント日を古い順に取得する
+     *
+     * @param date 基準日
+     * @return Try でラップされたチェックポイント日一覧
+     */
+    Try<List<LocalDate>> findCheckpointDatesAfter(LocalDate date);
+}
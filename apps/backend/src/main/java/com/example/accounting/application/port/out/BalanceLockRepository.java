@@ -0,0 +1,41 @@
+package com.example.accounting.application.port.out;
+
+import io.vavr.control.Try;
+
+import java.time.YearMonth;
+import java.util.Collection;
+
+/**
+ * 残高更新ロックリポジトリインターフェース（Output Port）
+ *
+ * <p>仕訳の転記と残高の再構築が同じ残高を同時に書き換えないよう、呼び出し元のトランザクションが
+ * 終わるまで保持される行ロックを取得する。転記どうしは共有ロックで並行でき、再構築は排他ロックで
+ * 対象の転記を待たせる。デッドロックを避けるため、常に全体ロック、月ロック（昇順）の順で取得する。</p>
+ */
+public interface BalanceLockRepository {
+
+    /**
+     * 転記用に全体ロックと起票月の月ロックを共有モードで取得する
+     *
+     * @param months 転記する仕訳の起票月
+     * @return Try でラップされた結果
+     */
+    Try<Void> lockForPosting(Collection<YearMonth> months);
+
+    /**
+     * 日次残高の再構築用に、全体ロックを共有モード、対象月の月ロックを排他モードで取得する
+     *
+     * @param month 再構築する月
+     * @return Try でラップされた結果
+     */
+    Try<Void> lockMonthForRebuild(YearMonth month);
+
+    /**
+     * 月次残高・チェックポイントの再構築用に全体ロックを排他モードで取得する
+     *
+     * <p>起票日以降のすべての月次残高・チェックポイントを書き換える転記を、再構築が終わるまで待たせる。</p>
+     *
+     * @return Try でラップされた結果
+     */
+    Try<Void> lockAllForRebuild();
+}
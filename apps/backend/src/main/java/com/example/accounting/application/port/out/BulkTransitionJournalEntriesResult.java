@@ -0,0 +1,49 @@
+package com.example.accounting.application.port.out;
+
+import java.util.List;
+
+/**
+ * 仕訳一括状態遷移結果
+ *
+ * <p>遷移できなかった仕訳（存在しない・ステータスが遷移元と異なる等）は更新せず、理由とともに
+ * {@code failures} に含める。</p>
+ *
+ * @param action 操作（APPROVE / CONFIRM / REJECT）
+ * @param status 遷移後のステータス
+ * @param requested 対象件数
+ * @param succeeded 遷移した件数
+ * @param failed 遷移できなかった件数
+ * @param journalEntryIds 遷移した仕訳ID
+ * @param failures 遷移できなかった仕訳と理由
+ */
+public record BulkTransitionJournalEntriesResult(
+        String action,
+        String status,
+        int requested,
+        int succeeded,
+        int failed,
+        List<Integer> journalEntryIds,
+        List<Failure> failures
+) {
+
+    public BulkTransitionJournalEntriesResult {
+        journalEntryIds = List.copyOf(journalEntryIds);
+        failures = List.copyOf(failures);
+    }
+
+    public static BulkTransitionJournalEntriesResult of(String action, String status,
+                                                        List<Integer> journalEntryIds, List<Failure> failures) {
+        return new BulkTransitionJournalEntriesResult(action, status,
+                journalEntryIds.size() + failures.size(), journalEntryIds.size(), failures.size(),
+                journalEntryIds, failures);
+    }
+
+    /**
+     * 遷移できなかった仕訳
+     *
+     * @param journalEntryId 仕訳ID
+     * @param message 理由
+     */
+    public record Failure(Integer journalEntryId, String message) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.accounting.application.port.out;
+
+public record CancelJournalEntryConfirmationResult(
+        boolean success,
+        Integer journalEntryId,
+        String status,
+        String message,
+        String errorMessage
+) {
+    public static CancelJournalEntryConfirmationResult success(Integer journalEntryId, String status) {
+        return new CancelJournalEntryConfirmationResult(true, journalEntryId, status, "仕訳の確定を取り消しました", null);
+    }
+
+    public static CancelJournalEntryConfirmationResult failure(String errorMessage) {
+        return new CancelJournalEntryConfirmationResult(false, null, null, null, errorMessage);
+    }
+}
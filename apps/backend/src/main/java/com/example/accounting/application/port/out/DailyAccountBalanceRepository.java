@@ -0,0 +1,53 @@
+package com.example.accounting.application.port.out;
+
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import io.vavr.control.Try;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 日次勘定科目残高リポジトリインターフェース（Output Port）
+ *
+ * <p>確定仕訳の明細を日次勘定科目残高（daily_account_balances）へ差分として転記する。
+ * 試算表・貸借対照表・損益計算書はこのテーブルを集計するため、
+ * 確定と同一トランザクション内で呼び出すこと。</p>
+ */
+public interface DailyAccountBalanceRepository {
+
+    /**
+     * 仕訳の明細を日次残高へ加算する
+     *
+     * @param journalEntryId 仕訳ID
+     * @return Try でラップされた更新（または追加）された残高行数
+     */
+    Try<Integer> post(JournalEntryId journalEntryId);
+
+    /**
+     * 複数の仕訳の明細をまとめて日次残高へ加算する（一括確定用）
+     *
+     * @param journalEntryIds 仕訳ID
+     * @return Try でラップされた更新（または追加）された残高行数
+     */
+    Try<Integer> postAll(List<JournalEntryId> journalEntryIds);
+
+    /**
+     * 仕訳の明細を日次残高から減算する（確定取消・逆仕訳用）
+     *
+     * @param journalEntryId 仕訳ID
+     * @return Try でラップされた更新された残高行数
+     */
+    Try<Integer> unpost(JournalEntryId journalEntryId);
+
+    /**
+     * 期間内の日次残高を確定仕訳から作り直す
+     *
+     * <p>削除と再集計を呼び出し元の同一トランザクションで行うため、
+     * 参照側からは再構築前後のどちらかの状態のみが見える。</p>
+     *
+     * @param from 開始日（含む）
+     * @param to 終了日（含まない）
+     * @return Try でラップされた登録件数
+     */
+    Try<Integer> rebuild(LocalDate from, LocalDate to);
+}
@@ -3,32 +3,78 @@ package com.example.accounting.application.port.out;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * 総勘定元帳照会結果
+ *
+ * <p>総件数を数えない場合、{@code totalElements} / {@code totalPages} は -1 となり、
+ * 次ページの有無は {@code hasNext} で判定する。
+ * {@code carriedForwardBalance} はページ先頭より前の残高（前頁繰越）で、先頭ページでは {@code openingBalance} と一致する。
+ * {@code nextCursor} は次ページがある場合に最後の明細と残高を指すカーソル文字列を保持する（無い場合は null）。</p>
+ */
 public record GetGeneralLedgerResult(
         List<GeneralLedgerEntry> content,
         Integer accountId,
         String accountCode,
         String accountName,
         BigDecimal openingBalance,
+        BigDecimal carriedForwardBalance,
         BigDecimal debitTotal,
         BigDecimal creditTotal,
         BigDecimal closingBalance,
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        boolean hasNext,
+        String nextCursor
 ) {
     public GetGeneralLedgerResult {
         content = content == null ? List.of() : List.copyOf(content);
     }
 
+    @SuppressWarnings("java:S107") // 元帳の表示項目数に合わせるため
+    public GetGeneralLedgerResult(List<GeneralLedgerEntry> content, Integer accountId, String accountCode,
+                                  String accountName, BigDecimal openingBalance, BigDecimal debitTotal,
+                                  BigDecimal creditTotal, BigDecimal closingBalance, int page, int size,
+                                  long totalElements, int totalPages) {
+        this(content, accountId, accountCode, accountName, openingBalance, openingBalance, debitTotal, creditTotal,
+                closingBalance, page, size, totalElements, totalPages, page + 1 < totalPages, null);
+    }
+
+    /**
+     * 残高計算済みの明細から次ページ用のカーソルを算出する
+     *
+     * @param content 残高計算済みの明細一覧
+     * @param hasNext 次ページがあるか
+     * @return 次ページがある場合は最後の明細の位置を指すカーソル、それ以外は null
+     */
+    public static String nextCursorOf(List<GeneralLedgerEntry> content, boolean hasNext) {
+        return Optional.of(content)
+                .filter(entries -> hasNext && !entries.isEmpty())
+                .map(entries -> entries.get(entries.size() - 1))
+                .map(last -> new LedgerCursor(last.journalDate(), last.journalEntryId(), last.lineNumber(),
+                        null).encode())
+                .orElse(null);
+    }
+
     public record GeneralLedgerEntry(
             Integer journalEntryId,
+            Integer lineNumber,
             LocalDate journalDate,
             String description,
             BigDecimal debitAmount,
             BigDecimal creditAmount,
             BigDecimal runningBalance
     ) {
+
+        /**
+         * 行番号を持たない明細を生成する
+         */
+        public GeneralLedgerEntry(Integer journalEntryId, LocalDate journalDate, String description,
+                                  BigDecimal debitAmount, BigDecimal creditAmount, BigDecimal runningBalance) {
+            this(journalEntryId, null, journalDate, description, debitAmount, creditAmount, runningBalance);
+        }
     }
 }
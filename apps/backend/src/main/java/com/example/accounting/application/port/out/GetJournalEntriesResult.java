@@ -3,22 +3,58 @@ package com.example.accounting.application.port.out;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * 仕訳一覧取得結果
+ *
+ * <p>総件数を数えない場合、{@code totalElements} / {@code totalPages} は -1 となり、
+ * 次ページの有無は {@code hasNext} で判定する。
+ * {@code nextCursor} は次ページがある場合に最後の仕訳を指すカーソル文字列を保持する（無い場合は null）。</p>
+ */
 public record GetJournalEntriesResult(
     List<JournalEntrySummary> content,
     int page,
     int size,
     long totalElements,
-    int totalPages
+    int totalPages,
+    boolean hasNext,
+    String nextCursor
 ) {
     public GetJournalEntriesResult {
         content = content == null ? List.of() : List.copyOf(content);
     }
 
+    public GetJournalEntriesResult(List<JournalEntrySummary> content, int page, int size,
+                                   long totalElements, int totalPages) {
+        this(content, page, size, totalElements, totalPages, page + 1 < totalPages, null);
+    }
+
     public static GetJournalEntriesResult empty(int page, int size) {
         return new GetJournalEntriesResult(List.of(), page, size, 0L, 0);
     }
 
+    /**
+     * 取得した仕訳から次ページ用のカーソルを算出する
+     *
+     * @param content 取得した仕訳一覧
+     * @param hasNext 次ページがあるか
+     * @return 次ページがある場合は最後の仕訳のカーソル、それ以外は null
+     */
+    public static String nextCursorOf(List<JournalEntrySummary> content, boolean hasNext) {
+        return Optional.of(content)
+                .filter(entries -> hasNext && !entries.isEmpty())
+                .map(entries -> entries.get(entries.size() - 1))
+                .map(last -> new JournalEntryCursor(last.journalDate(), last.journalEntryId()).encode())
+                .orElse(null);
+    }
+
+    /**
+     * 仕訳一覧の 1 行
+     *
+     * <p>{@code highlight} は摘要で検索した場合に、一致した摘要（ヘッダ優先、無ければ明細の行摘要）を
+     * HTML エスケープしたうえで一致箇所を {@code <mark>} で囲んだ文字列。摘要検索以外では null。</p>
+     */
     public record JournalEntrySummary(
         Integer journalEntryId,
         LocalDate journalDate,
@@ -26,7 +62,13 @@ public record GetJournalEntriesResult(
         BigDecimal totalDebitAmount,
         BigDecimal totalCreditAmount,
         String status,
-        Integer version
+        Integer version,
+        String highlight
     ) {
+        public JournalEntrySummary(Integer journalEntryId, LocalDate journalDate, String description,
+                                   BigDecimal totalDebitAmount, BigDecimal totalCreditAmount,
+                                   String status, Integer version) {
+            this(journalEntryId, journalDate, description, totalDebitAmount, totalCreditAmount, status, version, null);
+        }
     }
 }
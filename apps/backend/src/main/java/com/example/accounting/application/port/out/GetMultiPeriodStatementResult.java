@@ -0,0 +1,74 @@
+package com.example.accounting.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 複数期間財務諸表照会結果
+ *
+ * <p>金額のリストはすべて {@code periods} と同じ順に並ぶ。</p>
+ */
+public record GetMultiPeriodStatementResult(
+        String statementType,
+        List<PeriodColumn> periods,
+        List<Section> sections,
+        List<Total> totals
+) {
+    public GetMultiPeriodStatementResult {
+        periods = periods == null ? List.of() : List.copyOf(periods);
+        sections = sections == null ? List.of() : List.copyOf(sections);
+        totals = totals == null ? List.of() : List.copyOf(totals);
+    }
+
+    /**
+     * 期間の列（貸借対照表は dateTo 時点の残高、損益計算書は dateFrom 〜 dateTo の発生額）
+     */
+    public record PeriodColumn(
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            String label
+    ) {
+    }
+
+    /**
+     * セクション（資産・負債・純資産、または収益・費用）
+     */
+    public record Section(
+            String sectionType,
+            String sectionDisplayName,
+            List<Entry> entries,
+            List<BigDecimal> subtotals
+    ) {
+        public Section {
+            entries = entries == null ? List.of() : List.copyOf(entries);
+            subtotals = subtotals == null ? List.of() : List.copyOf(subtotals);
+        }
+    }
+
+    /**
+     * 勘定科目行
+     */
+    public record Entry(
+            String accountCode,
+            String accountName,
+            String accountType,
+            List<BigDecimal> amounts
+    ) {
+        public Entry {
+            amounts = amounts == null ? List.of() : List.copyOf(amounts);
+        }
+    }
+
+    /**
+     * 合計行（資産合計・当期純利益など）
+     */
+    public record Total(
+            String name,
+            List<BigDecimal> amounts
+    ) {
+        public Total {
+            amounts = amounts == null ? List.of() : List.copyOf(amounts);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.accounting.application.port.out;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 仕訳一括取込ジョブの進捗
+ *
+ * <p>エラーのあった仕訳は登録せず、他の仕訳の取込は継続する。
+ * 件数はコミット済みのチェックポイント時点の値で、{@code errors} は先頭 {@link #MAX_REPORTED_ERRORS} 件までを保持する。
+ * {@code rowsPerSecond} は今回の実行（開始または再開）で確定した行数を経過時間で割ったスループット。</p>
+ *
+ * @param jobId            ジョブID
+ * @param fileName         取込ファイル名
+ * @param status           RUNNING / COMPLETED / FAILED / CANCELLED / EXPIRED
+ * @param processedRows    確定したデータ行数（見出し行を除く）
+ * @param lastCommittedRow 最後にコミットしたチャンクの最終行番号
+ * @param importedEntries  登録した仕訳件数
+ * @param failedEntries    エラーにより登録しなかった仕訳件数
+ * @param rowsPerSecond    今回の実行のスループット（行/秒）
+ * @param startedAt        開始日時
+ * @param updatedAt        最終チェックポイント日時
+ * @param finishedAt       終了日時（実行中は null）
+ * @param errorMessage     失敗時のエラーメッセージ
+ * @param errors           行ごとのエラー
+ */
+public record ImportJournalEntriesResult(
+        String jobId,
+        String fileName,
+        String status,
+        long processedRows,
+        long lastCommittedRow,
+        int importedEntries,
+        int failedEntries,
+        double rowsPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt,
+        String errorMessage,
+        List<ImportError> errors
+) {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    public ImportJournalEntriesResult {
+        errors = errors == null ? List.of() : List.copyOf(errors);
+    }
+
+    /**
+     * ジョブとエラーから進捗を生成する
+     *
+     * @param job    取込ジョブ
+     * @param errors 記録されたエラー
+     * @return 進捗
+     */
+    public static ImportJournalEntriesResult of(JournalImportJob job, List<ImportError> errors) {
+        return new ImportJournalEntriesResult(
+                job.jobId(),
+                job.fileName(),
+                job.status(),
+                job.processedRows(),
+                job.lastCommittedRow(),
+                job.importedEntries(),
+                job.failedEntries(),
+                rowsPerSecond(job),
+                job.createdAt(),
+                job.updatedAt(),
+                job.finishedAt(),
+                job.errorMessage(),
+                errors);
+    }
+
+    private static double rowsPerSecond(JournalImportJob job) {
+        LocalDateTime until = job.finishedAt() == null ? job.updatedAt() : job.finishedAt();
+        long millis = Duration.between(job.runStartedAt(), until).toMillis();
+        if (millis <= 0) {
+            return 0;
+        }
+        return (job.processedRows() - job.runStartRows()) * 1000.0 / millis;
+    }
+
+    /**
+     * 取込エラー
+     *
+     * @param rowNumber 行番号（見出し行を 1 行目とするファイル上の行番号。0 はファイル全体のエラー）
+     * @param entryKey  伝票キー
+     * @param message   エラーメッセージ
+     */
+    public record ImportError(
+            long rowNumber,
+            String entryKey,
+            String message
+    ) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.accounting.application.port.out;
+
+import com.example.accounting.domain.model.journal.JournalEntry;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 仕訳一覧のキーセットページング用カーソル
+ *
+ * <p>直前のページの最後の仕訳の（仕訳日付, 仕訳ID）を保持し、
+ * 次ページは {@code (journal_date, id) > (journalDate, id)} で読み進める。
+ * クライアントには中身を意識させないよう Base64URL でエンコードした文字列として渡す。</p>
+ *
+ * @param journalDate 直前のページの最後の仕訳日付
+ * @param id          直前のページの最後の仕訳ID
+ */
+public record JournalEntryCursor(LocalDate journalDate, Integer id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static JournalEntryCursor of(JournalEntry journalEntry) {
+        return new JournalEntryCursor(journalEntry.getJournalDate(), journalEntry.getId().value());
+    }
+
+    /**
+     * カーソル文字列を復元する
+     *
+     * @param token カーソル文字列
+     * @return Either（左: エラーメッセージ、右: カーソル）
+     */
+    public static Either<String, JournalEntryCursor> decode(String token) {
+        return Try.of(() -> {
+                    String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                    int index = raw.indexOf(SEPARATOR);
+                    return new JournalEntryCursor(
+                            LocalDate.parse(raw.substring(0, index)),
+                            Integer.valueOf(raw.substring(index + 1)));
+                })
+                .toEither()
+                .mapLeft(ex -> "カーソルが不正です");
+    }
+
+    public String encode() {
+        String raw = journalDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.accounting.application.port.out;
+
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+
+import java.time.LocalDateTime;
+
+/**
+ * 仕訳イベント（アウトボックスに記録された仕訳の変更）
+ *
+ * @param eventId        イベントID（記録順に増加する。未記録の場合は null）
+ * @param transactionId  記録したトランザクションの ID（配信順の第 1 キー。未記録の場合は null）
+ * @param journalEntryId 仕訳ID
+ * @param type           イベント種別
+ * @param status         イベント後の仕訳ステータス（削除の場合は null）
+ * @param version        イベント後の仕訳バージョン（削除の場合は null）
+ * @param occurredAt     記録日時（未記録の場合は null）
+ */
+public record JournalEntryEvent(
+        Long eventId,
+        Long transactionId,
+        Integer journalEntryId,
+        Type type,
+        String status,
+        Integer version,
+        LocalDateTime occurredAt
+) {
+
+    /**
+     * イベント種別
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        SUBMITTED,
+        APPROVED,
+        REJECTED,
+        CONFIRMED,
+        UNCONFIRMED,
+        DELETED
+    }
+
+    /**
+     * 保存した仕訳のイベントを生成する
+     *
+     * @param journalEntry 保存後の仕訳（ID・バージョン採番済み）
+     * @param type         保存の契機となった操作のイベント種別
+     * @return 未記録の仕訳イベント
+     */
+    public static JournalEntryEvent saved(JournalEntry journalEntry, Type type) {
+        return new JournalEntryEvent(
+                null,
+                null,
+                journalEntry.getId().value(),
+                type,
+                journalEntry.getStatus().name(),
+                journalEntry.getVersion(),
+                null);
+    }
+
+    /**
+     * 削除した仕訳のイベントを生成する
+     *
+     * @param journalEntryId 削除した仕訳の ID
+     * @return 未記録の仕訳イベント
+     */
+    public static JournalEntryEvent deleted(JournalEntryId journalEntryId) {
+        return new JournalEntryEvent(null, null, journalEntryId.value(), Type.DELETED, null, null, null);
+    }
+
+    /**
+     * 記録済みのイベントの配信位置
+     *
+     * @return このイベントまでを配信済みとする配信位置
+     */
+    public JournalEntryEventPosition position() {
+        return new JournalEntryEventPosition(transactionId, eventId);
+    }
+}
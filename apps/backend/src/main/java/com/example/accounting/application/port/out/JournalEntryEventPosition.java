@@ -0,0 +1,31 @@
+package com.example.accounting.application.port.out;
+
+import java.util.Comparator;
+
+/**
+ * 仕訳イベントの配信位置
+ *
+ * <p>イベントは（記録したトランザクションの ID, イベントID）の昇順に配信する。
+ * イベントID は採番順であってコミット順ではないため、イベントID だけを配信位置にすると、
+ * 先に採番したトランザクションが後からコミットしたイベントを読み飛ばしてしまう。
+ * 終了済みのトランザクションのイベントだけをトランザクション ID 順に配信することで、
+ * 配信位置より前に後からイベントが現れないようにする。</p>
+ *
+ * @param transactionId 配信済みの最後のイベントを記録したトランザクションの ID
+ * @param eventId       配信済みの最後のイベントID
+ */
+public record JournalEntryEventPosition(long transactionId, long eventId)
+        implements Comparable<JournalEntryEventPosition> {
+
+    /** まだ何も配信していない位置 */
+    public static final JournalEntryEventPosition START = new JournalEntryEventPosition(0, 0);
+
+    private static final Comparator<JournalEntryEventPosition> ORDER = Comparator
+            .comparingLong(JournalEntryEventPosition::transactionId)
+            .thenComparingLong(JournalEntryEventPosition::eventId);
+
+    @Override
+    public int compareTo(JournalEntryEventPosition other) {
+        return ORDER.compare(this, other);
+    }
+}
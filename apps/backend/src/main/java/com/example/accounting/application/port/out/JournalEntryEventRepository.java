@@ -0,0 +1,65 @@
+package com.example.accounting.application.port.out;
+
+import io.vavr.control.Try;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 仕訳イベント（アウトボックス）リポジトリインターフェース（Output Port）
+ *
+ * <p>イベントは {@link JournalEntryRepository} が仕訳の保存・削除と同じトランザクションで記録する。
+ * このリポジトリはハンドラごとの配信位置の管理と、配信済みイベントの読み出し・削除を行う。</p>
+ */
+public interface JournalEntryEventRepository {
+
+    /**
+     * ハンドラの配信位置を取得し、トランザクション終了までロックする（未登録の場合は先頭の位置で作成する）
+     *
+     * @param consumer ハンドラ名
+     * @return Try でラップされた配信済みの位置
+     */
+    Try<JournalEntryEventPosition> lockOffset(String consumer);
+
+    /**
+     * 配信位置より後のイベントを配信順に取得する
+     *
+     * <p>イベントは（記録したトランザクションの ID, イベントID）の順に配信する。
+     * 実行中のトランザクションのうち最も古いものより前に始まった（終了済みの）トランザクションのイベントだけを返し、
+     * 実行中のトランザクションが後からコミットするイベントが配信位置より前に現れないようにする。
+     * 長く実行中のトランザクションがある間は、その後のイベントの配信はそのトランザクションの終了まで待つ。</p>
+     *
+     * @param after 配信済みの位置
+     * @param limit 最大件数
+     * @return Try でラップされた配信できるイベント
+     */
+    Try<List<JournalEntryEvent>> findDeliverableAfter(JournalEntryEventPosition after, int limit);
+
+    /**
+     * ハンドラの配信位置を更新する
+     *
+     * @param consumer ハンドラ名
+     * @param position 配信済みの最後のイベントの位置
+     * @return Try でラップされた更新結果
+     */
+    Try<Void> saveOffset(String consumer, JournalEntryEventPosition position);
+
+    /**
+     * すべてのハンドラに配信済みのイベントを削除する
+     *
+     * <p>ハンドラが 1 つも登録されていない場合は何も削除しない（保存期間を過ぎたイベントは
+     * {@link #deleteRecordedBefore(LocalDateTime)} で削除する）。</p>
+     *
+     * @param consumers 登録されているハンドラ名
+     * @return Try でラップされた削除件数
+     */
+    Try<Integer> purgeDelivered(List<String> consumers);
+
+    /**
+     * 指定日時より前に記録したイベントを配信位置にかかわらず削除する
+     *
+     * @param recordedBefore 記録日時
+     * @return Try でラップされた削除件数
+     */
+    Try<Integer> deleteRecordedBefore(LocalDateTime recordedBefore);
+}
@@ -4,11 +4,13 @@ import com.example.accounting.domain.model.journal.JournalEntry;
 import com.example.accounting.domain.model.journal.JournalEntryId;
 import com.example.accounting.application.port.out.GetGeneralLedgerResult.GeneralLedgerEntry;
 import com.example.accounting.application.port.out.GetDailyBalanceResult.DailyBalanceEntry;
+import com.example.accounting.application.port.out.GetJournalEntriesResult.JournalEntrySummary;
 import io.vavr.control.Try;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,12 +22,24 @@ import java.util.Optional;
 public interface JournalEntryRepository {
 
     /**
-     * 仕訳を保存する
+     * 仕訳を保存し、同じトランザクションで仕訳イベントを記録する
      *
      * @param journalEntry 仕訳
+     * @param eventType    記録するイベント種別（保存の契機となった操作）
      * @return Try でラップされた保存済み仕訳
      */
-    Try<JournalEntry> save(JournalEntry journalEntry);
+    Try<JournalEntry> save(JournalEntry journalEntry, JournalEntryEvent.Type eventType);
+
+    /**
+     * 新規の仕訳をまとめて登録する（一括取込用）
+     *
+     * <p>ヘッダと明細をそれぞれ JDBC バッチで送信する。呼び出し側のトランザクション内で実行すること。
+     * MyBatis の BATCH 実行モードを使うため、同じトランザクションでは他の仕訳操作を行わない。</p>
+     *
+     * @param journalEntries 未採番の仕訳
+     * @return Try でラップされた、採番した ID と version を設定した仕訳リスト（引数と同じ順序）
+     */
+    Try<List<JournalEntry>> insertAll(List<JournalEntry> journalEntries);
 
     /**
      * 仕訳IDで仕訳を検索する
@@ -35,6 +49,28 @@ public interface JournalEntryRepository {
      */
     Try<Optional<JournalEntry>> findById(JournalEntryId id);
 
+    /**
+     * 仕訳IDで複数の仕訳をまとめて検索する
+     *
+     * @param ids 仕訳ID
+     * @return Try でラップされた仕訳リスト（引数と同じ順序。存在しない ID は含まない）
+     */
+    Try<List<JournalEntry>> findAllByIds(List<JournalEntryId> ids);
+
+    /**
+     * 同じ操作で状態遷移した仕訳のヘッダをまとめて更新する（一括承認・確定・差し戻し用）
+     *
+     * <p>遷移後のステータスと、その遷移で設定される操作者・日時（差し戻しは理由も）が共通であること。
+     * 遷移で変わる列だけを (ID, version) の組で楽観ロックした 1 文の UPDATE で更新し、
+     * 1 件でも version が一致しない場合は {@code OptimisticLockException} で失敗する。
+     * 呼び出し元のトランザクション内で実行し、失敗時はロールバックすること。</p>
+     *
+     * @param journalEntries 遷移後の仕訳（version は読み込み時の値）
+     * @param eventType      記録するイベント種別（遷移の契機となった操作）
+     * @return Try でラップされた、version を進めた仕訳リスト
+     */
+    Try<List<JournalEntry>> saveTransitions(List<JournalEntry> journalEntries, JournalEntryEvent.Type eventType);
+
     /**
      * すべての仕訳を取得する
      *
@@ -60,6 +96,66 @@ public interface JournalEntryRepository {
             int limit
     );
 
+    /**
+     * 条件付きで仕訳一覧をカーソル位置の続きから取得する（キーセットページネーション）
+     *
+     * <p>（仕訳日付, 仕訳ID）の昇順で、{@code after} より後ろの仕訳を取得する。
+     * OFFSET を使わないため、取得位置に関わらず応答時間が一定になる。</p>
+     *
+     * @param statuses フィルタ対象ステータス（空の場合は全ステータス）
+     * @param dateFrom 仕訳日付開始（null 可）
+     * @param dateTo 仕訳日付終了（null 可）
+     * @param after 直前のページの最後の仕訳を指すカーソル
+     * @param limit 取得件数
+     * @return Try でラップされた仕訳リスト
+     */
+    Try<List<JournalEntry>> findByConditionsAfter(
+            List<String> statuses,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            JournalEntryCursor after,
+            int limit
+    );
+
+    /**
+     * 条件付きで仕訳一覧の要約を取得する（ページネーション対応）
+     *
+     * <p>明細を読み込まず、仕訳ヘッダの項目と借方・貸方合計のみを返す。
+     * 並び順は {@link #findByConditions} と同じ（仕訳日付, 仕訳ID）の昇順。</p>
+     *
+     * @param statuses フィルタ対象ステータス（空の場合は全ステータス）
+     * @param dateFrom 仕訳日付開始（null 可）
+     * @param dateTo 仕訳日付終了（null 可）
+     * @param offset オフセット
+     * @param limit 取得件数
+     * @return Try でラップされた仕訳要約リスト
+     */
+    Try<List<JournalEntrySummary>> findSummariesByConditions(
+            List<String> statuses,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            int offset,
+            int limit
+    );
+
+    /**
+     * 条件付きで仕訳一覧の要約をカーソル位置の続きから取得する（キーセットページネーション）
+     *
+     * @param statuses フィルタ対象ステータス（空の場合は全ステータス）
+     * @param dateFrom 仕訳日付開始（null 可）
+     * @param dateTo 仕訳日付終了（null 可）
+     * @param after 直前のページの最後の仕訳を指すカーソル
+     * @param limit 取得件数
+     * @return Try でラップされた仕訳要約リスト
+     */
+    Try<List<JournalEntrySummary>> findSummariesByConditionsAfter(
+            List<String> statuses,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            JournalEntryCursor after,
+            int limit
+    );
+
     /**
      * 条件に一致する仕訳件数を取得する
      *
@@ -78,6 +174,17 @@ public interface JournalEntryRepository {
      */
     Try<List<JournalEntry>> searchByConditions(JournalEntrySearchCriteria criteria);
 
+    /**
+     * 検索条件で仕訳一覧をカーソル位置の続きから取得する（キーセットページネーション）
+     *
+     * <p>criteria の offset は無視し、limit 件を {@code after} より後ろから取得する。</p>
+     *
+     * @param criteria 検索条件
+     * @param after 直前のページの最後の仕訳を指すカーソル
+     * @return Try でラップされた仕訳リスト
+     */
+    Try<List<JournalEntry>> searchByConditionsAfter(JournalEntrySearchCriteria criteria, JournalEntryCursor after);
+
     /**
      * 検索条件に一致する仕訳件数を取得する
      *
@@ -86,6 +193,15 @@ public interface JournalEntryRepository {
      */
     Try<Long> countBySearchConditions(JournalEntrySearchCriteria criteria);
 
+    /**
+     * 仕訳ごとに、検索語を含む最初の明細の行摘要を取得する（摘要検索のハイライト用）
+     *
+     * @param journalEntryIds 仕訳IDのリスト
+     * @param text 検索語
+     * @return Try でラップされた仕訳IDと行摘要のマップ（一致する明細が無い仕訳は含まない）
+     */
+    Try<Map<Integer, String>> findMatchedLineDescriptions(List<Integer> journalEntryIds, String text);
+
     /**
      * 総勘定元帳用に確定仕訳行を取得する
      *
@@ -104,6 +220,26 @@ public interface JournalEntryRepository {
             int limit
     );
 
+    /**
+     * 総勘定元帳用にカーソルの続きから確定仕訳行を取得する（キーセットページング）
+     *
+     * <p>並び順は {@link #findPostedLinesByAccountAndPeriod} と同じ（仕訳日付, 仕訳ID, 行番号）の昇順。</p>
+     *
+     * @param accountId 勘定科目 ID
+     * @param dateFrom 仕訳日付開始（null 可）
+     * @param dateTo 仕訳日付終了（null 可）
+     * @param after 直前のページの最後の明細を指すカーソル
+     * @param limit 取得件数
+     * @return Try でラップされた仕訳行リスト
+     */
+    Try<List<GeneralLedgerEntry>> findPostedLinesByAccountAndPeriodAfter(
+            Integer accountId,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            LedgerCursor after,
+            int limit
+    );
+
     /**
      * 総勘定元帳用に確定仕訳行件数を取得する
      *
@@ -128,15 +264,40 @@ public interface JournalEntryRepository {
             LocalDate dateTo
     );
 
+    /**
+     * 総勘定元帳のページ先頭より前（期間内の先頭 offset 行）の借方 - 貸方合計を計算する
+     *
+     * @param accountId 勘定科目 ID
+     * @param dateFrom 仕訳日付開始（null 可）
+     * @param dateTo 仕訳日付終了（null 可）
+     * @param offset ページ先頭の行位置
+     * @return Try でラップされた合計
+     */
+    Try<BigDecimal> calculateBalanceBeforeOffset(Integer accountId, LocalDate dateFrom, LocalDate dateTo, int offset);
+
     /**
      * 指定日より前の残高を計算する
      *
+     * <p>直近の月末チェックポイントの累計と、それ以降の確定明細から求める。</p>
+     *
      * @param accountId 勘定科目 ID
      * @param date 指定日
      * @return Try でラップされた残高
      */
     Try<BigDecimal> calculateBalanceBeforeDate(Integer accountId, LocalDate date);
 
+    /**
+     * 総勘定元帳のカーソルが指す行までの借方 - 貸方合計を計算する
+     *
+     * <p>カーソルの仕訳日付より前の直近の月末チェックポイントの累計に、その翌日からカーソルの行まで
+     * （並び順が {@link #findPostedLinesByAccountAndPeriod} と同じで、カーソルの行を含む）の確定明細を加算する。</p>
+     *
+     * @param accountId 勘定科目 ID
+     * @param through 直前のページの最後の明細を指すカーソル
+     * @return Try でラップされた合計
+     */
+    Try<BigDecimal> calculateBalanceThroughCursor(Integer accountId, LedgerCursor through);
+
     /**
      * 仕訳を削除する
      *
@@ -7,7 +7,9 @@ import java.util.List;
 /**
  * 仕訳検索条件パラメータオブジェクト
  *
- * <p>リポジトリ検索メソッドに渡す検索条件をまとめたレコード。</p>
+ * <p>リポジトリ検索メソッドに渡す検索条件をまとめたレコード。
+ * {@code description} は仕訳ヘッダの摘要と明細の行摘要の部分一致で絞り込む。
+ * {@code rankByRelevance} が true の場合は摘要との関連度が高い順に並べる（同順位は仕訳日付・仕訳ID順）。</p>
  */
 public record JournalEntrySearchCriteria(
         List<String> statuses,
@@ -18,9 +20,17 @@ public record JournalEntrySearchCriteria(
         BigDecimal amountTo,
         String description,
         int offset,
-        int limit
+        int limit,
+        boolean rankByRelevance
 ) {
     public JournalEntrySearchCriteria {
         statuses = statuses == null ? List.of() : List.copyOf(statuses);
     }
+
+    @SuppressWarnings("java:S107") // 検索条件の項目数に合わせるため
+    public JournalEntrySearchCriteria(List<String> statuses, LocalDate dateFrom, LocalDate dateTo, Integer accountId,
+                                      BigDecimal amountFrom, BigDecimal amountTo, String description,
+                                      int offset, int limit) {
+        this(statuses, dateFrom, dateTo, accountId, amountFrom, amountTo, description, offset, limit, false);
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.accounting.application.port.out;
+
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 仕訳一括取込ジョブのチェックポイント
+ *
+ * <p>件数は取込開始からの累計、{@code newErrors} は前回のチェックポイント以降に発生したエラー。</p>
+ *
+ * @param jobId            ジョブID
+ * @param lastCommittedRow このチェックポイントまでに確定した最終行番号
+ * @param processedRows    確定したデータ行数
+ * @param importedEntries  登録した仕訳件数
+ * @param failedEntries    エラーにより登録しなかった仕訳件数
+ * @param reportedErrors   記録したエラー件数（newErrors を含む）
+ * @param newErrors        前回のチェックポイント以降のエラー
+ * @param at               チェックポイント日時
+ */
+public record JournalImportCheckpoint(
+        String jobId,
+        long lastCommittedRow,
+        long processedRows,
+        int importedEntries,
+        int failedEntries,
+        int reportedErrors,
+        List<ImportError> newErrors,
+        LocalDateTime at
+) {
+    public JournalImportCheckpoint {
+        newErrors = newErrors == null ? List.of() : List.copyOf(newErrors);
+    }
+}
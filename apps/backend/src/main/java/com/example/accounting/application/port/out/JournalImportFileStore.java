@@ -0,0 +1,38 @@
+package com.example.accounting.application.port.out;
+
+import io.vavr.control.Try;
+
+import java.io.InputStream;
+
+/**
+ * 仕訳一括取込ファイルの保管先
+ *
+ * <p>ジョブを中断後に再開できるよう、アップロードされたファイルを取込完了まで保管する。</p>
+ */
+public interface JournalImportFileStore {
+
+    /**
+     * 取込ファイルを保管する
+     *
+     * @param jobId   ジョブID
+     * @param content 取込ファイルの内容（呼び出し側で閉じる）
+     * @return 保管場所
+     */
+    Try<String> save(String jobId, InputStream content);
+
+    /**
+     * 保管した取込ファイルを開く
+     *
+     * @param location 保管場所
+     * @return 取込ファイルの内容（呼び出し側で閉じる）
+     */
+    Try<InputStream> open(String location);
+
+    /**
+     * 保管した取込ファイルを削除する
+     *
+     * @param location 保管場所
+     * @return 削除結果
+     */
+    Try<Void> delete(String location);
+}
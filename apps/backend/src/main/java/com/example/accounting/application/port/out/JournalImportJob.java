@@ -0,0 +1,70 @@
+package com.example.accounting.application.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * 仕訳一括取込ジョブ（永続化されたチェックポイントを含む）
+ *
+ * @param jobId            ジョブID
+ * @param fileName         取込ファイル名
+ * @param fileFormat       ファイル形式（CSV / XLSX）
+ * @param fileLocation     再開用に保管した取込ファイルの場所
+ * @param createdBy        作成者ユーザーID
+ * @param status           RUNNING / COMPLETED / FAILED / CANCELLED / EXPIRED
+ * @param lastCommittedRow 最後にコミットしたチャンクの最終行番号
+ * @param processedRows    コミット済みのデータ行数
+ * @param importedEntries  登録した仕訳件数
+ * @param failedEntries    エラーにより登録しなかった仕訳件数
+ * @param reportedErrors   記録したエラー件数
+ * @param runStartedAt     今回の実行（開始または再開）の開始日時
+ * @param runStartRows     今回の実行開始時点のコミット済みデータ行数
+ * @param errorMessage     失敗時のエラーメッセージ
+ * @param createdAt        作成日時
+ * @param updatedAt        最終チェックポイント日時
+ * @param finishedAt       終了日時（実行中は null）
+ */
+public record JournalImportJob(
+        String jobId,
+        String fileName,
+        String fileFormat,
+        String fileLocation,
+        String createdBy,
+        String status,
+        long lastCommittedRow,
+        long processedRows,
+        int importedEntries,
+        int failedEntries,
+        int reportedErrors,
+        LocalDateTime runStartedAt,
+        long runStartRows,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt
+) {
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String CANCELLED = "CANCELLED";
+    /** 保管期間を過ぎて取込ファイルを削除した（再開できない） */
+    public static final String EXPIRED = "EXPIRED";
+
+    public static JournalImportJob started(String jobId, String fileName, String fileFormat,
+                                           String fileLocation, String createdBy, LocalDateTime at) {
+        return new JournalImportJob(jobId, fileName, fileFormat, fileLocation, createdBy, RUNNING,
+                0, 0, 0, 0, 0, at, 0, null, at, at, null);
+    }
+
+    public boolean isRunning() {
+        return RUNNING.equals(status);
+    }
+
+    /**
+     * 再開できるか（失敗・中止したジョブのみ）
+     *
+     * @return 再開できる場合 true
+     */
+    public boolean isResumable() {
+        return FAILED.equals(status) || CANCELLED.equals(status);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.accounting.application.port.out;
+
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+import io.vavr.control.Try;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 仕訳一括取込ジョブリポジトリ
+ */
+public interface JournalImportJobRepository {
+
+    /**
+     * ジョブを登録する
+     *
+     * @param job 開始したジョブ
+     * @return 登録したジョブ
+     */
+    Try<JournalImportJob> create(JournalImportJob job);
+
+    /**
+     * ジョブを取得する
+     *
+     * @param jobId ジョブID
+     * @return ジョブ（存在しない場合は empty）
+     */
+    Try<Optional<JournalImportJob>> findById(String jobId);
+
+    /**
+     * 指定ステータスのジョブを取得する
+     *
+     * @param status ステータス
+     * @return ジョブ一覧（作成日時順）
+     */
+    Try<List<JournalImportJob>> findByStatus(String status);
+
+    /**
+     * 記録されたエラーを発生順に取得する
+     *
+     * @param jobId ジョブID
+     * @param limit 取得件数の上限
+     * @return エラー一覧
+     */
+    Try<List<ImportError>> findErrors(String jobId, int limit);
+
+    /**
+     * チェックポイントを保存する（件数・最終行番号の更新と新しいエラーの追加）
+     *
+     * <p>仕訳の一括登録（{@link JournalEntryRepository#insertAll}）と同じ BATCH 実行モードで書き込むため、
+     * チャンクを登録するトランザクションの中で呼び出すこと。</p>
+     *
+     * @param checkpoint チェックポイント
+     * @return 保存結果
+     */
+    Try<Void> saveCheckpoint(JournalImportCheckpoint checkpoint);
+
+    /**
+     * 指定ステータスのジョブを実行中に戻す（今回の実行の開始日時と開始行数を記録する）
+     *
+     * @param jobId        ジョブID
+     * @param fromStatuses 再開を許可するステータス
+     * @param at           再開日時
+     * @return 再開した場合 true（他の処理が先に状態を変えていた場合は false）
+     */
+    Try<Boolean> restart(String jobId, Collection<String> fromStatuses, LocalDateTime at);
+
+    /**
+     * 実行中のジョブを終了状態にする
+     *
+     * @param jobId        ジョブID
+     * @param status       COMPLETED / FAILED / CANCELLED
+     * @param errorMessage 失敗時のエラーメッセージ
+     * @param at           終了日時
+     * @return 更新結果
+     */
+    Try<Void> finish(String jobId, String status, String errorMessage, LocalDateTime at);
+
+    /**
+     * 保管期間を過ぎた失敗・中止ジョブを再開できない状態（EXPIRED）にする
+     *
+     * <p>取込ファイルを削除する前に呼び出し、同時に再開されたジョブのファイルは削除しないようにする。</p>
+     *
+     * @param jobId          ジョブID
+     * @param fromStatuses   期限切れにするステータス
+     * @param finishedBefore この日時より前に終了したジョブのみ対象とする
+     * @param at             更新日時
+     * @return 期限切れにした場合 true（再開などで状態が変わっていた場合は false）
+     */
+    Try<Boolean> expire(String jobId, Collection<String> fromStatuses, LocalDateTime finishedBefore, LocalDateTime at);
+}
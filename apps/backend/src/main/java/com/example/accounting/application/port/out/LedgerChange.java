@@ -0,0 +1,13 @@
+package com.example.accounting.application.port.out;
+
+import java.time.LocalDate;
+
+/**
+ * 元帳の変更履歴（1 回の変更で進めた版と、残高が変わった期間）
+ *
+ * @param version 変更で進めた元帳の版
+ * @param from    残高が変わった期間の開始日（null の場合は制限なし）
+ * @param to      残高が変わった期間の終了日（null の場合は制限なし）
+ */
+public record LedgerChange(long version, LocalDate from, LocalDate to) {
+}
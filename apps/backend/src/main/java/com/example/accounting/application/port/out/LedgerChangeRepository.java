@@ -0,0 +1,48 @@
+package com.example.accounting.application.port.out;
+
+import io.vavr.control.Try;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 元帳の版・変更履歴リポジトリインターフェース（Output Port）
+ *
+ * <p>版は DB の 1 行で保持し、すべてのインスタンスで共有する。版を進めた行のロックは
+ * 呼び出し元のトランザクションが終わるまで保持されるため、版はコミット順に欠番なく並ぶ。</p>
+ */
+public interface LedgerChangeRepository {
+
+    /**
+     * 版を 1 つ進め、新しい版と残高が変わった期間を変更履歴に記録する
+     *
+     * @param from 残高が変わった期間の開始日（null の場合は制限なし）
+     * @param to   残高が変わった期間の終了日（null の場合は制限なし）
+     * @return Try でラップされた新しい版
+     */
+    Try<Long> record(LocalDate from, LocalDate to);
+
+    /**
+     * コミット済みの最新の版を返す
+     *
+     * @return Try でラップされた元帳の版
+     */
+    Try<Long> currentVersion();
+
+    /**
+     * 指定した版より後の変更履歴を版の昇順に返す
+     *
+     * @param version 版
+     * @return Try でラップされた変更履歴のリスト
+     */
+    Try<List<LedgerChange>> findAfter(long version);
+
+    /**
+     * 指定日時より前に記録した変更履歴を削除する
+     *
+     * @param recordedBefore 記録日時
+     * @return Try でラップされた削除件数
+     */
+    Try<Integer> deleteRecordedBefore(LocalDateTime recordedBefore);
+}
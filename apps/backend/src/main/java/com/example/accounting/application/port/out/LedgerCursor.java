@@ -0,0 +1,58 @@
+package com.example.accounting.application.port.out;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 総勘定元帳・補助元帳のキーセットページング用カーソル
+ *
+ * <p>直前のページの最後の明細の（仕訳日付, 仕訳ID, 行番号[, 貸借区分]）を保持する。
+ * 次ページは {@code (journal_date, id, line_number) > (journalDate, journalEntryId, lineNumber)} で読み進め、
+ * 前頁繰越はこの位置までの残高を照会のたびに SQL で求める。カーソルは並び順の位置だけを表し、
+ * 残高を持たないため、改変や別の勘定科目・期間での再利用、ページ取得の合間の遡及確定によって繰越残高がずれることはない。
+ * クライアントには中身を意識させないよう Base64URL でエンコードした文字列として渡す。</p>
+ *
+ * @param journalDate    直前のページの最後の仕訳日付
+ * @param journalEntryId 直前のページの最後の仕訳ID
+ * @param lineNumber     直前のページの最後の行番号
+ * @param debitCreditType 直前のページの最後の貸借区分（補助元帳のみ。同じ行の借方・貸方が同じ科目の場合の順序付けに使う。総勘定元帳は null）
+ */
+public record LedgerCursor(
+        LocalDate journalDate,
+        Integer journalEntryId,
+        Integer lineNumber,
+        String debitCreditType
+) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * カーソル文字列を復元する
+     *
+     * @param token カーソル文字列
+     * @return Either（左: エラーメッセージ、右: カーソル）
+     */
+    public static Either<String, LedgerCursor> decode(String token) {
+        return Try.of(() -> {
+                    String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                    String[] parts = raw.split("\\" + SEPARATOR, -1);
+                    return new LedgerCursor(
+                            LocalDate.parse(parts[0]),
+                            Integer.valueOf(parts[1]),
+                            Integer.valueOf(parts[2]),
+                            parts[3].isEmpty() ? null : parts[3]);
+                })
+                .toEither()
+                .mapLeft(ex -> "カーソルが不正です");
+    }
+
+    public String encode() {
+        String raw = journalDate + SEPARATOR + journalEntryId + SEPARATOR + lineNumber
+                + SEPARATOR + (debitCreditType == null ? "" : debitCreditType);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
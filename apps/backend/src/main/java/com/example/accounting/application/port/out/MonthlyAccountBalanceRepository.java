@@ -1,8 +1,10 @@
 package com.example.accounting.application.port.out;
 
+import com.example.accounting.domain.model.journal.JournalEntryId;
 import com.example.accounting.infrastructure.persistence.entity.MonthlyAccountBalanceEntity;
 import io.vavr.control.Try;
 import java.util.List;
+import java.util.Optional;
 
 public interface MonthlyAccountBalanceRepository {
     /**
@@ -14,4 +16,74 @@ public interface MonthlyAccountBalanceRepository {
      */
     Try<List<MonthlyAccountBalanceEntity>> findByAccountCodeAndFiscalPeriod(
             String accountCode, Integer fiscalPeriod);
+
+    /**
+     * 仕訳が影響する月次残高キーを取得します。
+     *
+     * @param journalEntryId 仕訳ID
+     * @return 取得結果。成功時はキー項目と起点の会計期間・月度のみを設定した一覧
+     */
+    Try<List<MonthlyAccountBalanceEntity>> findRollUpTargets(JournalEntryId journalEntryId);
+
+    /**
+     * 複数の仕訳が影響する月次残高キーを取得します。
+     *
+     * @param journalEntryIds 仕訳ID
+     * @return 取得結果。成功時はキー項目と会計期間、その会計期間で最も早い起点月度のみを設定した一覧
+     */
+    Try<List<MonthlyAccountBalanceEntity>> findRollUpTargets(List<JournalEntryId> journalEntryIds);
+
+    /**
+     * 日次残高を月度ごとに集計します。
+     *
+     * @param key 集計対象の残高キー
+     * @param fiscalPeriod 会計期間
+     * @return 取得結果。成功時は月度・借方金額・貸方金額のみを設定した一覧（取引のない月度は含まない）
+     */
+    Try<List<MonthlyAccountBalanceEntity>> sumDailyBalances(
+            MonthlyAccountBalanceEntity key, int fiscalPeriod);
+
+    /**
+     * 残高キー・会計期間・月度に一致する月次残高を取得します。
+     *
+     * @param key 残高キー
+     * @param fiscalPeriod 会計期間
+     * @param month 月度
+     * @return 取得結果。成功時は月次残高（存在しない場合は empty）
+     */
+    Try<Optional<MonthlyAccountBalanceEntity>> findByKey(
+            MonthlyAccountBalanceEntity key, int fiscalPeriod, int month);
+
+    /**
+     * 残高キーについて月次残高が存在する最新の会計期間を取得します。
+     *
+     * @param key 残高キー
+     * @return 取得結果。成功時は会計期間（存在しない場合は empty）
+     */
+    Try<Optional<Integer>> findLatestFiscalPeriod(MonthlyAccountBalanceEntity key);
+
+    /**
+     * 月次残高を登録または更新します。
+     *
+     * @param entities 月次残高一覧
+     * @return 保存結果。成功時は保存件数
+     */
+    Try<Integer> saveAll(List<MonthlyAccountBalanceEntity> entities);
+
+    /**
+     * 会計期間の月次残高を日次残高と前期末残高から作り直します。
+     *
+     * <p>対象期間の行を削除し、全キー・全月度を 1 文で登録します。前期の月次残高は再構築済みであること。</p>
+     *
+     * @param fiscalPeriod 会計期間
+     * @return 再構築結果。成功時は登録件数
+     */
+    Try<Integer> rebuildFiscalPeriod(int fiscalPeriod);
+
+    /**
+     * 月次残高が存在する最も新しい会計期間を取得します。
+     *
+     * @return 取得結果。成功時は会計期間（存在しない場合は empty）
+     */
+    Try<Optional<Integer>> findLatestFiscalPeriod();
 }
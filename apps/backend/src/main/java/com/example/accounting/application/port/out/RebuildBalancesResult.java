@@ -0,0 +1,54 @@
+package com.example.accounting.application.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * 残高再構築ジョブの進捗
+ *
+ * @param jobId ジョブID
+ * @param fiscalPeriod 会計期間
+ * @param status RUNNING / COMPLETED / FAILED
+ * @param totalChunks 総チャンク数（日次 12 か月分 + 月次ロールアップ）
+ * @param completedChunks 完了チャンク数
+ * @param startedAt 開始日時
+ * @param finishedAt 終了日時（実行中は null）
+ * @param errorMessage 失敗時のエラーメッセージ
+ */
+public record RebuildBalancesResult(
+        String jobId,
+        Integer fiscalPeriod,
+        String status,
+        int totalChunks,
+        int completedChunks,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+) {
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    public static RebuildBalancesResult started(String jobId, Integer fiscalPeriod,
+                                                int totalChunks, LocalDateTime startedAt) {
+        return new RebuildBalancesResult(jobId, fiscalPeriod, RUNNING, totalChunks, 0, startedAt, null, null);
+    }
+
+    public RebuildBalancesResult chunkCompleted() {
+        return new RebuildBalancesResult(jobId, fiscalPeriod, status, totalChunks, completedChunks + 1,
+                startedAt, finishedAt, errorMessage);
+    }
+
+    public RebuildBalancesResult completed(LocalDateTime at) {
+        return new RebuildBalancesResult(jobId, fiscalPeriod, COMPLETED, totalChunks, completedChunks,
+                startedAt, at, null);
+    }
+
+    public RebuildBalancesResult failed(String message, LocalDateTime at) {
+        return new RebuildBalancesResult(jobId, fiscalPeriod, FAILED, totalChunks, completedChunks,
+                startedAt, at, message);
+    }
+
+    public boolean isRunning() {
+        return RUNNING.equals(status);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.accounting.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 複数期間の財務諸表集計結果（勘定科目ごとの行に、期間ごとの金額を列として持つ）
+ *
+ * @param columns 集計した期間（列の順）
+ * @param rows    勘定科目ごとの行（勘定科目コード順）
+ */
+public record StatementColumns(
+        List<Column> columns,
+        List<Row> rows
+) {
+    public StatementColumns {
+        columns = columns == null ? List.of() : List.copyOf(columns);
+        rows = rows == null ? List.of() : List.copyOf(rows);
+    }
+
+    /**
+     * 列の期間（null は期間の制限なし）
+     *
+     * @param from 開始日
+     * @param to   終了日
+     */
+    public record Column(LocalDate from, LocalDate to) {
+
+        /**
+         * 指定日以前のすべての日付（貸借対照表の基準日時点の残高）
+         *
+         * @param date 基準日（null の場合は全期間）
+         * @return 列の期間
+         */
+        public static Column upTo(LocalDate date) {
+            return new Column(null, date);
+        }
+    }
+
+    /**
+     * 勘定科目の行
+     *
+     * @param accountCode 勘定科目コード
+     * @param accountName 勘定科目名
+     * @param accountType 勘定科目種別
+     * @param amounts     列ごとの金額（columns と同じ順）
+     */
+    public record Row(
+            String accountCode,
+            String accountName,
+            String accountType,
+            List<BigDecimal> amounts
+    ) {
+        public Row {
+            amounts = List.copyOf(amounts);
+        }
+
+        /**
+         * 指定した列の金額を返す
+         *
+         * @param column 列の位置
+         * @return 金額
+         */
+        public BigDecimal amount(int column) {
+            return amounts.get(column);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.accounting.application.port.out;
+
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import io.vavr.control.Try;
+
+import java.util.List;
+
+/**
+ * 複数期間の財務諸表集計リポジトリ（Output Port）
+ */
+public interface StatementColumnsRepository {
+    /**
+     * 指定区分の勘定科目ごとに、列の期間ごとの借方合計 − 貸方合計を 1 回の問い合わせで取得します。
+     *
+     * @param bsplCategory 貸借対照表・損益計算書区分（B: 貸借対照表、P: 損益計算書）
+     * @param columns      列の期間
+     * @return 取得結果。成功時は列の順に借方合計 − 貸方合計を持つ勘定科目ごとの行（取引のない勘定科目も 0 で含む）
+     */
+    Try<StatementColumns> findColumns(String bsplCategory, List<Column> columns);
+}
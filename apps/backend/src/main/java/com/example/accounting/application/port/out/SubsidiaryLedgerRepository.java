@@ -23,6 +23,20 @@ public interface SubsidiaryLedgerRepository {
             int limit
     );
 
+    /**
+     * カーソルの続きから補助元帳明細を取得します（キーセットページング）。
+     *
+     * @return 取得結果。成功時は補助元帳明細一覧
+     */
+    Try<List<SubsidiaryLedgerEntry>> findPostedLinesByAccountAndSubAccountAndPeriodAfter(
+            String accountCode,
+            String subAccountCode,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            LedgerCursor after,
+            int limit
+    );
+
     /**
      * 指定条件に一致する補助元帳明細件数を取得します。
      *
@@ -35,8 +49,22 @@ public interface SubsidiaryLedgerRepository {
             LocalDate dateTo
     );
 
+    /**
+     * ページ先頭より前（期間内の先頭 offset 行）の借方 - 貸方合計を取得します。
+     *
+     * @return 取得結果。成功時は合計
+     */
+    Try<BigDecimal> calculateBalanceBeforeOffsetByAccountAndSubAccount(
+            String accountCode,
+            String subAccountCode,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            int offset
+    );
+
     /**
      * 指定日より前の残高を取得します。
+     * 直近の月末チェックポイントの累計と、それ以降の確定明細から求めます。
      *
      * @return 取得結果。成功時は残高
      */
@@ -45,4 +73,17 @@ public interface SubsidiaryLedgerRepository {
             String subAccountCode,
             LocalDate date
     );
+
+    /**
+     * カーソルが指す行までの借方 - 貸方合計を取得します。
+     * カーソルの仕訳日付より前の直近の月末チェックポイントの累計と、その翌日からカーソルの行まで
+     * （カーソルの行を含む）の確定明細から求めます。
+     *
+     * @return 取得結果。成功時は合計
+     */
+    Try<BigDecimal> calculateBalanceThroughCursorByAccountAndSubAccount(
+            String accountCode,
+            String subAccountCode,
+            LedgerCursor through
+    );
 }
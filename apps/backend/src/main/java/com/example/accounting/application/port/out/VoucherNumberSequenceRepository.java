@@ -0,0 +1,23 @@
+package com.example.accounting.application.port.out;
+
+import io.vavr.control.Try;
+
+/**
+ * 仕訳伝票番号採番リポジトリインターフェース（Output Port）
+ *
+ * <p>伝票区分・会計年度ごとの採番行を進め、連続した番号のブロックを予約する。
+ * 採番行のロックは呼び出し元のトランザクションが終わるまで保持されるため、
+ * 仕訳登録とは別の短いトランザクションで呼び出すこと。</p>
+ */
+public interface VoucherNumberSequenceRepository {
+
+    /**
+     * 番号のブロックを予約する（採番行がなければ 1 から作成する）
+     *
+     * @param voucherType 伝票区分
+     * @param fiscalYear  会計年度
+     * @param blockSize   予約する番号の件数
+     * @return Try でラップされた予約したブロックの先頭番号
+     */
+    Try<Long> reserveBlock(int voucherType, int fiscalYear, int blockSize);
+}
@@ -3,6 +3,7 @@ package com.example.accounting.application.service;
 import com.example.accounting.application.port.in.ApproveJournalEntryUseCase;
 import com.example.accounting.application.port.in.command.ApproveJournalEntryCommand;
 import com.example.accounting.application.port.out.ApproveJournalEntryResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.journal.JournalEntry;
 import com.example.accounting.domain.model.journal.JournalEntryId;
@@ -35,7 +36,7 @@ public class ApproveJournalEntryService implements ApproveJournalEntryUseCase {
             }
 
             JournalEntry updated = journalEntry.approve(UserId.of(command.approverId()), LocalDateTime.now());
-            journalEntryRepository.save(updated)
+            journalEntryRepository.save(updated, JournalEntryEvent.Type.APPROVED)
                     .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
 
             return ApproveJournalEntryResult.success(
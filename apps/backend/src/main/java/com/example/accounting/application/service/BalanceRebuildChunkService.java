@@ -0,0 +1,89 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.BalanceCheckpointRepository;
+import com.example.accounting.application.port.out.BalanceLockRepository;
+import com.example.accounting.application.port.out.DailyAccountBalanceRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 残高再構築のチャンク処理サービス
+ *
+ * <p>チャンクごとに独立したトランザクションで削除と再集計を行い、
+ * 参照側からは再構築前後のどちらかの状態だけが見えるようにする。
+ * 日次残高を作り直した月ごとに {@link LedgerChangedEvent} を発行する。</p>
+ *
+ * <p>各チャンクは最初に {@link BalanceLockRepository} の排他ロックを取得し、
+ * 同じ残高を書き換える転記をコミットまで待たせる。日次残高は対象月の転記だけを、
+ * 月次残高・チェックポイントは起票日以降を書き換えるすべての転記を待たせる。</p>
+ */
+@Service
+public class BalanceRebuildChunkService {
+
+    private static final int MONTHS_IN_PERIOD = 12;
+
+    private final BalanceLockRepository balanceLockRepository;
+    private final DailyAccountBalanceRepository dailyAccountBalanceRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final MonthlyBalanceRollUpService monthlyBalanceRollUpService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public BalanceRebuildChunkService(BalanceLockRepository balanceLockRepository,
+                                      DailyAccountBalanceRepository dailyAccountBalanceRepository,
+                                      BalanceCheckpointRepository balanceCheckpointRepository,
+                                      MonthlyBalanceRollUpService monthlyBalanceRollUpService,
+                                      ApplicationEventPublisher applicationEventPublisher) {
+        this.balanceLockRepository = balanceLockRepository;
+        this.dailyAccountBalanceRepository = dailyAccountBalanceRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.monthlyBalanceRollUpService = monthlyBalanceRollUpService;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * 1 か月分の日次残高を確定仕訳から作り直す
+     *
+     * @param month 対象月
+     * @return 登録した日次残高の件数
+     */
+    @Transactional
+    public int rebuildDailyBalances(YearMonth month) {
+        balanceLockRepository.lockMonthForRebuild(month)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        int rebuilt = dailyAccountBalanceRepository.rebuild(month.atDay(1), month.plusMonths(1).atDay(1))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        applicationEventPublisher.publishEvent(new LedgerChangedEvent(month.atDay(1), month.atEndOfMonth()));
+        return rebuilt;
+    }
+
+    /**
+     * 会計期間の月次残高を日次残高から作り直し、各月末の残高チェックポイントを期首から順に作り直す
+     *
+     * <p>チェックポイントは直前のチェックポイントからの累計のため、期末より後の既存チェックポイント
+     * （翌期以降）も古い順に作り直す。</p>
+     *
+     * @param fiscalPeriod 会計期間
+     */
+    @Transactional
+    public void rebuildMonthlyBalances(int fiscalPeriod) {
+        balanceLockRepository.lockAllForRebuild()
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        monthlyBalanceRollUpService.rebuild(fiscalPeriod);
+        LocalDate periodEnd = YearMonth.of(fiscalPeriod, MONTHS_IN_PERIOD).atEndOfMonth();
+        List<LocalDate> laterCheckpointDates = balanceCheckpointRepository.findCheckpointDatesAfter(periodEnd)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        Stream.concat(
+                        IntStream.rangeClosed(1, MONTHS_IN_PERIOD)
+                                .mapToObj(month -> YearMonth.of(fiscalPeriod, month).atEndOfMonth()),
+                        laterCheckpointDates.stream())
+                .forEach(checkpointDate -> balanceCheckpointRepository.rebuild(checkpointDate)
+                        .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)));
+    }
+}
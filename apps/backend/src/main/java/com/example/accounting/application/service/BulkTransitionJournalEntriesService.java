@@ -0,0 +1,129 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.in.BulkTransitionJournalEntriesUseCase;
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand;
+import com.example.accounting.application.port.out.BulkTransitionJournalEntriesResult;
+import com.example.accounting.application.port.out.BulkTransitionJournalEntriesResult.Failure;
+import com.example.accounting.application.port.out.GetJournalEntriesResult.JournalEntrySummary;
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import com.example.accounting.application.port.out.JournalEntryRepository;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.model.user.UserId;
+import com.example.accounting.domain.shared.OptimisticLockException;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand.MAX_ENTRIES;
+
+/**
+ * 仕訳一括状態遷移サービス（一括承認・確定・差し戻し）
+ *
+ * <p>対象の仕訳をまとめて読み込み、1 件ずつドメインの状態遷移で検証する。
+ * 遷移できた仕訳は (ID, バージョン) を条件にした 1 文の UPDATE でまとめて更新し、
+ * 確定の場合は日次残高・チェックポイント・月次残高へまとめて転記する。
+ * 読み込んだ後に別の操作で更新された仕訳があった場合は、楽観ロックエラーとして全体をロールバックする。</p>
+ */
+@Service
+public class BulkTransitionJournalEntriesService implements BulkTransitionJournalEntriesUseCase {
+
+    private final JournalEntryRepository journalEntryRepository;
+    private final JournalPostingService journalPostingService;
+    private final Clock clock;
+
+    public BulkTransitionJournalEntriesService(JournalEntryRepository journalEntryRepository,
+                                               JournalPostingService journalPostingService,
+                                               Clock clock) {
+        this.journalEntryRepository = journalEntryRepository;
+        this.journalPostingService = journalPostingService;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional
+    public Either<String, BulkTransitionJournalEntriesResult> execute(BulkTransitionJournalEntriesCommand command) {
+        return targetIds(command).map(ids -> transition(command, ids));
+    }
+
+    private Either<String, List<Integer>> targetIds(BulkTransitionJournalEntriesCommand command) {
+        if (!command.isRangeSelection()) {
+            return Either.right(command.journalEntryIds());
+        }
+        List<Integer> ids = journalEntryRepository.findSummariesByConditions(
+                        List.of(command.action().sourceStatus().name()),
+                        command.dateFrom(),
+                        command.dateTo(),
+                        0,
+                        MAX_ENTRIES + 1)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .stream()
+                .map(JournalEntrySummary::journalEntryId)
+                .toList();
+        if (ids.size() > MAX_ENTRIES) {
+            return Either.left("対象の仕訳が " + MAX_ENTRIES + " 件を超えています。仕訳日付の範囲を絞り込んでください");
+        }
+        return Either.right(ids);
+    }
+
+    private BulkTransitionJournalEntriesResult transition(BulkTransitionJournalEntriesCommand command,
+                                                         List<Integer> ids) {
+        Map<Integer, JournalEntry> found = journalEntryRepository
+                .findAllByIds(ids.stream().map(JournalEntryId::of).toList())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .stream()
+                .collect(Collectors.toMap(entry -> entry.getId().value(), Function.identity()));
+        UserId operator = UserId.of(command.operatorId());
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        List<Either<Failure, JournalEntry>> outcomes = ids.stream()
+                .map(id -> apply(command, id, found.get(id), operator, now))
+                .toList();
+        List<JournalEntry> transitioned = outcomes.stream().flatMap(Either::toJavaStream).toList();
+        List<Failure> failures = outcomes.stream().flatMap(outcome -> outcome.swap().toJavaStream()).toList();
+
+        List<JournalEntry> saved = journalEntryRepository.saveTransitions(transitioned, eventTypeOf(command.action()))
+                .getOrElseThrow(ex -> ex instanceof OptimisticLockException conflict
+                        ? conflict
+                        : new RuntimeException("Data access error", ex));
+        if (command.action() == BulkTransitionJournalEntriesCommand.Action.CONFIRM) {
+            journalPostingService.postAll(saved);
+        }
+
+        return BulkTransitionJournalEntriesResult.of(
+                command.action().name(),
+                command.action().targetStatus().name(),
+                saved.stream().map(entry -> entry.getId().value()).toList(),
+                failures);
+    }
+
+    private Either<Failure, JournalEntry> apply(BulkTransitionJournalEntriesCommand command, Integer id,
+                                                JournalEntry journalEntry, UserId operator, LocalDateTime now) {
+        if (journalEntry == null) {
+            return Either.left(new Failure(id, "仕訳が見つかりません"));
+        }
+        return Try.of(() -> switch (command.action()) {
+                    case APPROVE -> journalEntry.approve(operator, now);
+                    case CONFIRM -> journalEntry.confirm(operator, now);
+                    case REJECT -> journalEntry.reject(operator, now, command.rejectionReason());
+                })
+                .toEither()
+                .mapLeft(ex -> new Failure(id, ex.getMessage()));
+    }
+
+    private static JournalEntryEvent.Type eventTypeOf(BulkTransitionJournalEntriesCommand.Action action) {
+        return switch (action) {
+            case APPROVE -> JournalEntryEvent.Type.APPROVED;
+            case CONFIRM -> JournalEntryEvent.Type.CONFIRMED;
+            case REJECT -> JournalEntryEvent.Type.REJECTED;
+        };
+    }
+}
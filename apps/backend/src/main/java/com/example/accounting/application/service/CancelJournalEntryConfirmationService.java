@@ -0,0 +1,59 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.in.CancelJournalEntryConfirmationUseCase;
+import com.example.accounting.application.port.in.command.CancelJournalEntryConfirmationCommand;
+import com.example.accounting.application.port.out.CancelJournalEntryConfirmationResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import com.example.accounting.application.port.out.JournalEntryRepository;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.shared.OptimisticLockException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 仕訳確定取消サービス
+ *
+ * <p>確定済み仕訳を削除せずに承認済み状態へ戻し、残高への転記を取り消す。
+ * 状態遷移は version による楽観ロック付きで保存し、保存できた場合にだけ同じトランザクション内で
+ * 日次残高・チェックポイント・月次残高から転記を取り消す。同じ仕訳への同時実行や再試行では
+ * 後続の保存が {@code OptimisticLockException} で失敗するため、転記が二重に取り消されることはない。</p>
+ */
+@Service
+public class CancelJournalEntryConfirmationService implements CancelJournalEntryConfirmationUseCase {
+
+    private final JournalEntryRepository journalEntryRepository;
+    private final JournalPostingService journalPostingService;
+
+    public CancelJournalEntryConfirmationService(JournalEntryRepository journalEntryRepository,
+                                                 JournalPostingService journalPostingService) {
+        this.journalEntryRepository = journalEntryRepository;
+        this.journalPostingService = journalPostingService;
+    }
+
+    @Override
+    @Transactional
+    public CancelJournalEntryConfirmationResult execute(CancelJournalEntryConfirmationCommand command) {
+        try {
+            JournalEntry journalEntry = journalEntryRepository
+                    .findById(new JournalEntryId(command.journalEntryId()))
+                    .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                    .orElse(null);
+
+            if (journalEntry == null) {
+                return CancelJournalEntryConfirmationResult.failure("仕訳が見つかりません");
+            }
+
+            JournalEntry updated = journalEntry.cancelConfirmation();
+            JournalEntry saved = journalEntryRepository.save(updated, JournalEntryEvent.Type.UNCONFIRMED)
+                    .getOrElseThrow(ex -> ex instanceof OptimisticLockException conflict
+                            ? conflict
+                            : new RuntimeException("Data access error", ex));
+            journalPostingService.unpost(journalEntry);
+
+            return CancelJournalEntryConfirmationResult.success(saved.getId().value(), saved.getStatus().name());
+        } catch (IllegalStateException e) {
+            return CancelJournalEntryConfirmationResult.failure(e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.accounting.application.service;
 import com.example.accounting.application.port.in.ConfirmJournalEntryUseCase;
 import com.example.accounting.application.port.in.command.ConfirmJournalEntryCommand;
 import com.example.accounting.application.port.out.ConfirmJournalEntryResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.journal.JournalEntry;
 import com.example.accounting.domain.model.journal.JournalEntryId;
@@ -16,9 +17,12 @@ import java.time.LocalDateTime;
 public class ConfirmJournalEntryService implements ConfirmJournalEntryUseCase {
 
     private final JournalEntryRepository journalEntryRepository;
+    private final JournalPostingService journalPostingService;
 
-    public ConfirmJournalEntryService(JournalEntryRepository journalEntryRepository) {
+    public ConfirmJournalEntryService(JournalEntryRepository journalEntryRepository,
+                                      JournalPostingService journalPostingService) {
         this.journalEntryRepository = journalEntryRepository;
+        this.journalPostingService = journalPostingService;
     }
 
     @Override
@@ -35,8 +39,9 @@ public class ConfirmJournalEntryService implements ConfirmJournalEntryUseCase {
             }
 
             JournalEntry updated = journalEntry.confirm(UserId.of(command.confirmerId()), LocalDateTime.now());
-            journalEntryRepository.save(updated)
+            journalEntryRepository.save(updated, JournalEntryEvent.Type.CONFIRMED)
                     .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+            journalPostingService.post(updated);
 
             return ConfirmJournalEntryResult.success(
                     updated.getId().value(),
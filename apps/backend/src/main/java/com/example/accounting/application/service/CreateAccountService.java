@@ -9,6 +9,7 @@ import com.example.accounting.domain.model.account.AccountCode;
 import com.example.accounting.domain.model.account.AccountType;
 import com.example.accounting.domain.shared.IO;
 import io.vavr.control.Either;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,9 +24,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateAccountService implements CreateAccountUseCase {
 
     private final AccountRepository accountRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public CreateAccountService(AccountRepository accountRepository) {
+    public CreateAccountService(AccountRepository accountRepository,
+                                ApplicationEventPublisher applicationEventPublisher) {
         this.accountRepository = accountRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -78,6 +82,7 @@ public class CreateAccountService implements CreateAccountUseCase {
 
     private IO<Account> createAccountIO(Account account) {
         return IO.delay(() -> accountRepository.save(account)
+                .peek(saved -> applicationEventPublisher.publishEvent(LedgerChangedEvent.allDates()))
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)));
     }
 
@@ -4,6 +4,7 @@ import com.example.accounting.application.port.in.CreateJournalEntryUseCase;
 import com.example.accounting.application.port.in.command.CreateJournalEntryCommand;
 import com.example.accounting.application.port.out.AccountRepository;
 import com.example.accounting.application.port.out.CreateJournalEntryResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.account.AccountId;
 import com.example.accounting.domain.model.journal.JournalEntry;
@@ -13,25 +14,32 @@ import com.example.accounting.domain.model.user.UserId;
 import com.example.accounting.domain.shared.IO;
 import io.vavr.control.Either;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * 仕訳登録サービス（CreateJournalEntryUseCase の実装）
  *
  * <p>Vavr の Either と IO モナドを使用した関数型スタイルで
  * エラーハンドリングと副作用管理を行う。</p>
+ *
+ * <p>伝票番号はトランザクションを開始する前に払い出し、仕訳の登録だけをトランザクションで行う。</p>
  */
 @Service
-@Transactional
 public class CreateJournalEntryService implements CreateJournalEntryUseCase {
 
     private final AccountRepository accountRepository;
     private final JournalEntryRepository journalEntryRepository;
+    private final VoucherNumberAllocator voucherNumberAllocator;
+    private final TransactionOperations transactionOperations;
 
     public CreateJournalEntryService(AccountRepository accountRepository,
-                                     JournalEntryRepository journalEntryRepository) {
+                                     JournalEntryRepository journalEntryRepository,
+                                     VoucherNumberAllocator voucherNumberAllocator,
+                                     TransactionOperations transactionOperations) {
         this.accountRepository = accountRepository;
         this.journalEntryRepository = journalEntryRepository;
+        this.voucherNumberAllocator = voucherNumberAllocator;
+        this.transactionOperations = transactionOperations;
     }
 
     /**
@@ -136,8 +144,10 @@ public class CreateJournalEntryService implements CreateJournalEntryUseCase {
     }
 
     private IO<JournalEntry> createJournalEntryIO(JournalEntry journalEntry) {
-        return IO.delay(() -> journalEntryRepository.save(journalEntry)
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)));
+        return IO.delay(() -> voucherNumberAllocator.assign(journalEntry))
+                .map(numbered -> transactionOperations.execute(status -> journalEntryRepository
+                        .save(numbered, JournalEntryEvent.Type.CREATED)
+                        .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))));
     }
 
     private CreateJournalEntryResult createJournalEntryResult(JournalEntry journalEntry) {
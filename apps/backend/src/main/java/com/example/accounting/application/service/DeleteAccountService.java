@@ -10,6 +10,7 @@ import com.example.accounting.domain.model.account.AccountId;
 import com.example.accounting.domain.shared.IO;
 import io.vavr.control.Either;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ public class DeleteAccountService implements DeleteAccountUseCase {
 
     private final AccountRepository accountRepository;
     private final AccountUsageChecker accountUsageChecker;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     public DeleteAccountResult execute(DeleteAccountCommand command) {
@@ -59,6 +61,7 @@ public class DeleteAccountService implements DeleteAccountUseCase {
 
     private IO<Void> deleteAccountIO(AccountId accountId) {
         return IO.effect(() -> accountRepository.deleteById(accountId)
+                .peek(deleted -> applicationEventPublisher.publishEvent(LedgerChangedEvent.allDates()))
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)));
     }
 }
@@ -6,6 +6,7 @@ import com.example.accounting.application.port.out.AccountRepository;
 import com.example.accounting.application.port.out.AutoJournalLogRepository;
 import com.example.accounting.application.port.out.AutoJournalPatternRepository;
 import com.example.accounting.application.port.out.GenerateAutoJournalResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.account.Account;
 import com.example.accounting.domain.model.account.AccountId;
@@ -19,13 +20,17 @@ import com.example.accounting.domain.model.journal.JournalEntryLine;
 import com.example.accounting.domain.model.journal.Money;
 import com.example.accounting.domain.model.user.UserId;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.Optional;
 
+/**
+ * 自動仕訳生成サービス（GenerateAutoJournalUseCase の実装）
+ *
+ * <p>伝票番号はトランザクションを開始する前に払い出し、仕訳と成功ログの登録だけをトランザクションで行う。</p>
+ */
 @Service
-@Transactional
 @SuppressWarnings("PMD.AvoidThrowStatement")
 public class GenerateAutoJournalService implements GenerateAutoJournalUseCase {
 
@@ -33,15 +38,21 @@ public class GenerateAutoJournalService implements GenerateAutoJournalUseCase {
     private final AccountRepository accountRepository;
     private final JournalEntryRepository journalEntryRepository;
     private final AutoJournalLogRepository logRepository;
+    private final VoucherNumberAllocator voucherNumberAllocator;
+    private final TransactionOperations transactionOperations;
 
     public GenerateAutoJournalService(AutoJournalPatternRepository patternRepository,
                                       AccountRepository accountRepository,
                                       JournalEntryRepository journalEntryRepository,
-                                      AutoJournalLogRepository logRepository) {
+                                      AutoJournalLogRepository logRepository,
+                                      VoucherNumberAllocator voucherNumberAllocator,
+                                      TransactionOperations transactionOperations) {
         this.patternRepository = patternRepository;
         this.accountRepository = accountRepository;
         this.journalEntryRepository = journalEntryRepository;
         this.logRepository = logRepository;
+        this.voucherNumberAllocator = voucherNumberAllocator;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
@@ -51,9 +62,12 @@ public class GenerateAutoJournalService implements GenerateAutoJournalUseCase {
             AutoJournalPattern pattern = findActivePattern(patternId);
             JournalEntry entry = buildJournalEntry(command, pattern);
             entry.validateForSave();
-            JournalEntry saved = saveJournalEntry(entry);
-            logRepository.save(AutoJournalLog.createSuccess(patternId, "仕訳ID: " + saved.getId().value()));
-            return buildSuccessResult(saved);
+            JournalEntry numbered = voucherNumberAllocator.assign(entry);
+            return transactionOperations.execute(status -> {
+                JournalEntry saved = saveJournalEntry(numbered);
+                logRepository.save(AutoJournalLog.createSuccess(patternId, "仕訳ID: " + saved.getId().value()));
+                return buildSuccessResult(saved);
+            });
         } catch (IllegalArgumentException e) {
             logRepository.save(AutoJournalLog.createFailure(patternId, e.getMessage(), null));
             return GenerateAutoJournalResult.failure(e.getMessage());
@@ -111,7 +125,7 @@ public class GenerateAutoJournalService implements GenerateAutoJournalUseCase {
     }
 
     private JournalEntry saveJournalEntry(JournalEntry entry) {
-        return journalEntryRepository.save(entry)
+        return journalEntryRepository.save(entry, JournalEntryEvent.Type.CREATED)
                 .getOrElseThrow(ex -> new RuntimeException("データアクセスエラー", ex));
     }
 
@@ -2,15 +2,16 @@ package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.query.GetBalanceSheetQuery;
 import com.example.accounting.application.port.in.query.GetBalanceSheetUseCase;
-import com.example.accounting.application.port.out.BalanceSheetRepository;
 import com.example.accounting.application.port.out.GetBalanceSheetResult;
 import com.example.accounting.application.port.out.GetBalanceSheetResult.BalanceSheetEntry;
 import com.example.accounting.application.port.out.GetBalanceSheetResult.BalanceSheetSection;
 import com.example.accounting.application.port.out.GetBalanceSheetResult.ComparativeData;
-import com.example.accounting.domain.model.account.AccountType;
-import com.example.accounting.infrastructure.persistence.entity.BalanceSheetEntity;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.service.report.MultiPeriodReportEngine;
+import com.example.accounting.application.service.report.ReportCache;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -18,9 +19,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 貸借対照表照会サービス
+ *
+ * <p>当期・比較日の残高は {@link MultiPeriodReportEngine} で 1 回の問い合わせにまとめて集計する。
+ * 当期・比較日の基準日以前の残高が変わるまで、照会条件ごとの集計結果を {@link ReportCache} から返す。</p>
+ */
 @Service
-@Transactional(readOnly = true)
 public class GetBalanceSheetService implements GetBalanceSheetUseCase {
+    private static final String REPORT_TYPE = "BALANCE_SHEET";
     private static final List<String> SECTION_ORDER = List.of("ASSET", "LIABILITY", "EQUITY");
     private static final Map<String, String> SECTION_DISPLAY_NAMES = Map.of(
             "ASSET", "資産の部",
@@ -28,26 +35,25 @@ public class GetBalanceSheetService implements GetBalanceSheetUseCase {
             "EQUITY", "純資産の部"
     );
 
-    private final BalanceSheetRepository balanceSheetRepository;
+    private final MultiPeriodReportEngine reportEngine;
+    private final ReportCache reportCache;
 
-    public GetBalanceSheetService(BalanceSheetRepository balanceSheetRepository) {
-        this.balanceSheetRepository = balanceSheetRepository;
+    public GetBalanceSheetService(MultiPeriodReportEngine reportEngine, ReportCache reportCache) {
+        this.reportEngine = reportEngine;
+        this.reportCache = reportCache;
     }
 
     @Override
     public GetBalanceSheetResult execute(GetBalanceSheetQuery query) {
-        List<BalanceSheetEntity> currentEntities = balanceSheetRepository.findBalanceSheet(query.date())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-
-        List<BalanceSheetEntity> comparativeEntities = query.comparativeDate() != null
-                ? balanceSheetRepository.findBalanceSheet(query.comparativeDate())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
-                : List.of();
+        List<Column> columns = columns(query);
+        return reportCache.get(REPORT_TYPE, query, MultiPeriodReportEngine.periods(columns),
+                () -> aggregate(query, columns));
+    }
 
-        Map<String, BigDecimal> comparativeAmounts = buildComparativeAmountMap(comparativeEntities);
+    private GetBalanceSheetResult aggregate(GetBalanceSheetQuery query, List<Column> columns) {
+        StatementColumns balances = reportEngine.balanceSheet(columns);
 
-        List<BalanceSheetSection> sections = buildSections(currentEntities, comparativeAmounts,
-                query.comparativeDate() != null);
+        List<BalanceSheetSection> sections = buildSections(balances.rows(), query.comparativeDate() != null);
 
         BigDecimal totalAssets = getSectionSubtotal(sections, "ASSET");
         BigDecimal totalLiabilities = getSectionSubtotal(sections, "LIABILITY");
@@ -70,24 +76,21 @@ public class GetBalanceSheetService implements GetBalanceSheetUseCase {
         );
     }
 
-    private List<BalanceSheetSection> buildSections(List<BalanceSheetEntity> entities,
-                                                     Map<String, BigDecimal> comparativeAmounts,
-                                                     boolean hasComparative) {
-        Map<String, List<BalanceSheetEntity>> grouped = entities.stream()
-                .collect(Collectors.groupingBy(BalanceSheetEntity::getAccountType));
+    private List<BalanceSheetSection> buildSections(List<Row> rows, boolean hasComparative) {
+        Map<String, List<Row>> grouped = rows.stream()
+                .collect(Collectors.groupingBy(Row::accountType));
 
         return SECTION_ORDER.stream()
-                .map(sectionType -> buildOneSection(sectionType, grouped, comparativeAmounts, hasComparative))
+                .map(sectionType -> buildOneSection(sectionType, grouped, hasComparative))
                 .toList();
     }
 
     private BalanceSheetSection buildOneSection(String sectionType,
-                                                Map<String, List<BalanceSheetEntity>> grouped,
-                                                Map<String, BigDecimal> comparativeAmounts,
+                                                Map<String, List<Row>> grouped,
                                                 boolean hasComparative) {
-        List<BalanceSheetEntity> group = grouped.getOrDefault(sectionType, List.of());
+        List<Row> group = grouped.getOrDefault(sectionType, List.of());
         List<BalanceSheetEntry> entries = group.stream()
-                .map(e -> toEntry(e, comparativeAmounts, hasComparative))
+                .map(row -> toEntry(row, hasComparative))
                 .toList();
         BigDecimal subtotal = entries.stream()
                 .map(BalanceSheetEntry::amount)
@@ -117,38 +120,18 @@ public class GetBalanceSheetService implements GetBalanceSheetUseCase {
         return buildComparativeData(subtotal, prevSubtotal);
     }
 
-    private BalanceSheetEntry toEntry(BalanceSheetEntity entity,
-                                      Map<String, BigDecimal> comparativeAmounts,
-                                      boolean hasComparative) {
-        BigDecimal amount = toDisplayAmount(entity);
+    private BalanceSheetEntry toEntry(Row row, boolean hasComparative) {
+        // 金額は列 0 が当期、列 1 が比較日（資産は借方残高、負債・純資産は貸方残高を正の値で表示）
+        BigDecimal amount = row.amount(0);
         return new BalanceSheetEntry(
-                entity.getAccountCode(),
-                entity.getAccountName(),
-                entity.getAccountType(),
+                row.accountCode(),
+                row.accountName(),
+                row.accountType(),
                 amount,
-                hasComparative
-                        ? buildComparativeData(amount, comparativeAmounts.getOrDefault(entity.getAccountCode(), BigDecimal.ZERO))
-                        : null
+                hasComparative ? buildComparativeData(amount, row.amount(1)) : null
         );
     }
 
-    private BigDecimal toDisplayAmount(BalanceSheetEntity entity) {
-        BigDecimal balance = entity.getBalance() != null ? entity.getBalance() : BigDecimal.ZERO;
-        boolean isDebit = isDebitBalanceAccount(entity.getAccountType());
-        // ASSET: 借方残高（正の値を表示）
-        // LIABILITY/EQUITY: 貸方残高（符号を反転して正の値を表示）
-        return isDebit ? balance : balance.negate();
-    }
-
-    private Map<String, BigDecimal> buildComparativeAmountMap(List<BalanceSheetEntity> entities) {
-        return entities.stream()
-                .collect(Collectors.toMap(
-                        BalanceSheetEntity::getAccountCode,
-                        this::toDisplayAmount,
-                        (a, b) -> a
-                ));
-    }
-
     private ComparativeData buildComparativeData(BigDecimal currentAmount, BigDecimal previousAmount) {
         BigDecimal diff = currentAmount.subtract(previousAmount);
         BigDecimal changeRate = BigDecimal.ZERO;
@@ -160,15 +143,6 @@ public class GetBalanceSheetService implements GetBalanceSheetUseCase {
         return new ComparativeData(previousAmount, diff, changeRate);
     }
 
-    private boolean isDebitBalanceAccount(String accountType) {
-        try {
-            AccountType type = AccountType.valueOf(accountType);
-            return type.isDebitBalance();
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
-    }
-
     private BigDecimal getSectionSubtotal(List<BalanceSheetSection> sections, String sectionType) {
         return sections.stream()
                 .filter(s -> s.sectionType().equals(sectionType))
@@ -176,4 +150,10 @@ public class GetBalanceSheetService implements GetBalanceSheetUseCase {
                 .findFirst()
                 .orElse(BigDecimal.ZERO);
     }
+
+    private static List<Column> columns(GetBalanceSheetQuery query) {
+        return query.comparativeDate() != null
+                ? List.of(Column.upTo(query.date()), Column.upTo(query.comparativeDate()))
+                : List.of(Column.upTo(query.date()));
+    }
 }
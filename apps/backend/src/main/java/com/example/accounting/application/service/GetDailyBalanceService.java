@@ -15,7 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
@@ -43,7 +42,11 @@ public class GetDailyBalanceService implements GetDailyBalanceUseCase {
                 query.accountId(), query.dateFrom(), query.dateTo())
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
 
-        BalanceCalculation calculation = calculateBalances(account.getAccountType(), openingBalance, rawEntries);
+        RunningBalanceCalculator.Result<DailyBalanceEntry> calculation = RunningBalanceCalculator.calculate(
+                account.getAccountType(), openingBalance, rawEntries,
+                DailyBalanceEntry::debitTotal, DailyBalanceEntry::creditTotal,
+                (entry, debit, credit, running) -> new DailyBalanceEntry(
+                        entry.date(), debit, credit, running, entry.transactionCount()));
 
         return new GetDailyBalanceResult(
                 account.getId().value(),
@@ -72,46 +75,4 @@ public class GetDailyBalanceService implements GetDailyBalanceUseCase {
         }
         return balance.negate();
     }
-
-    private BalanceCalculation calculateBalances(AccountType accountType,
-                                                 BigDecimal openingBalance,
-                                                 List<DailyBalanceEntry> rawEntries) {
-        record Accumulator(List<DailyBalanceEntry> entries, BigDecimal debitTotal,
-                           BigDecimal creditTotal, BigDecimal running) {}
-
-        Accumulator result = rawEntries.stream().reduce(
-                new Accumulator(List.of(), BigDecimal.ZERO, BigDecimal.ZERO, openingBalance),
-                (acc, entry) -> {
-                    BigDecimal debitAmount = defaultAmount(entry.debitTotal());
-                    BigDecimal creditAmount = defaultAmount(entry.creditTotal());
-                    BigDecimal delta = accountType.isDebitBalance()
-                            ? debitAmount.subtract(creditAmount)
-                            : creditAmount.subtract(debitAmount);
-                    BigDecimal newRunning = acc.running.add(delta);
-
-                    var newEntry = new DailyBalanceEntry(
-                            entry.date(), debitAmount, creditAmount, newRunning, entry.transactionCount());
-
-                    return new Accumulator(
-                            Stream.concat(acc.entries.stream(), Stream.of(newEntry)).toList(),
-                            acc.debitTotal.add(debitAmount),
-                            acc.creditTotal.add(creditAmount),
-                            newRunning);
-                },
-                (a, b) -> b);
-
-        return new BalanceCalculation(result.entries(), result.debitTotal(), result.creditTotal(), result.running());
-    }
-
-    private BigDecimal defaultAmount(BigDecimal amount) {
-        return amount == null ? BigDecimal.ZERO : amount;
-    }
-
-    private record BalanceCalculation(
-            List<DailyBalanceEntry> entries,
-            BigDecimal debitTotal,
-            BigDecimal creditTotal,
-            BigDecimal closingBalance
-    ) {
-    }
 }
@@ -2,54 +2,67 @@ package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.query.GetFinancialAnalysisQuery;
 import com.example.accounting.application.port.in.query.GetFinancialAnalysisUseCase;
-import com.example.accounting.application.port.out.BalanceSheetRepository;
 import com.example.accounting.application.port.out.GetFinancialAnalysisResult;
 import com.example.accounting.application.port.out.GetFinancialAnalysisResult.FinancialIndicator;
 import com.example.accounting.application.port.out.GetFinancialAnalysisResult.IndicatorCategory;
-import com.example.accounting.application.port.out.ProfitAndLossRepository;
-import com.example.accounting.domain.model.account.AccountType;
-import com.example.accounting.infrastructure.persistence.entity.BalanceSheetEntity;
-import com.example.accounting.infrastructure.persistence.entity.ProfitAndLossEntity;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.service.report.MultiPeriodReportEngine;
+import com.example.accounting.application.service.report.ReportCache;
+import com.example.accounting.application.service.report.ReportCache.Period;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
 
+/**
+ * 財務分析照会サービス
+ *
+ * <p>貸借対照表・損益計算書の集計値から指標を算出する。当期と比較期間の値は {@link MultiPeriodReportEngine} で
+ * 帳票ごとに 1 回の問い合わせで求め、集計結果は {@link ReportCache} に保持する。
+ * ダッシュボードから頻繁に照会されるため、許容遅延（report-cache.max-staleness.financial-analysis）を設定すると、
+ * 仕訳の確定が続く間も古い結果をすぐに返し、別スレッドで集計し直す。</p>
+ */
 @Service
-@Transactional(readOnly = true)
 public class GetFinancialAnalysisService implements GetFinancialAnalysisUseCase {
+    private static final String REPORT_TYPE = "FINANCIAL_ANALYSIS";
 
-    private final BalanceSheetRepository balanceSheetRepository;
-    private final ProfitAndLossRepository profitAndLossRepository;
+    private final MultiPeriodReportEngine reportEngine;
+    private final ReportCache reportCache;
 
-    public GetFinancialAnalysisService(
-            BalanceSheetRepository balanceSheetRepository,
-            ProfitAndLossRepository profitAndLossRepository) {
-        this.balanceSheetRepository = balanceSheetRepository;
-        this.profitAndLossRepository = profitAndLossRepository;
+    public GetFinancialAnalysisService(MultiPeriodReportEngine reportEngine, ReportCache reportCache) {
+        this.reportEngine = reportEngine;
+        this.reportCache = reportCache;
     }
 
     @Override
     public GetFinancialAnalysisResult execute(GetFinancialAnalysisQuery query) {
-        List<BalanceSheetEntity> bsEntities = balanceSheetRepository
-                .findBalanceSheet(query.dateTo())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-
-        List<ProfitAndLossEntity> plEntities = profitAndLossRepository
-                .findProfitAndLoss(query.dateFrom(), query.dateTo())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        return reportCache.get(REPORT_TYPE, query, periods(query), () -> aggregate(query));
+    }
 
-        BigDecimal totalAssets = sumByType(bsEntities, "ASSET");
-        BigDecimal totalLiabilities = sumByType(bsEntities, "LIABILITY");
-        BigDecimal totalEquity = sumByType(bsEntities, "EQUITY");
+    private GetFinancialAnalysisResult aggregate(GetFinancialAnalysisQuery query) {
+        boolean hasComparative = query.comparativeDateFrom() != null || query.comparativeDateTo() != null;
 
-        BigDecimal totalRevenue = sumPlByType(plEntities, "REVENUE");
-        BigDecimal totalExpense = sumPlByType(plEntities, "EXPENSE");
+        // 列 0 が当期、列 1 が比較期間
+        List<Column> bsColumns = hasComparative
+                ? List.of(Column.upTo(query.dateTo()), Column.upTo(query.comparativeDateTo()))
+                : List.of(Column.upTo(query.dateTo()));
+        Column plCurrent = new Column(query.dateFrom(), query.dateTo());
+        List<Column> plColumns = hasComparative
+                ? List.of(plCurrent, new Column(query.comparativeDateFrom(), query.comparativeDateTo()))
+                : List.of(plCurrent);
+        StatementColumns bs = reportEngine.balanceSheet(bsColumns);
+        StatementColumns pl = reportEngine.profitAndLoss(plColumns);
+
+        BigDecimal totalAssets = sumByType(bs, "ASSET", 0);
+        BigDecimal totalLiabilities = sumByType(bs, "LIABILITY", 0);
+        BigDecimal totalEquity = sumByType(bs, "EQUITY", 0);
+
+        BigDecimal totalRevenue = sumByType(pl, "REVENUE", 0);
+        BigDecimal totalExpense = sumByType(pl, "EXPENSE", 0);
         BigDecimal netIncome = totalRevenue.subtract(totalExpense);
 
-        boolean hasComparative = query.comparativeDateFrom() != null || query.comparativeDateTo() != null;
         BigDecimal prevTotalAssets = BigDecimal.ZERO;
         BigDecimal prevTotalLiabilities = BigDecimal.ZERO;
         BigDecimal prevTotalEquity = BigDecimal.ZERO;
@@ -57,18 +70,11 @@ public class GetFinancialAnalysisService implements GetFinancialAnalysisUseCase
         BigDecimal prevNetIncome = BigDecimal.ZERO;
 
         if (hasComparative) {
-            List<BalanceSheetEntity> prevBs = balanceSheetRepository
-                    .findBalanceSheet(query.comparativeDateTo())
-                    .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-            List<ProfitAndLossEntity> prevPl = profitAndLossRepository
-                    .findProfitAndLoss(query.comparativeDateFrom(), query.comparativeDateTo())
-                    .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-
-            prevTotalAssets = sumByType(prevBs, "ASSET");
-            prevTotalLiabilities = sumByType(prevBs, "LIABILITY");
-            prevTotalEquity = sumByType(prevBs, "EQUITY");
-            prevTotalRevenue = sumPlByType(prevPl, "REVENUE");
-            BigDecimal prevTotalExpense = sumPlByType(prevPl, "EXPENSE");
+            prevTotalAssets = sumByType(bs, "ASSET", 1);
+            prevTotalLiabilities = sumByType(bs, "LIABILITY", 1);
+            prevTotalEquity = sumByType(bs, "EQUITY", 1);
+            prevTotalRevenue = sumByType(pl, "REVENUE", 1);
+            BigDecimal prevTotalExpense = sumByType(pl, "EXPENSE", 1);
             prevNetIncome = prevTotalRevenue.subtract(prevTotalExpense);
         }
 
@@ -90,33 +96,13 @@ public class GetFinancialAnalysisService implements GetFinancialAnalysisUseCase
         );
     }
 
-    private BigDecimal sumByType(List<BalanceSheetEntity> entities, String accountType) {
-        return entities.stream()
-                .filter(e -> accountType.equals(e.getAccountType()))
-                .map(e -> {
-                    BigDecimal balance = e.getBalance() != null ? e.getBalance() : BigDecimal.ZERO;
-                    boolean isDebit = isDebitBalanceAccount(accountType);
-                    return isDebit ? balance : balance.negate();
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    private BigDecimal sumPlByType(List<ProfitAndLossEntity> entities, String accountType) {
-        return entities.stream()
-                .filter(e -> accountType.equals(e.getAccountType()))
-                .map(e -> e.getAmount() != null ? e.getAmount() : BigDecimal.ZERO)
+    private BigDecimal sumByType(StatementColumns statement, String accountType, int column) {
+        return statement.rows().stream()
+                .filter(row -> accountType.equals(row.accountType()))
+                .map(row -> row.amount(column))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
-    private boolean isDebitBalanceAccount(String accountType) {
-        try {
-            AccountType type = AccountType.valueOf(accountType);
-            return type.isDebitBalance();
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
-    }
-
     private IndicatorCategory buildProfitabilityCategory(
             BigDecimal netIncome, BigDecimal totalEquity, BigDecimal totalAssets, BigDecimal totalRevenue,
             BigDecimal prevNetIncome, BigDecimal prevTotalEquity, BigDecimal prevTotalAssets,
@@ -221,4 +207,13 @@ public class GetFinancialAnalysisService implements GetFinancialAnalysisUseCase
         return diff.multiply(BigDecimal.valueOf(100))
                 .divide(previousValue.abs(), 2, RoundingMode.HALF_UP);
     }
+
+    /**
+     * 損益は期末日以前の期間に含まれるため、貸借対照表の基準日までを集計期間とする
+     */
+    private static List<Period> periods(GetFinancialAnalysisQuery query) {
+        return query.comparativeDateFrom() != null || query.comparativeDateTo() != null
+                ? List.of(Period.upTo(query.dateTo()), Period.upTo(query.comparativeDateTo()))
+                : List.of(Period.upTo(query.dateTo()));
+    }
 }
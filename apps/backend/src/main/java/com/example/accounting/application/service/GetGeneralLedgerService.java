@@ -15,7 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
@@ -37,21 +36,35 @@ public class GetGeneralLedgerService implements GetGeneralLedgerUseCase {
                 .orElseThrow(() -> new IllegalArgumentException("勘定科目が見つかりません"));
 
         int offset = query.page() * query.size();
-        long totalElements = journalEntryRepository.countPostedLinesByAccountAndPeriod(
-                query.accountId(), query.dateFrom(), query.dateTo())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        long totalElements = query.withTotal()
+                ? journalEntryRepository.countPostedLinesByAccountAndPeriod(
+                        query.accountId(), query.dateFrom(), query.dateTo())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                : PagingHelper.UNKNOWN_TOTAL;
 
         BigDecimal rawOpeningBalance = calculateOpeningBalance(query.accountId(), query.dateFrom());
         BigDecimal openingBalance = normalizeBalance(account.getAccountType(), rawOpeningBalance);
 
-        List<GeneralLedgerEntry> rawEntries = totalElements == 0
+        boolean pageByNumber = query.withTotal() && query.cursor() == null;
+        int limit = pageByNumber ? query.size() : PagingHelper.lookAheadLimit(query.size());
+        List<GeneralLedgerEntry> fetched = totalElements == 0
                 ? List.of()
-                : journalEntryRepository.findPostedLinesByAccountAndPeriod(
-                query.accountId(), query.dateFrom(), query.dateTo(), offset, query.size())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-
-        BalanceCalculation calculation = calculateBalances(account.getAccountType(), openingBalance, rawEntries);
-        int totalPages = totalElements == 0 ? 0 : (int) Math.ceil((double) totalElements / query.size());
+                : fetch(query, offset, limit);
+        boolean hasNext = pageByNumber
+                ? PagingHelper.hasNext(query.page(), query.size(), totalElements)
+                : PagingHelper.hasNext(fetched, query.size());
+        List<GeneralLedgerEntry> rawEntries = PagingHelper.trim(fetched, query.size());
+
+        BigDecimal carriedForwardBalance = calculateCarriedForwardBalance(
+                query, account.getAccountType(), openingBalance, offset, rawEntries.isEmpty());
+        RunningBalanceCalculator.Result<GeneralLedgerEntry> calculation = RunningBalanceCalculator.calculate(
+                account.getAccountType(), carriedForwardBalance, rawEntries,
+                GeneralLedgerEntry::debitAmount, GeneralLedgerEntry::creditAmount,
+                (entry, debit, credit, running) -> new GeneralLedgerEntry(entry.journalEntryId(), entry.lineNumber(),
+                        entry.journalDate(), entry.description(), debit, credit, running));
+        int totalPages = query.withTotal()
+                ? PagingHelper.totalPages(totalElements, query.size())
+                : PagingHelper.UNKNOWN_TOTAL;
 
         return new GetGeneralLedgerResult(
                 calculation.entries(),
@@ -59,16 +72,68 @@ public class GetGeneralLedgerService implements GetGeneralLedgerUseCase {
                 account.getAccountCode().value(),
                 account.getAccountName(),
                 openingBalance,
+                carriedForwardBalance,
                 calculation.debitTotal(),
                 calculation.creditTotal(),
                 calculation.closingBalance(),
                 query.page(),
                 query.size(),
                 totalElements,
-                totalPages
+                totalPages,
+                hasNext,
+                GetGeneralLedgerResult.nextCursorOf(calculation.entries(), hasNext)
         );
     }
 
+    /**
+     * カーソル指定時はその続きからキーセットで、それ以外はページ番号（オフセット）で取得する
+     */
+    private List<GeneralLedgerEntry> fetch(GetGeneralLedgerQuery query, int offset, int limit) {
+        return (query.cursor() == null
+                ? journalEntryRepository.findPostedLinesByAccountAndPeriod(
+                        query.accountId(), query.dateFrom(), query.dateTo(), offset, limit)
+                : journalEntryRepository.findPostedLinesByAccountAndPeriodAfter(
+                        query.accountId(), query.dateFrom(), query.dateTo(), query.cursor(), limit))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    /**
+     * 前頁繰越を求める
+     *
+     * <p>カーソル指定時は、カーソルの行までの残高を月末残高チェックポイントから SQL で求める
+     * （カーソルが期間の開始日より前を指す場合、ページは期間の先頭から始まるため期首残高とする）。
+     * ページ番号指定時は、ページ先頭より前の行を集計する（深いページほど集計対象が増える）。</p>
+     */
+    private BigDecimal calculateCarriedForwardBalance(GetGeneralLedgerQuery query, AccountType accountType,
+                                                      BigDecimal openingBalance, int offset, boolean empty) {
+        if (query.cursor() != null) {
+            return query.dateFrom() != null && query.cursor().journalDate().isBefore(query.dateFrom())
+                    ? openingBalance
+                    : normalizeBalance(accountType, calculateBalanceThroughCursor(query));
+        }
+        if (empty || offset == 0) {
+            return openingBalance;
+        }
+        return openingBalance.add(normalizeBalance(accountType, calculateBalanceBeforeOffset(query, offset)));
+    }
+
+    /**
+     * ページ先頭より前の期間内の行を SQL 側で集計する（前ページを読み込まずに繰越残高を求める）
+     */
+    private BigDecimal calculateBalanceBeforeOffset(GetGeneralLedgerQuery query, int offset) {
+        return journalEntryRepository.calculateBalanceBeforeOffset(
+                        query.accountId(), query.dateFrom(), query.dateTo(), offset)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    /**
+     * カーソルの行までの確定明細を SQL 側で集計する（前ページを読み込まずに繰越残高を求める）
+     */
+    private BigDecimal calculateBalanceThroughCursor(GetGeneralLedgerQuery query) {
+        return journalEntryRepository.calculateBalanceThroughCursor(query.accountId(), query.cursor())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
     private BigDecimal calculateOpeningBalance(Integer accountId, LocalDate dateFrom) {
         if (dateFrom == null) {
             return BigDecimal.ZERO;
@@ -84,47 +149,4 @@ public class GetGeneralLedgerService implements GetGeneralLedgerUseCase {
         }
         return balance.negate();
     }
-
-    private BalanceCalculation calculateBalances(AccountType accountType,
-                                                 BigDecimal openingBalance,
-                                                 List<GeneralLedgerEntry> rawEntries) {
-        record Accumulator(List<GeneralLedgerEntry> entries, BigDecimal debitTotal,
-                           BigDecimal creditTotal, BigDecimal running) {}
-
-        Accumulator result = rawEntries.stream().reduce(
-                new Accumulator(List.of(), BigDecimal.ZERO, BigDecimal.ZERO, openingBalance),
-                (acc, entry) -> {
-                    BigDecimal debitAmount = defaultAmount(entry.debitAmount());
-                    BigDecimal creditAmount = defaultAmount(entry.creditAmount());
-                    BigDecimal delta = accountType.isDebitBalance()
-                            ? debitAmount.subtract(creditAmount)
-                            : creditAmount.subtract(debitAmount);
-                    BigDecimal newRunning = acc.running.add(delta);
-
-                    var newEntry = new GeneralLedgerEntry(
-                            entry.journalEntryId(), entry.journalDate(), entry.description(),
-                            debitAmount, creditAmount, newRunning);
-
-                    return new Accumulator(
-                            Stream.concat(acc.entries.stream(), Stream.of(newEntry)).toList(),
-                            acc.debitTotal.add(debitAmount),
-                            acc.creditTotal.add(creditAmount),
-                            newRunning);
-                },
-                (a, b) -> b);
-
-        return new BalanceCalculation(result.entries(), result.debitTotal(), result.creditTotal(), result.running());
-    }
-
-    private BigDecimal defaultAmount(BigDecimal amount) {
-        return amount == null ? BigDecimal.ZERO : amount;
-    }
-
-    private record BalanceCalculation(
-            List<GeneralLedgerEntry> entries,
-            BigDecimal debitTotal,
-            BigDecimal creditTotal,
-            BigDecimal closingBalance
-    ) {
-    }
 }
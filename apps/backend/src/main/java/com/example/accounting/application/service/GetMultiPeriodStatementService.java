@@ -0,0 +1,157 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery;
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery.PeriodUnit;
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery.StatementType;
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementUseCase;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Entry;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.PeriodColumn;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Section;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Total;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.service.report.MultiPeriodReportEngine;
+import com.example.accounting.application.service.report.ReportCache;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 複数期間財務諸表照会サービス
+ *
+ * <p>12 か月の月次推移や複数年の比較財務諸表を、期間数によらず {@link MultiPeriodReportEngine} の 1 回の問い合わせで集計する。
+ * いずれかの期間の残高が変わるまで、照会条件ごとの集計結果を {@link ReportCache} から返す。</p>
+ */
+@Service
+public class GetMultiPeriodStatementService implements GetMultiPeriodStatementUseCase {
+    private static final String REPORT_TYPE = "MULTI_PERIOD_STATEMENT";
+    private static final Map<StatementType, List<String>> SECTION_ORDER = Map.of(
+            StatementType.BALANCE_SHEET, List.of("ASSET", "LIABILITY", "EQUITY"),
+            StatementType.PROFIT_AND_LOSS, List.of("REVENUE", "EXPENSE")
+    );
+    private static final Map<String, String> SECTION_DISPLAY_NAMES = Map.of(
+            "ASSET", "資産の部",
+            "LIABILITY", "負債の部",
+            "EQUITY", "純資産の部",
+            "REVENUE", "収益の部",
+            "EXPENSE", "費用の部"
+    );
+
+    private final MultiPeriodReportEngine reportEngine;
+    private final ReportCache reportCache;
+
+    public GetMultiPeriodStatementService(MultiPeriodReportEngine reportEngine, ReportCache reportCache) {
+        this.reportEngine = reportEngine;
+        this.reportCache = reportCache;
+    }
+
+    @Override
+    public GetMultiPeriodStatementResult execute(GetMultiPeriodStatementQuery query) {
+        List<Column> columns = columns(query);
+        return reportCache.get(REPORT_TYPE, query, MultiPeriodReportEngine.periods(columns),
+                () -> aggregate(query, columns));
+    }
+
+    private GetMultiPeriodStatementResult aggregate(GetMultiPeriodStatementQuery query, List<Column> columns) {
+        StatementColumns statement = query.statementType() == StatementType.BALANCE_SHEET
+                ? reportEngine.balanceSheet(columns)
+                : reportEngine.profitAndLoss(columns);
+
+        Map<String, List<Row>> grouped = statement.rows().stream()
+                .collect(Collectors.groupingBy(Row::accountType));
+        List<Section> sections = SECTION_ORDER.get(query.statementType()).stream()
+                .map(sectionType -> buildSection(sectionType, grouped, columns.size()))
+                .toList();
+
+        List<PeriodColumn> periods = IntStream.range(0, query.periodCount())
+                .mapToObj(index -> new PeriodColumn(query.periodStart(index), query.periodEnd(index),
+                        label(query, index)))
+                .toList();
+
+        return new GetMultiPeriodStatementResult(
+                query.statementType().name(),
+                periods,
+                sections,
+                query.statementType() == StatementType.BALANCE_SHEET
+                        ? balanceSheetTotals(sections)
+                        : profitAndLossTotals(sections)
+        );
+    }
+
+    private Section buildSection(String sectionType, Map<String, List<Row>> grouped, int columnCount) {
+        List<Entry> entries = grouped.getOrDefault(sectionType, List.of()).stream()
+                .map(row -> new Entry(row.accountCode(), row.accountName(), row.accountType(), row.amounts()))
+                .toList();
+        List<BigDecimal> subtotals = IntStream.range(0, columnCount)
+                .mapToObj(column -> entries.stream()
+                        .map(entry -> entry.amounts().get(column))
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .toList();
+        return new Section(sectionType, SECTION_DISPLAY_NAMES.getOrDefault(sectionType, sectionType),
+                entries, subtotals);
+    }
+
+    private List<Total> balanceSheetTotals(List<Section> sections) {
+        List<BigDecimal> assets = subtotals(sections, "ASSET");
+        List<BigDecimal> liabilities = subtotals(sections, "LIABILITY");
+        List<BigDecimal> equity = subtotals(sections, "EQUITY");
+        return List.of(
+                new Total("資産合計", assets),
+                new Total("負債合計", liabilities),
+                new Total("純資産合計", equity),
+                new Total("負債・純資産合計", combine(liabilities, equity, BigDecimal::add))
+        );
+    }
+
+    private List<Total> profitAndLossTotals(List<Section> sections) {
+        List<BigDecimal> revenue = subtotals(sections, "REVENUE");
+        List<BigDecimal> expense = subtotals(sections, "EXPENSE");
+        return List.of(
+                new Total("収益合計", revenue),
+                new Total("費用合計", expense),
+                new Total("当期純利益", combine(revenue, expense, BigDecimal::subtract))
+        );
+    }
+
+    private static List<BigDecimal> subtotals(List<Section> sections, String sectionType) {
+        return sections.stream()
+                .filter(section -> section.sectionType().equals(sectionType))
+                .map(Section::subtotals)
+                .findFirst()
+                .orElse(List.of());
+    }
+
+    private static List<BigDecimal> combine(List<BigDecimal> left, List<BigDecimal> right,
+                                            BinaryOperator<BigDecimal> operator) {
+        return IntStream.range(0, left.size())
+                .mapToObj(column -> operator.apply(left.get(column), right.get(column)))
+                .toList();
+    }
+
+    /**
+     * 貸借対照表は各期間の末日時点の残高、損益計算書は各期間の発生額を列とする
+     */
+    private static List<Column> columns(GetMultiPeriodStatementQuery query) {
+        return IntStream.range(0, query.periodCount())
+                .mapToObj(index -> query.statementType() == StatementType.BALANCE_SHEET
+                        ? Column.upTo(query.periodEnd(index))
+                        : new Column(query.periodStart(index), query.periodEnd(index)))
+                .toList();
+    }
+
+    private static String label(GetMultiPeriodStatementQuery query, int index) {
+        YearMonth first = YearMonth.from(query.periodStart(index));
+        if (query.periodUnit() == PeriodUnit.MONTH) {
+            return first.toString();
+        }
+        return first + "〜" + YearMonth.from(query.periodEnd(index));
+    }
+}
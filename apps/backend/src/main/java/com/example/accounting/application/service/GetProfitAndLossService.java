@@ -6,10 +6,12 @@ import com.example.accounting.application.port.out.GetProfitAndLossResult;
 import com.example.accounting.application.port.out.GetProfitAndLossResult.ComparativeData;
 import com.example.accounting.application.port.out.GetProfitAndLossResult.ProfitAndLossEntry;
 import com.example.accounting.application.port.out.GetProfitAndLossResult.ProfitAndLossSection;
-import com.example.accounting.application.port.out.ProfitAndLossRepository;
-import com.example.accounting.infrastructure.persistence.entity.ProfitAndLossEntity;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.service.report.MultiPeriodReportEngine;
+import com.example.accounting.application.service.report.ReportCache;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -17,38 +19,40 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 損益計算書照会サービス
+ *
+ * <p>当期・比較期間の発生額は {@link MultiPeriodReportEngine} で 1 回の問い合わせにまとめて集計する。
+ * 当期・比較期間の残高が変わるまで、照会条件ごとの集計結果を {@link ReportCache} から返す。</p>
+ */
 @Service
-@Transactional(readOnly = true)
 public class GetProfitAndLossService implements GetProfitAndLossUseCase {
+    private static final String REPORT_TYPE = "PROFIT_AND_LOSS";
     private static final List<String> SECTION_ORDER = List.of("REVENUE", "EXPENSE");
     private static final Map<String, String> SECTION_DISPLAY_NAMES = Map.of(
             "REVENUE", "収益の部",
             "EXPENSE", "費用の部"
     );
 
-    private final ProfitAndLossRepository profitAndLossRepository;
+    private final MultiPeriodReportEngine reportEngine;
+    private final ReportCache reportCache;
 
-    public GetProfitAndLossService(ProfitAndLossRepository profitAndLossRepository) {
-        this.profitAndLossRepository = profitAndLossRepository;
+    public GetProfitAndLossService(MultiPeriodReportEngine reportEngine, ReportCache reportCache) {
+        this.reportEngine = reportEngine;
+        this.reportCache = reportCache;
     }
 
     @Override
     public GetProfitAndLossResult execute(GetProfitAndLossQuery query) {
-        List<ProfitAndLossEntity> currentEntities = profitAndLossRepository
-                .findProfitAndLoss(query.dateFrom(), query.dateTo())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-
-        boolean hasComparative = query.comparativeDateFrom() != null || query.comparativeDateTo() != null;
-
-        List<ProfitAndLossEntity> comparativeEntities = hasComparative
-                ? profitAndLossRepository
-                .findProfitAndLoss(query.comparativeDateFrom(), query.comparativeDateTo())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
-                : List.of();
+        List<Column> columns = columns(query);
+        return reportCache.get(REPORT_TYPE, query, MultiPeriodReportEngine.periods(columns),
+                () -> aggregate(query, columns));
+    }
 
-        Map<String, BigDecimal> comparativeAmounts = buildComparativeAmountMap(comparativeEntities);
+    private GetProfitAndLossResult aggregate(GetProfitAndLossQuery query, List<Column> columns) {
+        StatementColumns amounts = reportEngine.profitAndLoss(columns);
 
-        List<ProfitAndLossSection> sections = buildSections(currentEntities, comparativeAmounts, hasComparative);
+        List<ProfitAndLossSection> sections = buildSections(amounts.rows(), columns.size() > 1);
 
         BigDecimal totalRevenue = getSectionSubtotal(sections, "REVENUE");
         BigDecimal totalExpense = getSectionSubtotal(sections, "EXPENSE");
@@ -66,24 +70,21 @@ public class GetProfitAndLossService implements GetProfitAndLossUseCase {
         );
     }
 
-    private List<ProfitAndLossSection> buildSections(List<ProfitAndLossEntity> entities,
-                                                      Map<String, BigDecimal> comparativeAmounts,
-                                                      boolean hasComparative) {
-        Map<String, List<ProfitAndLossEntity>> grouped = entities.stream()
-                .collect(Collectors.groupingBy(ProfitAndLossEntity::getAccountType));
+    private List<ProfitAndLossSection> buildSections(List<Row> rows, boolean hasComparative) {
+        Map<String, List<Row>> grouped = rows.stream()
+                .collect(Collectors.groupingBy(Row::accountType));
 
         return SECTION_ORDER.stream()
-                .map(sectionType -> buildOneSection(sectionType, grouped, comparativeAmounts, hasComparative))
+                .map(sectionType -> buildOneSection(sectionType, grouped, hasComparative))
                 .toList();
     }
 
     private ProfitAndLossSection buildOneSection(String sectionType,
-                                                  Map<String, List<ProfitAndLossEntity>> grouped,
-                                                  Map<String, BigDecimal> comparativeAmounts,
+                                                  Map<String, List<Row>> grouped,
                                                   boolean hasComparative) {
-        List<ProfitAndLossEntity> group = grouped.getOrDefault(sectionType, List.of());
+        List<Row> group = grouped.getOrDefault(sectionType, List.of());
         List<ProfitAndLossEntry> entries = group.stream()
-                .map(e -> toEntry(e, comparativeAmounts, hasComparative))
+                .map(row -> toEntry(row, hasComparative))
                 .toList();
         BigDecimal subtotal = entries.stream()
                 .map(ProfitAndLossEntry::amount)
@@ -113,30 +114,18 @@ public class GetProfitAndLossService implements GetProfitAndLossUseCase {
         return buildComparativeData(subtotal, prevSubtotal);
     }
 
-    private ProfitAndLossEntry toEntry(ProfitAndLossEntity entity,
-                                        Map<String, BigDecimal> comparativeAmounts,
-                                        boolean hasComparative) {
-        BigDecimal amount = entity.getAmount() != null ? entity.getAmount() : BigDecimal.ZERO;
+    private ProfitAndLossEntry toEntry(Row row, boolean hasComparative) {
+        // 金額は列 0 が当期、列 1 が比較期間
+        BigDecimal amount = row.amount(0);
         return new ProfitAndLossEntry(
-                entity.getAccountCode(),
-                entity.getAccountName(),
-                entity.getAccountType(),
+                row.accountCode(),
+                row.accountName(),
+                row.accountType(),
                 amount,
-                hasComparative
-                        ? buildComparativeData(amount, comparativeAmounts.getOrDefault(entity.getAccountCode(), BigDecimal.ZERO))
-                        : null
+                hasComparative ? buildComparativeData(amount, row.amount(1)) : null
         );
     }
 
-    private Map<String, BigDecimal> buildComparativeAmountMap(List<ProfitAndLossEntity> entities) {
-        return entities.stream()
-                .collect(Collectors.toMap(
-                        ProfitAndLossEntity::getAccountCode,
-                        e -> e.getAmount() != null ? e.getAmount() : BigDecimal.ZERO,
-                        (a, b) -> a
-                ));
-    }
-
     private ComparativeData buildComparativeData(BigDecimal currentAmount, BigDecimal previousAmount) {
         BigDecimal diff = currentAmount.subtract(previousAmount);
         BigDecimal changeRate = BigDecimal.ZERO;
@@ -155,4 +144,11 @@ public class GetProfitAndLossService implements GetProfitAndLossUseCase {
                 .findFirst()
                 .orElse(BigDecimal.ZERO);
     }
+
+    private static List<Column> columns(GetProfitAndLossQuery query) {
+        Column current = new Column(query.dateFrom(), query.dateTo());
+        return query.comparativeDateFrom() != null || query.comparativeDateTo() != null
+                ? List.of(current, new Column(query.comparativeDateFrom(), query.comparativeDateTo()))
+                : List.of(current);
+    }
 }
@@ -14,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
@@ -36,22 +35,36 @@ public class GetSubsidiaryLedgerService implements GetSubsidiaryLedgerUseCase {
                 .orElseThrow(() -> new IllegalArgumentException("勘定科目が見つかりません: " + query.accountCode()));
 
         int offset = query.page() * query.size();
-        long totalElements = subsidiaryLedgerRepository.countPostedLinesByAccountAndSubAccountAndPeriod(
+        long totalElements = query.withTotal()
+                ? subsidiaryLedgerRepository.countPostedLinesByAccountAndSubAccountAndPeriod(
                         query.accountCode(), query.subAccountCode(), query.dateFrom(), query.dateTo())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                : PagingHelper.UNKNOWN_TOTAL;
 
         BigDecimal rawOpeningBalance = calculateOpeningBalance(
                 query.accountCode(), query.subAccountCode(), query.dateFrom());
         BigDecimal openingBalance = normalizeBalance(account.getAccountType(), rawOpeningBalance);
 
-        List<SubsidiaryLedgerEntry> rawEntries = totalElements == 0
+        boolean pageByNumber = query.withTotal() && query.cursor() == null;
+        int limit = pageByNumber ? query.size() : PagingHelper.lookAheadLimit(query.size());
+        List<SubsidiaryLedgerEntry> fetched = totalElements == 0
                 ? List.of()
-                : subsidiaryLedgerRepository.findPostedLinesByAccountAndSubAccountAndPeriod(
-                        query.accountCode(), query.subAccountCode(), query.dateFrom(), query.dateTo(), offset, query.size())
-                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-
-        BalanceCalculation calculation = calculateBalances(account.getAccountType(), openingBalance, rawEntries);
-        int totalPages = totalElements == 0 ? 0 : (int) Math.ceil((double) totalElements / query.size());
+                : fetch(query, offset, limit);
+        boolean hasNext = pageByNumber
+                ? PagingHelper.hasNext(query.page(), query.size(), totalElements)
+                : PagingHelper.hasNext(fetched, query.size());
+        List<SubsidiaryLedgerEntry> rawEntries = PagingHelper.trim(fetched, query.size());
+
+        BigDecimal carriedForwardBalance = calculateCarriedForwardBalance(
+                query, account.getAccountType(), openingBalance, offset, rawEntries.isEmpty());
+        RunningBalanceCalculator.Result<SubsidiaryLedgerEntry> calculation = RunningBalanceCalculator.calculate(
+                account.getAccountType(), carriedForwardBalance, rawEntries,
+                SubsidiaryLedgerEntry::debitAmount, SubsidiaryLedgerEntry::creditAmount,
+                (entry, debit, credit, running) -> new SubsidiaryLedgerEntry(entry.journalEntryId(), entry.lineNumber(),
+                        entry.journalDate(), entry.description(), debit, credit, running));
+        int totalPages = query.withTotal()
+                ? PagingHelper.totalPages(totalElements, query.size())
+                : PagingHelper.UNKNOWN_TOTAL;
 
         return new GetSubsidiaryLedgerResult(
                 calculation.entries(),
@@ -59,16 +72,70 @@ public class GetSubsidiaryLedgerService implements GetSubsidiaryLedgerUseCase {
                 account.getAccountName(),
                 query.subAccountCode(),
                 openingBalance,
+                carriedForwardBalance,
                 calculation.debitTotal(),
                 calculation.creditTotal(),
                 calculation.closingBalance(),
                 query.page(),
                 query.size(),
                 totalElements,
-                totalPages
+                totalPages,
+                hasNext,
+                GetSubsidiaryLedgerResult.nextCursorOf(calculation.entries(), hasNext)
         );
     }
 
+    /**
+     * カーソル指定時はその続きからキーセットで、それ以外はページ番号（オフセット）で取得する
+     */
+    private List<SubsidiaryLedgerEntry> fetch(GetSubsidiaryLedgerQuery query, int offset, int limit) {
+        return (query.cursor() == null
+                ? subsidiaryLedgerRepository.findPostedLinesByAccountAndSubAccountAndPeriod(
+                        query.accountCode(), query.subAccountCode(), query.dateFrom(), query.dateTo(), offset, limit)
+                : subsidiaryLedgerRepository.findPostedLinesByAccountAndSubAccountAndPeriodAfter(
+                        query.accountCode(), query.subAccountCode(), query.dateFrom(), query.dateTo(),
+                        query.cursor(), limit))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    /**
+     * 前頁繰越を求める
+     *
+     * <p>カーソル指定時は、カーソルの行までの残高を月末残高チェックポイントから SQL で求める
+     * （カーソルが期間の開始日より前を指す場合は期首残高とする）。
+     * ページ番号指定時は、ページ先頭より前の行を集計する。</p>
+     */
+    private BigDecimal calculateCarriedForwardBalance(GetSubsidiaryLedgerQuery query, AccountType accountType,
+                                                      BigDecimal openingBalance, int offset, boolean empty) {
+        if (query.cursor() != null) {
+            return query.dateFrom() != null && query.cursor().journalDate().isBefore(query.dateFrom())
+                    ? openingBalance
+                    : normalizeBalance(accountType, calculateBalanceThroughCursor(query));
+        }
+        if (empty || offset == 0) {
+            return openingBalance;
+        }
+        return openingBalance.add(normalizeBalance(accountType, calculateBalanceBeforeOffset(query, offset)));
+    }
+
+    /**
+     * ページ先頭より前の期間内の行を SQL 側で集計する（前ページを読み込まずに繰越残高を求める）
+     */
+    private BigDecimal calculateBalanceBeforeOffset(GetSubsidiaryLedgerQuery query, int offset) {
+        return subsidiaryLedgerRepository.calculateBalanceBeforeOffsetByAccountAndSubAccount(
+                        query.accountCode(), query.subAccountCode(), query.dateFrom(), query.dateTo(), offset)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    /**
+     * カーソルの行までの確定明細を SQL 側で集計する（前ページを読み込まずに繰越残高を求める）
+     */
+    private BigDecimal calculateBalanceThroughCursor(GetSubsidiaryLedgerQuery query) {
+        return subsidiaryLedgerRepository.calculateBalanceThroughCursorByAccountAndSubAccount(
+                        query.accountCode(), query.subAccountCode(), query.cursor())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
     private BigDecimal calculateOpeningBalance(String accountCode, String subAccountCode, LocalDate dateFrom) {
         if (dateFrom == null) {
             return BigDecimal.ZERO;
@@ -85,47 +152,4 @@ public class GetSubsidiaryLedgerService implements GetSubsidiaryLedgerUseCase {
         }
         return balance.negate();
     }
-
-    private BalanceCalculation calculateBalances(AccountType accountType,
-                                                 BigDecimal openingBalance,
-                                                 List<SubsidiaryLedgerEntry> rawEntries) {
-        record Accumulator(List<SubsidiaryLedgerEntry> entries, BigDecimal debitTotal,
-                           BigDecimal creditTotal, BigDecimal running) {}
-
-        Accumulator result = rawEntries.stream().reduce(
-                new Accumulator(List.of(), BigDecimal.ZERO, BigDecimal.ZERO, openingBalance),
-                (acc, entry) -> {
-                    BigDecimal debitAmount = defaultAmount(entry.debitAmount());
-                    BigDecimal creditAmount = defaultAmount(entry.creditAmount());
-                    BigDecimal delta = accountType.isDebitBalance()
-                            ? debitAmount.subtract(creditAmount)
-                            : creditAmount.subtract(debitAmount);
-                    BigDecimal newRunning = acc.running.add(delta);
-
-                    var newEntry = new SubsidiaryLedgerEntry(
-                            entry.journalEntryId(), entry.journalDate(), entry.description(),
-                            debitAmount, creditAmount, newRunning);
-
-                    return new Accumulator(
-                            Stream.concat(acc.entries.stream(), Stream.of(newEntry)).toList(),
-                            acc.debitTotal.add(debitAmount),
-                            acc.creditTotal.add(creditAmount),
-                            newRunning);
-                },
-                (a, b) -> b);
-
-        return new BalanceCalculation(result.entries(), result.debitTotal(), result.creditTotal(), result.running());
-    }
-
-    private BigDecimal defaultAmount(BigDecimal amount) {
-        return amount == null ? BigDecimal.ZERO : amount;
-    }
-
-    private record BalanceCalculation(
-            List<SubsidiaryLedgerEntry> entries,
-            BigDecimal debitTotal,
-            BigDecimal creditTotal,
-            BigDecimal closingBalance
-    ) {
-    }
 }
@@ -6,27 +6,42 @@ import com.example.accounting.application.port.out.GetTrialBalanceResult;
 import com.example.accounting.application.port.out.GetTrialBalanceResult.CategorySubtotal;
 import com.example.accounting.application.port.out.GetTrialBalanceResult.TrialBalanceEntry;
 import com.example.accounting.application.port.out.TrialBalanceRepository;
+import com.example.accounting.application.service.report.ReportCache;
+import com.example.accounting.application.service.report.ReportCache.Period;
 import com.example.accounting.domain.model.account.AccountType;
 import com.example.accounting.infrastructure.persistence.entity.TrialBalanceEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 残高試算表照会サービス
+ *
+ * <p>集計結果は照会条件ごとに {@link ReportCache} に保持し、基準日以前の残高が変わるまで再利用する。
+ * キャッシュから返す場合に DB コネクションを取得しないよう、トランザクションは開始しない
+ * （集計は 1 文で完結する）。</p>
+ */
 @Service
-@Transactional(readOnly = true)
 public class GetTrialBalanceService implements GetTrialBalanceUseCase {
+    private static final String REPORT_TYPE = "TRIAL_BALANCE";
+
     private final TrialBalanceRepository trialBalanceRepository;
+    private final ReportCache reportCache;
 
-    public GetTrialBalanceService(TrialBalanceRepository trialBalanceRepository) {
+    public GetTrialBalanceService(TrialBalanceRepository trialBalanceRepository, ReportCache reportCache) {
         this.trialBalanceRepository = trialBalanceRepository;
+        this.reportCache = reportCache;
     }
 
     @Override
     public GetTrialBalanceResult execute(GetTrialBalanceQuery query) {
+        return reportCache.get(REPORT_TYPE, query, List.of(Period.upTo(query.date())), () -> aggregate(query));
+    }
+
+    private GetTrialBalanceResult aggregate(GetTrialBalanceQuery query) {
         List<TrialBalanceEntity> entities = trialBalanceRepository.findTrialBalance(query.date())
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
 
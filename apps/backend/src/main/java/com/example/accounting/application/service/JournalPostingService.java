@@ -0,0 +1,120 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.BalanceCheckpointRepository;
+import com.example.accounting.application.port.out.BalanceLockRepository;
+import com.example.accounting.application.port.out.DailyAccountBalanceRepository;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 仕訳転記サービス
+ *
+ * <p>確定仕訳の明細を日次勘定科目残高と起票日以降の残高チェックポイントへ差分として反映し、
+ * 影響する月次勘定科目残高を再計算する。
+ * 仕訳の状態変更と残高の更新がずれないよう、呼び出し元のトランザクション内でのみ実行する。
+ * 残高が変わった仕訳日ごとに {@link LedgerChangedEvent} を発行する。</p>
+ *
+ * <p>残高を書き換える前に {@link BalanceLockRepository} で起票月の共有ロックを取得し、
+ * 同じ月の残高の再構築とは直列に実行する。</p>
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+@SuppressWarnings("PMD.AvoidThrowStatement") // 転記対象外の仕訳は呼び出し元のロールバック対象とするため
+public class JournalPostingService {
+
+    private final BalanceLockRepository balanceLockRepository;
+    private final DailyAccountBalanceRepository dailyAccountBalanceRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final MonthlyBalanceRollUpService monthlyBalanceRollUpService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public JournalPostingService(BalanceLockRepository balanceLockRepository,
+                                 DailyAccountBalanceRepository dailyAccountBalanceRepository,
+                                 BalanceCheckpointRepository balanceCheckpointRepository,
+                                 MonthlyBalanceRollUpService monthlyBalanceRollUpService,
+                                 ApplicationEventPublisher applicationEventPublisher) {
+        this.balanceLockRepository = balanceLockRepository;
+        this.dailyAccountBalanceRepository = dailyAccountBalanceRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.monthlyBalanceRollUpService = monthlyBalanceRollUpService;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * 確定仕訳を日次残高へ転記する
+     *
+     * @param journalEntry 確定済み仕訳
+     */
+    public void post(JournalEntry journalEntry) {
+        requireConfirmed(journalEntry);
+        lockForPosting(List.of(journalEntry));
+        dailyAccountBalanceRepository.post(journalEntry.getId())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        balanceCheckpointRepository.post(journalEntry.getId())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        monthlyBalanceRollUpService.rollUp(journalEntry.getId());
+        applicationEventPublisher.publishEvent(LedgerChangedEvent.on(journalEntry.getJournalDate()));
+    }
+
+    /**
+     * 複数の確定仕訳をまとめて日次残高へ転記する（一括確定用）
+     *
+     * <p>日次残高・チェックポイントはそれぞれ 1 文で反映し、月次残高は影響するキーごとに 1 回だけ再計算する。</p>
+     *
+     * @param journalEntries 確定済み仕訳
+     */
+    public void postAll(List<JournalEntry> journalEntries) {
+        if (journalEntries.isEmpty()) {
+            return;
+        }
+        journalEntries.forEach(this::requireConfirmed);
+        lockForPosting(journalEntries);
+        List<JournalEntryId> journalEntryIds = journalEntries.stream().map(JournalEntry::getId).toList();
+        dailyAccountBalanceRepository.postAll(journalEntryIds)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        balanceCheckpointRepository.postAll(journalEntryIds)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        monthlyBalanceRollUpService.rollUpAll(journalEntryIds);
+        journalEntries.stream()
+                .map(JournalEntry::getJournalDate)
+                .distinct()
+                .forEach(date -> applicationEventPublisher.publishEvent(LedgerChangedEvent.on(date)));
+    }
+
+    /**
+     * 確定仕訳の転記を取り消す（確定取消・逆仕訳時）
+     *
+     * @param journalEntry 転記済みの確定仕訳
+     */
+    public void unpost(JournalEntry journalEntry) {
+        requireConfirmed(journalEntry);
+        lockForPosting(List.of(journalEntry));
+        dailyAccountBalanceRepository.unpost(journalEntry.getId())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        balanceCheckpointRepository.unpost(journalEntry.getId())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        monthlyBalanceRollUpService.rollUp(journalEntry.getId());
+        applicationEventPublisher.publishEvent(LedgerChangedEvent.on(journalEntry.getJournalDate()));
+    }
+
+    private void lockForPosting(List<JournalEntry> journalEntries) {
+        balanceLockRepository.lockForPosting(journalEntries.stream()
+                        .map(journalEntry -> YearMonth.from(journalEntry.getJournalDate()))
+                        .toList())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    private void requireConfirmed(JournalEntry journalEntry) {
+        if (journalEntry.getStatus() != JournalEntryStatus.CONFIRMED) {
+            throw new IllegalStateException("確定済みの仕訳のみ転記可能です");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.accounting.application.service;
+
+import java.time.LocalDate;
+
+/**
+ * 日次残高が変わったことを知らせるアプリケーションイベント
+ *
+ * <p>仕訳の転記・転記取消・残高の再構築で発行する。勘定科目の登録・更新・削除は
+ * すべての期間の帳票に影響するため、期間を限定しないイベントを発行する。元帳の版は
+ * 発行したトランザクションのコミット直前に受け取り、期間を DB の変更履歴に記録する。
+ * 集計結果のキャッシュは各インスタンスが変更履歴を読み、期間が重なる結果を破棄する。</p>
+ *
+ * @param from 残高が変わった期間の開始日（null の場合は制限なし）
+ * @param to   残高が変わった期間の終了日（null の場合は制限なし）
+ */
+public record LedgerChangedEvent(
+        LocalDate from,
+        LocalDate to
+) {
+
+    /**
+     * 1 日分の残高が変わったイベントを生成する
+     *
+     * @param date 転記日
+     * @return イベント
+     */
+    public static LedgerChangedEvent on(LocalDate date) {
+        return new LedgerChangedEvent(date, date);
+    }
+
+    /**
+     * すべての期間に影響する変更のイベントを生成する
+     *
+     * @return イベント
+     */
+    public static LedgerChangedEvent allDates() {
+        return new LedgerChangedEvent(null, null);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.BalanceCheckpointRepository;
+import com.example.accounting.application.port.out.BalanceLockRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 月末残高チェックポイントの作成サービス
+ *
+ * <p>締まった月（前月まで）の月末チェックポイントを定期的に作成する。
+ * 前月以前で最も新しいチェックポイントの翌月から前月まで、足りない月末を古い順に作成する
+ * （チェックポイントが 1 件も無い場合は前月末の 1 件だけを最初の仕訳から集計して作成する）。</p>
+ *
+ * <p>作成中の転記がチェックポイントに反映されずに失われないよう、全体の排他ロックを取得してから作成する。
+ * 複数インスタンスで同時に実行されても、ロック取得後に作成済みの月を確認するため重複して作成しない。</p>
+ */
+@Service
+public class MonthEndCheckpointService {
+
+    private final BalanceLockRepository balanceLockRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final Clock clock;
+
+    public MonthEndCheckpointService(BalanceLockRepository balanceLockRepository,
+                                     BalanceCheckpointRepository balanceCheckpointRepository,
+                                     Clock clock) {
+        this.balanceLockRepository = balanceLockRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * 締まった月のうちチェックポイントが無い月末を作成する
+     *
+     * @return 作成したチェックポイント日
+     */
+    @Scheduled(cron = "${balance-checkpoints.cron:0 30 0 * * *}")
+    @Transactional
+    public List<LocalDate> createClosedMonthCheckpoints() {
+        balanceLockRepository.lockAllForRebuild()
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        YearMonth lastClosedMonth = YearMonth.now(clock).minusMonths(1);
+        YearMonth firstMissingMonth = balanceCheckpointRepository
+                .findLatestCheckpointDateOnOrBefore(lastClosedMonth.atEndOfMonth())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .map(latest -> YearMonth.from(latest).plusMonths(1))
+                .orElse(lastClosedMonth);
+        List<LocalDate> checkpointDates = Stream.iterate(firstMissingMonth,
+                        month -> !month.isAfter(lastClosedMonth), month -> month.plusMonths(1))
+                .map(YearMonth::atEndOfMonth)
+                .toList();
+        checkpointDates.forEach(checkpointDate -> balanceCheckpointRepository.rebuild(checkpointDate)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)));
+        return checkpointDates;
+    }
+}
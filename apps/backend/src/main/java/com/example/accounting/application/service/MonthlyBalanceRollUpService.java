@@ -0,0 +1,200 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.AccountRepository;
+import com.example.accounting.application.port.out.MonthlyAccountBalanceRepository;
+import com.example.accounting.domain.model.account.Account;
+import com.example.accounting.domain.model.account.AccountType;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.infrastructure.persistence.entity.MonthlyAccountBalanceEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 月次残高ロールアップサービス
+ *
+ * <p>日次勘定科目残高を月度ごとに集計し、月次勘定科目残高を再計算する。
+ * 仕訳が影響した月度から期末（12 月度）までを再計算し、貸借対照表科目は
+ * 既存の翌期以降にも期末残高を期首残高として繰り越す。損益計算書科目は期首で 0 に戻す。</p>
+ *
+ * <p>会計期間は暦年（fiscal_period = 年、月度 = 暦月）とし、残高は勘定科目の貸借区分に従い
+ * 借方残科目は「借方 - 貸方」、貸方残科目は「貸方 - 借方」で増減させる。</p>
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class MonthlyBalanceRollUpService {
+
+    private static final int FIRST_MONTH = 1;
+    private static final int LAST_MONTH = 12;
+
+    private final AccountRepository accountRepository;
+    private final MonthlyAccountBalanceRepository monthlyAccountBalanceRepository;
+
+    public MonthlyBalanceRollUpService(AccountRepository accountRepository,
+                                       MonthlyAccountBalanceRepository monthlyAccountBalanceRepository) {
+        this.accountRepository = accountRepository;
+        this.monthlyAccountBalanceRepository = monthlyAccountBalanceRepository;
+    }
+
+    /**
+     * 仕訳が影響する月次残高を再計算する
+     *
+     * @param journalEntryId 転記（または転記取消）済みの仕訳ID
+     */
+    public void rollUp(JournalEntryId journalEntryId) {
+        monthlyAccountBalanceRepository.findRollUpTargets(journalEntryId)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .forEach(this::rollUpFrom);
+    }
+
+    /**
+     * 複数の仕訳が影響する月次残高をまとめて再計算する（一括確定用）
+     *
+     * <p>残高キー・会計期間ごとに最も早い月度から 1 回だけ再計算する。</p>
+     *
+     * @param journalEntryIds 転記済みの仕訳ID
+     */
+    public void rollUpAll(List<JournalEntryId> journalEntryIds) {
+        monthlyAccountBalanceRepository.findRollUpTargets(journalEntryIds)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .forEach(this::rollUpFrom);
+    }
+
+    /**
+     * 会計期間の月次残高を日次残高から作り直す
+     *
+     * <p>会計期間ごとに全キー・全月度を 1 文で登録し直す。貸借対照表科目の期末残高を繰り越すため、
+     * 月次残高が存在する翌期以降も順に作り直す。</p>
+     *
+     * @param fiscalPeriod 会計期間
+     */
+    public void rebuild(int fiscalPeriod) {
+        int lastPeriod = monthlyAccountBalanceRepository.findLatestFiscalPeriod()
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .map(latest -> Math.max(latest, fiscalPeriod))
+                .orElse(fiscalPeriod);
+        IntStream.rangeClosed(fiscalPeriod, lastPeriod)
+                .forEach(period -> monthlyAccountBalanceRepository.rebuildFiscalPeriod(period)
+                        .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)));
+    }
+
+    private void rollUpFrom(MonthlyAccountBalanceEntity target) {
+        AccountType accountType = findAccountType(target.getAccountCode());
+        int fiscalPeriod = target.getFiscalPeriod();
+        Optional<MonthlyAccountBalanceEntity> previousMonth = target.getMonth() == FIRST_MONTH
+                ? Optional.empty()
+                : findByKey(target, fiscalPeriod, target.getMonth() - 1);
+
+        // 前月度の行がなければ期首から積み上げ直す
+        int startMonth = previousMonth.isPresent() ? target.getMonth() : FIRST_MONTH;
+        BigDecimal openingBalance = previousMonth
+                .map(MonthlyAccountBalanceEntity::getClosingBalance)
+                .orElseGet(() -> periodOpeningBalance(target, accountType, fiscalPeriod));
+        int lastPeriod = accountType.isBalanceSheet()
+                ? Math.max(fiscalPeriod, findLatestFiscalPeriod(target))
+                : fiscalPeriod;
+
+        rollUpPeriods(target, accountType, fiscalPeriod, startMonth, openingBalance, lastPeriod);
+    }
+
+    private void rollUpPeriods(MonthlyAccountBalanceEntity key, AccountType accountType,
+                               int fiscalPeriod, int startMonth, BigDecimal openingBalance, int lastPeriod) {
+        BigDecimal closingBalance = rollUpPeriod(key, accountType, fiscalPeriod, startMonth, openingBalance);
+        if (fiscalPeriod < lastPeriod) {
+            rollUpPeriods(key, accountType, fiscalPeriod + 1, FIRST_MONTH, closingBalance, lastPeriod);
+        }
+    }
+
+    private BigDecimal rollUpPeriod(MonthlyAccountBalanceEntity key, AccountType accountType,
+                                    int fiscalPeriod, int startMonth, BigDecimal openingBalance) {
+        Map<Integer, MonthlyAccountBalanceEntity> totals = monthlyAccountBalanceRepository
+                .sumDailyBalances(key, fiscalPeriod)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .stream()
+                .collect(Collectors.toMap(MonthlyAccountBalanceEntity::getMonth, Function.identity()));
+
+        List<MonthlyAccountBalanceEntity> rows = IntStream.rangeClosed(startMonth, LAST_MONTH)
+                .mapToObj(month -> toRow(key, accountType, fiscalPeriod, month, totals.get(month),
+                        openingBalance.add(netChangeBetween(totals, accountType, startMonth, month))))
+                .toList();
+
+        monthlyAccountBalanceRepository.saveAll(rows)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        return rows.getLast().getClosingBalance();
+    }
+
+    private BigDecimal netChangeBetween(Map<Integer, MonthlyAccountBalanceEntity> totals,
+                                        AccountType accountType, int fromMonth, int toMonthExclusive) {
+        return IntStream.range(fromMonth, toMonthExclusive)
+                .mapToObj(month -> netChange(totals.get(month), accountType))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private MonthlyAccountBalanceEntity toRow(MonthlyAccountBalanceEntity key, AccountType accountType,
+                                              int fiscalPeriod, int month,
+                                              MonthlyAccountBalanceEntity total, BigDecimal openingBalance) {
+        MonthlyAccountBalanceEntity row = new MonthlyAccountBalanceEntity();
+        row.setFiscalPeriod(fiscalPeriod);
+        row.setMonth(month);
+        row.setAccountCode(key.getAccountCode());
+        row.setSubAccountCode(key.getSubAccountCode());
+        row.setDepartmentCode(key.getDepartmentCode());
+        row.setProjectCode(key.getProjectCode());
+        row.setClosingEntryFlag(key.getClosingEntryFlag());
+        row.setOpeningBalance(openingBalance);
+        row.setDebitAmount(total == null ? BigDecimal.ZERO : defaultAmount(total.getDebitAmount()));
+        row.setCreditAmount(total == null ? BigDecimal.ZERO : defaultAmount(total.getCreditAmount()));
+        row.setClosingBalance(openingBalance.add(netChange(row, accountType)));
+        return row;
+    }
+
+    private BigDecimal netChange(MonthlyAccountBalanceEntity total, AccountType accountType) {
+        if (total == null) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal debit = defaultAmount(total.getDebitAmount());
+        BigDecimal credit = defaultAmount(total.getCreditAmount());
+        return accountType.isDebitBalance() ? debit.subtract(credit) : credit.subtract(debit);
+    }
+
+    private BigDecimal periodOpeningBalance(MonthlyAccountBalanceEntity key, AccountType accountType,
+                                            int fiscalPeriod) {
+        if (accountType.isProfitAndLoss()) {
+            return BigDecimal.ZERO;
+        }
+        return findByKey(key, fiscalPeriod - 1, LAST_MONTH)
+                .map(MonthlyAccountBalanceEntity::getClosingBalance)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    private Optional<MonthlyAccountBalanceEntity> findByKey(MonthlyAccountBalanceEntity key,
+                                                            int fiscalPeriod, int month) {
+        return monthlyAccountBalanceRepository.findByKey(key, fiscalPeriod, month)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    private int findLatestFiscalPeriod(MonthlyAccountBalanceEntity key) {
+        return monthlyAccountBalanceRepository.findLatestFiscalPeriod(key)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .orElse(key.getFiscalPeriod());
+    }
+
+    private AccountType findAccountType(String accountCode) {
+        return accountRepository.findByCode(accountCode)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .map(Account::getAccountType)
+                .orElseThrow(() -> new IllegalStateException("勘定科目が見つかりません: " + accountCode));
+    }
+
+    private BigDecimal defaultAmount(BigDecimal amount) {
+        return amount == null ? BigDecimal.ZERO : amount;
+    }
+}
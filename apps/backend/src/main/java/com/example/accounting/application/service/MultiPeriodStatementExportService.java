@@ -0,0 +1,119 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Entry;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.PeriodColumn;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Section;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Total;
+import io.vavr.control.Try;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 複数期間財務諸表のエクスポート（期間を列として横に並べる）
+ */
+@Service
+@SuppressWarnings("PMD.AvoidMutableCollectionInstantiation") // 行数が期間・科目数で決まるため可変リストで組み立てる
+public class MultiPeriodStatementExportService extends AbstractStatementExportService {
+
+    private static final String[] CSV_LEADING_HEADERS = {"区分", "科目コード", "科目名"};
+
+    public Try<byte[]> exportToCsv(GetMultiPeriodStatementResult result) {
+        String[] headers = Stream.concat(
+                Stream.of(CSV_LEADING_HEADERS),
+                result.periods().stream().map(PeriodColumn::label)
+        ).toArray(String[]::new);
+
+        List<String[]> rows = new ArrayList<>();
+        for (Section section : result.sections()) {
+            section.entries().forEach(entry -> rows.add(csvRow(
+                    section.sectionDisplayName(), entry.accountCode(), entry.accountName(), entry.amounts())));
+            rows.add(csvRow(section.sectionDisplayName(), "", section.sectionDisplayName() + "合計",
+                    section.subtotals()));
+        }
+        result.totals().forEach(total -> rows.add(csvRow("", "", total.name(), total.amounts())));
+
+        return CsvExportHelper.writeCsv(headers, rows);
+    }
+
+    public Try<byte[]> exportToExcel(GetMultiPeriodStatementResult result) {
+        return Try.of(() -> {
+            try (Workbook workbook = new XSSFWorkbook();
+                 ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                Sheet sheet = workbook.createSheet(title(result));
+                CellStyle headerStyle = createHeaderStyle(workbook);
+                CellStyle currencyStyle = createCurrencyStyle(workbook);
+
+                Row titleRow = sheet.createRow(0);
+                titleRow.createCell(0).setCellValue(title(result));
+
+                Row headerRow = sheet.createRow(2);
+                headerRow.createCell(0).setCellValue("科目");
+                headerRow.getCell(0).setCellStyle(headerStyle);
+                IntStream.range(0, result.periods().size()).forEach(i -> {
+                    headerRow.createCell(i + 1).setCellValue(result.periods().get(i).label());
+                    headerRow.getCell(i + 1).setCellStyle(headerStyle);
+                });
+
+                int currentRow = 3;
+                for (Section section : result.sections()) {
+                    Row sectionRow = sheet.createRow(currentRow++);
+                    sectionRow.createCell(0).setCellValue(section.sectionDisplayName());
+                    sectionRow.getCell(0).setCellStyle(headerStyle);
+                    for (Entry entry : section.entries()) {
+                        writeExcelAmounts(sheet.createRow(currentRow++),
+                                "  " + entry.accountCode() + " " + entry.accountName(),
+                                entry.amounts(), null, currencyStyle);
+                    }
+                    writeExcelAmounts(sheet.createRow(currentRow++), section.sectionDisplayName() + "合計",
+                            section.subtotals(), headerStyle, currencyStyle);
+                    currentRow++;
+                }
+                for (Total total : result.totals()) {
+                    writeExcelAmounts(sheet.createRow(currentRow++), total.name(),
+                            total.amounts(), headerStyle, currencyStyle);
+                }
+
+                IntStream.rangeClosed(0, result.periods().size()).forEach(sheet::autoSizeColumn);
+
+                workbook.write(out);
+                return out.toByteArray();
+            }
+        });
+    }
+
+    private static String[] csvRow(String section, String code, String name, List<BigDecimal> amounts) {
+        return Stream.concat(
+                Stream.of(section, code, name),
+                amounts.stream().map(amount -> amount == null ? "0" : amount.toPlainString())
+        ).toArray(String[]::new);
+    }
+
+    private static void writeExcelAmounts(Row row, String label, List<BigDecimal> amounts,
+                                          CellStyle labelStyle, CellStyle currencyStyle) {
+        row.createCell(0).setCellValue(label);
+        if (labelStyle != null) {
+            row.getCell(0).setCellStyle(labelStyle);
+        }
+        IntStream.range(0, amounts.size()).forEach(i -> {
+            BigDecimal amount = amounts.get(i) == null ? BigDecimal.ZERO : amounts.get(i);
+            row.createCell(i + 1).setCellValue(amount.doubleValue());
+            row.getCell(i + 1).setCellStyle(currencyStyle);
+        });
+    }
+
+    private static String title(GetMultiPeriodStatementResult result) {
+        return "BALANCE_SHEET".equals(result.statementType()) ? "貸借対照表（期間比較）" : "損益計算書（期間比較）";
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.accounting.application.service;
+
+import java.util.List;
+
+/**
+ * 件数を数えないページング（count-free モード）の共通ヘルパー。
+ * ページサイズ + 1 件を先読みし、はみ出した 1 件の有無で次ページの有無を判定する。
+ */
+public final class PagingHelper {
+
+    /** 総件数を数えなかった場合に totalElements / totalPages に設定する値 */
+    public static final int UNKNOWN_TOTAL = -1;
+
+    private PagingHelper() {
+    }
+
+    /**
+     * 先読み用の取得件数を返す
+     */
+    public static int lookAheadLimit(int size) {
+        return size + 1;
+    }
+
+    /**
+     * 先読みした結果に次ページがあるかを判定する
+     */
+    public static boolean hasNext(List<?> fetched, int size) {
+        return fetched.size() > size;
+    }
+
+    /**
+     * 先読みした結果からページサイズ分を切り出す
+     */
+    public static <T> List<T> trim(List<T> fetched, int size) {
+        return hasNext(fetched, size) ? fetched.subList(0, size) : fetched;
+    }
+
+    /**
+     * 総件数からオフセットページングの次ページ有無を判定する
+     */
+    public static boolean hasNext(int page, int size, long totalElements) {
+        return (long) (page + 1) * size < totalElements;
+    }
+
+    /**
+     * 総件数から総ページ数を算出する
+     */
+    public static int totalPages(long totalElements, int size) {
+        return totalElements == 0 ? 0 : (int) Math.ceil((double) totalElements / size);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.in.RebuildBalancesUseCase;
+import com.example.accounting.application.port.in.command.RebuildBalancesCommand;
+import com.example.accounting.application.port.out.RebuildBalancesResult;
+import io.vavr.control.Either;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+/**
+ * 残高再構築サービス
+ *
+ * <p>会計期間を月単位のチャンクに分割し、日次残高を上限付きのワーカープールで並列に再集計した後、
+ * 月次残高を期首から積み上げ直す。各チャンクは独立したトランザクションでコミットされるため、
+ * 途中で失敗した場合も完了済みの月は再構築後の状態で整合している。</p>
+ *
+ * <p>各チャンクは残高の排他ロックを取得してから作り直すため、再構築中に確定された仕訳の転記は
+ * そのチャンクのコミットを待ってから差分として反映される。月次残高のチャンクの間はすべての転記が待つため、
+ * 確定処理の少ない時間帯に実行すること。</p>
+ *
+ * <p>ジョブの進捗はこのインスタンスのメモリ上でのみ保持し、終了したジョブは
+ * {@link #FINISHED_JOB_RETENTION} を過ぎたものから破棄する。</p>
+ */
+@Service
+public class RebuildBalancesService implements RebuildBalancesUseCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RebuildBalancesService.class);
+    private static final int MONTHS_IN_PERIOD = 12;
+    private static final int TOTAL_CHUNKS = MONTHS_IN_PERIOD + 1;
+    static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final BalanceRebuildChunkService balanceRebuildChunkService;
+    private final Executor executor;
+    private final Clock clock;
+    private final Map<String, RebuildBalancesResult> jobs = new ConcurrentHashMap<>();
+
+    public RebuildBalancesService(BalanceRebuildChunkService balanceRebuildChunkService,
+                                  @Qualifier("balanceRebuildExecutor") Executor executor,
+                                  Clock clock) {
+        this.balanceRebuildChunkService = balanceRebuildChunkService;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized Either<String, RebuildBalancesResult> start(RebuildBalancesCommand command) {
+        evictFinishedJobs();
+        int fiscalPeriod = command.fiscalPeriod();
+        boolean running = jobs.values().stream()
+                .anyMatch(job -> job.isRunning() && job.fiscalPeriod() == fiscalPeriod);
+        if (running) {
+            return Either.left("会計期間 " + fiscalPeriod + " の残高再構築は実行中です");
+        }
+
+        RebuildBalancesResult job = RebuildBalancesResult.started(
+                UUID.randomUUID().toString(), fiscalPeriod, TOTAL_CHUNKS, LocalDateTime.now(clock));
+        jobs.put(job.jobId(), job);
+
+        CompletableFuture<?>[] dailyChunks = IntStream.rangeClosed(1, MONTHS_IN_PERIOD)
+                .mapToObj(month -> CompletableFuture.runAsync(
+                        () -> rebuildDailyChunk(job.jobId(), YearMonth.of(fiscalPeriod, month)), executor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(dailyChunks)
+                .thenRunAsync(() -> rebuildMonthlyChunk(job.jobId(), fiscalPeriod), executor)
+                .whenComplete((ignored, ex) -> finish(job.jobId(), ex));
+
+        return Either.right(job);
+    }
+
+    @Override
+    public Optional<RebuildBalancesResult> findJob(String jobId) {
+        evictFinishedJobs();
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now(clock).minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt() != null && job.finishedAt().isBefore(expiredBefore));
+    }
+
+    private void rebuildDailyChunk(String jobId, YearMonth month) {
+        int rows = balanceRebuildChunkService.rebuildDailyBalances(month);
+        LOG.info("Rebuilt daily balances [{}] {}: {} rows", jobId, month, rows);
+        jobs.computeIfPresent(jobId, (id, job) -> job.chunkCompleted());
+    }
+
+    private void rebuildMonthlyChunk(String jobId, int fiscalPeriod) {
+        balanceRebuildChunkService.rebuildMonthlyBalances(fiscalPeriod);
+        LOG.info("Rebuilt monthly balances [{}] {}", jobId, fiscalPeriod);
+        jobs.computeIfPresent(jobId, (id, job) -> job.chunkCompleted());
+    }
+
+    private void finish(String jobId, Throwable ex) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (ex == null) {
+            jobs.computeIfPresent(jobId, (id, job) -> job.completed(now));
+            return;
+        }
+        Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+        LOG.error("Balance rebuild failed [{}]", jobId, cause);
+        jobs.computeIfPresent(jobId, (id, job) -> job.failed(cause.getMessage(), now));
+    }
+}
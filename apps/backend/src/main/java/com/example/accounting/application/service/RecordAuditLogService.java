@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -17,7 +19,24 @@ public class RecordAuditLogService implements RecordAuditLogUseCase {
 
     @Override
     public Either<String, Void> execute(RecordAuditLogCommand command) {
-        AuditLog auditLog = AuditLog.create(
+        var result = auditLogRepository.save(toAuditLog(command));
+        if (result.isFailure()) {
+            return Either.left("監査ログの保存に失敗しました: " + result.getCause().getMessage());
+        }
+        return Either.right(null);
+    }
+
+    @Override
+    public Either<String, Void> executeAll(List<RecordAuditLogCommand> commands) {
+        var result = auditLogRepository.saveAll(commands.stream().map(this::toAuditLog).toList());
+        if (result.isFailure()) {
+            return Either.left("監査ログの保存に失敗しました: " + result.getCause().getMessage());
+        }
+        return Either.right(null);
+    }
+
+    private AuditLog toAuditLog(RecordAuditLogCommand command) {
+        return AuditLog.create(
                 command.userId(),
                 command.actionType(),
                 command.entityType(),
@@ -25,11 +44,5 @@ public class RecordAuditLogService implements RecordAuditLogUseCase {
                 command.description(),
                 command.ipAddress()
         );
-
-        var result = auditLogRepository.save(auditLog);
-        if (result.isFailure()) {
-            return Either.left("監査ログの保存に失敗しました: " + result.getCause().getMessage());
-        }
-        return Either.right(null);
     }
 }
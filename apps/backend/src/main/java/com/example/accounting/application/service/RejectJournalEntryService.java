@@ -3,6 +3,7 @@ package com.example.accounting.application.service;
 import com.example.accounting.application.port.in.RejectJournalEntryUseCase;
 import com.example.accounting.application.port.in.command.RejectJournalEntryCommand;
 import com.example.accounting.application.port.out.RejectJournalEntryResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.journal.JournalEntry;
 import com.example.accounting.domain.model.journal.JournalEntryId;
@@ -39,7 +40,7 @@ public class RejectJournalEntryService implements RejectJournalEntryUseCase {
                     LocalDateTime.now(),
                     command.rejectionReason()
             );
-            journalEntryRepository.save(updated)
+            journalEntryRepository.save(updated, JournalEntryEvent.Type.REJECTED)
                     .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
 
             return RejectJournalEntryResult.success(
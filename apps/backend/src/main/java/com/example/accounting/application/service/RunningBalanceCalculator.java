@@ -0,0 +1,94 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.domain.model.account.AccountType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 元帳・日次残高の累計残高計算の共通ヘルパー。
+ * 行を 1 回走査し、出力リストは行数分を事前確保して追記する（行ごとのリスト再生成を行わない）。
+ * 借方・貸方が 0 の行では加減算を省略し、BigDecimal の生成を最小限に抑える。
+ */
+public final class RunningBalanceCalculator {
+
+    private RunningBalanceCalculator() {
+    }
+
+    /**
+     * 累計残高付きの行を生成するファクトリ
+     *
+     * @param <T> 入力行の型
+     * @param <R> 出力行の型
+     */
+    @FunctionalInterface
+    public interface RowFactory<T, R> {
+        R create(T source, BigDecimal debitAmount, BigDecimal creditAmount, BigDecimal runningBalance);
+    }
+
+    /**
+     * 累計残高の計算結果
+     *
+     * @param entries        累計残高付きの行
+     * @param debitTotal     借方合計
+     * @param creditTotal    貸方合計
+     * @param closingBalance 最終行の累計残高（行が無い場合は開始残高）
+     */
+    public record Result<R>(
+            List<R> entries,
+            BigDecimal debitTotal,
+            BigDecimal creditTotal,
+            BigDecimal closingBalance
+    ) {
+    }
+
+    /**
+     * 開始残高から各行の累計残高を計算する
+     *
+     * <p>借方残高科目は借方で増加、貸方残高科目は貸方で増加する。借方・貸方が null の行は 0 として扱う。</p>
+     *
+     * @param accountType    勘定科目種別
+     * @param openingBalance 開始残高（正規化済み）
+     * @param rows           入力行（並び順どおりに累計する）
+     * @param debitOf        入力行から借方金額を取り出す関数
+     * @param creditOf       入力行から貸方金額を取り出す関数
+     * @param factory        累計残高付きの出力行を生成する関数
+     * @return 計算結果
+     */
+    @SuppressWarnings("PMD.AvoidMutableCollectionInstantiation") // 行数分を事前確保し 1 パスで追記するため
+    public static <T, R> Result<R> calculate(AccountType accountType,
+                                             BigDecimal openingBalance,
+                                             List<T> rows,
+                                             Function<T, BigDecimal> debitOf,
+                                             Function<T, BigDecimal> creditOf,
+                                             RowFactory<T, R> factory) {
+        boolean debitBalance = accountType.isDebitBalance();
+        List<R> entries = new ArrayList<>(rows.size());
+        BigDecimal debitTotal = BigDecimal.ZERO;
+        BigDecimal creditTotal = BigDecimal.ZERO;
+        BigDecimal running = openingBalance;
+
+        for (T row : rows) {
+            BigDecimal debitAmount = defaultAmount(debitOf.apply(row));
+            BigDecimal creditAmount = defaultAmount(creditOf.apply(row));
+            if (debitAmount.signum() != 0) {
+                debitTotal = debitTotal.add(debitAmount);
+                running = debitBalance ? running.add(debitAmount) : running.subtract(debitAmount);
+            }
+            if (creditAmount.signum() != 0) {
+                creditTotal = creditTotal.add(creditAmount);
+                running = debitBalance ? running.subtract(creditAmount) : running.add(creditAmount);
+            }
+            entries.add(factory.create(row, debitAmount, creditAmount, running));
+        }
+
+        return new Result<>(Collections.unmodifiableList(entries), debitTotal, creditTotal, running);
+    }
+
+    private static BigDecimal defaultAmount(BigDecimal amount) {
+        return amount == null ? BigDecimal.ZERO : amount;
+    }
+}
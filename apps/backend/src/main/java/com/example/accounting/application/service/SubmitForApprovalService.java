@@ -2,6 +2,7 @@ package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.SubmitForApprovalUseCase;
 import com.example.accounting.application.port.in.command.SubmitForApprovalCommand;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.application.port.out.SubmitForApprovalResult;
 import com.example.accounting.domain.model.journal.JournalEntry;
@@ -32,7 +33,7 @@ public class SubmitForApprovalService implements SubmitForApprovalUseCase {
             }
 
             JournalEntry updated = journalEntry.submitForApproval();
-            journalEntryRepository.save(updated)
+            journalEntryRepository.save(updated, JournalEntryEvent.Type.SUBMITTED)
                     .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
 
             return SubmitForApprovalResult.success(
@@ -10,6 +10,7 @@ import com.example.accounting.domain.model.account.AccountId;
 import com.example.accounting.domain.model.account.AccountType;
 import com.example.accounting.domain.shared.IO;
 import io.vavr.control.Either;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,11 +26,14 @@ public class UpdateAccountService implements UpdateAccountUseCase {
 
     private final AccountRepository accountRepository;
     private final AccountUsageChecker accountUsageChecker;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public UpdateAccountService(AccountRepository accountRepository,
-                                AccountUsageChecker accountUsageChecker) {
+                                AccountUsageChecker accountUsageChecker,
+                                ApplicationEventPublisher applicationEventPublisher) {
         this.accountRepository = accountRepository;
         this.accountUsageChecker = accountUsageChecker;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -86,6 +90,7 @@ public class UpdateAccountService implements UpdateAccountUseCase {
 
     private IO<Account> updateAccountIO(Account account) {
         return IO.delay(() -> accountRepository.save(account)
+                .peek(saved -> applicationEventPublisher.publishEvent(LedgerChangedEvent.allDates()))
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)));
     }
 
@@ -3,6 +3,7 @@ package com.example.accounting.application.service;
 import com.example.accounting.application.port.in.UpdateJournalEntryUseCase;
 import com.example.accounting.application.port.in.command.UpdateJournalEntryCommand;
 import com.example.accounting.application.port.out.AccountRepository;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.application.port.out.UpdateJournalEntryResult;
 import com.example.accounting.domain.model.account.AccountId;
@@ -160,7 +161,7 @@ public class UpdateJournalEntryService implements UpdateJournalEntryUseCase {
     }
 
     private IO<JournalEntry> updateJournalEntryIO(JournalEntry journalEntry) {
-        return IO.delay(() -> journalEntryRepository.save(journalEntry)
+        return IO.delay(() -> journalEntryRepository.save(journalEntry, JournalEntryEvent.Type.UPDATED)
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)));
     }
 
@@ -0,0 +1,116 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.domain.model.journal.JournalEntry;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 仕訳伝票番号の払い出しサービス
+ *
+ * <p>伝票区分・会計年度ごとに番号を {@value #BLOCK_SIZE} 件ずつ DB から予約し、予約済みのブロックから
+ * メモリ上で払い出す。払い出しはロックを取らずに行い、ブロックを使い切ったときだけ
+ * 伝票区分・会計年度ごとのロックを取って次のブロックを予約する。
+ * ブロックの予約は仕訳登録とは別のトランザクションでコミットされるため、仕訳登録がロールバックされた場合や
+ * アプリケーションを再起動した場合に払い出さなかった番号は欠番になる（番号の一意性は保たれる）。</p>
+ *
+ * <p>予約は専用の短いトランザクションでコネクションを取得する。仕訳登録のトランザクションの中から予約すると
+ * 1 スレッドが 2 本のコネクションを同時に使い、並行する登録でコネクションプールを使い切って待ち合うため、
+ * 払い出しは仕訳登録のトランザクションを開始する前に行うこと。</p>
+ */
+@Service
+public class VoucherNumberAllocator {
+
+    /** 伝票区分が指定されていない仕訳の伝票区分 */
+    public static final int DEFAULT_VOUCHER_TYPE = 0;
+
+    /** 1 回の予約で確保する番号の件数 */
+    static final int BLOCK_SIZE = 100;
+
+    private final VoucherNumberBlockService voucherNumberBlockService;
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+
+    public VoucherNumberAllocator(VoucherNumberBlockService voucherNumberBlockService) {
+        this.voucherNumberBlockService = voucherNumberBlockService;
+    }
+
+    /**
+     * 伝票番号が未採番の仕訳に、仕訳日の年を会計年度として伝票番号を割り当てる
+     *
+     * @param journalEntry 仕訳
+     * @return 伝票番号を割り当てた仕訳（採番済みの場合はそのまま）
+     */
+    public JournalEntry assign(JournalEntry journalEntry) {
+        if (journalEntry.getVoucherNumber() != null) {
+            return journalEntry;
+        }
+        return journalEntry.withVoucherNumber(
+                next(DEFAULT_VOUCHER_TYPE, journalEntry.getJournalDate().getYear()));
+    }
+
+    /**
+     * 伝票番号を 1 件払い出す
+     *
+     * @param voucherType 伝票区分
+     * @param fiscalYear  会計年度
+     * @return 「伝票区分-会計年度-連番」形式の伝票番号（例: 00-2024-0000001）
+     */
+    public String next(int voucherType, int fiscalYear) {
+        Key key = new Key(voucherType, fiscalYear);
+        long value = nextValue(key, slots.computeIfAbsent(key, k -> new Slot()));
+        return String.format("%02d-%04d-%07d", voucherType, fiscalYear, value);
+    }
+
+    private long nextValue(Key key, Slot slot) {
+        Block block = slot.block.get();
+        long value = block.next.getAndIncrement();
+        if (value < block.end) {
+            return value;
+        }
+        slot.lock.lock();
+        try {
+            if (slot.block.get() == block) {
+                long start = reserve(key);
+                slot.block.set(new Block(start, start + BLOCK_SIZE));
+            }
+        } finally {
+            slot.lock.unlock();
+        }
+        return nextValue(key, slot);
+    }
+
+    private long reserve(Key key) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("伝票番号はトランザクションを開始する前に払い出してください");
+        }
+        // 新しい伝票区分・会計年度の採番行を同時に作成して一意制約違反になった場合は 1 回だけ再試行する
+        return Try.of(() -> voucherNumberBlockService.reserve(key.voucherType(), key.fiscalYear(), BLOCK_SIZE))
+                .orElse(() -> Try.of(() -> voucherNumberBlockService.reserve(
+                        key.voucherType(), key.fiscalYear(), BLOCK_SIZE)))
+                .get();
+    }
+
+    private record Key(int voucherType, int fiscalYear) {
+    }
+
+    private static final class Slot {
+        private final AtomicReference<Block> block = new AtomicReference<>(new Block(0, 0));
+        private final ReentrantLock lock = new ReentrantLock();
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
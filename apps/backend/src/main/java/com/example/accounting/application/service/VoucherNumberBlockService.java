@@ -0,0 +1,36 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.VoucherNumberSequenceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 仕訳伝票番号のブロック予約サービス
+ *
+ * <p>仕訳登録のトランザクションを開始する前に呼び出され、予約だけの短いトランザクションですぐにコミットする。
+ * 採番行のロックを仕訳登録の終了まで持ち越さないため、同じ伝票区分・会計年度の仕訳登録が
+ * 採番行で直列化されない。</p>
+ */
+@Service
+public class VoucherNumberBlockService {
+
+    private final VoucherNumberSequenceRepository voucherNumberSequenceRepository;
+
+    public VoucherNumberBlockService(VoucherNumberSequenceRepository voucherNumberSequenceRepository) {
+        this.voucherNumberSequenceRepository = voucherNumberSequenceRepository;
+    }
+
+    /**
+     * 番号のブロックを予約する
+     *
+     * @param voucherType 伝票区分
+     * @param fiscalYear  会計年度
+     * @param blockSize   予約する番号の件数
+     * @return 予約したブロックの先頭番号
+     */
+    @Transactional
+    public long reserve(int voucherType, int fiscalYear, int blockSize) {
+        return voucherNumberSequenceRepository.reserveBlock(voucherType, fiscalYear, blockSize)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+}
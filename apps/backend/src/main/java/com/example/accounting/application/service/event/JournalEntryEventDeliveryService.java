@@ -0,0 +1,47 @@
+package com.example.accounting.application.service.event;
+
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import com.example.accounting.application.port.out.JournalEntryEventPosition;
+import com.example.accounting.application.port.out.JournalEntryEventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 仕訳イベントの配信サービス（1 ハンドラ・1 バッチ分）
+ *
+ * <p>ハンドラの配信位置をロックしてから続きのイベントを読み出し、ハンドラの処理と配信位置の更新を
+ * 1 つのトランザクションで行う。複数のインスタンスが同時に配信しても、同じハンドラへの配信は直列になる。</p>
+ */
+@Service
+public class JournalEntryEventDeliveryService {
+
+    private final JournalEntryEventRepository journalEntryEventRepository;
+
+    public JournalEntryEventDeliveryService(JournalEntryEventRepository journalEntryEventRepository) {
+        this.journalEntryEventRepository = journalEntryEventRepository;
+    }
+
+    /**
+     * 配信位置の続きから最大 batchSize 件のイベントをハンドラへ配信する
+     *
+     * @param handler   配信先のハンドラ
+     * @param batchSize 1 回に配信する最大件数
+     * @return 配信した件数
+     */
+    @Transactional
+    public int deliver(JournalEntryEventHandler handler, int batchSize) {
+        JournalEntryEventPosition offset = journalEntryEventRepository.lockOffset(handler.name())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        List<JournalEntryEvent> events = journalEntryEventRepository.findDeliverableAfter(offset, batchSize)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        handler.handle(events);
+        journalEntryEventRepository.saveOffset(handler.name(), events.getLast().position())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        return events.size();
+    }
+}
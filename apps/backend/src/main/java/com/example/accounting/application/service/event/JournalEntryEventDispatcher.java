@@ -0,0 +1,90 @@
+package com.example.accounting.application.service.event;
+
+import com.example.accounting.application.port.out.JournalEntryEventRepository;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 仕訳イベントのディスパッチャ
+ *
+ * <p>アウトボックスに記録された仕訳イベントを一定間隔でポーリングし、登録されているハンドラへ
+ * 配信順に {@value #BATCH_SIZE} 件ずつ配信する。配信は仕訳を保存した要求とは別のスレッドで非同期に行う。
+ * ハンドラごとに配信位置を持つため、1 つのハンドラの失敗は他のハンドラの配信を止めない
+ * （失敗したハンドラは次回のポーリングで同じ位置から再配信する）。
+ * すべてのハンドラに配信済みのイベントは配信のたびに削除する。</p>
+ *
+ * <p>ハンドラが 1 つも登録されていない間はイベントを読むものがないため、保存期間を過ぎたイベントを定期処理で削除する。
+ * 後から登録したハンドラには、保存期間内に記録されたイベントから配信する。</p>
+ */
+@Service
+public class JournalEntryEventDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalEntryEventDispatcher.class);
+
+    /** 1 回に配信する最大件数 */
+    static final int BATCH_SIZE = 500;
+
+    private final JournalEntryEventDeliveryService journalEntryEventDeliveryService;
+    private final JournalEntryEventRepository journalEntryEventRepository;
+    private final ObjectProvider<JournalEntryEventHandler> handlers;
+    private final Clock clock;
+    private final Duration retention;
+
+    public JournalEntryEventDispatcher(JournalEntryEventDeliveryService journalEntryEventDeliveryService,
+                                       JournalEntryEventRepository journalEntryEventRepository,
+                                       ObjectProvider<JournalEntryEventHandler> handlers,
+                                       Clock clock,
+                                       @Value("${journal-entry-events.retention:1d}") Duration retention) {
+        this.journalEntryEventDeliveryService = journalEntryEventDeliveryService;
+        this.journalEntryEventRepository = journalEntryEventRepository;
+        this.handlers = handlers;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    /**
+     * 未配信のイベントをすべてのハンドラへ配信し、配信済みのイベントを削除する
+     */
+    @Scheduled(fixedDelayString = "${journal-entry-events.poll-interval:1000}")
+    public void dispatch() {
+        List<JournalEntryEventHandler> registered = handlers.orderedStream().toList();
+        registered.forEach(this::dispatchTo);
+        journalEntryEventRepository.purgeDelivered(registered.stream().map(JournalEntryEventHandler::name).toList())
+                .onFailure(ex -> LOGGER.warn("Failed to purge delivered journal entry events", ex));
+    }
+
+    /**
+     * ハンドラが登録されていない場合に、保存期間を過ぎたイベントを削除する
+     *
+     * <p>ハンドラが登録されている場合は、配信前のイベントを失わないよう配信済みのものだけを {@link #dispatch()} で削除する。</p>
+     *
+     * @return 削除件数
+     */
+    @Scheduled(cron = "${journal-entry-events.cleanup-cron:0 45 3 * * *}")
+    public int deleteExpiredEvents() {
+        if (handlers.orderedStream().findAny().isPresent()) {
+            return 0;
+        }
+        return journalEntryEventRepository.deleteRecordedBefore(LocalDateTime.now(clock).minus(retention))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    private void dispatchTo(JournalEntryEventHandler handler) {
+        Try.run(() -> {
+            int delivered;
+            do {
+                delivered = journalEntryEventDeliveryService.deliver(handler, BATCH_SIZE);
+            } while (delivered == BATCH_SIZE);
+        }).onFailure(ex -> LOGGER.warn("Failed to deliver journal entry events to {}", handler.name(), ex));
+    }
+}
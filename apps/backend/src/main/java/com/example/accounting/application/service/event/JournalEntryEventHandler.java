@@ -0,0 +1,29 @@
+package com.example.accounting.application.service.event;
+
+import com.example.accounting.application.port.out.JournalEntryEvent;
+
+import java.util.List;
+
+/**
+ * 仕訳イベントのハンドラ（投影・キャッシュ無効化など）
+ *
+ * <p>Bean として登録すると {@link JournalEntryEventDispatcher} が配信順（記録したトランザクションの ID, イベントID の順）にまとめて配信する。
+ * 配信は少なくとも 1 回であり、失敗した場合や配信位置の更新前に停止した場合は同じイベントが再配信されるため、
+ * 冪等に処理すること。DB への投影は配信と同じトランザクションで行われ、配信位置と一緒にコミットされる。</p>
+ */
+public interface JournalEntryEventHandler {
+
+    /**
+     * ハンドラ名（配信位置の管理に使うため、登録後は変更しないこと）
+     *
+     * @return ハンドラ名
+     */
+    String name();
+
+    /**
+     * イベントを処理する
+     *
+     * @param events 配信順のイベント
+     */
+    void handle(List<JournalEntryEvent> events);
+}
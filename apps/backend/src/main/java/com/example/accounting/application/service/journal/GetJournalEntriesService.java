@@ -5,7 +5,7 @@ import com.example.accounting.application.port.in.query.GetJournalEntriesQuery;
 import com.example.accounting.application.port.out.GetJournalEntriesResult;
 import com.example.accounting.application.port.out.GetJournalEntriesResult.JournalEntrySummary;
 import com.example.accounting.application.port.out.JournalEntryRepository;
-import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.application.service.PagingHelper;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +21,9 @@ public class GetJournalEntriesService implements GetJournalEntriesUseCase {
 
     @Override
     public GetJournalEntriesResult execute(GetJournalEntriesQuery query) {
-        int offset = query.page() * query.size();
+        if (!query.withTotal()) {
+            return executeWithoutTotal(query);
+        }
         long totalElements = journalEntryRepository.countByConditions(
                 query.statuses(), query.dateFrom(), query.dateTo())
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
@@ -29,30 +31,49 @@ public class GetJournalEntriesService implements GetJournalEntriesUseCase {
             return GetJournalEntriesResult.empty(query.page(), query.size());
         }
 
-        List<JournalEntry> journalEntries =
-                journalEntryRepository.findByConditions(
-                        query.statuses(), query.dateFrom(), query.dateTo(), offset, query.size())
-                        .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-        List<JournalEntrySummary> summaries =
-                journalEntries.stream()
-                        .map(
-                                journalEntry ->
-                                        new JournalEntrySummary(
-                                                journalEntry.getId().value(),
-                                                journalEntry.getJournalDate(),
-                                                journalEntry.getDescription(),
-                                                journalEntry.totalDebitAmount().value(),
-                                                journalEntry.totalCreditAmount().value(),
-                                                journalEntry.getStatus().name(),
-                                                journalEntry.getVersion()))
-                        .toList();
-        int totalPages = (int) Math.ceil((double) totalElements / query.size());
+        List<JournalEntrySummary> summaries = fetch(query, query.size());
+        boolean hasNext = query.cursor() == null
+                ? PagingHelper.hasNext(query.page(), query.size(), totalElements)
+                : summaries.size() == query.size();
 
         return new GetJournalEntriesResult(
                 summaries,
                 query.page(),
                 query.size(),
                 totalElements,
-                totalPages);
+                PagingHelper.totalPages(totalElements, query.size()),
+                hasNext,
+                GetJournalEntriesResult.nextCursorOf(summaries, hasNext));
+    }
+
+    /**
+     * 総件数を数えずに 1 クエリで取得する（ページサイズ + 1 件を先読みして次ページの有無を判定）
+     */
+    private GetJournalEntriesResult executeWithoutTotal(GetJournalEntriesQuery query) {
+        List<JournalEntrySummary> fetched = fetch(query, PagingHelper.lookAheadLimit(query.size()));
+        boolean hasNext = PagingHelper.hasNext(fetched, query.size());
+        List<JournalEntrySummary> summaries = PagingHelper.trim(fetched, query.size());
+
+        return new GetJournalEntriesResult(
+                summaries,
+                query.page(),
+                query.size(),
+                PagingHelper.UNKNOWN_TOTAL,
+                PagingHelper.UNKNOWN_TOTAL,
+                hasNext,
+                GetJournalEntriesResult.nextCursorOf(summaries, hasNext));
+    }
+
+    /**
+     * 一覧表示に必要な仕訳ヘッダと借方・貸方合計のみを取得する（明細付きの仕訳集約は組み立てない）
+     */
+    private List<JournalEntrySummary> fetch(GetJournalEntriesQuery query, int limit) {
+        int offset = query.page() * query.size();
+        return (query.cursor() == null
+                ? journalEntryRepository.findSummariesByConditions(
+                        query.statuses(), query.dateFrom(), query.dateTo(), offset, limit)
+                : journalEntryRepository.findSummariesByConditionsAfter(
+                        query.statuses(), query.dateFrom(), query.dateTo(), query.cursor(), limit))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
     }
 }
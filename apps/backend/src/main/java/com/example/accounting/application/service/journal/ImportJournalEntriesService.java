@@ -0,0 +1,244 @@
+package com.example.accounting.application.service.journal;
+
+import com.example.accounting.application.port.in.ImportJournalEntriesUseCase;
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand;
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand.Format;
+import com.example.accounting.application.port.out.AccountRepository;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult;
+import com.example.accounting.application.port.out.JournalImportFileStore;
+import com.example.accounting.application.port.out.JournalImportJob;
+import com.example.accounting.application.port.out.JournalImportJobRepository;
+import com.example.accounting.application.service.VoucherNumberAllocator;
+import com.example.accounting.domain.model.account.Account;
+import com.example.accounting.domain.model.account.AccountId;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 仕訳一括取込サービス（ImportJournalEntriesUseCase の実装）
+ *
+ * <p>アップロードされたファイルを保管してジョブを登録し、専用のワーカープールで取り込む。
+ * ファイルを 1 行ずつ読みながら仕訳を組み立て、{@link JournalEntryImportSession#CHUNK_SIZE} 件ごとに
+ * 仕訳とチェックポイント（最終コミット行・件数・エラー）を同じトランザクションでコミットする。
+ * 失敗・中止したジョブは再開でき、最終コミット行までを読み飛ばして続きから取り込む。
+ * 1 件の仕訳の明細行はファイル上で連続している必要がある。</p>
+ *
+ * <p>中止要求は実行中のインスタンスのメモリ上で受け付ける。起動時に RUNNING のまま残っているジョブは
+ * 前回のプロセスが異常終了したものとみなして自動的に再開する（単一インスタンスでの運用を前提とする）。</p>
+ *
+ * <p>再開に備えて保管した失敗・中止ジョブの取込ファイルは、保管期間を過ぎると定期処理で削除し、
+ * ジョブを再開できない状態（EXPIRED）にする。</p>
+ */
+@Service
+public class ImportJournalEntriesService implements ImportJournalEntriesUseCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportJournalEntriesService.class);
+
+    private final AccountRepository accountRepository;
+    private final JournalImportJobRepository journalImportJobRepository;
+    private final JournalImportFileStore journalImportFileStore;
+    private final JournalEntryImportChunkService chunkService;
+    private final VoucherNumberAllocator voucherNumberAllocator;
+    private final Executor executor;
+    private final Clock clock;
+    private final Duration fileRetention;
+    private final Map<String, AtomicBoolean> activeJobs = new ConcurrentHashMap<>();
+
+    public ImportJournalEntriesService(AccountRepository accountRepository,
+                                       JournalImportJobRepository journalImportJobRepository,
+                                       JournalImportFileStore journalImportFileStore,
+                                       JournalEntryImportChunkService chunkService,
+                                       VoucherNumberAllocator voucherNumberAllocator,
+                                       @Qualifier("journalImportExecutor") Executor executor,
+                                       Clock clock,
+                                       @Value("${journal-import.file-retention:7d}") Duration fileRetention) {
+        this.accountRepository = accountRepository;
+        this.journalImportJobRepository = journalImportJobRepository;
+        this.journalImportFileStore = journalImportFileStore;
+        this.chunkService = chunkService;
+        this.voucherNumberAllocator = voucherNumberAllocator;
+        this.executor = executor;
+        this.clock = clock;
+        this.fileRetention = fileRetention;
+    }
+
+    @Override
+    public Either<String, ImportJournalEntriesResult> start(ImportJournalEntriesCommand command) {
+        String jobId = UUID.randomUUID().toString();
+        return journalImportFileStore.save(jobId, command.content())
+                .toEither()
+                .mapLeft(ex -> "取込ファイルを保管できませんでした: " + ex.getMessage())
+                .map(location -> JournalImportJob.started(jobId, command.fileName(), command.format().name(),
+                        location, command.createdByUserId(), LocalDateTime.now(clock)))
+                .map(job -> journalImportJobRepository.create(job)
+                        .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)))
+                .peek(this::submit)
+                .map(job -> ImportJournalEntriesResult.of(job, List.of()));
+    }
+
+    @Override
+    public Optional<ImportJournalEntriesResult> findJob(String jobId) {
+        return findById(jobId).map(job -> ImportJournalEntriesResult.of(job, journalImportJobRepository
+                .findErrors(jobId, ImportJournalEntriesResult.MAX_REPORTED_ERRORS)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))));
+    }
+
+    @Override
+    public Optional<String> findOwner(String jobId) {
+        return findById(jobId).map(JournalImportJob::createdBy);
+    }
+
+    @Override
+    public Either<String, ImportJournalEntriesResult> cancel(String jobId) {
+        Optional<JournalImportJob> found = findById(jobId);
+        if (found.isEmpty() || !found.get().isRunning()) {
+            return Either.left("実行中の取込ジョブではありません");
+        }
+        AtomicBoolean cancelRequested = activeJobs.get(jobId);
+        if (cancelRequested == null) {
+            // 実行していたプロセスが終了しているため、チェックポイントの状態のまま中止にする
+            finish(jobId, JournalImportJob.CANCELLED, null);
+        } else {
+            cancelRequested.set(true);
+        }
+        return Either.right(findJob(jobId).orElseThrow());
+    }
+
+    @Override
+    public Either<String, ImportJournalEntriesResult> resume(String jobId) {
+        boolean restarted = journalImportJobRepository.restart(
+                        jobId, List.of(JournalImportJob.FAILED, JournalImportJob.CANCELLED), LocalDateTime.now(clock))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        if (!restarted) {
+            return Either.left("再開できる取込ジョブではありません");
+        }
+        JournalImportJob job = findById(jobId).orElseThrow();
+        submit(job);
+        return Either.right(findJob(jobId).orElseThrow());
+    }
+
+    /**
+     * 前回のプロセスで実行中のまま終了したジョブを再開する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        journalImportJobRepository.findByStatus(JournalImportJob.RUNNING)
+                .onFailure(ex -> LOG.warn("Failed to load interrupted journal import jobs", ex))
+                .getOrElse(List.of())
+                .stream()
+                .filter(job -> !activeJobs.containsKey(job.jobId()))
+                .filter(job -> journalImportJobRepository
+                        .restart(job.jobId(), List.of(JournalImportJob.RUNNING), LocalDateTime.now(clock))
+                        .getOrElse(false))
+                .forEach(job -> {
+                    LOG.info("Resuming journal import [{}] after row {}", job.jobId(), job.lastCommittedRow());
+                    submit(findById(job.jobId()).orElseThrow());
+                });
+    }
+
+    /**
+     * 保管期間を過ぎた失敗・中止ジョブの取込ファイルを削除する
+     *
+     * <p>先にジョブを EXPIRED にしてから削除するため、同時に再開されたジョブのファイルは削除しない。</p>
+     *
+     * @return 取込ファイルを削除したジョブ数
+     */
+    @Scheduled(cron = "${journal-import.file-cleanup-cron:0 0 3 * * *}")
+    public int deleteExpiredFiles() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime finishedBefore = now.minus(fileRetention);
+        List<String> resumable = List.of(JournalImportJob.FAILED, JournalImportJob.CANCELLED);
+        List<JournalImportJob> expired = resumable.stream()
+                .flatMap(status -> journalImportJobRepository.findByStatus(status)
+                        .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                        .stream())
+                .filter(job -> job.finishedAt() != null && job.finishedAt().isBefore(finishedBefore))
+                .filter(job -> journalImportJobRepository.expire(job.jobId(), resumable, finishedBefore, now)
+                        .getOrElseThrow(ex -> new RuntimeException("Data access error", ex)))
+                .toList();
+        expired.forEach(job -> journalImportFileStore.delete(job.fileLocation())
+                .onFailure(ex -> LOG.warn("Failed to delete journal import file [{}]", job.jobId(), ex)));
+        return expired.size();
+    }
+
+    private void submit(JournalImportJob job) {
+        AtomicBoolean cancelRequested = new AtomicBoolean(false);
+        activeJobs.put(job.jobId(), cancelRequested);
+        Try.of(() -> CompletableFuture.runAsync(() -> run(job, cancelRequested), executor))
+                .onFailure(ex -> {
+                    activeJobs.remove(job.jobId(), cancelRequested);
+                    finish(job.jobId(), JournalImportJob.FAILED, "取込ジョブを開始できませんでした: " + ex.getMessage());
+                })
+                .forEach(future -> future.whenComplete((ignored, ex) -> {
+                    activeJobs.remove(job.jobId(), cancelRequested);
+                    if (ex != null) {
+                        Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+                        LOG.error("Journal import failed [{}]", job.jobId(), cause);
+                        finish(job.jobId(), JournalImportJob.FAILED, cause.getMessage());
+                    }
+                }));
+    }
+
+    private void run(JournalImportJob job, AtomicBoolean cancelRequested) {
+        JournalEntryImportSession session = new JournalEntryImportSession(
+                job,
+                accountIdsByCode(),
+                // 伝票番号のブロック予約で 2 本目のコネクションを使わないよう、チャンクのトランザクションの前に払い出す
+                (entries, checkpoint) -> Try.run(() -> chunkService.commitChunk(
+                        entries.stream().map(voucherNumberAllocator::assign).toList(), checkpoint)),
+                clock,
+                cancelRequested::get);
+
+        Try.withResources(() -> journalImportFileStore.open(job.fileLocation()).get())
+                .of(content -> JournalEntryImportReader.read(
+                        content, Format.valueOf(job.fileFormat()), session::accept))
+                .flatMap(read -> read)
+                .onFailure(session::abort);
+
+        JournalEntryImportSession.Outcome outcome = session.finish();
+        finish(job.jobId(), outcome.status(), outcome.errorMessage());
+        if (JournalImportJob.COMPLETED.equals(outcome.status())) {
+            journalImportFileStore.delete(job.fileLocation())
+                    .onFailure(ex -> LOG.warn("Failed to delete journal import file [{}]", job.jobId(), ex));
+        }
+        LOG.info("Journal import [{}] finished: {}", job.jobId(), outcome.status());
+    }
+
+    private void finish(String jobId, String status, String errorMessage) {
+        journalImportJobRepository.finish(jobId, status, errorMessage, LocalDateTime.now(clock))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    private Optional<JournalImportJob> findById(String jobId) {
+        return journalImportJobRepository.findById(jobId)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    private Map<String, AccountId> accountIdsByCode() {
+        return accountRepository.findAll()
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .stream()
+                .collect(Collectors.toMap(account -> account.getAccountCode().value(), Account::getId));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.accounting.application.service.journal;
+
+import com.example.accounting.application.port.out.JournalEntryRepository;
+import com.example.accounting.application.port.out.JournalImportCheckpoint;
+import com.example.accounting.application.port.out.JournalImportJobRepository;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 仕訳一括取込のチャンク登録サービス
+ *
+ * <p>チャンクの仕訳とジョブのチェックポイントを同じトランザクションでコミットする。
+ * 失敗したチャンクは仕訳・チェックポイントともにロールバックされるため、
+ * 再開時に同じ仕訳が二重に登録されることはない。
+ * 伝票番号は呼び出し元がトランザクションの外で払い出しておくため、ロールバックされたチャンクの番号は欠番になる。</p>
+ */
+@Service
+public class JournalEntryImportChunkService {
+
+    private final JournalEntryRepository journalEntryRepository;
+    private final JournalImportJobRepository journalImportJobRepository;
+
+    public JournalEntryImportChunkService(JournalEntryRepository journalEntryRepository,
+                                          JournalImportJobRepository journalImportJobRepository) {
+        this.journalEntryRepository = journalEntryRepository;
+        this.journalImportJobRepository = journalImportJobRepository;
+    }
+
+    /**
+     * 検証済みの仕訳 1 チャンク分を登録し、チェックポイントを保存する
+     *
+     * @param journalEntries 伝票番号を割り当てた検証済みの新規仕訳（エラーのみのチェックポイントでは空）
+     * @param checkpoint     このチャンクまでのチェックポイント
+     */
+    @Transactional
+    public void commitChunk(List<JournalEntry> journalEntries, JournalImportCheckpoint checkpoint) {
+        journalEntryRepository.insertAll(journalEntries)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        journalImportJobRepository.saveCheckpoint(checkpoint)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+}
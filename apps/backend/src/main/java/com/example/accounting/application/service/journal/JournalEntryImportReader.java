@@ -0,0 +1,233 @@
+package com.example.accounting.application.service.journal;
+
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand.Format;
+import io.vavr.control.Try;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 仕訳取込ファイルのストリーミング読み込みヘルパー。
+ * ファイル全体をメモリに展開せず、見出し行を除くデータ行を 1 行ずつ受け渡す。
+ * 受け取り側が false を返した時点で以降の行は受け渡さない（取込の中止・失敗時）。
+ * CSV は UTF-8（BOM 可）、Excel は先頭シートを POI のイベントモデル（SAX）で読む。
+ */
+public final class JournalEntryImportReader {
+
+    private static final int BOM = '\uFEFF';
+    private static final long HEADER_ROW = 1;
+
+    private JournalEntryImportReader() {
+    }
+
+    /**
+     * 取込ファイルを読み込み、データ行ごとに consumer を呼び出す
+     *
+     * @param content  取込ファイルの内容（呼び出し側で閉じる）
+     * @param format   ファイル形式
+     * @param consumer データ行の受け取り先（読み込みを続ける場合 true を返す）
+     * @return 読み込み結果（ファイル形式の誤りや I/O エラーは失敗）
+     */
+    public static Try<Void> read(InputStream content, Format format, Predicate<JournalEntryImportRow> consumer) {
+        return Try.run(() -> {
+            switch (format) {
+                case CSV -> readCsv(content, consumer);
+                case XLSX -> readXlsx(content, consumer);
+            }
+        });
+    }
+
+    @SuppressWarnings("PMD.AvoidCheckedExceptionDeclaration") // Try.run 内から呼び出す I/O 処理のため
+    private static void readCsv(InputStream content, Predicate<JournalEntryImportRow> consumer) throws IOException {
+        PushbackReader reader = new PushbackReader(
+                new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8)), 1);
+        int first = reader.read();
+        if (first != BOM && first != -1) {
+            reader.unread(first);
+        }
+        long rowNumber = 0;
+        boolean reading = true;
+        Optional<List<String>> fields = nextCsvRecord(reader);
+        while (reading && fields.isPresent()) {
+            rowNumber++;
+            reading = emit(rowNumber, fields.get(), consumer);
+            fields = nextCsvRecord(reader);
+        }
+    }
+
+    /**
+     * CSV の 1 レコードを読む（RFC 4180: ダブルクォートで囲んだ値はカンマ・改行・"" を含められる）
+     */
+    @SuppressWarnings({
+            "PMD.AvoidCheckedExceptionDeclaration", // Try.run 内から呼び出す I/O 処理のため
+            "PMD.AvoidMutableCollectionInstantiation", // 1 レコード分の値を順に組み立てるため
+            "PMD.CognitiveComplexity"
+    })
+    private static Optional<List<String>> nextCsvRecord(PushbackReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return Optional.empty();
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(reader, next);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int next = reader.read();
+                    if (next != '\n') {
+                        unread(reader, next);
+                    }
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return Optional.of(fields);
+    }
+
+    @SuppressWarnings("PMD.AvoidCheckedExceptionDeclaration") // Try.run 内から呼び出す I/O 処理のため
+    private static void unread(PushbackReader reader, int c) throws IOException {
+        if (c != -1) {
+            reader.unread(c);
+        }
+    }
+
+    /**
+     * Excel の先頭シートを SAX で読む。
+     * 入力ストリームから直接開くと ZIP の全エントリを展開してメモリに保持するため、一時ファイル経由で開く。
+     */
+    @SuppressWarnings("PMD.AvoidCheckedExceptionDeclaration") // Try.run 内から呼び出す I/O 処理のため
+    private static void readXlsx(InputStream content, Predicate<JournalEntryImportRow> consumer)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        Path file = Files.createTempFile("journal-import-", ".xlsx");
+        try {
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+            try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+                XSSFReader xssfReader = new XSSFReader(pkg);
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        xssfReader.getStylesTable(),
+                        new ReadOnlySharedStringsTable(pkg),
+                        new SheetRowHandler(consumer),
+                        new RawValueFormatter(),
+                        false));
+                Iterator<InputStream> sheets = xssfReader.getSheetsData();
+                if (sheets.hasNext()) {
+                    try (InputStream sheet = sheets.next()) {
+                        parser.parse(new InputSource(sheet));
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean emit(long rowNumber, List<String> cells, Predicate<JournalEntryImportRow> consumer) {
+        boolean blank = cells.stream().allMatch(String::isBlank);
+        if (rowNumber > HEADER_ROW && !blank) {
+            return consumer.test(JournalEntryImportRow.of(rowNumber, cells));
+        }
+        return true;
+    }
+
+    /**
+     * シートの行をセル位置どおりに組み立てる（空セルは XML に現れないため列位置で詰める）。
+     * 受け取り側が false を返した後は、シートの残りを読み流して行を受け渡さない。
+     */
+    @SuppressWarnings("PMD.AvoidMutableCollectionInstantiation") // SAX のコールバックで 1 行分を組み立てるため
+    private static final class SheetRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Predicate<JournalEntryImportRow> consumer;
+        private final List<String> cells = new ArrayList<>();
+        private boolean reading = true;
+
+        private SheetRowHandler(Predicate<JournalEntryImportRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (reading) {
+                reading = emit(rowNum + 1L, List.copyOf(cells), consumer);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? cells.size() : new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue == null ? "" : formattedValue);
+        }
+    }
+
+    /**
+     * 表示形式に依存しない値を返すフォーマッタ（日付は ISO 形式、数値は桁区切りなしの 10 進表記）
+     */
+    private static final class RawValueFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toLocalDate().toString();
+            }
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.accounting.application.service.journal;
+
+import java.util.List;
+
+/**
+ * 仕訳取込ファイルの 1 行（未検証の文字列のまま保持する）
+ *
+ * <p>列の並び: 伝票キー, 仕訳日, 摘要, 行番号, 勘定科目コード, 借方金額, 貸方金額。
+ * 同じ伝票キーの連続した行を 1 件の仕訳とし、仕訳日と摘要は先頭行の値を使う。</p>
+ *
+ * @param rowNumber    行番号（見出し行を 1 行目とするファイル上の行番号）
+ * @param entryKey     伝票キー
+ * @param journalDate  仕訳日（yyyy-MM-dd または yyyy/MM/dd）
+ * @param description  摘要
+ * @param lineNumber   行番号（明細）
+ * @param accountCode  勘定科目コード
+ * @param debitAmount  借方金額
+ * @param creditAmount 貸方金額
+ */
+public record JournalEntryImportRow(
+        long rowNumber,
+        String entryKey,
+        String journalDate,
+        String description,
+        String lineNumber,
+        String accountCode,
+        String debitAmount,
+        String creditAmount
+) {
+
+    /**
+     * セルの値の並びから行を生成する（不足する列は空文字、前後の空白は除去する）
+     *
+     * @param rowNumber 行番号
+     * @param cells     セルの値
+     * @return 取込行
+     */
+    public static JournalEntryImportRow of(long rowNumber, List<String> cells) {
+        return new JournalEntryImportRow(
+                rowNumber,
+                cell(cells, 0),
+                cell(cells, 1),
+                cell(cells, 2),
+                cell(cells, 3),
+                cell(cells, 4),
+                cell(cells, 5),
+                cell(cells, 6)
+        );
+    }
+
+    private static String cell(List<String> cells, int index) {
+        if (index >= cells.size() || cells.get(index) == null) {
+            return "";
+        }
+        return cells.get(index).strip();
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.accounting.application.service.journal;
+
+import com.example.accounting.application.port.out.ImportJournalEntriesResult;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+import com.example.accounting.application.port.out.JournalImportCheckpoint;
+import com.example.accounting.application.port.out.JournalImportJob;
+import com.example.accounting.domain.model.account.AccountId;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryLine;
+import com.example.accounting.domain.model.journal.Money;
+import com.example.accounting.domain.model.user.UserId;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 仕訳一括取込ジョブの 1 回の実行（開始または再開）の処理状態。
+ * 読み込んだ行を伝票キーごとに仕訳へ組み立てて検証し、{@link #CHUNK_SIZE} 件ごとに
+ * 仕訳とチェックポイントを同じトランザクションでコミットする。
+ * 検証エラーの仕訳は登録せず、行番号付きのエラーとしてチェックポイントに含める。
+ * 再開時はジョブの最終コミット行までを読み飛ばし、件数はジョブの値から引き継ぐ。
+ */
+@SuppressWarnings("PMD.AvoidMutableCollectionInstantiation") // 取込 1 回分の行・仕訳・エラーを逐次蓄積するため
+final class JournalEntryImportSession {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final DateTimeFormatter SLASH_DATE =
+            DateTimeFormatter.ofPattern("uuuu/M/d").withResolverStyle(ResolverStyle.STRICT);
+
+    /**
+     * 仕訳 1 チャンク分とチェックポイントを 1 トランザクションでコミットする関数
+     */
+    @FunctionalInterface
+    interface ChunkCommitter {
+        Try<Void> commit(List<JournalEntry> entries, JournalImportCheckpoint checkpoint);
+    }
+
+    /**
+     * 実行の結果
+     *
+     * @param status       COMPLETED / FAILED / CANCELLED
+     * @param errorMessage 失敗時のエラーメッセージ
+     */
+    record Outcome(String status, String errorMessage) {
+    }
+
+    private final String jobId;
+    private final Map<String, AccountId> accountIdsByCode;
+    private final UserId createdBy;
+    private final ChunkCommitter committer;
+    private final Clock clock;
+    private final BooleanSupplier cancelRequested;
+    private final long resumeAfterRow;
+
+    private long processedRows;
+    private int importedEntries;
+    private int failedEntries;
+    private int reportedErrors;
+
+    private final List<JournalEntryImportRow> currentRows = new ArrayList<>();
+    private final List<PreparedEntry> pending = new ArrayList<>(CHUNK_SIZE);
+    private final List<ImportError> pendingErrors = new ArrayList<>();
+    private int pendingFailed;
+    private long closedRows;
+    private long lastClosedRow;
+
+    private boolean cancelled;
+    private String failure;
+
+    /**
+     * @param job              実行するジョブ（チェックポイントの値から再開する）
+     * @param accountIdsByCode 勘定科目コードから勘定科目 ID への対応
+     * @param committer        チャンクとチェックポイントをコミットする関数
+     * @param clock            チェックポイント日時の取得に使う時計
+     * @param cancelRequested  中止が要求されたか
+     */
+    JournalEntryImportSession(JournalImportJob job,
+                              Map<String, AccountId> accountIdsByCode,
+                              ChunkCommitter committer,
+                              Clock clock,
+                              BooleanSupplier cancelRequested) {
+        this.jobId = job.jobId();
+        this.accountIdsByCode = accountIdsByCode;
+        this.createdBy = UserId.of(job.createdBy());
+        this.committer = committer;
+        this.clock = clock;
+        this.cancelRequested = cancelRequested;
+        this.resumeAfterRow = job.lastCommittedRow();
+        this.processedRows = job.processedRows();
+        this.importedEntries = job.importedEntries();
+        this.failedEntries = job.failedEntries();
+        this.reportedErrors = job.reportedErrors();
+        this.lastClosedRow = job.lastCommittedRow();
+    }
+
+    /**
+     * データ行を受け取る（伝票キーが変わった時点で直前の仕訳を確定する）
+     *
+     * @param row データ行
+     * @return 読み込みを続ける場合 true（中止・コミット失敗時は false）
+     */
+    boolean accept(JournalEntryImportRow row) {
+        if (cancelRequested.getAsBoolean()) {
+            cancelled = true;
+        }
+        if (isStopped()) {
+            return false;
+        }
+        if (row.rowNumber() <= resumeAfterRow) {
+            return true;
+        }
+        if (!currentRows.isEmpty() && !currentRows.get(0).entryKey().equals(row.entryKey())) {
+            closeEntry();
+        }
+        currentRows.add(row);
+        return !isStopped();
+    }
+
+    /**
+     * 読み込みの失敗を記録する（組み立て途中の仕訳は破棄し、確定済みの仕訳はコミットする）
+     *
+     * @param cause 失敗の原因
+     */
+    void abort(Throwable cause) {
+        currentRows.clear();
+        if (!isStopped()) {
+            checkpoint();
+        }
+        if (failure == null) {
+            failure = "取込ファイルを読み込めませんでした: " + cause.getMessage();
+        }
+    }
+
+    /**
+     * 残りの仕訳をコミットし、実行の結果を返す
+     *
+     * @return 実行の結果
+     */
+    Outcome finish() {
+        if (!isStopped()) {
+            closeEntry();
+            checkpoint();
+        }
+        if (failure != null) {
+            return new Outcome(JournalImportJob.FAILED, failure);
+        }
+        if (cancelled) {
+            return new Outcome(JournalImportJob.CANCELLED, null);
+        }
+        return new Outcome(JournalImportJob.COMPLETED, null);
+    }
+
+    private boolean isStopped() {
+        return cancelled || failure != null;
+    }
+
+    private void closeEntry() {
+        if (currentRows.isEmpty()) {
+            return;
+        }
+        List<JournalEntryImportRow> rows = List.copyOf(currentRows);
+        currentRows.clear();
+        assemble(rows).peekLeft(error -> {
+            pendingFailed++;
+            pendingErrors.add(error);
+        }).forEach(entry -> pending.add(new PreparedEntry(rows.get(0), entry)));
+        closedRows += rows.size();
+        lastClosedRow = rows.get(rows.size() - 1).rowNumber();
+        if (pending.size() + pendingFailed >= CHUNK_SIZE) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * 前回のチェックポイント以降に確定した仕訳とエラーをコミットする。
+     * 仕訳の登録に失敗した場合は、そのチャンクの仕訳をエラーとしてチェックポイントだけをコミットする。
+     */
+    private void checkpoint() {
+        if (closedRows == 0) {
+            return;
+        }
+        List<JournalEntry> entries = pending.stream().map(PreparedEntry::entry).toList();
+        JournalImportCheckpoint checkpoint = nextCheckpoint(entries.size(), 0, pendingErrors);
+        Try<JournalImportCheckpoint> committed = committer.commit(entries, checkpoint).map(ignored -> checkpoint);
+        if (committed.isFailure() && !entries.isEmpty()) {
+            String message = "登録に失敗しました: " + committed.getCause().getMessage();
+            List<ImportError> errors = Stream.concat(
+                    pendingErrors.stream(),
+                    pending.stream().map(prepared -> error(prepared.firstRow(), message))).toList();
+            JournalImportCheckpoint failedChunk = nextCheckpoint(0, entries.size(), errors);
+            committed = committer.commit(List.of(), failedChunk).map(ignored -> failedChunk);
+        }
+        committed
+                .onSuccess(this::applyCheckpoint)
+                .onFailure(ex -> failure = "チェックポイントを保存できませんでした: " + ex.getMessage());
+    }
+
+    private void applyCheckpoint(JournalImportCheckpoint checkpoint) {
+        processedRows = checkpoint.processedRows();
+        importedEntries = checkpoint.importedEntries();
+        failedEntries = checkpoint.failedEntries();
+        reportedErrors = checkpoint.reportedErrors();
+        pending.clear();
+        pendingErrors.clear();
+        pendingFailed = 0;
+        closedRows = 0;
+    }
+
+    private JournalImportCheckpoint nextCheckpoint(int imported, int failedChunk, List<ImportError> errors) {
+        int capacity = Math.max(0, ImportJournalEntriesResult.MAX_REPORTED_ERRORS - reportedErrors);
+        List<ImportError> reported = errors.subList(0, Math.min(capacity, errors.size()));
+        return new JournalImportCheckpoint(
+                jobId,
+                lastClosedRow,
+                processedRows + closedRows,
+                importedEntries + imported,
+                failedEntries + pendingFailed + failedChunk,
+                reportedErrors + reported.size(),
+                reported,
+                LocalDateTime.now(clock));
+    }
+
+    private Either<ImportError, JournalEntry> assemble(List<JournalEntryImportRow> rows) {
+        JournalEntryImportRow first = rows.get(0);
+        return header(first)
+                .mapLeft(message -> error(first, message))
+                .flatMap(entry -> Either.sequenceRight(rows.stream().map(this::line).toList())
+                        .map(lines -> entry.withLines(lines.toJavaList())))
+                .flatMap(entry -> validate(entry).mapLeft(message -> error(first, message)));
+    }
+
+    private Either<String, JournalEntry> header(JournalEntryImportRow row) {
+        if (row.entryKey().isEmpty()) {
+            return Either.left("伝票キーは必須です");
+        }
+        if (row.description().isEmpty()) {
+            return Either.left("摘要は必須です");
+        }
+        return parseDate(row.journalDate())
+                .map(date -> JournalEntry.create(date, row.description(), createdBy, 0));
+    }
+
+    private Either<ImportError, JournalEntryLine> line(JournalEntryImportRow row) {
+        return parseLineNumber(row.lineNumber())
+                .flatMap(lineNumber -> accountId(row.accountCode())
+                        .flatMap(accountId -> amount(row.debitAmount(), "借方金額")
+                                .flatMap(debit -> amount(row.creditAmount(), "貸方金額")
+                                        .flatMap(credit -> JournalEntryLine.validated(
+                                                lineNumber, accountId, debit, credit)))))
+                .mapLeft(message -> error(row, message));
+    }
+
+    private Either<String, JournalEntry> validate(JournalEntry entry) {
+        long distinctLineNumbers = entry.getLines().stream()
+                .map(JournalEntryLine::lineNumber)
+                .distinct()
+                .count();
+        if (distinctLineNumbers != entry.getLines().size()) {
+            return Either.left("行番号が重複しています");
+        }
+        try {
+            entry.validateForSave();
+            return Either.right(entry);
+        } catch (IllegalArgumentException e) {
+            return Either.left(e.getMessage());
+        }
+    }
+
+    private static Either<String, LocalDate> parseDate(String value) {
+        return Try.of(() -> LocalDate.parse(value))
+                .orElse(() -> Try.of(() -> LocalDate.parse(value, SLASH_DATE)))
+                .toEither("仕訳日の形式が正しくありません: " + value);
+    }
+
+    private static Either<String, Integer> parseLineNumber(String value) {
+        return Try.of(() -> Integer.valueOf(value))
+                .toEither("行番号が正しくありません: " + value);
+    }
+
+    private Either<String, AccountId> accountId(String accountCode) {
+        AccountId accountId = accountIdsByCode.get(accountCode);
+        return accountId == null
+                ? Either.left("勘定科目コードが存在しません: " + accountCode)
+                : Either.right(accountId);
+    }
+
+    private static Either<String, Money> amount(String value, String label) {
+        if (value.isEmpty()) {
+            return Either.right(null);
+        }
+        return Try.of(() -> new BigDecimal(value.replace(",", "")))
+                .toEither(label + "が数値ではありません: " + value)
+                .flatMap(Money::validated);
+    }
+
+    private static ImportError error(JournalEntryImportRow row, String message) {
+        return new ImportError(row.rowNumber(), row.entryKey(), message);
+    }
+
+    private record PreparedEntry(JournalEntryImportRow firstRow, JournalEntry entry) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.accounting.application.service.journal;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 摘要検索のハイライト生成ヘルパー。
+ * 本文を HTML エスケープしたうえで、検索語と一致する箇所を {@code <mark>} で囲む。
+ */
+public final class SearchHighlighter {
+
+    private static final String MARK_OPEN = "<mark>";
+    private static final String MARK_CLOSE = "</mark>";
+
+    private SearchHighlighter() {
+    }
+
+    /**
+     * 検索語を含む本文のハイライト文字列を生成する
+     *
+     * @param text    本文
+     * @param keyword 検索語（部分一致・大文字小文字を区別）
+     * @return 検索語を含む場合はハイライト文字列、含まない場合は空
+     */
+    public static Optional<String> highlight(String text, String keyword) {
+        if (text == null || keyword == null || keyword.isEmpty() || !text.contains(keyword)) {
+            return Optional.empty();
+        }
+        String marked = MARK_OPEN + escape(keyword) + MARK_CLOSE;
+        return Optional.of(Arrays.stream(text.split(Pattern.quote(keyword), -1))
+                .map(SearchHighlighter::escape)
+                .collect(Collectors.joining(marked)));
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&#39;");
+    }
+}
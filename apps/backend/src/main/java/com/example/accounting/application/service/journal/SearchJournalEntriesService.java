@@ -6,8 +6,12 @@ import com.example.accounting.application.port.out.GetJournalEntriesResult;
 import com.example.accounting.application.port.out.GetJournalEntriesResult.JournalEntrySummary;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.application.port.out.JournalEntrySearchCriteria;
+import com.example.accounting.application.service.PagingHelper;
 import com.example.accounting.domain.model.journal.JournalEntry;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,11 +26,10 @@ public class SearchJournalEntriesService implements SearchJournalEntriesUseCase
 
     @Override
     public GetJournalEntriesResult execute(SearchJournalEntriesQuery query) {
-        int offset = query.page() * query.size();
-        JournalEntrySearchCriteria criteria = new JournalEntrySearchCriteria(
-                query.statuses(), query.dateFrom(), query.dateTo(),
-                query.accountId(), query.amountFrom(), query.amountTo(),
-                query.description(), offset, query.size());
+        if (!query.withTotal()) {
+            return executeWithoutTotal(query);
+        }
+        JournalEntrySearchCriteria criteria = toCriteria(query, query.size());
 
         long totalElements = journalEntryRepository.countBySearchConditions(criteria)
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
@@ -34,28 +37,112 @@ public class SearchJournalEntriesService implements SearchJournalEntriesUseCase
             return GetJournalEntriesResult.empty(query.page(), query.size());
         }
 
-        List<JournalEntry> journalEntries =
-                journalEntryRepository.searchByConditions(criteria)
-                        .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
-        List<JournalEntrySummary> summaries =
-                journalEntries.stream()
-                        .map(journalEntry ->
-                                new JournalEntrySummary(
-                                        journalEntry.getId().value(),
-                                        journalEntry.getJournalDate(),
-                                        journalEntry.getDescription(),
-                                        journalEntry.totalDebitAmount().value(),
-                                        journalEntry.totalCreditAmount().value(),
-                                        journalEntry.getStatus().name(),
-                                        journalEntry.getVersion()))
-                        .toList();
-        int totalPages = (int) Math.ceil((double) totalElements / query.size());
+        List<JournalEntrySummary> summaries = toSummaries(search(criteria, query), query.description());
+        boolean hasNext = usesCursor(query)
+                ? summaries.size() == query.size()
+                : PagingHelper.hasNext(query.page(), query.size(), totalElements);
 
         return new GetJournalEntriesResult(
                 summaries,
                 query.page(),
                 query.size(),
                 totalElements,
-                totalPages);
+                PagingHelper.totalPages(totalElements, query.size()),
+                hasNext,
+                nextCursorOf(summaries, hasNext, query));
+    }
+
+    /**
+     * 総件数を数えずに 1 クエリで取得する（ページサイズ + 1 件を先読みして次ページの有無を判定）
+     */
+    private GetJournalEntriesResult executeWithoutTotal(SearchJournalEntriesQuery query) {
+        List<JournalEntry> fetched = search(toCriteria(query, PagingHelper.lookAheadLimit(query.size())), query);
+        boolean hasNext = PagingHelper.hasNext(fetched, query.size());
+        List<JournalEntrySummary> summaries = toSummaries(PagingHelper.trim(fetched, query.size()), query.description());
+
+        return new GetJournalEntriesResult(
+                summaries,
+                query.page(),
+                query.size(),
+                PagingHelper.UNKNOWN_TOTAL,
+                PagingHelper.UNKNOWN_TOTAL,
+                hasNext,
+                nextCursorOf(summaries, hasNext, query));
+    }
+
+    private JournalEntrySearchCriteria toCriteria(SearchJournalEntriesQuery query, int limit) {
+        int offset = query.page() * query.size();
+        return new JournalEntrySearchCriteria(
+                query.statuses(), query.dateFrom(), query.dateTo(),
+                query.accountId(), query.amountFrom(), query.amountTo(),
+                query.description(), offset, limit, query.rankByRelevance());
+    }
+
+    /**
+     * キーセット（カーソル）で続きを取得するか。関連度順は仕訳日付順のカーソルと並び順が異なるためオフセットで取得する
+     */
+    private boolean usesCursor(SearchJournalEntriesQuery query) {
+        return query.cursor() != null && !query.rankByRelevance();
+    }
+
+    private String nextCursorOf(List<JournalEntrySummary> summaries, boolean hasNext,
+                                SearchJournalEntriesQuery query) {
+        return GetJournalEntriesResult.nextCursorOf(summaries, hasNext && !query.rankByRelevance());
+    }
+
+    private List<JournalEntry> search(JournalEntrySearchCriteria criteria, SearchJournalEntriesQuery query) {
+        return (usesCursor(query)
+                ? journalEntryRepository.searchByConditionsAfter(criteria, query.cursor())
+                : journalEntryRepository.searchByConditions(criteria))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    private List<JournalEntrySummary> toSummaries(List<JournalEntry> journalEntries, String keyword) {
+        Map<Integer, String> highlights = highlightsOf(journalEntries, keyword);
+        return journalEntries.stream()
+                .map(journalEntry ->
+                        new JournalEntrySummary(
+                                journalEntry.getId().value(),
+                                journalEntry.getJournalDate(),
+                                journalEntry.getDescription(),
+                                journalEntry.totalDebitAmount().value(),
+                                journalEntry.totalCreditAmount().value(),
+                                journalEntry.getStatus().name(),
+                                journalEntry.getVersion(),
+                                highlights.get(journalEntry.getId().value())))
+                .toList();
+    }
+
+    /**
+     * 摘要検索のハイライトを仕訳ごとに生成する（ヘッダの摘要を優先し、一致しない仕訳のみ行摘要を取得する）
+     */
+    private Map<Integer, String> highlightsOf(List<JournalEntry> journalEntries, String keyword) {
+        if (keyword == null || keyword.isEmpty() || journalEntries.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, String> headerHighlights = journalEntries.stream()
+                .flatMap(journalEntry -> SearchHighlighter.highlight(journalEntry.getDescription(), keyword)
+                        .map(highlight -> Map.entry(journalEntry.getId().value(), highlight))
+                        .stream())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        List<Integer> lineOnlyIds = journalEntries.stream()
+                .map(journalEntry -> journalEntry.getId().value())
+                .filter(id -> !headerHighlights.containsKey(id))
+                .toList();
+        Map<Integer, String> lineHighlights = lineOnlyIds.isEmpty()
+                ? Map.of()
+                : lineHighlightsOf(lineOnlyIds, keyword);
+        return Stream.concat(headerHighlights.entrySet().stream(), lineHighlights.entrySet().stream())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private Map<Integer, String> lineHighlightsOf(List<Integer> journalEntryIds, String keyword) {
+        return journalEntryRepository.findMatchedLineDescriptions(journalEntryIds, keyword)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .entrySet().stream()
+                .flatMap(entry -> SearchHighlighter.highlight(entry.getValue(), keyword)
+                        .map(highlight -> Map.entry(entry.getKey(), highlight))
+                        .stream())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 }
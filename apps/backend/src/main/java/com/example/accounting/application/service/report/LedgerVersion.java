@@ -0,0 +1,87 @@
+package com.example.accounting.application.service.report;
+
+import com.example.accounting.application.port.out.LedgerChange;
+import com.example.accounting.application.port.out.LedgerChangeRepository;
+import com.example.accounting.application.service.LedgerChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 元帳の版（帳票の内容が変わるたびに増える番号）
+ *
+ * <p>{@link LedgerChangedEvent} を発行したトランザクションのコミット直前に版を 1 つ進め、
+ * 残高が変わった期間とともに DB に記録する。版はすべてのインスタンスで共有し、コミット順に欠番なく並ぶ。
+ * 版が同じ間は同じ照会条件の帳票の内容も同じであるため、照会 API は版を ETag として返し、
+ * {@link ReportCache} は前回読んだ版より後の変更履歴で集計結果を破棄する。</p>
+ *
+ * <p>変更履歴は保存期間を過ぎると定期処理で削除する。</p>
+ */
+@Service
+public class LedgerVersion {
+
+    private final LedgerChangeRepository ledgerChangeRepository;
+    private final Clock clock;
+    private final Duration retention;
+
+    public LedgerVersion(LedgerChangeRepository ledgerChangeRepository,
+                         Clock clock,
+                         @Value("${ledger-changes.retention:1d}") Duration retention) {
+        this.ledgerChangeRepository = ledgerChangeRepository;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    /**
+     * コミット済みの最新の版を返す
+     *
+     * @return 元帳の版
+     */
+    public long current() {
+        return ledgerChangeRepository.currentVersion()
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    /**
+     * 指定した版より後の変更履歴を版の昇順に返す
+     *
+     * @param version 版
+     * @return 変更履歴（削除済みの版は含まない）
+     */
+    public List<LedgerChange> changesAfter(long version) {
+        return ledgerChangeRepository.findAfter(version)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    /**
+     * 版を進め、残高が変わった期間を記録する
+     *
+     * <p>発行したトランザクションの中で記録するため、変更がロールバックされた場合は版も進まない。
+     * 版の行ロックをできるだけ短くするため、コミットの直前に実行する。</p>
+     *
+     * @param event 日次残高・勘定科目の変更
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        ledgerChangeRepository.record(event.from(), event.to())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+
+    /**
+     * 保存期間を過ぎた変更履歴を削除する
+     *
+     * @return 削除件数
+     */
+    @Scheduled(cron = "${ledger-changes.cleanup-cron:0 15 3 * * *}")
+    public int deleteExpiredChanges() {
+        return ledgerChangeRepository.deleteRecordedBefore(LocalDateTime.now(clock).minus(retention))
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.accounting.application.service.report;
+
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.port.out.StatementColumnsRepository;
+import com.example.accounting.application.service.report.ReportCache.Period;
+import com.example.accounting.domain.model.account.AccountType;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 複数期間の財務諸表集計エンジン
+ *
+ * <p>貸借対照表・損益計算書の N 期間分の金額を、日次残高を 1 回走査する問い合わせ（期間ごとの条件付き集計）で求め、
+ * 勘定科目 × 期間の列の形で返す。期間が増えても DB への問い合わせは帳票ごとに 1 回。</p>
+ *
+ * <p>金額は勘定科目の残高の向きで表示する値に変換する（資産・費用は借方残高、負債・純資産・収益は貸方残高を正とする）。
+ * 損益計算書の区分に収益・費用以外の勘定科目がある場合、その金額は損益に含めないため 0 とする。</p>
+ */
+@Service
+@SuppressWarnings("PMD.AvoidThrowStatement")
+public class MultiPeriodReportEngine {
+
+    /** 1 回の集計で扱える列の上限 */
+    public static final int MAX_COLUMNS = 60;
+
+    private static final String BALANCE_SHEET = "B";
+    private static final String PROFIT_AND_LOSS = "P";
+
+    private final StatementColumnsRepository statementColumnsRepository;
+
+    public MultiPeriodReportEngine(StatementColumnsRepository statementColumnsRepository) {
+        this.statementColumnsRepository = statementColumnsRepository;
+    }
+
+    /**
+     * 貸借対照表の勘定科目を列の期間ごとに集計する
+     *
+     * @param columns 列の期間（基準日時点の残高は {@link Column#upTo}）
+     * @return 勘定科目 × 期間の残高
+     */
+    public StatementColumns balanceSheet(List<Column> columns) {
+        return aggregate(BALANCE_SHEET, columns);
+    }
+
+    /**
+     * 損益計算書の勘定科目を列の期間ごとに集計する
+     *
+     * @param columns 列の期間
+     * @return 勘定科目 × 期間の発生額
+     */
+    public StatementColumns profitAndLoss(List<Column> columns) {
+        return aggregate(PROFIT_AND_LOSS, columns);
+    }
+
+    /**
+     * 列の期間を集計結果キャッシュの期間に変換する
+     *
+     * @param columns 列の期間
+     * @return 集計に使う日付の期間
+     */
+    public static List<Period> periods(List<Column> columns) {
+        return columns.stream()
+                .map(column -> new Period(column.from(), column.to()))
+                .toList();
+    }
+
+    private StatementColumns aggregate(String bsplCategory, List<Column> columns) {
+        if (columns.isEmpty() || columns.size() > MAX_COLUMNS) {
+            throw new IllegalArgumentException("集計する期間は 1 〜 " + MAX_COLUMNS + " 件で指定してください");
+        }
+        StatementColumns raw = statementColumnsRepository.findColumns(bsplCategory, columns)
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex));
+        return new StatementColumns(raw.columns(), raw.rows().stream()
+                .map(row -> toDisplayAmounts(bsplCategory, row))
+                .toList());
+    }
+
+    private static Row toDisplayAmounts(String bsplCategory, Row row) {
+        Optional<AccountType> accountType = accountType(row.accountType());
+        if (PROFIT_AND_LOSS.equals(bsplCategory) && accountType
+                .filter(type -> type == AccountType.REVENUE || type == AccountType.EXPENSE)
+                .isEmpty()) {
+            return new Row(row.accountCode(), row.accountName(), row.accountType(),
+                    row.amounts().stream().map(amount -> BigDecimal.ZERO).toList());
+        }
+        if (accountType.map(AccountType::isDebitBalance).orElse(false)) {
+            return row;
+        }
+        return new Row(row.accountCode(), row.accountName(), row.accountType(),
+                row.amounts().stream().map(BigDecimal::negate).toList());
+    }
+
+    private static Optional<AccountType> accountType(String accountType) {
+        return Arrays.stream(AccountType.values())
+                .filter(type -> type.name().equals(accountType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.accounting.application.service.report;
+
+import com.example.accounting.application.port.out.LedgerChange;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 財務諸表の集計結果キャッシュ
+ *
+ * <p>帳票の種類と照会条件ごとに集計結果を保持する。保持件数の上限を超えた場合は最も長く参照されていない結果から、
+ * 有効期限を過ぎた結果は次の参照時に破棄する。各結果は集計に使った日付の期間を持ち、
+ * 元帳が変わった期間と重なる結果だけを破棄する。</p>
+ *
+ * <p>保持はアプリケーションのインスタンス単位だが、破棄は DB で共有する {@link LedgerVersion} に従う。
+ * 照会のたびに元帳の版を読み、前回読んだ版より後の変更履歴の期間で破棄するため、
+ * 他のインスタンスがコミットした変更も次の照会から反映する。変更履歴が途切れている場合
+ * （保存期間を過ぎて削除された場合）は、どの期間が変わったか分からないためすべての結果を破棄する。</p>
+ *
+ * <p>集計中に破棄が起きた場合、その集計結果は古い残高を読んでいる可能性があるため保持しない。</p>
+ *
+ * <p>保持していない帳票を同じ照会条件で同時に照会した場合、集計は最初の 1 件だけが行い、
+ * 他の照会はその完了を待って同じ結果（または同じ例外）を受け取る。照会条件ごとの同時集計は 1 件までになるため、
+ * 照会が集中しても接続プールを使い切らない。待っている間に破棄が起きた後の照会は、進行中の集計に相乗りせず新たに集計する。</p>
+ *
+ * <p>古い結果を返してよい期間（許容遅延）を設定した帳票は、破棄や有効期限切れの代わりに結果を「古い」とし、
+ * 古くなってから許容遅延の間は古い結果をすぐに返しつつ、別スレッドで集計し直す（stale-while-revalidate）。
+ * 集計中に破棄が起きた場合も、その集計結果は集計を始めた時点から古いものとして保持する。
+ * 許容遅延を過ぎた結果は返さず、照会した要求の中で集計する。</p>
+ */
+@SuppressWarnings("PMD.AvoidThrowStatement")
+public class ReportCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportCache.class);
+    private static final long NOT_SYNCED = -1;
+
+    private final LedgerVersion ledgerVersion;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Map<String, Duration> maxStaleness;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    @SuppressWarnings("PMD.AvoidMutableCollectionInstantiation") // 参照順で並べ替えるため
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile long syncedVersion = NOT_SYNCED;
+
+    public ReportCache(LedgerVersion ledgerVersion, int maxEntries, Duration ttl, Clock clock) {
+        this(ledgerVersion, maxEntries, ttl, Map.of(), Runnable::run, clock);
+    }
+
+    /**
+     * @param ledgerVersion   破棄する期間を読む元帳の版
+     * @param maxEntries      保持する集計結果の上限件数
+     * @param ttl             集計結果を保持する期間
+     * @param maxStaleness    帳票の種類ごとの許容遅延（指定のない帳票は古い結果を返さない）
+     * @param refreshExecutor 古い結果を返した後の集計に使うスレッドプール
+     * @param clock           有効期限の判定に使うクロック
+     */
+    public ReportCache(LedgerVersion ledgerVersion, int maxEntries, Duration ttl,
+                       Map<String, Duration> maxStaleness, Executor refreshExecutor, Clock clock) {
+        this.ledgerVersion = ledgerVersion;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.maxStaleness = Map.copyOf(maxStaleness);
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * 保持している集計結果を返す（なければ集計して保持する）
+     *
+     * <p>先に元帳の版を読み、前回から変わっていれば変更された期間と重なる結果を破棄する。
+     * 同じ帳票・照会条件を集計中の場合は集計せず、その結果を待って返す。
+     * 許容遅延を設定した帳票で結果が古い場合は、許容遅延の間は古い結果を返し、別スレッドで集計し直す。</p>
+     *
+     * @param reportType 帳票の種類
+     * @param parameters 照会条件（equals / hashCode を実装したもの）
+     * @param periods    集計に使う日付の期間
+     * @param loader     集計処理
+     * @return 集計結果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String reportType, Object parameters, List<Period> periods, Supplier<T> loader) {
+        sync();
+        Key key = new Key(reportType, parameters);
+        Instant now = clock.instant();
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null && entry.isFresh(now)) {
+            return (T) entry.value();
+        }
+        if (entry != null && now.isBefore(entry.outdatedAt().plus(maxStaleness(reportType)))) {
+            refresh(key, periods, loader);
+            return (T) entry.value();
+        }
+
+        long loadedAt = generation.get();
+        Flight created = new Flight(loadedAt);
+        Flight flight = inFlight.compute(key,
+                (k, current) -> current != null && current.generation == loadedAt ? current : created);
+        if (flight != created) {
+            return (T) flight.await();
+        }
+        return load(key, created, periods, loader, now);
+    }
+
+    /**
+     * 同じ帳票・照会条件を集計中でなければ、別スレッドで集計し直す
+     */
+    private <T> void refresh(Key key, List<Period> periods, Supplier<T> loader) {
+        Flight created = new Flight(generation.get());
+        if (inFlight.putIfAbsent(key, created) != null) {
+            return;
+        }
+        Runnable task = () -> Try.ofSupplier(() -> load(key, created, periods, loader, clock.instant()))
+                .onFailure(ex -> LOGGER.warn("Failed to refresh {} report", key.reportType(), ex));
+        Try.run(() -> refreshExecutor.execute(task))
+                .onFailure(ex -> {
+                    // スレッドプールが受け付けない場合は集計せず、次の照会で再試行する
+                    created.result.completeExceptionally(ex);
+                    inFlight.remove(key, created);
+                    LOGGER.warn("Failed to schedule refresh of {} report", key.reportType(), ex);
+                });
+    }
+
+    private <T> T load(Key key, Flight flight, List<Period> periods, Supplier<T> loader, Instant startedAt) {
+        try {
+            T value = loader.get();
+            put(key, new Entry(value, List.copyOf(periods), startedAt.plus(ttl), null), flight.generation, startedAt);
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void put(Key key, Entry entry, long loadedAt, Instant startedAt) {
+        lock.lock();
+        try {
+            if (generation.get() == loadedAt) {
+                entries.put(key, entry);
+            } else if (maxStaleness(key.reportType()).isPositive()) {
+                entries.put(key, entry.staleSince(startedAt));
+            } else {
+                return;
+            }
+            while (entries.size() > maxEntries) {
+                entries.pollFirstEntry();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Duration maxStaleness(String reportType) {
+        return maxStaleness.getOrDefault(reportType, Duration.ZERO);
+    }
+
+    /**
+     * 前回読んだ版より後の変更履歴で集計結果を破棄する
+     *
+     * <p>起動後の最初の照会では保持している結果がないため、版を読むだけにする。
+     * 変更履歴が版と連続しない場合（保存期間を過ぎて削除された場合）はすべての結果を破棄する。</p>
+     */
+    private void sync() {
+        long current = ledgerVersion.current();
+        if (current <= syncedVersion) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            long synced = syncedVersion;
+            if (current <= synced) {
+                return;
+            }
+            if (synced == NOT_SYNCED) {
+                syncedVersion = current;
+                return;
+            }
+            List<LedgerChange> changes = ledgerVersion.changesAfter(synced);
+            if (isContinuous(changes, synced, current)) {
+                changes.forEach(change -> invalidate(change.from(), change.to()));
+                syncedVersion = changes.getLast().version();
+            } else {
+                LOGGER.info("Ledger changes after version {} are missing; clearing all cached reports", synced);
+                clear();
+                syncedVersion = current;
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private static boolean isContinuous(List<LedgerChange> changes, long synced, long current) {
+        return !changes.isEmpty()
+                && changes.getFirst().version() == synced + 1
+                && changes.getLast().version() - changes.getFirst().version() == changes.size() - 1
+                && changes.getLast().version() >= current;
+    }
+
+    /**
+     * 残高が変わった期間と重なる集計結果を破棄する（許容遅延を設定した帳票は古い結果とする）
+     */
+    private void invalidate(LocalDate from, LocalDate to) {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> cached = iterator.next();
+                if (cached.getValue().periods().stream().noneMatch(period -> period.overlaps(from, to))) {
+                    continue;
+                }
+                if (maxStaleness(cached.getKey().reportType()).isPositive()) {
+                    cached.setValue(cached.getValue().staleSince(now));
+                } else {
+                    iterator.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 保持しているすべての集計結果を破棄する
+     */
+    private void clear() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 集計に使う日付の期間（null は期間の制限なし）
+     *
+     * @param from 開始日
+     * @param to   終了日
+     */
+    public record Period(LocalDate from, LocalDate to) {
+
+        /**
+         * 指定日以前のすべての日付（残高試算表・貸借対照表など時点の残高）
+         *
+         * @param date 基準日（null の場合は全期間）
+         * @return 期間
+         */
+        public static Period upTo(LocalDate date) {
+            return new Period(null, date);
+        }
+
+        boolean overlaps(LocalDate otherFrom, LocalDate otherTo) {
+            return (from == null || otherTo == null || !otherTo.isBefore(from))
+                    && (to == null || otherFrom == null || !otherFrom.isAfter(to));
+        }
+    }
+
+    private record Key(String reportType, Object parameters) {
+    }
+
+    /**
+     * 集計結果（stale は古くなった時刻。null の場合は有効期限まで最新とみなす）
+     */
+    private record Entry(Object value, List<Period> periods, Instant expiresAt, Instant stale) {
+
+        private boolean isFresh(Instant now) {
+            return stale == null && now.isBefore(expiresAt);
+        }
+
+        private Instant outdatedAt() {
+            return stale != null && stale.isBefore(expiresAt) ? stale : expiresAt;
+        }
+
+        private Entry staleSince(Instant instant) {
+            return stale != null && !stale.isAfter(instant) ? this : new Entry(value, periods, expiresAt, instant);
+        }
+    }
+
+    /**
+     * 進行中の集計（集計を始めた時点の世代と、待っている照会に渡す結果）
+     */
+    private static final class Flight {
+        private final long generation;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Flight(long generation) {
+            this.generation = generation;
+        }
+
+        private Object await() {
+            try {
+                return result.join();
+            } catch (CompletionException ex) {
+                // 集計した照会が受け取った例外をそのまま送出する
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class JournalEntry {
     UserId createdBy;
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
+    String voucherNumber;
 
     /**
      * 新規作成用ファクトリメソッド
@@ -101,7 +102,8 @@ public class JournalEntry {
                 List.of(),
                 createdBy,
                 now,
-                now
+                now,
+                null
         );
     }
 
@@ -151,7 +153,8 @@ public class JournalEntry {
                 List.copyOf(requireLines(lines)),
                 createdBy,
                 createdAt,
-                updatedAt
+                updatedAt,
+                null
         );
     }
 
@@ -276,6 +279,25 @@ public class JournalEntry {
                 .build();
     }
 
+    /**
+     * 仕訳の確定を取り消す
+     *
+     * <p>仕訳は削除せず承認済み状態に戻す。確定者・確定日時はクリアする。</p>
+     *
+     * @return 承認済み状態の JournalEntry
+     * @throws IllegalStateException 確定済み以外のステータスの場合
+     */
+    public JournalEntry cancelConfirmation() {
+        if (status != JournalEntryStatus.CONFIRMED) {
+            throw new IllegalStateException("確定済み状態の仕訳のみ確定取消可能です");
+        }
+        return this.toBuilder()
+                .status(JournalEntryStatus.APPROVED)
+                .confirmedBy(null)
+                .confirmedAt(null)
+                .build();
+    }
+
     /**
      * 明細行を追加した新しい仕訳を返す
      *
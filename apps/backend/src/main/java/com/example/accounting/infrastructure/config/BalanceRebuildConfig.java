@@ -0,0 +1,32 @@
+package com.example.accounting.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 残高再構築用ワーカープールの Bean 定義
+ *
+ * <p>通常の仕訳入力が使う DB コネクションを使い切らないよう、スレッド数を固定した専用プールで実行する。</p>
+ */
+@Configuration
+public class BalanceRebuildConfig {
+
+    /**
+     * 残高再構築用のワーカープールを提供する
+     *
+     * @param properties 残高再構築の設定
+     * @return 上限付きスレッドプール
+     */
+    @Bean
+    public ThreadPoolTaskExecutor balanceRebuildExecutor(BalanceRebuildProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.poolSize());
+        executor.setMaxPoolSize(properties.poolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("balance-rebuild-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
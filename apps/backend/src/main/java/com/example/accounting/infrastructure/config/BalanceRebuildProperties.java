@@ -0,0 +1,17 @@
+package com.example.accounting.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 残高再構築の設定
+ *
+ * @param poolSize 並列に再集計する月チャンク数の上限（DB コネクションプールより小さくする）
+ * @param queueCapacity 実行待ちチャンクの上限
+ */
+@ConfigurationProperties(prefix = "balance-rebuild")
+public record BalanceRebuildProperties(
+        @DefaultValue("4") int poolSize,
+        @DefaultValue("100") int queueCapacity
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.accounting.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key の設定
+ *
+ * @param ttl 応答を保持して再送に同じ応答を返す期間
+ * @param maxEntries 保持するキーの上限（超えた場合は有効期限の近いものから破棄する）
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("100000") int maxEntries
+) {
+}
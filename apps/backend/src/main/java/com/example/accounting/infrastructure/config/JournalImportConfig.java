@@ -0,0 +1,31 @@
+package com.example.accounting.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 仕訳一括取込ジョブ用ワーカープールの Bean 定義
+ *
+ * <p>取込ジョブはチャンクごとに DB コネクションを使うため、同時実行数を固定した専用プールで実行する。</p>
+ */
+@Configuration
+public class JournalImportConfig {
+
+    /**
+     * 仕訳一括取込用のワーカープールを提供する
+     *
+     * @param properties 仕訳一括取込の設定
+     * @return 上限付きスレッドプール
+     */
+    @Bean
+    public ThreadPoolTaskExecutor journalImportExecutor(JournalImportProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.poolSize());
+        executor.setMaxPoolSize(properties.poolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("journal-import-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.accounting.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 仕訳一括取込の設定
+ *
+ * @param workDir 再開用に取込ファイルを保管するディレクトリ
+ * @param poolSize 同時に実行する取込ジョブ数の上限
+ * @param queueCapacity 実行待ちジョブの上限
+ */
+@ConfigurationProperties(prefix = "journal-import")
+public record JournalImportProperties(
+        String workDir,
+        @DefaultValue("2") int poolSize,
+        @DefaultValue("20") int queueCapacity
+) {
+}
@@ -0,0 +1,34 @@
+package com.example.accounting.infrastructure.config;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * MyBatis の設定
+ *
+ * <p>接続先データベースを識別し、Mapper XML から {@code _databaseId} で参照できるようにする。
+ * PostgreSQL 固有の関数（pg_trgm の similarity など）は {@code postgresql} の場合のみ使用し、
+ * H2（デモ環境）では標準 SQL の代替を使う。</p>
+ */
+@Configuration
+public class MyBatisConfig {
+
+    /**
+     * データベース製品名から databaseId を解決するプロバイダを提供する
+     *
+     * @return PostgreSQL → postgresql、H2 → h2 に対応付けるプロバイダ
+     */
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties properties = new Properties();
+        properties.setProperty("PostgreSQL", "postgresql");
+        properties.setProperty("H2", "h2");
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(properties);
+        return provider;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.accounting.infrastructure.config;
+
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.application.service.report.ReportCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * 財務諸表の集計結果キャッシュの Bean 定義
+ */
+@Configuration
+public class ReportCacheConfig {
+
+    /**
+     * 財務諸表の集計結果キャッシュを提供する
+     *
+     * @param ledgerVersion   破棄する期間を読む元帳の版
+     * @param properties      集計結果キャッシュの設定
+     * @param refreshExecutor 古い結果を返した後に集計し直すスレッドプール
+     * @param clock           有効期限の判定に使うクロック
+     * @return 集計結果キャッシュ
+     */
+    @Bean
+    public ReportCache reportCache(LedgerVersion ledgerVersion,
+                                   ReportCacheProperties properties,
+                                   @Qualifier("reportRefreshExecutor") Executor refreshExecutor,
+                                   Clock clock) {
+        return new ReportCache(ledgerVersion, properties.maxEntries(), properties.ttl(),
+                reportTypes(properties.maxStaleness()), refreshExecutor, clock);
+    }
+
+    /**
+     * 古い結果を返した後に集計し直すワーカープールを提供する
+     *
+     * <p>照会の集中時にも集計し直す処理が DB コネクションを使い切らないよう、スレッド数を固定する。
+     * 実行待ちが上限を超えた場合は集計し直さず、次の照会で再試行する。</p>
+     *
+     * @param properties 集計結果キャッシュの設定
+     * @return 上限付きスレッドプール
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reportRefreshExecutor(ReportCacheProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.refreshPoolSize());
+        executor.setMaxPoolSize(properties.refreshPoolSize());
+        executor.setQueueCapacity(properties.refreshQueueCapacity());
+        executor.setThreadNamePrefix("report-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 設定のキー（financial-analysis）を帳票の種類（FINANCIAL_ANALYSIS）に変換する
+     */
+    private static Map<String, Duration> reportTypes(Map<String, Duration> maxStaleness) {
+        return maxStaleness.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        entry -> entry.getKey().toUpperCase(Locale.ROOT).replace('-', '_'),
+                        Map.Entry::getValue));
+    }
+}
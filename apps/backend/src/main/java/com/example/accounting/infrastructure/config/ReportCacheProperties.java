@@ -0,0 +1,26 @@
+package com.example.accounting.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 財務諸表の集計結果キャッシュの設定
+ *
+ * @param maxEntries 保持する集計結果の上限件数
+ * @param ttl 集計結果を保持する期間
+ * @param maxStaleness 古い結果を返しつつ別スレッドで集計し直す帳票と、その許容遅延（キーは帳票の種類の kebab-case）
+ * @param refreshPoolSize 別スレッドで同時に集計し直す件数の上限
+ * @param refreshQueueCapacity 集計し直す処理の実行待ちの上限
+ */
+@ConfigurationProperties(prefix = "report-cache")
+public record ReportCacheProperties(
+        @DefaultValue("500") int maxEntries,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue Map<String, Duration> maxStaleness,
+        @DefaultValue("2") int refreshPoolSize,
+        @DefaultValue("50") int refreshQueueCapacity
+) {
+}
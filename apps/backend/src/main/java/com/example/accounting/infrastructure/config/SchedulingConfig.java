@@ -0,0 +1,14 @@
+package com.example.accounting.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定期実行処理の有効化
+ *
+ * <p>仕訳イベントのディスパッチャなど {@code @Scheduled} を付けた処理を定期的に実行する。</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -8,6 +8,7 @@ import com.example.accounting.domain.model.user.UserId;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -50,6 +51,10 @@ public class JournalEntryEntity {
     private Integer redSlipFlag;
     private String redBlackVoucherNumber;
 
+    // 明細の借方・貸方合計（保存時に明細から算出して仕訳ヘッダに保持する）
+    private BigDecimal totalDebitAmount;
+    private BigDecimal totalCreditAmount;
+
     /**
      * ドメインモデルからエンティティを生成する
      */
@@ -80,9 +85,12 @@ public class JournalEntryEntity {
         entity.setRejectionReason(journalEntry.getRejectionReason());
         entity.setConfirmedAt(toOffsetDateTime(journalEntry.getConfirmedAt()));
         entity.setUpdatedAt(toOffsetDateTime(journalEntry.getUpdatedAt()));
+        entity.setVoucherNumber(journalEntry.getVoucherNumber());
         entity.setLines(journalEntry.getLines().stream()
                 .map(line -> JournalEntryLineEntity.fromDomain(line, entity.getId()))
                 .toList());
+        entity.setTotalDebitAmount(journalEntry.totalDebitAmount().value());
+        entity.setTotalCreditAmount(journalEntry.totalCreditAmount().value());
         return entity;
     }
 
@@ -110,7 +118,7 @@ public class JournalEntryEntity {
                 confirmedAt == null ? null : confirmedAt.toLocalDateTime(),
                 createdAt == null ? null : createdAt.toLocalDateTime(),
                 updatedAt == null ? null : updatedAt.toLocalDateTime()
-        );
+        ).withVoucherNumber(voucherNumber);
     }
 
     @SuppressWarnings("PMD.AvoidReturningNull")
@@ -334,4 +342,20 @@ public class JournalEntryEntity {
     public void setRedBlackVoucherNumber(String redBlackVoucherNumber) {
         this.redBlackVoucherNumber = redBlackVoucherNumber;
     }
+
+    public BigDecimal getTotalDebitAmount() {
+        return totalDebitAmount;
+    }
+
+    public void setTotalDebitAmount(BigDecimal totalDebitAmount) {
+        this.totalDebitAmount = totalDebitAmount;
+    }
+
+    public BigDecimal getTotalCreditAmount() {
+        return totalCreditAmount;
+    }
+
+    public void setTotalCreditAmount(BigDecimal totalCreditAmount) {
+        this.totalCreditAmount = totalCreditAmount;
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.accounting.infrastructure.persistence.entity;
+
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 仕訳イベントエンティティ（永続化用）
+ */
+@Data
+@NoArgsConstructor
+public class JournalEntryEventEntity {
+    private Long eventId;
+    private Long transactionId;
+    private Integer journalEntryId;
+    private String eventType;
+    private String status;
+    private Integer version;
+    private LocalDateTime occurredAt;
+
+    public static JournalEntryEventEntity fromDomain(JournalEntryEvent event) {
+        JournalEntryEventEntity entity = new JournalEntryEventEntity();
+        entity.setEventId(event.eventId());
+        entity.setTransactionId(event.transactionId());
+        entity.setJournalEntryId(event.journalEntryId());
+        entity.setEventType(event.type().name());
+        entity.setStatus(event.status());
+        entity.setVersion(event.version());
+        entity.setOccurredAt(event.occurredAt());
+        return entity;
+    }
+
+    public JournalEntryEvent toDomain() {
+        return new JournalEntryEvent(
+                eventId,
+                transactionId,
+                journalEntryId,
+                JournalEntryEvent.Type.valueOf(eventType),
+                status,
+                version,
+                occurredAt);
+    }
+}
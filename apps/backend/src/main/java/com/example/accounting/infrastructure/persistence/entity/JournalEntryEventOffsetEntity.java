@@ -0,0 +1,19 @@
+package com.example.accounting.infrastructure.persistence.entity;
+
+import com.example.accounting.application.port.out.JournalEntryEventPosition;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 仕訳イベントのハンドラごとの配信位置エンティティ（永続化用）
+ */
+@Data
+@NoArgsConstructor
+public class JournalEntryEventOffsetEntity {
+    private long lastTransactionId;
+    private long lastEventId;
+
+    public JournalEntryEventPosition toPosition() {
+        return new JournalEntryEventPosition(lastTransactionId, lastEventId);
+    }
+}
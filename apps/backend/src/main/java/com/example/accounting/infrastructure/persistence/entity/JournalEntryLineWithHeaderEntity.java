@@ -9,6 +9,7 @@ import java.time.LocalDate;
 public class JournalEntryLineWithHeaderEntity {
 
     private Integer journalEntryId;
+    private Integer lineNumber;
     private LocalDate journalDate;
     private String description;
     private String lineDescription;
@@ -23,6 +24,14 @@ public class JournalEntryLineWithHeaderEntity {
         this.journalEntryId = journalEntryId;
     }
 
+    public Integer getLineNumber() {
+        return lineNumber;
+    }
+
+    public void setLineNumber(Integer lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
     public LocalDate getJournalDate() {
         return journalDate;
     }
@@ -0,0 +1,76 @@
+package com.example.accounting.infrastructure.persistence.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 仕訳一覧用の仕訳ヘッダ要約エンティティ（永続化用）
+ *
+ * <p>明細を読み込まず、仕訳ヘッダに保持した借方・貸方合計をそのまま受け取る。</p>
+ */
+public class JournalEntrySummaryEntity {
+
+    private Integer id;
+    private LocalDate journalDate;
+    private String description;
+    private String status;
+    private Integer version;
+    private BigDecimal totalDebitAmount;
+    private BigDecimal totalCreditAmount;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public LocalDate getJournalDate() {
+        return journalDate;
+    }
+
+    public void setJournalDate(LocalDate journalDate) {
+        this.journalDate = journalDate;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public BigDecimal getTotalDebitAmount() {
+        return totalDebitAmount;
+    }
+
+    public void setTotalDebitAmount(BigDecimal totalDebitAmount) {
+        this.totalDebitAmount = totalDebitAmount;
+    }
+
+    public BigDecimal getTotalCreditAmount() {
+        return totalCreditAmount;
+    }
+
+    public void setTotalCreditAmount(BigDecimal totalCreditAmount) {
+        this.totalCreditAmount = totalCreditAmount;
+    }
+}
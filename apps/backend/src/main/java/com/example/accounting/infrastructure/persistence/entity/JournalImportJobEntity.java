@@ -0,0 +1,76 @@
+package com.example.accounting.infrastructure.persistence.entity;
+
+import com.example.accounting.application.port.out.JournalImportJob;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 仕訳一括取込ジョブエンティティ（永続化用）
+ */
+@Data
+@NoArgsConstructor
+public class JournalImportJobEntity {
+    private String id;
+    private String fileName;
+    private String fileFormat;
+    private String fileLocation;
+    private String createdBy;
+    private String status;
+    private long lastCommittedRow;
+    private long processedRows;
+    private int importedEntries;
+    private int failedEntries;
+    private int reportedErrors;
+    private LocalDateTime runStartedAt;
+    private long runStartRows;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static JournalImportJobEntity fromDomain(JournalImportJob job) {
+        JournalImportJobEntity entity = new JournalImportJobEntity();
+        entity.setId(job.jobId());
+        entity.setFileName(job.fileName());
+        entity.setFileFormat(job.fileFormat());
+        entity.setFileLocation(job.fileLocation());
+        entity.setCreatedBy(job.createdBy());
+        entity.setStatus(job.status());
+        entity.setLastCommittedRow(job.lastCommittedRow());
+        entity.setProcessedRows(job.processedRows());
+        entity.setImportedEntries(job.importedEntries());
+        entity.setFailedEntries(job.failedEntries());
+        entity.setReportedErrors(job.reportedErrors());
+        entity.setRunStartedAt(job.runStartedAt());
+        entity.setRunStartRows(job.runStartRows());
+        entity.setErrorMessage(job.errorMessage());
+        entity.setCreatedAt(job.createdAt());
+        entity.setUpdatedAt(job.updatedAt());
+        entity.setFinishedAt(job.finishedAt());
+        return entity;
+    }
+
+    public JournalImportJob toDomain() {
+        return new JournalImportJob(
+                id,
+                fileName,
+                fileFormat,
+                fileLocation,
+                createdBy,
+                status,
+                lastCommittedRow,
+                processedRows,
+                importedEntries,
+                failedEntries,
+                reportedErrors,
+                runStartedAt,
+                runStartRows,
+                errorMessage,
+                createdAt,
+                updatedAt,
+                finishedAt
+        );
+    }
+}
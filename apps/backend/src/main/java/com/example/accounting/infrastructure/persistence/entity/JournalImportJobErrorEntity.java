@@ -0,0 +1,22 @@
+package com.example.accounting.infrastructure.persistence.entity;
+
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 仕訳一括取込ジョブのエラーエンティティ（永続化用）
+ */
+@Data
+@NoArgsConstructor
+public class JournalImportJobErrorEntity {
+    private Long id;
+    private String jobId;
+    private long sourceRow;
+    private String entryKey;
+    private String message;
+
+    public ImportError toDomain() {
+        return new ImportError(sourceRow, entryKey, message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.accounting.infrastructure.persistence.entity;
+
+import com.example.accounting.application.port.out.LedgerChange;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 元帳の変更履歴エンティティ（永続化用）
+ */
+@Data
+@NoArgsConstructor
+public class LedgerChangeEntity {
+    private long version;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+
+    public LedgerChange toLedgerChange() {
+        return new LedgerChange(version, dateFrom, dateTo);
+    }
+}
@@ -6,6 +6,10 @@ public class MonthlyAccountBalanceEntity {
     private Integer fiscalPeriod;
     private Integer month;
     private String accountCode;
+    private String subAccountCode;
+    private String departmentCode;
+    private String projectCode;
+    private Integer closingEntryFlag;
     private BigDecimal openingBalance;
     private BigDecimal debitAmount;
     private BigDecimal creditAmount;
@@ -35,6 +39,38 @@ public class MonthlyAccountBalanceEntity {
         this.accountCode = accountCode;
     }
 
+    public String getSubAccountCode() {
+        return subAccountCode;
+    }
+
+    public void setSubAccountCode(String subAccountCode) {
+        this.subAccountCode = subAccountCode;
+    }
+
+    public String getDepartmentCode() {
+        return departmentCode;
+    }
+
+    public void setDepartmentCode(String departmentCode) {
+        this.departmentCode = departmentCode;
+    }
+
+    public String getProjectCode() {
+        return projectCode;
+    }
+
+    public void setProjectCode(String projectCode) {
+        this.projectCode = projectCode;
+    }
+
+    public Integer getClosingEntryFlag() {
+        return closingEntryFlag;
+    }
+
+    public void setClosingEntryFlag(Integer closingEntryFlag) {
+        this.closingEntryFlag = closingEntryFlag;
+    }
+
     public BigDecimal getOpeningBalance() {
         return openingBalance;
     }
@@ -0,0 +1,45 @@
+package com.example.accounting.infrastructure.persistence.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 複数期間集計の列の期間（MyBatis マッピング用）
+ *
+ * <p>checkpointDate がある列は、そのチェックポイントの累計に dateFrom（チェックポイントの翌日）から
+ * dateTo までの日次残高を加えて集計する。</p>
+ */
+public class StatementColumnEntity {
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+    private LocalDate checkpointDate;
+
+    public StatementColumnEntity(LocalDate dateFrom, LocalDate dateTo, LocalDate checkpointDate) {
+        this.dateFrom = dateFrom;
+        this.dateTo = dateTo;
+        this.checkpointDate = checkpointDate;
+    }
+
+    public LocalDate getDateFrom() {
+        return dateFrom;
+    }
+
+    public void setDateFrom(LocalDate dateFrom) {
+        this.dateFrom = dateFrom;
+    }
+
+    public LocalDate getDateTo() {
+        return dateTo;
+    }
+
+    public void setDateTo(LocalDate dateTo) {
+        this.dateTo = dateTo;
+    }
+
+    public LocalDate getCheckpointDate() {
+        return checkpointDate;
+    }
+
+    public void setCheckpointDate(LocalDate checkpointDate) {
+        this.checkpointDate = checkpointDate;
+    }
+}
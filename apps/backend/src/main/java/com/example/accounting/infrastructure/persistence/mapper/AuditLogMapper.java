@@ -11,6 +11,8 @@ import java.util.List;
 public interface AuditLogMapper {
     void insert(AuditLogEntity entity);
 
+    int insertAll(List<AuditLogEntity> entities);
+
     List<AuditLogEntity> search(
             @Param("userId") String userId,
             @Param("actionType") String actionType,
@@ -0,0 +1,82 @@
+package com.example.accounting.infrastructure.persistence.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 残高チェックポイント MyBatis Mapper
+ */
+@Mapper
+public interface BalanceCheckpointMapper {
+
+    /**
+     * 仕訳明細を勘定科目単位に集約し、起票日以降の勘定科目チェックポイントへ符号付きでマージする
+     *
+     * @param journalEntryIds 仕訳ID（空でないこと）
+     * @param sign 1 = 加算（転記）、-1 = 減算（転記取消）
+     * @return マージされたチェックポイント行数
+     */
+    int mergeAccountCheckpoints(@Param("journalEntryIds") List<Integer> journalEntryIds,
+                                @Param("sign") int sign);
+
+    /**
+     * 仕訳の貸借明細を勘定科目・補助科目単位に集約し、起票日以降の補助科目チェックポイントへ符号付きでマージする
+     *
+     * @param journalEntryIds 仕訳ID（空でないこと）
+     * @param sign 1 = 加算（転記）、-1 = 減算（転記取消）
+     * @return マージされたチェックポイント行数
+     */
+    int mergeSubAccountCheckpoints(@Param("journalEntryIds") List<Integer> journalEntryIds,
+                                   @Param("sign") int sign);
+
+    /**
+     * 指定日の勘定科目チェックポイントを削除する
+     *
+     * @param checkpointDate チェックポイント日
+     * @return 削除件数
+     */
+    int deleteAccountCheckpoints(@Param("checkpointDate") LocalDate checkpointDate);
+
+    /**
+     * 指定日の補助科目チェックポイントを削除する
+     *
+     * @param checkpointDate チェックポイント日
+     * @return 削除件数
+     */
+    int deleteSubAccountCheckpoints(@Param("checkpointDate") LocalDate checkpointDate);
+
+    /**
+     * 直前のチェックポイントとそれ以降の確定仕訳から、指定日の勘定科目チェックポイントを登録する
+     *
+     * @param checkpointDate チェックポイント日
+     * @return 登録件数
+     */
+    int insertAccountCheckpoints(@Param("checkpointDate") LocalDate checkpointDate);
+
+    /**
+     * 直前のチェックポイントとそれ以降の確定仕訳から、指定日の補助科目チェックポイントを登録する
+     *
+     * @param checkpointDate チェックポイント日
+     * @return 登録件数
+     */
+    int insertSubAccountCheckpoints(@Param("checkpointDate") LocalDate checkpointDate);
+
+    /**
+     * 指定日以前で最も新しいチェックポイント日を取得する（勘定科目・補助科目のいずれか）
+     *
+     * @param date 基準日
+     * @return チェックポイント日（無い場合は null）
+     */
+    LocalDate findLatestCheckpointDateOnOrBefore(@Param("date") LocalDate date);
+
+    /**
+     * 指定日より後のチェックポイント日を古い順に取得する（勘定科目・補助科目のいずれか）
+     *
+     * @param date 基準日
+     * @return チェックポイント日一覧
+     */
+    List<LocalDate> findCheckpointDatesAfter(@Param("date") LocalDate date);
+}
@@ -0,0 +1,37 @@
+package com.example.accounting.infrastructure.persistence.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 残高更新ロック MyBatis Mapper
+ */
+@Mapper
+public interface BalanceLockMapper {
+
+    /**
+     * ロック対象の行が無ければ登録する
+     *
+     * @param lockKeys ロックキー（空でないこと）
+     * @return 登録件数
+     */
+    int insertMissing(@Param("lockKeys") List<String> lockKeys);
+
+    /**
+     * ロックキーの行を昇順に共有ロックする
+     *
+     * @param lockKeys ロックキー（空でないこと）
+     * @return ロックしたキー
+     */
+    List<String> lockShared(@Param("lockKeys") List<String> lockKeys);
+
+    /**
+     * ロックキーの行を昇順に排他ロックする
+     *
+     * @param lockKeys ロックキー（空でないこと）
+     * @return ロックしたキー
+     */
+    List<String> lockExclusive(@Param("lockKeys") List<String> lockKeys);
+}
@@ -0,0 +1,43 @@
+package com.example.accounting.infrastructure.persistence.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 日次勘定科目残高 MyBatis Mapper
+ */
+@Mapper
+public interface DailyAccountBalanceMapper {
+
+    /**
+     * 仕訳明細を起票日・勘定科目・補助科目・部門・プロジェクト単位に集約し、
+     * 符号付きで日次残高へマージする
+     *
+     * @param journalEntryIds 仕訳ID（空でないこと）
+     * @param sign 1 = 加算（転記）、-1 = 減算（転記取消）
+     * @return マージされた残高行数
+     */
+    int mergeJournalEntries(@Param("journalEntryIds") List<Integer> journalEntryIds,
+                            @Param("sign") int sign);
+
+    /**
+     * 起票日が期間内の日次残高を削除する
+     *
+     * @param from 開始日（含む）
+     * @param to 終了日（含まない）
+     * @return 削除件数
+     */
+    int deleteByPostingDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 期間内の確定仕訳から日次残高を集計して登録する
+     *
+     * @param from 開始日（含む）
+     * @param to 終了日（含まない）
+     * @return 登録件数
+     */
+    int insertFromConfirmedJournalEntries(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
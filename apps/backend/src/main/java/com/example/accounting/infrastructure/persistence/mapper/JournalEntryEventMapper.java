@@ -0,0 +1,41 @@
+package com.example.accounting.infrastructure.persistence.mapper;
+
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventOffsetEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 仕訳イベント（アウトボックス）MyBatis Mapper
+ */
+@Mapper
+public interface JournalEntryEventMapper {
+
+    void insert(JournalEntryEventEntity entity);
+
+    void insertAll(@Param("events") List<JournalEntryEventEntity> events);
+
+    Long findSettledEventId();
+
+    List<JournalEntryEventEntity> findAfter(@Param("afterTransactionId") long afterTransactionId,
+                                            @Param("afterEventId") long afterEventId,
+                                            @Param("settledEventId") long settledEventId,
+                                            @Param("limit") int limit);
+
+    int insertOffsetIfAbsent(@Param("consumer") String consumer);
+
+    JournalEntryEventOffsetEntity lockOffset(@Param("consumer") String consumer);
+
+    int updateOffset(@Param("consumer") String consumer,
+                     @Param("lastTransactionId") long lastTransactionId,
+                     @Param("lastEventId") long lastEventId);
+
+    List<JournalEntryEventOffsetEntity> findOffsets(@Param("consumers") List<String> consumers);
+
+    int deleteUpTo(@Param("transactionId") long transactionId, @Param("eventId") long eventId);
+
+    int deleteRecordedBefore(@Param("recordedBefore") LocalDateTime recordedBefore);
+}
@@ -1,9 +1,12 @@
 package com.example.accounting.infrastructure.persistence.mapper;
 
+import com.example.accounting.application.port.out.JournalEntryCursor;
 import com.example.accounting.application.port.out.JournalEntrySearchCriteria;
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryEntity;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineEntity;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineWithHeaderEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntrySummaryEntity;
 import com.example.accounting.infrastructure.persistence.entity.DailyBalanceEntryEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -25,10 +28,25 @@ public interface JournalEntryMapper {
 
     void insertLines(List<JournalEntryLineEntity> lines);
 
+    void insertLine(JournalEntryLineEntity line);
+
     int update(JournalEntryEntity entity);
 
+    int updateStatuses(@Param("transition") JournalEntryEntity transition,
+                       @Param("entries") List<JournalEntryEntity> entries);
+
     void deleteLines(@Param("journalEntryId") Integer journalEntryId);
 
+    int updateLines(
+            @Param("journalEntryId") Integer journalEntryId,
+            @Param("lines") List<JournalEntryLineEntity> lines
+    );
+
+    int deleteLinesByLineNumbers(
+            @Param("journalEntryId") Integer journalEntryId,
+            @Param("lineNumbers") List<Integer> lineNumbers
+    );
+
     Optional<JournalEntryEntity> findById(Integer id);
 
     List<JournalEntryEntity> findAll();
@@ -37,10 +55,20 @@ public interface JournalEntryMapper {
 
     void deleteById(Integer id);
 
-    List<JournalEntryEntity> findByConditions(
+    List<Integer> findIdsByConditions(
+            @Param("statuses") List<String> statuses,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo,
+            @Param("after") JournalEntryCursor after,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    List<JournalEntrySummaryEntity> findSummariesByConditions(
             @Param("statuses") List<String> statuses,
             @Param("dateFrom") LocalDate dateFrom,
             @Param("dateTo") LocalDate dateTo,
+            @Param("after") JournalEntryCursor after,
             @Param("offset") int offset,
             @Param("limit") int limit
     );
@@ -51,14 +79,22 @@ public interface JournalEntryMapper {
             @Param("dateTo") LocalDate dateTo
     );
 
-    List<JournalEntryEntity> searchByConditions(@Param("c") JournalEntrySearchCriteria criteria);
+    List<Integer> searchIdsByConditions(
+            @Param("c") JournalEntrySearchCriteria criteria,
+            @Param("after") JournalEntryCursor after
+    );
 
     long countBySearchConditions(@Param("c") JournalEntrySearchCriteria criteria);
 
+    List<JournalEntryLineEntity> findLinesByDescription(@Param("ids") List<Integer> ids, @Param("text") String text);
+
+    List<JournalEntryEntity> findByIds(@Param("ids") List<Integer> ids);
+
     List<JournalEntryLineWithHeaderEntity> findPostedLinesByAccountAndPeriod(
             @Param("accountId") Integer accountId,
             @Param("dateFrom") LocalDate dateFrom,
             @Param("dateTo") LocalDate dateTo,
+            @Param("after") LedgerCursor after,
             @Param("offset") int offset,
             @Param("limit") int limit
     );
@@ -69,11 +105,23 @@ public interface JournalEntryMapper {
             @Param("dateTo") LocalDate dateTo
     );
 
+    BigDecimal calculateBalanceBeforeOffset(
+            @Param("accountId") Integer accountId,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo,
+            @Param("offset") int offset
+    );
+
     BigDecimal calculateBalanceBeforeDate(
             @Param("accountId") Integer accountId,
             @Param("date") LocalDate date
     );
 
+    BigDecimal calculateBalanceThroughCursor(
+            @Param("accountId") Integer accountId,
+            @Param("through") LedgerCursor through
+    );
+
     List<DailyBalanceEntryEntity> findDailyBalanceByAccountAndPeriod(
             @Param("accountId") Integer accountId,
             @Param("dateFrom") LocalDate dateFrom,
@@ -0,0 +1,46 @@
+package com.example.accounting.infrastructure.persistence.mapper;
+
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+import com.example.accounting.application.port.out.JournalImportCheckpoint;
+import com.example.accounting.infrastructure.persistence.entity.JournalImportJobEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalImportJobErrorEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 仕訳一括取込ジョブ MyBatis Mapper
+ */
+@Mapper
+public interface JournalImportJobMapper {
+
+    void insert(JournalImportJobEntity entity);
+
+    Optional<JournalImportJobEntity> findById(@Param("id") String id);
+
+    List<JournalImportJobEntity> findByStatus(@Param("status") String status);
+
+    List<JournalImportJobErrorEntity> findErrors(@Param("jobId") String jobId, @Param("limit") int limit);
+
+    int updateCheckpoint(JournalImportCheckpoint checkpoint);
+
+    void insertError(@Param("jobId") String jobId, @Param("error") ImportError error);
+
+    int restart(@Param("id") String id,
+                @Param("fromStatuses") Collection<String> fromStatuses,
+                @Param("at") LocalDateTime at);
+
+    int finish(@Param("id") String id,
+               @Param("status") String status,
+               @Param("errorMessage") String errorMessage,
+               @Param("at") LocalDateTime at);
+
+    int expire(@Param("id") String id,
+               @Param("fromStatuses") Collection<String> fromStatuses,
+               @Param("finishedBefore") LocalDateTime finishedBefore,
+               @Param("at") LocalDateTime at);
+}
@@ -0,0 +1,26 @@
+package com.example.accounting.infrastructure.persistence.mapper;
+
+import com.example.accounting.infrastructure.persistence.entity.LedgerChangeEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 元帳の版・変更履歴 MyBatis Mapper
+ */
+@Mapper
+public interface LedgerChangeMapper {
+
+    int incrementVersion();
+
+    int insertChange(@Param("dateFrom") LocalDate dateFrom, @Param("dateTo") LocalDate dateTo);
+
+    long findVersion();
+
+    List<LedgerChangeEntity> findAfter(@Param("version") long version);
+
+    int deleteRecordedBefore(@Param("recordedBefore") LocalDateTime recordedBefore);
+}
@@ -3,11 +3,41 @@ package com.example.accounting.infrastructure.persistence.mapper;
 import com.example.accounting.infrastructure.persistence.entity.MonthlyAccountBalanceEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Mapper
 public interface MonthlyAccountBalanceMapper {
     List<MonthlyAccountBalanceEntity> findByAccountCodeAndFiscalPeriod(
             @Param("accountCode") String accountCode,
             @Param("fiscalPeriod") Integer fiscalPeriod);
+
+    List<MonthlyAccountBalanceEntity> findRollUpTargetsByJournalEntryIds(
+            @Param("journalEntryIds") List<Integer> journalEntryIds);
+
+    List<MonthlyAccountBalanceEntity> sumDailyBalancesByKey(
+            @Param("key") MonthlyAccountBalanceEntity key,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("periodEnd") LocalDate periodEnd);
+
+    Optional<MonthlyAccountBalanceEntity> findByKey(
+            @Param("key") MonthlyAccountBalanceEntity key,
+            @Param("fiscalPeriod") Integer fiscalPeriod,
+            @Param("month") Integer month);
+
+    Integer findLatestFiscalPeriodByKey(@Param("key") MonthlyAccountBalanceEntity key);
+
+    int upsertAll(@Param("entities") List<MonthlyAccountBalanceEntity> entities);
+
+    int insertFiscalPeriodFromDailyBalances(
+            @Param("fiscalPeriod") Integer fiscalPeriod,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("periodEnd") LocalDate periodEnd,
+            @Param("months") List<Integer> months);
+
+    Integer findLatestFiscalPeriod();
+
+    int deleteByFiscalPeriod(@Param("fiscalPeriod") Integer fiscalPeriod);
 }
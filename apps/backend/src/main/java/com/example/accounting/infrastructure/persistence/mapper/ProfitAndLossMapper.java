@@ -1,14 +0,0 @@
-package com.example.accounting.infrastructure.persistence.mapper;
-
-import com.example.accounting.infrastructure.persistence.entity.ProfitAndLossEntity;
-import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
-
-import java.time.LocalDate;
-import java.util.List;
-
-@Mapper
-public interface ProfitAndLossMapper {
-    List<ProfitAndLossEntity> findProfitAndLoss(@Param("dateFrom") LocalDate dateFrom,
-                                                 @Param("dateTo") LocalDate dateTo);
-}
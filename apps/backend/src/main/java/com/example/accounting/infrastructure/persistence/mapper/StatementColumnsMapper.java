@@ -0,0 +1,29 @@
+package com.example.accounting.infrastructure.persistence.mapper;
+
+import com.example.accounting.infrastructure.persistence.entity.StatementColumnEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 複数期間の財務諸表集計 MyBatis Mapper
+ */
+@Mapper
+public interface StatementColumnsMapper {
+
+    /**
+     * 勘定科目ごとに列の期間ごとの借方合計 − 貸方合計を集計する（列は amount_0, amount_1, ...）
+     */
+    List<Map<String, Object>> findColumns(@Param("bsplCategory") String bsplCategory,
+                                          @Param("columns") List<StatementColumnEntity> columns,
+                                          @Param("dateFrom") LocalDate dateFrom,
+                                          @Param("dateTo") LocalDate dateTo);
+
+    /**
+     * 指定日以前の月末残高チェックポイントの日付を取得する（null の場合はすべて）
+     */
+    List<LocalDate> findCheckpointDates(@Param("dateTo") LocalDate dateTo);
+}
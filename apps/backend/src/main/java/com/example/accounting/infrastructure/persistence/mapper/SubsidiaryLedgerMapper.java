@@ -1,5 +1,6 @@
 package com.example.accounting.infrastructure.persistence.mapper;
 
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineWithHeaderEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -21,6 +22,7 @@ public interface SubsidiaryLedgerMapper {
             @Param("subAccountCode") String subAccountCode,
             @Param("dateFrom") LocalDate dateFrom,
             @Param("dateTo") LocalDate dateTo,
+            @Param("after") LedgerCursor after,
             @Param("offset") int offset,
             @Param("limit") int limit
     );
@@ -32,9 +34,23 @@ public interface SubsidiaryLedgerMapper {
             @Param("dateTo") LocalDate dateTo
     );
 
+    BigDecimal calculateBalanceBeforeOffsetByAccountAndSubAccount(
+            @Param("accountCode") String accountCode,
+            @Param("subAccountCode") String subAccountCode,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo,
+            @Param("offset") int offset
+    );
+
     BigDecimal calculateBalanceBeforeDateByAccountAndSubAccount(
             @Param("accountCode") String accountCode,
             @Param("subAccountCode") String subAccountCode,
             @Param("date") LocalDate date
     );
+
+    BigDecimal calculateBalanceThroughCursorByAccountAndSubAccount(
+            @Param("accountCode") String accountCode,
+            @Param("subAccountCode") String subAccountCode,
+            @Param("through") LedgerCursor through
+    );
 }
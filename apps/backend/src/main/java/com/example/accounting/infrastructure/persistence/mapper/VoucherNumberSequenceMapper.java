@@ -0,0 +1,19 @@
+package com.example.accounting.infrastructure.persistence.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 仕訳伝票番号採番 MyBatis Mapper
+ */
+@Mapper
+public interface VoucherNumberSequenceMapper {
+
+    int insertIfAbsent(@Param("voucherType") int voucherType, @Param("fiscalYear") int fiscalYear);
+
+    int advance(@Param("voucherType") int voucherType,
+                @Param("fiscalYear") int fiscalYear,
+                @Param("blockSize") int blockSize);
+
+    long findNextValue(@Param("voucherType") int voucherType, @Param("fiscalYear") int fiscalYear);
+}
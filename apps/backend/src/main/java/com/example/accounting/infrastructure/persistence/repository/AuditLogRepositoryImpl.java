@@ -11,10 +11,14 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Repository
 @RequiredArgsConstructor
 public class AuditLogRepositoryImpl implements AuditLogRepository {
+    /** 1 文の INSERT にまとめる件数（バインド変数の上限を超えないよう分割する） */
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
     private final AuditLogMapper auditLogMapper;
 
     @Override
@@ -26,6 +30,14 @@ public class AuditLogRepositoryImpl implements AuditLogRepository {
         });
     }
 
+    @Override
+    public Try<Integer> saveAll(List<AuditLog> auditLogs) {
+        return Try.of(() -> IntStream.iterate(0, from -> from < auditLogs.size(), from -> from + INSERT_CHUNK_SIZE)
+                .mapToObj(from -> auditLogs.subList(from, Math.min(from + INSERT_CHUNK_SIZE, auditLogs.size())))
+                .mapToInt(chunk -> auditLogMapper.insertAll(chunk.stream().map(AuditLogEntity::fromDomain).toList()))
+                .sum());
+    }
+
     @Override
     public Try<List<AuditLog>> search(
             String userId,
@@ -0,0 +1,58 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventEntity;
+import com.example.accounting.infrastructure.persistence.mapper.JournalEntryEventMapper;
+import com.example.accounting.infrastructure.persistence.mapper.JournalEntryMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 仕訳の一括登録用ライター
+ *
+ * <p>MyBatis の BATCH 実行モードで仕訳ヘッダと明細をそれぞれ 1 回の JDBC バッチとして送信する。
+ * BATCH 用の SqlSessionTemplate は Bean として公開しない（Mapper の既定のテンプレートと取り違えないため）。
+ * Spring のトランザクション内で呼び出すこと。同じトランザクションで通常の Mapper を使うと
+ * 実行モードの混在としてエラーになる。</p>
+ */
+@Component
+public class JournalEntryBatchWriter {
+
+    private final SqlSessionTemplate batchSqlSession;
+
+    public JournalEntryBatchWriter(SqlSessionFactory sqlSessionFactory) {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    /**
+     * 仕訳ヘッダを登録して採番した ID をエンティティに設定し、続けて明細を登録する
+     *
+     * @param entities 未採番の仕訳エンティティ（明細を含む）
+     */
+    public void insertAll(List<JournalEntryEntity> entities) {
+        JournalEntryMapper mapper = batchSqlSession.getMapper(JournalEntryMapper.class);
+        entities.forEach(mapper::insert);
+        batchSqlSession.flushStatements();
+
+        entities.forEach(entity -> entity.getLines().forEach(line -> {
+            line.setJournalEntryId(entity.getId());
+            mapper.insertLine(line);
+        }));
+        batchSqlSession.flushStatements();
+    }
+
+    /**
+     * 一括登録した仕訳のイベントをアウトボックスへ登録する
+     *
+     * @param events 仕訳イベントのエンティティ
+     */
+    public void insertEvents(List<JournalEntryEventEntity> events) {
+        JournalEntryEventMapper mapper = batchSqlSession.getMapper(JournalEntryEventMapper.class);
+        events.forEach(mapper::insert);
+        batchSqlSession.flushStatements();
+    }
+}
@@ -2,15 +2,24 @@ package com.example.accounting.infrastructure.persistence.repository;
 
 import com.example.accounting.application.port.out.GetGeneralLedgerResult.GeneralLedgerEntry;
 import com.example.accounting.application.port.out.GetDailyBalanceResult.DailyBalanceEntry;
+import com.example.accounting.application.port.out.GetJournalEntriesResult.JournalEntrySummary;
+import com.example.accounting.application.port.out.JournalEntryCursor;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.application.port.out.JournalEntrySearchCriteria;
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.domain.model.journal.JournalEntry;
 import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.model.journal.JournalEntryLine;
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
 import com.example.accounting.domain.shared.OptimisticLockException;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventEntity;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineEntity;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineWithHeaderEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntrySummaryEntity;
 import com.example.accounting.infrastructure.persistence.entity.DailyBalanceEntryEntity;
+import com.example.accounting.infrastructure.persistence.mapper.JournalEntryEventMapper;
 import com.example.accounting.infrastructure.persistence.mapper.JournalEntryMapper;
 import io.vavr.control.Try;
 import org.springframework.stereotype.Repository;
@@ -18,7 +27,13 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 仕訳リポジトリ実装
@@ -27,38 +42,74 @@ import java.util.Optional;
 @SuppressWarnings("PMD.AvoidThrowStatement")
 public class JournalEntryRepositoryImpl implements JournalEntryRepository {
 
+    private static final int EVENT_INSERT_CHUNK_SIZE = 1000;
+
     private final JournalEntryMapper journalEntryMapper;
+    private final JournalEntryBatchWriter journalEntryBatchWriter;
+    private final JournalEntryEventMapper journalEntryEventMapper;
 
-    public JournalEntryRepositoryImpl(JournalEntryMapper journalEntryMapper) {
+    public JournalEntryRepositoryImpl(JournalEntryMapper journalEntryMapper,
+                                      JournalEntryBatchWriter journalEntryBatchWriter,
+                                      JournalEntryEventMapper journalEntryEventMapper) {
         this.journalEntryMapper = journalEntryMapper;
+        this.journalEntryBatchWriter = journalEntryBatchWriter;
+        this.journalEntryEventMapper = journalEntryEventMapper;
     }
 
+    /**
+     * 仕訳を保存する
+     *
+     * <p>未採番（ID が null）の仕訳は INSERT、それ以外は version による楽観ロック付き UPDATE とし、
+     * 事前の存在確認や保存後の再読込は行わない。明細は下書きの間だけ編集できるため、
+     * 下書き以外への状態遷移はヘッダの UPDATE 1 文のみで完了する。
+     * 下書きの更新では現在の明細と行番号で突き合わせ、追加・変更・削除が必要な行だけを
+     * それぞれ 1 文で反映する。
+     * 保存した仕訳のイベントを同じトランザクションでアウトボックスへ記録する。</p>
+     */
     @Override
-    @SuppressWarnings("PMD.CognitiveComplexity")
-    public Try<JournalEntry> save(JournalEntry journalEntry) {
+    public Try<JournalEntry> save(JournalEntry journalEntry, JournalEntryEvent.Type eventType) {
         return Try.of(() -> {
             JournalEntryEntity entity = JournalEntryEntity.fromDomain(journalEntry);
-
-            if (entity.getId() != null && journalEntryMapper.findById(entity.getId()).isPresent()) {
-                int updatedCount = journalEntryMapper.update(entity);
-                if (updatedCount == 0) {
-                    throw new OptimisticLockException("仕訳の更新に失敗しました。再読み込みしてください。");
-                }
-                journalEntryMapper.deleteLines(entity.getId());
-            } else {
+            if (entity.getId() == null) {
                 journalEntryMapper.insert(entity);
+                insertLines(journalEntry.getLines(), entity.getId());
+                return recordEvent(journalEntry.withId(JournalEntryId.of(entity.getId())).withVersion(1), eventType);
             }
 
-            List<JournalEntryLineEntity> lineEntities = journalEntry.getLines().stream()
-                    .map(line -> JournalEntryLineEntity.fromDomain(line, entity.getId()))
-                    .toList();
-            if (!lineEntities.isEmpty()) {
-                journalEntryMapper.insertLines(lineEntities);
+            if (journalEntryMapper.update(entity) == 0) {
+                throw new OptimisticLockException("仕訳の更新に失敗しました。再読み込みしてください。");
             }
+            if (journalEntry.getStatus() == JournalEntryStatus.DRAFT) {
+                syncLines(journalEntry.getLines(), entity.getId());
+            }
+            return recordEvent(journalEntry
+                    .withVersion(entity.getVersion() + 1)
+                    .withUpdatedAt(entity.getUpdatedAt() == null
+                            ? journalEntry.getUpdatedAt()
+                            : entity.getUpdatedAt().toLocalDateTime()), eventType);
+        });
+    }
 
-            return journalEntryMapper.findById(entity.getId())
-                    .map(JournalEntryEntity::toDomain)
-                    .orElseThrow(() -> new IllegalStateException("保存後の仕訳取得に失敗しました"));
+    @Override
+    public Try<List<JournalEntry>> insertAll(List<JournalEntry> journalEntries) {
+        if (journalEntries.isEmpty()) {
+            return Try.success(List.of());
+        }
+        return Try.of(() -> {
+            List<JournalEntryEntity> entities = journalEntries.stream()
+                    .map(JournalEntryEntity::fromDomain)
+                    .toList();
+            journalEntryBatchWriter.insertAll(entities);
+            List<JournalEntry> inserted = IntStream.range(0, journalEntries.size())
+                    .mapToObj(i -> journalEntries.get(i)
+                            .withId(JournalEntryId.of(entities.get(i).getId()))
+                            .withVersion(1))
+                    .toList();
+            journalEntryBatchWriter.insertEvents(inserted.stream()
+                    .map(entry -> JournalEntryEventEntity.fromDomain(
+                            JournalEntryEvent.saved(entry, JournalEntryEvent.Type.CREATED)))
+                    .toList());
+            return inserted;
         });
     }
 
@@ -68,6 +119,32 @@ public class JournalEntryRepositoryImpl implements JournalEntryRepository {
                 .map(JournalEntryEntity::toDomain));
     }
 
+    @Override
+    public Try<List<JournalEntry>> findAllByIds(List<JournalEntryId> ids) {
+        return Try.of(() -> findByIds(ids.stream().map(JournalEntryId::value).toList()));
+    }
+
+    @Override
+    public Try<List<JournalEntry>> saveTransitions(List<JournalEntry> journalEntries,
+                                                   JournalEntryEvent.Type eventType) {
+        if (journalEntries.isEmpty()) {
+            return Try.success(List.of());
+        }
+        return Try.of(() -> {
+            List<JournalEntryEntity> entities = journalEntries.stream()
+                    .map(JournalEntryEntity::fromDomain)
+                    .toList();
+            if (journalEntryMapper.updateStatuses(entities.get(0), entities) != entities.size()) {
+                throw new OptimisticLockException("仕訳の更新に失敗しました。再読み込みしてください。");
+            }
+            List<JournalEntry> saved = journalEntries.stream()
+                    .map(journalEntry -> journalEntry.withVersion(journalEntry.getVersion() + 1))
+                    .toList();
+            recordEvents(saved, eventType);
+            return saved;
+        });
+    }
+
     @Override
     public Try<List<JournalEntry>> findAll() {
         return Try.of(() -> journalEntryMapper.findAll().stream()
@@ -77,14 +154,41 @@ public class JournalEntryRepositoryImpl implements JournalEntryRepository {
 
     @Override
     public Try<Void> deleteById(JournalEntryId id) {
-        return Try.run(() -> journalEntryMapper.deleteById(id.value()));
+        return Try.run(() -> {
+            journalEntryMapper.deleteById(id.value());
+            journalEntryEventMapper.insert(JournalEntryEventEntity.fromDomain(JournalEntryEvent.deleted(id)));
+        });
     }
 
     @Override
     public Try<List<JournalEntry>> findByConditions(List<String> statuses, LocalDate dateFrom, LocalDate dateTo, int offset, int limit) {
-        return Try.of(() -> journalEntryMapper.findByConditions(statuses, dateFrom, dateTo, offset, limit)
+        return Try.of(() -> findByIds(
+                journalEntryMapper.findIdsByConditions(statuses, dateFrom, dateTo, null, offset, limit)));
+    }
+
+    @Override
+    public Try<List<JournalEntry>> findByConditionsAfter(List<String> statuses, LocalDate dateFrom, LocalDate dateTo,
+                                                         JournalEntryCursor after, int limit) {
+        return Try.of(() -> findByIds(
+                journalEntryMapper.findIdsByConditions(statuses, dateFrom, dateTo, after, 0, limit)));
+    }
+
+    @Override
+    public Try<List<JournalEntrySummary>> findSummariesByConditions(List<String> statuses, LocalDate dateFrom,
+                                                                    LocalDate dateTo, int offset, int limit) {
+        return Try.of(() -> journalEntryMapper.findSummariesByConditions(statuses, dateFrom, dateTo, null, offset, limit)
                 .stream()
-                .map(JournalEntryEntity::toDomain)
+                .map(this::toJournalEntrySummary)
+                .toList());
+    }
+
+    @Override
+    public Try<List<JournalEntrySummary>> findSummariesByConditionsAfter(List<String> statuses, LocalDate dateFrom,
+                                                                         LocalDate dateTo, JournalEntryCursor after,
+                                                                         int limit) {
+        return Try.of(() -> journalEntryMapper.findSummariesByConditions(statuses, dateFrom, dateTo, after, 0, limit)
+                .stream()
+                .map(this::toJournalEntrySummary)
                 .toList());
     }
 
@@ -95,10 +199,13 @@ public class JournalEntryRepositoryImpl implements JournalEntryRepository {
 
     @Override
     public Try<List<JournalEntry>> searchByConditions(JournalEntrySearchCriteria criteria) {
-        return Try.of(() -> journalEntryMapper.searchByConditions(criteria)
-                .stream()
-                .map(JournalEntryEntity::toDomain)
-                .toList());
+        return Try.of(() -> findByIds(journalEntryMapper.searchIdsByConditions(criteria, null)));
+    }
+
+    @Override
+    public Try<List<JournalEntry>> searchByConditionsAfter(JournalEntrySearchCriteria criteria,
+                                                           JournalEntryCursor after) {
+        return Try.of(() -> findByIds(journalEntryMapper.searchIdsByConditions(criteria, after)));
     }
 
     @Override
@@ -106,10 +213,34 @@ public class JournalEntryRepositoryImpl implements JournalEntryRepository {
         return Try.of(() -> journalEntryMapper.countBySearchConditions(criteria));
     }
 
+    @Override
+    public Try<Map<Integer, String>> findMatchedLineDescriptions(List<Integer> journalEntryIds, String text) {
+        if (journalEntryIds.isEmpty()) {
+            return Try.success(Map.of());
+        }
+        return Try.of(() -> journalEntryMapper.findLinesByDescription(journalEntryIds, text).stream()
+                .collect(Collectors.toMap(
+                        JournalEntryLineEntity::getJournalEntryId,
+                        JournalEntryLineEntity::getLineDescription,
+                        (first, ignored) -> first)));
+    }
+
     @Override
     public Try<List<GeneralLedgerEntry>> findPostedLinesByAccountAndPeriod(Integer accountId, LocalDate dateFrom,
                                                                            LocalDate dateTo, int offset, int limit) {
-        return Try.of(() -> journalEntryMapper.findPostedLinesByAccountAndPeriod(accountId, dateFrom, dateTo, offset, limit)
+        return Try.of(() -> journalEntryMapper.findPostedLinesByAccountAndPeriod(
+                        accountId, dateFrom, dateTo, null, offset, limit)
+                .stream()
+                .map(this::toGeneralLedgerEntry)
+                .toList());
+    }
+
+    @Override
+    public Try<List<GeneralLedgerEntry>> findPostedLinesByAccountAndPeriodAfter(Integer accountId, LocalDate dateFrom,
+                                                                                LocalDate dateTo, LedgerCursor after,
+                                                                                int limit) {
+        return Try.of(() -> journalEntryMapper.findPostedLinesByAccountAndPeriod(
+                        accountId, dateFrom, dateTo, after, 0, limit)
                 .stream()
                 .map(this::toGeneralLedgerEntry)
                 .toList());
@@ -120,11 +251,22 @@ public class JournalEntryRepositoryImpl implements JournalEntryRepository {
         return Try.of(() -> journalEntryMapper.countPostedLinesByAccountAndPeriod(accountId, dateFrom, dateTo));
     }
 
+    @Override
+    public Try<BigDecimal> calculateBalanceBeforeOffset(Integer accountId, LocalDate dateFrom, LocalDate dateTo,
+                                                        int offset) {
+        return Try.of(() -> journalEntryMapper.calculateBalanceBeforeOffset(accountId, dateFrom, dateTo, offset));
+    }
+
     @Override
     public Try<BigDecimal> calculateBalanceBeforeDate(Integer accountId, LocalDate date) {
         return Try.of(() -> journalEntryMapper.calculateBalanceBeforeDate(accountId, date));
     }
 
+    @Override
+    public Try<BigDecimal> calculateBalanceThroughCursor(Integer accountId, LedgerCursor through) {
+        return Try.of(() -> journalEntryMapper.calculateBalanceThroughCursor(accountId, through));
+    }
+
     @Override
     public Try<List<DailyBalanceEntry>> findDailyBalanceByAccountAndPeriod(Integer accountId,
                                                                            LocalDate dateFrom,
@@ -135,6 +277,112 @@ public class JournalEntryRepositoryImpl implements JournalEntryRepository {
                 .toList());
     }
 
+    private JournalEntry recordEvent(JournalEntry saved, JournalEntryEvent.Type eventType) {
+        journalEntryEventMapper.insert(JournalEntryEventEntity.fromDomain(JournalEntryEvent.saved(saved, eventType)));
+        return saved;
+    }
+
+    /**
+     * 一括状態遷移のイベントを、バインド変数の上限を超えないよう {@value #EVENT_INSERT_CHUNK_SIZE} 件ずつ記録する
+     */
+    private void recordEvents(List<JournalEntry> saved, JournalEntryEvent.Type eventType) {
+        List<JournalEntryEventEntity> events = saved.stream()
+                .map(entry -> JournalEntryEventEntity.fromDomain(JournalEntryEvent.saved(entry, eventType)))
+                .toList();
+        IntStream.range(0, (events.size() + EVENT_INSERT_CHUNK_SIZE - 1) / EVENT_INSERT_CHUNK_SIZE)
+                .mapToObj(chunk -> events.subList(chunk * EVENT_INSERT_CHUNK_SIZE,
+                        Math.min(events.size(), (chunk + 1) * EVENT_INSERT_CHUNK_SIZE)))
+                .forEach(journalEntryEventMapper::insertAll);
+    }
+
+    private void insertLines(List<JournalEntryLine> lines, Integer journalEntryId) {
+        List<JournalEntryLineEntity> lineEntities = lines.stream()
+                .map(line -> JournalEntryLineEntity.fromDomain(line, journalEntryId))
+                .toList();
+        if (!lineEntities.isEmpty()) {
+            journalEntryMapper.insertLines(lineEntities);
+        }
+    }
+
+    /**
+     * 保存済みの明細と行番号で突き合わせ、差分のある行だけを削除・更新・追加する
+     */
+    private void syncLines(List<JournalEntryLine> lines, Integer journalEntryId) {
+        Map<Integer, JournalEntryLineEntity> currentByLineNumber =
+                journalEntryMapper.findLinesByJournalEntryId(journalEntryId).stream()
+                        .collect(Collectors.toMap(JournalEntryLineEntity::getLineNumber, Function.identity()));
+        List<JournalEntryLineEntity> desired = lines.stream()
+                .map(line -> JournalEntryLineEntity.fromDomain(line, journalEntryId))
+                .toList();
+        Set<Integer> desiredLineNumbers = desired.stream()
+                .map(JournalEntryLineEntity::getLineNumber)
+                .collect(Collectors.toSet());
+
+        List<Integer> removed = currentByLineNumber.keySet().stream()
+                .filter(lineNumber -> !desiredLineNumbers.contains(lineNumber))
+                .sorted()
+                .toList();
+        List<JournalEntryLineEntity> changed = desired.stream()
+                .filter(line -> currentByLineNumber.containsKey(line.getLineNumber()))
+                .filter(line -> !sameLine(currentByLineNumber.get(line.getLineNumber()), line))
+                .toList();
+        List<JournalEntryLineEntity> added = desired.stream()
+                .filter(line -> !currentByLineNumber.containsKey(line.getLineNumber()))
+                .toList();
+
+        if (!removed.isEmpty()) {
+            journalEntryMapper.deleteLinesByLineNumbers(journalEntryId, removed);
+        }
+        if (!changed.isEmpty()) {
+            journalEntryMapper.updateLines(journalEntryId, changed);
+        }
+        if (!added.isEmpty()) {
+            journalEntryMapper.insertLines(added);
+        }
+    }
+
+    private boolean sameLine(JournalEntryLineEntity current, JournalEntryLineEntity desired) {
+        return Objects.equals(current.getAccountId(), desired.getAccountId())
+                && sameAmount(current.getDebitAmount(), desired.getDebitAmount())
+                && sameAmount(current.getCreditAmount(), desired.getCreditAmount());
+    }
+
+    private boolean sameAmount(BigDecimal current, BigDecimal desired) {
+        BigDecimal left = current == null ? BigDecimal.ZERO : current;
+        BigDecimal right = desired == null ? BigDecimal.ZERO : desired;
+        return left.compareTo(right) == 0;
+    }
+
+    /**
+     * ページング対象の仕訳 ID に対応する仕訳を明細付きで取得する（ID が空の場合は問い合わせない）
+     *
+     * <p>並び順は 1 段階目で確定した ID の順序に合わせる。</p>
+     */
+    private List<JournalEntry> findByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, JournalEntryEntity> entitiesById = journalEntryMapper.findByIds(ids).stream()
+                .collect(Collectors.toMap(JournalEntryEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(entitiesById::get)
+                .filter(Objects::nonNull)
+                .map(JournalEntryEntity::toDomain)
+                .toList();
+    }
+
+    private JournalEntrySummary toJournalEntrySummary(JournalEntrySummaryEntity entity) {
+        return new JournalEntrySummary(
+                entity.getId(),
+                entity.getJournalDate(),
+                entity.getDescription(),
+                entity.getTotalDebitAmount(),
+                entity.getTotalCreditAmount(),
+                entity.getStatus(),
+                entity.getVersion()
+        );
+    }
+
     private GeneralLedgerEntry toGeneralLedgerEntry(JournalEntryLineWithHeaderEntity entity) {
         String description = entity.getLineDescription();
         if (description == null || description.isBlank()) {
@@ -142,6 +390,7 @@ public class JournalEntryRepositoryImpl implements JournalEntryRepository {
         }
         return new GeneralLedgerEntry(
                 entity.getJournalEntryId(),
+                entity.getLineNumber(),
                 entity.getJournalDate(),
                 description,
                 entity.getDebitAmount(),
@@ -0,0 +1,37 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.JournalImportCheckpoint;
+import com.example.accounting.infrastructure.persistence.mapper.JournalImportJobMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 仕訳一括取込ジョブのチェックポイント書き込み用ライター
+ *
+ * <p>{@link JournalEntryBatchWriter} と同じ BATCH 実行モードで書き込み、チャンクの仕訳と同じ
+ * トランザクション（同じ SqlSession）でチェックポイントをコミットする。
+ * BATCH 用の SqlSessionTemplate は Bean として公開しない。</p>
+ */
+@Component
+public class JournalImportCheckpointWriter {
+
+    private final SqlSessionTemplate batchSqlSession;
+
+    public JournalImportCheckpointWriter(SqlSessionFactory sqlSessionFactory) {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    /**
+     * ジョブの件数・最終行番号を更新し、新しいエラーを追加する
+     *
+     * @param checkpoint チェックポイント
+     */
+    public void write(JournalImportCheckpoint checkpoint) {
+        JournalImportJobMapper mapper = batchSqlSession.getMapper(JournalImportJobMapper.class);
+        mapper.updateCheckpoint(checkpoint);
+        checkpoint.newErrors().forEach(error -> mapper.insertError(checkpoint.jobId(), error));
+        batchSqlSession.flushStatements();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+import com.example.accounting.application.port.out.JournalImportCheckpoint;
+import com.example.accounting.application.port.out.JournalImportJob;
+import com.example.accounting.application.port.out.JournalImportJobRepository;
+import com.example.accounting.infrastructure.persistence.entity.JournalImportJobEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalImportJobErrorEntity;
+import com.example.accounting.infrastructure.persistence.mapper.JournalImportJobMapper;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 仕訳一括取込ジョブリポジトリ実装
+ */
+@Repository
+public class JournalImportJobRepositoryImpl implements JournalImportJobRepository {
+
+    private final JournalImportJobMapper journalImportJobMapper;
+    private final JournalImportCheckpointWriter checkpointWriter;
+
+    public JournalImportJobRepositoryImpl(JournalImportJobMapper journalImportJobMapper,
+                                          JournalImportCheckpointWriter checkpointWriter) {
+        this.journalImportJobMapper = journalImportJobMapper;
+        this.checkpointWriter = checkpointWriter;
+    }
+
+    @Override
+    public Try<JournalImportJob> create(JournalImportJob job) {
+        return Try.of(() -> {
+            journalImportJobMapper.insert(JournalImportJobEntity.fromDomain(job));
+            return job;
+        });
+    }
+
+    @Override
+    public Try<Optional<JournalImportJob>> findById(String jobId) {
+        return Try.of(() -> journalImportJobMapper.findById(jobId).map(JournalImportJobEntity::toDomain));
+    }
+
+    @Override
+    public Try<List<JournalImportJob>> findByStatus(String status) {
+        return Try.of(() -> journalImportJobMapper.findByStatus(status).stream()
+                .map(JournalImportJobEntity::toDomain)
+                .toList());
+    }
+
+    @Override
+    public Try<List<ImportError>> findErrors(String jobId, int limit) {
+        return Try.of(() -> journalImportJobMapper.findErrors(jobId, limit).stream()
+                .map(JournalImportJobErrorEntity::toDomain)
+                .toList());
+    }
+
+    @Override
+    public Try<Void> saveCheckpoint(JournalImportCheckpoint checkpoint) {
+        return Try.run(() -> checkpointWriter.write(checkpoint));
+    }
+
+    @Override
+    public Try<Boolean> restart(String jobId, Collection<String> fromStatuses, LocalDateTime at) {
+        return Try.of(() -> journalImportJobMapper.restart(jobId, fromStatuses, at) > 0);
+    }
+
+    @Override
+    public Try<Void> finish(String jobId, String status, String errorMessage, LocalDateTime at) {
+        return Try.run(() -> journalImportJobMapper.finish(jobId, status, errorMessage, at));
+    }
+
+    @Override
+    public Try<Boolean> expire(String jobId, Collection<String> fromStatuses,
+                               LocalDateTime finishedBefore, LocalDateTime at) {
+        return Try.of(() -> journalImportJobMapper.expire(jobId, fromStatuses, finishedBefore, at) > 0);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.BalanceCheckpointRepository;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.infrastructure.persistence.mapper.BalanceCheckpointMapper;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class MyBatisBalanceCheckpointRepository implements BalanceCheckpointRepository {
+
+    private static final int POST = 1;
+    private static final int UNPOST = -1;
+
+    private final BalanceCheckpointMapper mapper;
+
+    public MyBatisBalanceCheckpointRepository(BalanceCheckpointMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Try<Integer> post(JournalEntryId journalEntryId) {
+        return Try.of(() -> merge(List.of(journalEntryId.value()), POST));
+    }
+
+    @Override
+    public Try<Integer> postAll(List<JournalEntryId> journalEntryIds) {
+        if (journalEntryIds.isEmpty()) {
+            return Try.success(0);
+        }
+        return Try.of(() -> merge(journalEntryIds.stream().map(JournalEntryId::value).toList(), POST));
+    }
+
+    @Override
+    public Try<Integer> unpost(JournalEntryId journalEntryId) {
+        return Try.of(() -> merge(List.of(journalEntryId.value()), UNPOST));
+    }
+
+    @Override
+    public Try<Integer> rebuild(LocalDate checkpointDate) {
+        return Try.of(() -> {
+            mapper.deleteAccountCheckpoints(checkpointDate);
+            mapper.deleteSubAccountCheckpoints(checkpointDate);
+            return mapper.insertAccountCheckpoints(checkpointDate)
+                    + mapper.insertSubAccountCheckpoints(checkpointDate);
+        });
+    }
+
+    @Override
+    public Try<Optional<LocalDate>> findLatestCheckpointDateOnOrBefore(LocalDate date) {
+        return Try.of(() -> Optional.ofNullable(mapper.findLatestCheckpointDateOnOrBefore(date)));
+    }
+
+    @Override
+    public Try<List<LocalDate>> findCheckpointDatesAfter(LocalDate date) {
+        return Try.of(() -> mapper.findCheckpointDatesAfter(date));
+    }
+
+    private int merge(List<Integer> journalEntryIds, int sign) {
+        return mapper.mergeAccountCheckpoints(journalEntryIds, sign)
+                + mapper.mergeSubAccountCheckpoints(journalEntryIds, sign);
+    }
+}
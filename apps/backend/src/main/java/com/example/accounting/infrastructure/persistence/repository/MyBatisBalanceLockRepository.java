@@ -0,0 +1,57 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.BalanceLockRepository;
+import com.example.accounting.infrastructure.persistence.mapper.BalanceLockMapper;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class MyBatisBalanceLockRepository implements BalanceLockRepository {
+
+    static final String ALL = "ALL";
+
+    private final BalanceLockMapper mapper;
+
+    public MyBatisBalanceLockRepository(BalanceLockMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Try<Void> lockForPosting(Collection<YearMonth> months) {
+        return Try.run(() -> {
+            mapper.lockShared(List.of(ALL));
+            List<String> monthKeys = toKeys(months);
+            if (!monthKeys.isEmpty()) {
+                mapper.insertMissing(monthKeys);
+                mapper.lockShared(monthKeys);
+            }
+        });
+    }
+
+    @Override
+    public Try<Void> lockMonthForRebuild(YearMonth month) {
+        return Try.run(() -> {
+            mapper.lockShared(List.of(ALL));
+            List<String> monthKeys = toKeys(List.of(month));
+            mapper.insertMissing(monthKeys);
+            mapper.lockExclusive(monthKeys);
+        });
+    }
+
+    @Override
+    public Try<Void> lockAllForRebuild() {
+        return Try.run(() -> mapper.lockExclusive(List.of(ALL)));
+    }
+
+    private static List<String> toKeys(Collection<YearMonth> months) {
+        return months.stream()
+                .distinct()
+                .sorted()
+                .map(YearMonth::toString)
+                .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.DailyAccountBalanceRepository;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.infrastructure.persistence.mapper.DailyAccountBalanceMapper;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public class MyBatisDailyAccountBalanceRepository implements DailyAccountBalanceRepository {
+
+    private static final int POST = 1;
+    private static final int UNPOST = -1;
+
+    private final DailyAccountBalanceMapper mapper;
+
+    public MyBatisDailyAccountBalanceRepository(DailyAccountBalanceMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Try<Integer> post(JournalEntryId journalEntryId) {
+        return Try.of(() -> mapper.mergeJournalEntries(List.of(journalEntryId.value()), POST));
+    }
+
+    @Override
+    public Try<Integer> postAll(List<JournalEntryId> journalEntryIds) {
+        if (journalEntryIds.isEmpty()) {
+            return Try.success(0);
+        }
+        return Try.of(() -> mapper.mergeJournalEntries(
+                journalEntryIds.stream().map(JournalEntryId::value).toList(), POST));
+    }
+
+    @Override
+    public Try<Integer> unpost(JournalEntryId journalEntryId) {
+        return Try.of(() -> mapper.mergeJournalEntries(List.of(journalEntryId.value()), UNPOST));
+    }
+
+    @Override
+    public Try<Integer> rebuild(LocalDate from, LocalDate to) {
+        return Try.of(() -> {
+            mapper.deleteByPostingDateRange(from, to);
+            return mapper.insertFromConfirmedJournalEntries(from, to);
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import com.example.accounting.application.port.out.JournalEntryEventPosition;
+import com.example.accounting.application.port.out.JournalEntryEventRepository;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventOffsetEntity;
+import com.example.accounting.infrastructure.persistence.mapper.JournalEntryEventMapper;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class MyBatisJournalEntryEventRepository implements JournalEntryEventRepository {
+
+    private final JournalEntryEventMapper mapper;
+
+    public MyBatisJournalEntryEventRepository(JournalEntryEventMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Try<JournalEntryEventPosition> lockOffset(String consumer) {
+        return Try.of(() -> {
+            mapper.insertOffsetIfAbsent(consumer);
+            return mapper.lockOffset(consumer).toPosition();
+        });
+    }
+
+    /**
+     * 配信してよい範囲を確かめてから、配信位置より後のイベントを取得する
+     *
+     * <p>範囲の確認とイベントの読み出しは別の文で行い、読み出しが確認より後のスナップショットになるようにする。</p>
+     */
+    @Override
+    public Try<List<JournalEntryEvent>> findDeliverableAfter(JournalEntryEventPosition after, int limit) {
+        return Try.of(() -> {
+            Long settledEventId = mapper.findSettledEventId();
+            if (settledEventId == null) {
+                return List.of();
+            }
+            return mapper.findAfter(after.transactionId(), after.eventId(), settledEventId, limit).stream()
+                    .map(JournalEntryEventEntity::toDomain)
+                    .toList();
+        });
+    }
+
+    @Override
+    public Try<Void> saveOffset(String consumer, JournalEntryEventPosition position) {
+        return Try.run(() -> mapper.updateOffset(consumer, position.transactionId(), position.eventId()));
+    }
+
+    @Override
+    public Try<Integer> purgeDelivered(List<String> consumers) {
+        if (consumers.isEmpty()) {
+            return Try.success(0);
+        }
+        return Try.of(() -> {
+            List<JournalEntryEventPosition> offsets = mapper.findOffsets(consumers).stream()
+                    .map(JournalEntryEventOffsetEntity::toPosition)
+                    .toList();
+            if (offsets.size() < consumers.size()) {
+                return 0;
+            }
+            JournalEntryEventPosition delivered = Collections.min(offsets);
+            return mapper.deleteUpTo(delivered.transactionId(), delivered.eventId());
+        });
+    }
+
+    @Override
+    public Try<Integer> deleteRecordedBefore(LocalDateTime recordedBefore) {
+        return Try.of(() -> mapper.deleteRecordedBefore(recordedBefore));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.LedgerChange;
+import com.example.accounting.application.port.out.LedgerChangeRepository;
+import com.example.accounting.infrastructure.persistence.entity.LedgerChangeEntity;
+import com.example.accounting.infrastructure.persistence.mapper.LedgerChangeMapper;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class MyBatisLedgerChangeRepository implements LedgerChangeRepository {
+
+    private final LedgerChangeMapper mapper;
+
+    public MyBatisLedgerChangeRepository(LedgerChangeMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Try<Long> record(LocalDate from, LocalDate to) {
+        return Try.of(() -> {
+            mapper.incrementVersion();
+            mapper.insertChange(from, to);
+            return mapper.findVersion();
+        });
+    }
+
+    @Override
+    public Try<Long> currentVersion() {
+        return Try.of(mapper::findVersion);
+    }
+
+    @Override
+    public Try<List<LedgerChange>> findAfter(long version) {
+        return Try.of(() -> mapper.findAfter(version).stream()
+                .map(LedgerChangeEntity::toLedgerChange)
+                .toList());
+    }
+
+    @Override
+    public Try<Integer> deleteRecordedBefore(LocalDateTime recordedBefore) {
+        return Try.of(() -> mapper.deleteRecordedBefore(recordedBefore));
+    }
+}
@@ -1,15 +1,22 @@
 package com.example.accounting.infrastructure.persistence.repository;
 
 import com.example.accounting.application.port.out.MonthlyAccountBalanceRepository;
+import com.example.accounting.domain.model.journal.JournalEntryId;
 import com.example.accounting.infrastructure.persistence.entity.MonthlyAccountBalanceEntity;
 import com.example.accounting.infrastructure.persistence.mapper.MonthlyAccountBalanceMapper;
 import io.vavr.control.Try;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 @Repository
 public class MyBatisMonthlyAccountBalanceRepository implements MonthlyAccountBalanceRepository {
 
+    private static final List<Integer> MONTHS = IntStream.rangeClosed(1, 12).boxed().toList();
+
     private final MonthlyAccountBalanceMapper mapper;
 
     public MyBatisMonthlyAccountBalanceRepository(MonthlyAccountBalanceMapper mapper) {
@@ -21,4 +28,63 @@ public class MyBatisMonthlyAccountBalanceRepository implements MonthlyAccountBal
             String accountCode, Integer fiscalPeriod) {
         return Try.of(() -> mapper.findByAccountCodeAndFiscalPeriod(accountCode, fiscalPeriod));
     }
+
+    @Override
+    public Try<List<MonthlyAccountBalanceEntity>> findRollUpTargets(JournalEntryId journalEntryId) {
+        return Try.of(() -> mapper.findRollUpTargetsByJournalEntryIds(List.of(journalEntryId.value())));
+    }
+
+    @Override
+    public Try<List<MonthlyAccountBalanceEntity>> findRollUpTargets(List<JournalEntryId> journalEntryIds) {
+        if (journalEntryIds.isEmpty()) {
+            return Try.success(List.of());
+        }
+        return Try.of(() -> mapper.findRollUpTargetsByJournalEntryIds(
+                journalEntryIds.stream().map(JournalEntryId::value).toList()));
+    }
+
+    @Override
+    public Try<List<MonthlyAccountBalanceEntity>> sumDailyBalances(
+            MonthlyAccountBalanceEntity key, int fiscalPeriod) {
+        return Try.of(() -> mapper.sumDailyBalancesByKey(
+                key,
+                LocalDate.of(fiscalPeriod, 1, 1),
+                LocalDate.of(fiscalPeriod + 1, 1, 1)));
+    }
+
+    @Override
+    public Try<Optional<MonthlyAccountBalanceEntity>> findByKey(
+            MonthlyAccountBalanceEntity key, int fiscalPeriod, int month) {
+        return Try.of(() -> mapper.findByKey(key, fiscalPeriod, month));
+    }
+
+    @Override
+    public Try<Optional<Integer>> findLatestFiscalPeriod(MonthlyAccountBalanceEntity key) {
+        return Try.of(() -> Optional.ofNullable(mapper.findLatestFiscalPeriodByKey(key)));
+    }
+
+    @Override
+    public Try<Integer> saveAll(List<MonthlyAccountBalanceEntity> entities) {
+        if (entities.isEmpty()) {
+            return Try.success(0);
+        }
+        return Try.of(() -> mapper.upsertAll(entities));
+    }
+
+    @Override
+    public Try<Integer> rebuildFiscalPeriod(int fiscalPeriod) {
+        return Try.of(() -> {
+            mapper.deleteByFiscalPeriod(fiscalPeriod);
+            return mapper.insertFiscalPeriodFromDailyBalances(
+                    fiscalPeriod,
+                    LocalDate.of(fiscalPeriod, 1, 1),
+                    LocalDate.of(fiscalPeriod + 1, 1, 1),
+                    MONTHS);
+        });
+    }
+
+    @Override
+    public Try<Optional<Integer>> findLatestFiscalPeriod() {
+        return Try.of(() -> Optional.ofNullable(mapper.findLatestFiscalPeriod()));
+    }
 }
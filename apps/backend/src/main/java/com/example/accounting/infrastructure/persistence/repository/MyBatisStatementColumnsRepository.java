@@ -0,0 +1,98 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.port.out.StatementColumnsRepository;
+import com.example.accounting.infrastructure.persistence.entity.StatementColumnEntity;
+import com.example.accounting.infrastructure.persistence.mapper.StatementColumnsMapper;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+@Repository
+public class MyBatisStatementColumnsRepository implements StatementColumnsRepository {
+    private final StatementColumnsMapper statementColumnsMapper;
+
+    public MyBatisStatementColumnsRepository(StatementColumnsMapper statementColumnsMapper) {
+        this.statementColumnsMapper = statementColumnsMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>開始日のない列（基準日時点の残高）は、基準日以前で最も新しい月末残高チェックポイントの累計に
+     * その翌日からの日次残高を加えて求めるため、すべての列が締まった月以降から日次残高を走査する。</p>
+     */
+    @Override
+    public Try<StatementColumns> findColumns(String bsplCategory, List<Column> columns) {
+        return Try.of(() -> {
+                    List<LocalDate> checkpointDates = columns.stream().anyMatch(column -> column.from() == null)
+                            ? statementColumnsMapper.findCheckpointDates(bound(
+                                    columns.stream().map(Column::to).toList(), Comparator.reverseOrder()))
+                            : List.of();
+                    List<StatementColumnEntity> entities = columns.stream()
+                            .map(column -> toEntity(column, checkpointDates))
+                            .toList();
+                    return statementColumnsMapper.findColumns(bsplCategory, entities,
+                            bound(entities.stream().map(StatementColumnEntity::getDateFrom).toList(),
+                                    Comparator.naturalOrder()),
+                            bound(entities.stream().map(StatementColumnEntity::getDateTo).toList(),
+                                    Comparator.reverseOrder()));
+                })
+                .map(rows -> new StatementColumns(columns, rows.stream()
+                        .map(row -> toRow(row, columns.size()))
+                        .toList()));
+    }
+
+    /**
+     * 開始日のない列は、終了日以前で最も新しいチェックポイントの翌日から集計する列に変換する
+     */
+    private static StatementColumnEntity toEntity(Column column, List<LocalDate> checkpointDates) {
+        if (column.from() != null) {
+            return new StatementColumnEntity(column.from(), column.to(), null);
+        }
+        return checkpointDates.stream()
+                .filter(checkpointDate -> column.to() == null || !checkpointDate.isAfter(column.to()))
+                .max(Comparator.naturalOrder())
+                .map(checkpointDate -> new StatementColumnEntity(checkpointDate.plusDays(1), column.to(),
+                        checkpointDate))
+                .orElseGet(() -> new StatementColumnEntity(null, column.to(), null));
+    }
+
+    /**
+     * すべての列を含む範囲の端（いずれかの列が制限なしの場合は null）
+     */
+    @SuppressWarnings("PMD.AvoidReturningNull")
+    private static LocalDate bound(List<LocalDate> dates, Comparator<LocalDate> outermostFirst) {
+        if (dates.isEmpty() || dates.stream().anyMatch(Objects::isNull)) {
+            return null;
+        }
+        return dates.stream().min(outermostFirst).orElseThrow();
+    }
+
+    private static Row toRow(Map<String, Object> row, int columnCount) {
+        return new Row(
+                (String) row.get("account_code"),
+                (String) row.get("account_name"),
+                (String) row.get("account_type"),
+                IntStream.range(0, columnCount)
+                        .mapToObj(index -> toAmount(row.get("amount_" + index)))
+                        .toList()
+        );
+    }
+
+    private static BigDecimal toAmount(Object value) {
+        if (value instanceof BigDecimal amount) {
+            return amount;
+        }
+        return value == null ? BigDecimal.ZERO : new BigDecimal(value.toString());
+    }
+}
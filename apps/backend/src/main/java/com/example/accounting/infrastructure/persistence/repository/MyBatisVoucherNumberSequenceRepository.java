@@ -0,0 +1,25 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.VoucherNumberSequenceRepository;
+import com.example.accounting.infrastructure.persistence.mapper.VoucherNumberSequenceMapper;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MyBatisVoucherNumberSequenceRepository implements VoucherNumberSequenceRepository {
+
+    private final VoucherNumberSequenceMapper mapper;
+
+    public MyBatisVoucherNumberSequenceRepository(VoucherNumberSequenceMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Try<Long> reserveBlock(int voucherType, int fiscalYear, int blockSize) {
+        return Try.of(() -> {
+            mapper.insertIfAbsent(voucherType, fiscalYear);
+            mapper.advance(voucherType, fiscalYear, blockSize);
+            return mapper.findNextValue(voucherType, fiscalYear) - blockSize;
+        });
+    }
+}
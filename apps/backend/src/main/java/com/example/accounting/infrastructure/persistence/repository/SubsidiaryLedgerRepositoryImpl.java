@@ -1,6 +1,7 @@
 package com.example.accounting.infrastructure.persistence.repository;
 
 import com.example.accounting.application.port.out.GetSubsidiaryLedgerResult.SubsidiaryLedgerEntry;
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.application.port.out.SubsidiaryLedgerRepository;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineWithHeaderEntity;
 import com.example.accounting.infrastructure.persistence.mapper.SubsidiaryLedgerMapper;
@@ -31,7 +32,21 @@ public class SubsidiaryLedgerRepositoryImpl implements SubsidiaryLedgerRepositor
                                                                                              int offset,
                                                                                              int limit) {
         return Try.of(() -> subsidiaryLedgerMapper.findPostedLinesByAccountAndSubAccountAndPeriod(
-                                accountCode, subAccountCode, dateFrom, dateTo, offset, limit)
+                                accountCode, subAccountCode, dateFrom, dateTo, null, offset, limit)
+                        .stream()
+                        .map(this::toSubsidiaryLedgerEntry)
+                        .toList());
+    }
+
+    @Override
+    public Try<List<SubsidiaryLedgerEntry>> findPostedLinesByAccountAndSubAccountAndPeriodAfter(String accountCode,
+                                                                                                  String subAccountCode,
+                                                                                                  LocalDate dateFrom,
+                                                                                                  LocalDate dateTo,
+                                                                                                  LedgerCursor after,
+                                                                                                  int limit) {
+        return Try.of(() -> subsidiaryLedgerMapper.findPostedLinesByAccountAndSubAccountAndPeriod(
+                                accountCode, subAccountCode, dateFrom, dateTo, after, 0, limit)
                         .stream()
                         .map(this::toSubsidiaryLedgerEntry)
                         .toList());
@@ -46,6 +61,16 @@ public class SubsidiaryLedgerRepositoryImpl implements SubsidiaryLedgerRepositor
                 accountCode, subAccountCode, dateFrom, dateTo));
     }
 
+    @Override
+    public Try<BigDecimal> calculateBalanceBeforeOffsetByAccountAndSubAccount(String accountCode,
+                                                                              String subAccountCode,
+                                                                              LocalDate dateFrom,
+                                                                              LocalDate dateTo,
+                                                                              int offset) {
+        return Try.of(() -> subsidiaryLedgerMapper.calculateBalanceBeforeOffsetByAccountAndSubAccount(
+                accountCode, subAccountCode, dateFrom, dateTo, offset));
+    }
+
     @Override
     public Try<BigDecimal> calculateBalanceBeforeDateByAccountAndSubAccount(String accountCode,
                                                                             String subAccountCode,
@@ -54,9 +79,18 @@ public class SubsidiaryLedgerRepositoryImpl implements SubsidiaryLedgerRepositor
                 accountCode, subAccountCode, date));
     }
 
+    @Override
+    public Try<BigDecimal> calculateBalanceThroughCursorByAccountAndSubAccount(String accountCode,
+                                                                               String subAccountCode,
+                                                                               LedgerCursor through) {
+        return Try.of(() -> subsidiaryLedgerMapper.calculateBalanceThroughCursorByAccountAndSubAccount(
+                accountCode, subAccountCode, through));
+    }
+
     private SubsidiaryLedgerEntry toSubsidiaryLedgerEntry(JournalEntryLineWithHeaderEntity entity) {
         return new SubsidiaryLedgerEntry(
                 entity.getJournalEntryId(),
+                entity.getLineNumber(),
                 entity.getJournalDate(),
                 entity.getDescription(),
                 entity.getDebitAmount(),
@@ -103,6 +103,10 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/journals/*/confirm")
                         .hasAnyRole(ROLE_ADMIN, ROLE_MANAGER)
 
+                        // 仕訳確定取消は MANAGER 以上
+                        .requestMatchers(HttpMethod.POST, "/api/journals/*/cancel-confirmation")
+                        .hasAnyRole(ROLE_ADMIN, ROLE_MANAGER)
+
                         // 財務分析は MANAGER 以上
                         .requestMatchers("/api/analysis/**")
                         .hasAnyRole(ROLE_ADMIN, ROLE_MANAGER)
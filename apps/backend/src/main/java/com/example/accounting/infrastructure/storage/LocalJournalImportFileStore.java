@@ -0,0 +1,47 @@
+package com.example.accounting.infrastructure.storage;
+
+import com.example.accounting.application.port.out.JournalImportFileStore;
+import com.example.accounting.infrastructure.config.JournalImportProperties;
+import io.vavr.control.Try;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 仕訳一括取込ファイルをローカルディスクに保管する実装
+ *
+ * <p>ジョブID をファイル名として {@code journal-import.work-dir} に保管する。
+ * 複数インスタンスで再開する場合は共有ディスクを指定すること。</p>
+ */
+@Component
+public class LocalJournalImportFileStore implements JournalImportFileStore {
+
+    private final Path workDir;
+
+    public LocalJournalImportFileStore(JournalImportProperties properties) {
+        this.workDir = Path.of(properties.workDir());
+    }
+
+    @Override
+    public Try<String> save(String jobId, InputStream content) {
+        return Try.of(() -> {
+            Files.createDirectories(workDir);
+            Path file = workDir.resolve(jobId + ".upload");
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+            return file.toString();
+        });
+    }
+
+    @Override
+    public Try<InputStream> open(String location) {
+        return Try.of(() -> Files.newInputStream(Path.of(location)));
+    }
+
+    @Override
+    public Try<Void> delete(String location) {
+        return Try.run(() -> Files.deleteIfExists(Path.of(location)));
+    }
+}
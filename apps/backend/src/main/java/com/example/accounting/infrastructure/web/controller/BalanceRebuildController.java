@@ -0,0 +1,54 @@
+package com.example.accounting.infrastructure.web.controller;
+
+import com.example.accounting.application.port.in.RebuildBalancesUseCase;
+import com.example.accounting.application.port.in.command.RebuildBalancesCommand;
+import com.example.accounting.application.port.out.RebuildBalancesResult;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/balance-rebuild")
+@Tag(name = "残高再構築", description = "日次・月次残高の再構築に関する API")
+public class BalanceRebuildController {
+
+    private final RebuildBalancesUseCase rebuildBalancesUseCase;
+
+    public BalanceRebuildController(RebuildBalancesUseCase rebuildBalancesUseCase) {
+        this.rebuildBalancesUseCase = rebuildBalancesUseCase;
+    }
+
+    @Operation(summary = "残高再構築開始", description = "確定仕訳から指定会計期間の日次・月次残高を再構築します")
+    @ApiResponse(responseCode = "202", description = "受付")
+    @ApiResponse(responseCode = "400", description = "入力不正または実行中")
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RebuildBalancesResult> start(@RequestParam Integer fiscalPeriod) {
+        RebuildBalancesCommand command = RebuildBalancesCommand.of(fiscalPeriod)
+                .getOrElseThrow(BusinessException::new);
+        RebuildBalancesResult result = rebuildBalancesUseCase.start(command)
+                .getOrElseThrow(BusinessException::new);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+    }
+
+    @Operation(summary = "残高再構築進捗照会", description = "残高再構築ジョブの進捗を照会します")
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "404", description = "ジョブが存在しない")
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RebuildBalancesResult> findJob(@PathVariable String jobId) {
+        return rebuildBalancesUseCase.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -4,7 +4,10 @@ import com.example.accounting.application.port.in.query.GetBalanceSheetQuery;
 import com.example.accounting.application.port.in.query.GetBalanceSheetUseCase;
 import com.example.accounting.application.port.out.GetBalanceSheetResult;
 import com.example.accounting.application.service.BalanceSheetExportService;
+import com.example.accounting.infrastructure.web.etag.LedgerVersionETag;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpHeaders;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -24,24 +28,30 @@ import java.time.LocalDate;
 public class BalanceSheetController {
     private final GetBalanceSheetUseCase getBalanceSheetUseCase;
     private final BalanceSheetExportService exportService;
+    private final LedgerVersionETag ledgerVersionETag;
 
     public BalanceSheetController(GetBalanceSheetUseCase getBalanceSheetUseCase,
-                                   BalanceSheetExportService exportService) {
+                                   BalanceSheetExportService exportService,
+                                   LedgerVersionETag ledgerVersionETag) {
         this.getBalanceSheetUseCase = getBalanceSheetUseCase;
         this.exportService = exportService;
+        this.ledgerVersionETag = ledgerVersionETag;
     }
 
     @Operation(summary = "貸借対照表照会", description = "指定した基準日の貸借対照表を照会します")
     @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "304", description = "前回の取得以降、帳票の内容に変更なし（If-None-Match が一致）")
+    @Parameter(name = HttpHeaders.IF_NONE_MATCH, in = ParameterIn.HEADER,
+            description = "前回の応答の ETag を指定すると、帳票の内容に変更がなければ本文なしの 304 を返します")
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     public ResponseEntity<GetBalanceSheetResult> getBalanceSheet(
             @RequestParam(required = false) LocalDate date,
-            @RequestParam(required = false) LocalDate comparativeDate
+            @RequestParam(required = false) LocalDate comparativeDate,
+            WebRequest webRequest
     ) {
         GetBalanceSheetQuery query = new GetBalanceSheetQuery(date, comparativeDate);
-        GetBalanceSheetResult result = getBalanceSheetUseCase.execute(query);
-        return ResponseEntity.ok(result);
+        return ledgerVersionETag.respond(webRequest, () -> getBalanceSheetUseCase.execute(query));
     }
 
     @Operation(summary = "貸借対照表エクスポート", description = "貸借対照表を PDF または Excel 形式でエクスポートします")
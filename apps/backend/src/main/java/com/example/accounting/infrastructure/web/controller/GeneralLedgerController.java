@@ -3,7 +3,9 @@ package com.example.accounting.infrastructure.web.controller;
 import com.example.accounting.application.port.in.GetGeneralLedgerUseCase;
 import com.example.accounting.application.port.in.query.GetGeneralLedgerQuery;
 import com.example.accounting.application.port.out.GetGeneralLedgerResult;
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.application.service.GeneralLedgerExportService;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -39,7 +41,9 @@ public class GeneralLedgerController {
      */
     @Operation(
             summary = "総勘定元帳照会",
-            description = "経理担当者以上が総勘定元帳を照会します（ページネーション対応）"
+            description = "経理担当者以上が総勘定元帳を照会します（ページネーション対応）。"
+                    + "withTotal=false の場合は総件数を数えず hasNext のみ返します。"
+                    + "cursor を指定した場合は page を無視し、前ページの nextCursor の続きから取得します"
     )
     @ApiResponse(
             responseCode = "200",
@@ -52,19 +56,32 @@ public class GeneralLedgerController {
             @RequestParam(required = false) LocalDate dateFrom,
             @RequestParam(required = false) LocalDate dateTo,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal
     ) {
         GetGeneralLedgerQuery query = new GetGeneralLedgerQuery(
                 accountId,
                 dateFrom,
                 dateTo,
                 page,
-                size
+                size,
+                withTotal,
+                decodeCursor(cursor)
         );
         GetGeneralLedgerResult result = getGeneralLedgerUseCase.execute(query);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * カーソル文字列を復元する（未指定の場合はオフセットページングとして null を返す）
+     */
+    private LedgerCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank()
+                ? null
+                : LedgerCursor.decode(cursor).getOrElseThrow(BusinessException::new);
+    }
+
     /**
      * 総勘定元帳エクスポート
      */
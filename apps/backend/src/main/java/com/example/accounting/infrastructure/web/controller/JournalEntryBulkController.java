@@ -0,0 +1,177 @@
+package com.example.accounting.infrastructure.web.controller;
+
+import com.example.accounting.application.port.in.BulkTransitionJournalEntriesUseCase;
+import com.example.accounting.application.port.in.RecordAuditLogUseCase;
+import com.example.accounting.application.port.in.RecordAuditLogUseCase.RecordAuditLogCommand;
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand;
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand.Action;
+import com.example.accounting.application.port.out.BulkTransitionJournalEntriesResult;
+import com.example.accounting.domain.model.audit.AuditAction;
+import com.example.accounting.domain.model.audit.EntityType;
+import com.example.accounting.infrastructure.web.dto.BulkJournalEntryTransitionRequest;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import com.example.accounting.infrastructure.web.idempotency.IdempotencyKeyStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 仕訳一括承認・確定・差し戻しコントローラ
+ */
+@RestController
+@RequestMapping("/api/journal-entries/bulk")
+@Tag(name = "仕訳", description = "仕訳に関する API")
+public class JournalEntryBulkController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalEntryBulkController.class);
+
+    private final BulkTransitionJournalEntriesUseCase bulkTransitionJournalEntriesUseCase;
+    private final RecordAuditLogUseCase recordAuditLogUseCase;
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    public JournalEntryBulkController(BulkTransitionJournalEntriesUseCase bulkTransitionJournalEntriesUseCase,
+                                      RecordAuditLogUseCase recordAuditLogUseCase,
+                                      IdempotencyKeyStore idempotencyKeyStore) {
+        this.bulkTransitionJournalEntriesUseCase = bulkTransitionJournalEntriesUseCase;
+        this.recordAuditLogUseCase = recordAuditLogUseCase;
+        this.idempotencyKeyStore = idempotencyKeyStore;
+    }
+
+    @Operation(
+            summary = "仕訳一括承認",
+            description = "仕訳IDの一覧、または仕訳日付の範囲内の承認待ち仕訳をまとめて承認します。"
+                    + "承認できない仕訳は更新せず、理由を結果に含めます"
+    )
+    @ApiResponse(responseCode = "200", description = "処理完了")
+    @ApiResponse(responseCode = "400", description = "対象の指定不正・件数超過")
+    @ApiResponse(responseCode = "409", description = "処理中に他のユーザーが仕訳を更新した・同じ Idempotency-Key の要求を処理中")
+    @Parameter(name = IdempotencyKeyStore.HEADER, in = ParameterIn.HEADER,
+            description = "再送時に同じ値を指定すると、再実行せずに最初の応答を返します")
+    @PostMapping("/approve")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<BulkTransitionJournalEntriesResult> approve(
+            @Valid @RequestBody BulkJournalEntryTransitionRequest request,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest httpServletRequest) {
+        return execute(Action.APPROVE, request, userDetails, AuditAction.APPROVE, "仕訳伝票一括承認",
+                httpServletRequest);
+    }
+
+    @Operation(
+            summary = "仕訳一括確定",
+            description = "仕訳IDの一覧、または仕訳日付の範囲内の承認済み仕訳をまとめて確定し、残高へ転記します。"
+                    + "確定できない仕訳は更新せず、理由を結果に含めます"
+    )
+    @ApiResponse(responseCode = "200", description = "処理完了")
+    @ApiResponse(responseCode = "400", description = "対象の指定不正・件数超過")
+    @ApiResponse(responseCode = "409", description = "処理中に他のユーザーが仕訳を更新した・同じ Idempotency-Key の要求を処理中")
+    @Parameter(name = IdempotencyKeyStore.HEADER, in = ParameterIn.HEADER,
+            description = "再送時に同じ値を指定すると、再実行せずに最初の応答を返します")
+    @PostMapping("/confirm")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<BulkTransitionJournalEntriesResult> confirm(
+            @Valid @RequestBody BulkJournalEntryTransitionRequest request,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest httpServletRequest) {
+        return execute(Action.CONFIRM, request, userDetails, AuditAction.CONFIRM, "仕訳伝票一括確定",
+                httpServletRequest);
+    }
+
+    @Operation(
+            summary = "仕訳一括差し戻し",
+            description = "仕訳IDの一覧、または仕訳日付の範囲内の承認待ち仕訳をまとめて下書きに差し戻します。"
+                    + "差し戻せない仕訳は更新せず、理由を結果に含めます"
+    )
+    @ApiResponse(responseCode = "200", description = "処理完了")
+    @ApiResponse(responseCode = "400", description = "対象の指定不正・件数超過・差し戻し理由なし")
+    @ApiResponse(responseCode = "409", description = "処理中に他のユーザーが仕訳を更新した・同じ Idempotency-Key の要求を処理中")
+    @Parameter(name = IdempotencyKeyStore.HEADER, in = ParameterIn.HEADER,
+            description = "再送時に同じ値を指定すると、再実行せずに最初の応答を返します")
+    @PostMapping("/reject")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<BulkTransitionJournalEntriesResult> reject(
+            @Valid @RequestBody BulkJournalEntryTransitionRequest request,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest httpServletRequest) {
+        return execute(Action.REJECT, request, userDetails, AuditAction.REJECT, "仕訳伝票一括差し戻し",
+                httpServletRequest);
+    }
+
+    private ResponseEntity<BulkTransitionJournalEntriesResult> execute(Action action,
+                                                                       BulkJournalEntryTransitionRequest request,
+                                                                       UserDetails userDetails,
+                                                                       AuditAction auditAction,
+                                                                       String description,
+                                                                       HttpServletRequest httpServletRequest) {
+        return idempotencyKeyStore.execute(httpServletRequest, "journal-entries:bulk-" + action.name(),
+                userDetails.getUsername(), request,
+                () -> transition(action, request, userDetails, auditAction, description, httpServletRequest));
+    }
+
+    private ResponseEntity<BulkTransitionJournalEntriesResult> transition(Action action,
+                                                                          BulkJournalEntryTransitionRequest request,
+                                                                          UserDetails userDetails,
+                                                                          AuditAction auditAction,
+                                                                          String description,
+                                                                          HttpServletRequest httpServletRequest) {
+        BulkTransitionJournalEntriesResult result = BulkTransitionJournalEntriesCommand.of(
+                        action,
+                        request.journalEntryIds(),
+                        request.dateFrom(),
+                        request.dateTo(),
+                        userDetails.getUsername(),
+                        request.rejectionReason())
+                .flatMap(bulkTransitionJournalEntriesUseCase::execute)
+                .getOrElseThrow(BusinessException::new);
+
+        recordAuditLogsSafely(userDetails.getUsername(), auditAction, result.journalEntryIds(), description,
+                httpServletRequest);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 遷移した仕訳ごとの監査ログを 1 回でまとめて記録する
+     */
+    private void recordAuditLogsSafely(String userId,
+                                       AuditAction actionType,
+                                       List<Integer> journalEntryIds,
+                                       String description,
+                                       HttpServletRequest httpServletRequest) {
+        if (journalEntryIds.isEmpty()) {
+            return;
+        }
+        String ipAddress = httpServletRequest.getRemoteAddr();
+        List<RecordAuditLogCommand> commands = journalEntryIds.stream()
+                .map(id -> new RecordAuditLogCommand(
+                        userId,
+                        actionType,
+                        EntityType.JOURNAL_ENTRY,
+                        String.valueOf(id),
+                        description,
+                        ipAddress))
+                .toList();
+        try {
+            recordAuditLogUseCase.executeAll(commands)
+                    .peekLeft(error -> LOGGER.warn("監査ログ記録に失敗しました。 userId={}, actionType={}, error={}",
+                            userId, actionType, error));
+        } catch (RuntimeException ex) {
+            LOGGER.warn("監査ログ記録に失敗しました。 userId={}, actionType={}", userId, actionType, ex);
+        }
+    }
+}
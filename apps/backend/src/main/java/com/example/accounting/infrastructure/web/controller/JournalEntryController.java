@@ -7,6 +7,7 @@ import com.example.accounting.application.port.in.GetJournalEntryUseCase;
 import com.example.accounting.application.port.in.GetJournalEntriesUseCase;
 import com.example.accounting.application.port.in.GenerateAutoJournalUseCase;
 import com.example.accounting.application.port.in.ApproveJournalEntryUseCase;
+import com.example.accounting.application.port.in.CancelJournalEntryConfirmationUseCase;
 import com.example.accounting.application.port.in.RejectJournalEntryUseCase;
 import com.example.accounting.application.port.in.RecordAuditLogUseCase;
 import com.example.accounting.application.port.in.SearchJournalEntriesUseCase;
@@ -17,6 +18,7 @@ import com.example.accounting.application.port.in.RecordAuditLogUseCase.RecordAu
 import com.example.accounting.application.port.in.query.GetJournalEntriesQuery;
 import com.example.accounting.application.port.in.query.SearchJournalEntriesQuery;
 import com.example.accounting.application.port.in.command.ApproveJournalEntryCommand;
+import com.example.accounting.application.port.in.command.CancelJournalEntryConfirmationCommand;
 import com.example.accounting.application.port.in.command.ConfirmJournalEntryCommand;
 import com.example.accounting.application.port.in.command.DeleteJournalEntryCommand;
 import com.example.accounting.application.port.in.command.CreateJournalEntryCommand;
@@ -25,11 +27,13 @@ import com.example.accounting.application.port.in.command.RejectJournalEntryComm
 import com.example.accounting.application.port.in.command.SubmitForApprovalCommand;
 import com.example.accounting.application.port.in.command.UpdateJournalEntryCommand;
 import com.example.accounting.application.port.out.ApproveJournalEntryResult;
+import com.example.accounting.application.port.out.CancelJournalEntryConfirmationResult;
 import com.example.accounting.application.port.out.ConfirmJournalEntryResult;
 import com.example.accounting.application.port.out.RejectJournalEntryResult;
 import com.example.accounting.application.port.out.CreateJournalEntryResult;
 import com.example.accounting.application.port.out.DeleteJournalEntryResult;
 import com.example.accounting.application.port.out.GetJournalEntriesResult;
+import com.example.accounting.application.port.out.JournalEntryCursor;
 import com.example.accounting.application.port.out.GenerateAutoJournalResult;
 import com.example.accounting.application.port.out.SubmitForApprovalResult;
 import com.example.accounting.application.port.out.UpdateJournalEntryResult;
@@ -39,6 +43,7 @@ import com.example.accounting.domain.model.audit.EntityType;
 import com.example.accounting.domain.model.user.User;
 import com.example.accounting.domain.shared.OptimisticLockException;
 import com.example.accounting.infrastructure.web.dto.ApproveJournalEntryResponse;
+import com.example.accounting.infrastructure.web.dto.CancelJournalEntryConfirmationResponse;
 import com.example.accounting.infrastructure.web.dto.ConfirmJournalEntryResponse;
 import com.example.accounting.infrastructure.web.dto.RejectJournalEntryRequest;
 import com.example.accounting.infrastructure.web.dto.RejectJournalEntryResponse;
@@ -52,7 +57,10 @@ import com.example.accounting.infrastructure.web.dto.UpdateJournalEntryResponse;
 import com.example.accounting.infrastructure.web.dto.GenerateAutoJournalRequest;
 import com.example.accounting.infrastructure.web.dto.GenerateAutoJournalResponse;
 import com.example.accounting.infrastructure.web.exception.BusinessException;
+import com.example.accounting.infrastructure.web.idempotency.IdempotencyKeyStore;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -103,10 +111,12 @@ public class JournalEntryController {
     private final ApproveJournalEntryUseCase approveJournalEntryUseCase;
     private final RejectJournalEntryUseCase rejectJournalEntryUseCase;
     private final ConfirmJournalEntryUseCase confirmJournalEntryUseCase;
+    private final CancelJournalEntryConfirmationUseCase cancelJournalEntryConfirmationUseCase;
     private final GenerateAutoJournalUseCase generateAutoJournalUseCase;
     private final RecordAuditLogUseCase recordAuditLogUseCase;
     private final UserRepository userRepository;
     private final JournalEntryExportService journalEntryExportService;
+    private final IdempotencyKeyStore idempotencyKeyStore;
 
     @SuppressWarnings("java:S107") // コントローラは複数のユースケースを統合するため引数が多い
     public JournalEntryController(CreateJournalEntryUseCase createJournalEntryUseCase,
@@ -119,10 +129,12 @@ public class JournalEntryController {
                                   ApproveJournalEntryUseCase approveJournalEntryUseCase,
                                   RejectJournalEntryUseCase rejectJournalEntryUseCase,
                                   ConfirmJournalEntryUseCase confirmJournalEntryUseCase,
+                                  CancelJournalEntryConfirmationUseCase cancelJournalEntryConfirmationUseCase,
                                   GenerateAutoJournalUseCase generateAutoJournalUseCase,
                                   RecordAuditLogUseCase recordAuditLogUseCase,
                                   UserRepository userRepository,
-                                  JournalEntryExportService journalEntryExportService) {
+                                  JournalEntryExportService journalEntryExportService,
+                                  IdempotencyKeyStore idempotencyKeyStore) {
         this.createJournalEntryUseCase = createJournalEntryUseCase;
         this.updateJournalEntryUseCase = updateJournalEntryUseCase;
         this.getJournalEntryUseCase = getJournalEntryUseCase;
@@ -133,10 +145,12 @@ public class JournalEntryController {
         this.approveJournalEntryUseCase = approveJournalEntryUseCase;
         this.rejectJournalEntryUseCase = rejectJournalEntryUseCase;
         this.confirmJournalEntryUseCase = confirmJournalEntryUseCase;
+        this.cancelJournalEntryConfirmationUseCase = cancelJournalEntryConfirmationUseCase;
         this.generateAutoJournalUseCase = generateAutoJournalUseCase;
         this.recordAuditLogUseCase = recordAuditLogUseCase;
         this.userRepository = userRepository;
         this.journalEntryExportService = journalEntryExportService;
+        this.idempotencyKeyStore = idempotencyKeyStore;
     }
 
     /**
@@ -161,6 +175,13 @@ public class JournalEntryController {
             description = "権限不足",
             content = @Content
     )
+    @ApiResponse(
+            responseCode = "409",
+            description = "同じ Idempotency-Key の要求を処理中",
+            content = @Content
+    )
+    @Parameter(name = IdempotencyKeyStore.HEADER, in = ParameterIn.HEADER,
+            description = "再送時に同じ値を指定すると、仕訳を重複登録せずに最初の応答を返します")
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     public ResponseEntity<CreateJournalEntryResponse> create(
@@ -168,6 +189,13 @@ public class JournalEntryController {
             Principal principal,
             HttpServletRequest httpServletRequest
     ) {
+        return idempotencyKeyStore.execute(httpServletRequest, "journal-entries:create", principal.getName(), request,
+                () -> createEntry(request, principal, httpServletRequest));
+    }
+
+    private ResponseEntity<CreateJournalEntryResponse> createEntry(CreateJournalEntryRequest request,
+                                                                   Principal principal,
+                                                                   HttpServletRequest httpServletRequest) {
         User user = userRepository.findByUsername(principal.getName())
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
                 .orElseThrow(() -> new BusinessException("ユーザーが存在しません"));
@@ -214,7 +242,9 @@ public class JournalEntryController {
      */
     @Operation(
             summary = "仕訳一覧取得",
-            description = "経理担当者以上が仕訳一覧を取得します（ページネーション対応）"
+            description = "経理担当者以上が仕訳一覧を取得します（ページネーション対応）。"
+                    + "cursor を指定した場合は page を無視し、前ページの nextCursor の続きから取得します。"
+                    + "withTotal=false の場合は総件数を数えず hasNext のみ返します"
     )
     @ApiResponse(
             responseCode = "200",
@@ -227,14 +257,18 @@ public class JournalEntryController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) List<String> status,
             @RequestParam(required = false) LocalDate dateFrom,
-            @RequestParam(required = false) LocalDate dateTo
+            @RequestParam(required = false) LocalDate dateTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal
     ) {
         GetJournalEntriesQuery query = new GetJournalEntriesQuery(
                 page,
                 size,
                 status != null ? status : List.of(),
                 dateFrom,
-                dateTo
+                dateTo,
+                decodeCursor(cursor),
+                withTotal
         );
         GetJournalEntriesResult result = getJournalEntriesUseCase.execute(query);
         return ResponseEntity.ok(result);
@@ -280,7 +314,10 @@ public class JournalEntryController {
      */
     @Operation(
             summary = "仕訳検索",
-            description = "検索条件を指定して仕訳を検索します"
+            description = "検索条件を指定して仕訳を検索します。"
+                    + "cursor を指定した場合は page を無視し、前ページの nextCursor の続きから取得します。"
+                    + "withTotal=false の場合は総件数を数えず hasNext のみ返します。"
+                    + "rankByRelevance=true の場合は摘要（ヘッダ・明細）との関連度順に並べ、cursor は使用しません"
     )
     @ApiResponse(
             responseCode = "200",
@@ -297,7 +334,10 @@ public class JournalEntryController {
             @RequestParam(required = false) Integer accountId,
             @RequestParam(required = false) BigDecimal amountFrom,
             @RequestParam(required = false) BigDecimal amountTo,
-            @RequestParam(required = false) String description
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean rankByRelevance
     ) {
         SearchJournalEntriesQuery query = new SearchJournalEntriesQuery(
                 page,
@@ -308,12 +348,24 @@ public class JournalEntryController {
                 accountId,
                 amountFrom,
                 amountTo,
-                description
+                description,
+                decodeCursor(cursor),
+                withTotal,
+                rankByRelevance
         );
         GetJournalEntriesResult result = searchJournalEntriesUseCase.execute(query);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * カーソル文字列を復元する（未指定の場合はオフセットページングとして null を返す）
+     */
+    private JournalEntryCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank()
+                ? null
+                : JournalEntryCursor.decode(cursor).getOrElseThrow(BusinessException::new);
+    }
+
     /**
      * 仕訳詳細取得
      */
@@ -581,6 +633,62 @@ public class JournalEntryController {
                 .body(ConfirmJournalEntryResponse.failure(result.errorMessage()));
     }
 
+    /**
+     * 仕訳確定取消
+     */
+    @Operation(
+            summary = "仕訳確定取消",
+            description = "管理者またはマネージャーが確定済み仕訳を承認済みに戻し、残高への転記を取り消します"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "確定取消成功"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "確定取消失敗（ステータスエラー等）"
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "仕訳が見つからない"
+    )
+    @ApiResponse(
+            responseCode = "409",
+            description = "他の操作で仕訳が更新されている"
+    )
+    @PostMapping("/{id}/cancel-confirmation")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CancelJournalEntryConfirmationResponse> cancelConfirmation(
+            @PathVariable Integer id,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest httpServletRequest) {
+        CancelJournalEntryConfirmationCommand command = new CancelJournalEntryConfirmationCommand(id);
+        CancelJournalEntryConfirmationResult result = cancelJournalEntryConfirmationUseCase.execute(command);
+
+        if (result.success()) {
+            recordAuditLogSafely(
+                    resolveUserId(null, userDetails),
+                    AuditAction.UPDATE,
+                    EntityType.JOURNAL_ENTRY,
+                    String.valueOf(id),
+                    "仕訳伝票確定取消",
+                    httpServletRequest
+            );
+            return ResponseEntity.ok(CancelJournalEntryConfirmationResponse.success(
+                    result.journalEntryId(),
+                    result.status(),
+                    result.message()
+            ));
+        }
+
+        if ("仕訳が見つかりません".equals(result.errorMessage())) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        return ResponseEntity.badRequest()
+                .body(CancelJournalEntryConfirmationResponse.failure(result.errorMessage()));
+    }
+
     /**
      * 仕訳差し戻し
      */
@@ -705,6 +813,13 @@ public class JournalEntryController {
             description = "生成失敗",
             content = @Content(schema = @Schema(implementation = GenerateAutoJournalResponse.class))
     )
+    @ApiResponse(
+            responseCode = "409",
+            description = "同じ Idempotency-Key の要求を処理中",
+            content = @Content
+    )
+    @Parameter(name = IdempotencyKeyStore.HEADER, in = ParameterIn.HEADER,
+            description = "再送時に同じ値を指定すると、仕訳を重複生成せずに最初の応答を返します")
     @PostMapping("/generate")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<GenerateAutoJournalResponse> generate(
@@ -712,6 +827,13 @@ public class JournalEntryController {
             Principal principal,
             HttpServletRequest httpServletRequest
     ) {
+        return idempotencyKeyStore.execute(httpServletRequest, "journal-entries:generate", principal.getName(),
+                request, () -> generateEntry(request, principal, httpServletRequest));
+    }
+
+    private ResponseEntity<GenerateAutoJournalResponse> generateEntry(GenerateAutoJournalRequest request,
+                                                                      Principal principal,
+                                                                      HttpServletRequest httpServletRequest) {
         User user = userRepository.findByUsername(principal.getName())
                 .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
                 .orElseThrow(() -> new BusinessException("ユーザーが存在しません"));
@@ -0,0 +1,212 @@
+package com.example.accounting.infrastructure.web.controller;
+
+import com.example.accounting.application.port.in.ImportJournalEntriesUseCase;
+import com.example.accounting.application.port.in.RecordAuditLogUseCase;
+import com.example.accounting.application.port.in.RecordAuditLogUseCase.RecordAuditLogCommand;
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand;
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand.Format;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult;
+import com.example.accounting.application.port.out.UserRepository;
+import com.example.accounting.domain.model.audit.AuditAction;
+import com.example.accounting.domain.model.audit.EntityType;
+import com.example.accounting.domain.model.user.User;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import com.example.accounting.infrastructure.web.idempotency.IdempotencyKeyStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.vavr.control.Try;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.Principal;
+import java.util.HexFormat;
+
+/**
+ * 仕訳一括取込コントローラ
+ */
+@RestController
+@RequestMapping("/api/journal-entries/import")
+@Tag(name = "仕訳", description = "仕訳に関する API")
+public class JournalEntryImportController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalEntryImportController.class);
+
+    private final ImportJournalEntriesUseCase importJournalEntriesUseCase;
+    private final RecordAuditLogUseCase recordAuditLogUseCase;
+    private final UserRepository userRepository;
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    public JournalEntryImportController(ImportJournalEntriesUseCase importJournalEntriesUseCase,
+                                        RecordAuditLogUseCase recordAuditLogUseCase,
+                                        UserRepository userRepository,
+                                        IdempotencyKeyStore idempotencyKeyStore) {
+        this.importJournalEntriesUseCase = importJournalEntriesUseCase;
+        this.recordAuditLogUseCase = recordAuditLogUseCase;
+        this.userRepository = userRepository;
+        this.idempotencyKeyStore = idempotencyKeyStore;
+    }
+
+    @Operation(
+            summary = "仕訳一括取込開始",
+            description = "CSV（UTF-8）または Excel（.xlsx）の仕訳を下書きとして一括登録するジョブを開始します。"
+                    + "列は 伝票キー, 仕訳日, 摘要, 行番号, 勘定科目コード, 借方金額, 貸方金額 の順で、先頭行は見出し行です。"
+                    + "エラーのあった仕訳は登録せず、行番号付きのエラーとして記録します"
+    )
+    @ApiResponse(responseCode = "202", description = "受付")
+    @ApiResponse(responseCode = "400", description = "ファイル形式不正")
+    @ApiResponse(responseCode = "403", description = "権限不足")
+    @ApiResponse(responseCode = "409", description = "同じ Idempotency-Key の要求を処理中")
+    @Parameter(name = IdempotencyKeyStore.HEADER, in = ParameterIn.HEADER,
+            description = "再送時に同じ値を指定すると、取込ジョブを重複して開始せずに最初の応答を返します")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<ImportJournalEntriesResult> importEntries(
+            @RequestParam("file") MultipartFile file,
+            Principal principal,
+            HttpServletRequest httpServletRequest
+    ) {
+        // 同じ名前・サイズの別ファイルを取り違えないよう、内容の SHA-256 で同じ要求かどうかを判定する。
+        // Idempotency-Key がない要求では照合しないため、ファイルを読み直さない
+        String fileSummary = httpServletRequest.getHeader(IdempotencyKeyStore.HEADER) == null
+                ? null
+                : file.getOriginalFilename() + ":" + file.getSize() + ":" + sha256(file);
+        return idempotencyKeyStore.execute(httpServletRequest, "journal-entries:import", principal.getName(),
+                fileSummary, () -> startImport(file, principal, httpServletRequest));
+    }
+
+    private static String sha256(MultipartFile file) {
+        return Try.of(() -> MessageDigest.getInstance("SHA-256"))
+                .flatMap(digest -> Try.withResources(() -> new DigestInputStream(file.getInputStream(), digest))
+                        .of(content -> content.transferTo(OutputStream.nullOutputStream()))
+                        .map(ignored -> HexFormat.of().formatHex(digest.digest())))
+                .getOrElseThrow(ex -> new BusinessException("UPLOAD_ERROR", "取込ファイルを読み込めませんでした", ex));
+    }
+
+    private ResponseEntity<ImportJournalEntriesResult> startImport(MultipartFile file,
+                                                                   Principal principal,
+                                                                   HttpServletRequest httpServletRequest) {
+        User user = currentUser(principal);
+        Format format = Format.fromFileName(file.getOriginalFilename())
+                .getOrElseThrow(BusinessException::new);
+
+        ImportJournalEntriesResult result = Try.withResources(file::getInputStream)
+                .of(content -> importJournalEntriesUseCase.start(new ImportJournalEntriesCommand(
+                        content, file.getOriginalFilename(), format, user.getId().value())))
+                .getOrElseThrow(ex -> ex instanceof RuntimeException runtime
+                        ? runtime
+                        : new BusinessException("UPLOAD_ERROR", "取込ファイルを読み込めませんでした", ex))
+                .getOrElseThrow(BusinessException::new);
+
+        recordAuditLogSafely(
+                principal.getName(),
+                result.jobId(),
+                "仕訳一括取込開始（" + result.fileName() + "）",
+                httpServletRequest);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+    }
+
+    @Operation(
+            summary = "仕訳一括取込進捗照会",
+            description = "取込ジョブのコミット済みの件数・最終行番号・スループット（行/秒）と行ごとのエラーを照会します"
+    )
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "403", description = "ジョブを開始したユーザー・管理者以外")
+    @ApiResponse(responseCode = "404", description = "ジョブが存在しない")
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<ImportJournalEntriesResult> findJob(@PathVariable String jobId,
+                                                             Principal principal,
+                                                             HttpServletRequest httpServletRequest) {
+        checkJobAccess(jobId, principal, httpServletRequest);
+        return importJournalEntriesUseCase.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "仕訳一括取込中止", description = "実行中の取込ジョブを中止します。コミット済みのチャンクは登録済みのまま残ります")
+    @ApiResponse(responseCode = "200", description = "中止受付")
+    @ApiResponse(responseCode = "400", description = "実行中のジョブではない")
+    @ApiResponse(responseCode = "403", description = "ジョブを開始したユーザー・管理者以外")
+    @PostMapping("/{jobId}/cancel")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<ImportJournalEntriesResult> cancel(@PathVariable String jobId,
+                                                             Principal principal,
+                                                             HttpServletRequest httpServletRequest) {
+        checkJobAccess(jobId, principal, httpServletRequest);
+        return ResponseEntity.ok(importJournalEntriesUseCase.cancel(jobId)
+                .getOrElseThrow(BusinessException::new));
+    }
+
+    @Operation(summary = "仕訳一括取込再開", description = "失敗・中止した取込ジョブを最後にコミットしたチャンクの次の行から再開します")
+    @ApiResponse(responseCode = "202", description = "受付")
+    @ApiResponse(responseCode = "400", description = "再開できないジョブ")
+    @ApiResponse(responseCode = "403", description = "ジョブを開始したユーザー・管理者以外")
+    @PostMapping("/{jobId}/resume")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<ImportJournalEntriesResult> resume(@PathVariable String jobId,
+                                                             Principal principal,
+                                                             HttpServletRequest httpServletRequest) {
+        checkJobAccess(jobId, principal, httpServletRequest);
+        ImportJournalEntriesResult result = importJournalEntriesUseCase.resume(jobId)
+                .getOrElseThrow(BusinessException::new);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+    }
+
+    /**
+     * ジョブを開始したユーザーと管理者以外の操作を拒否する（存在しないジョブは各操作の応答に任せる）
+     */
+    private void checkJobAccess(String jobId, Principal principal, HttpServletRequest httpServletRequest) {
+        if (httpServletRequest.isUserInRole("ADMIN")) {
+            return;
+        }
+        String userId = currentUser(principal).getId().value();
+        importJournalEntriesUseCase.findOwner(jobId)
+                .filter(owner -> !owner.equals(userId))
+                .ifPresent(owner -> {
+                    throw new AccessDeniedException("取込ジョブを操作する権限がありません");
+                });
+    }
+
+    private User currentUser(Principal principal) {
+        return userRepository.findByUsername(principal.getName())
+                .getOrElseThrow(ex -> new RuntimeException("Data access error", ex))
+                .orElseThrow(() -> new BusinessException("ユーザーが存在しません"));
+    }
+
+    private void recordAuditLogSafely(String userId,
+                                      String jobId,
+                                      String description,
+                                      HttpServletRequest httpServletRequest) {
+        try {
+            recordAuditLogUseCase.execute(new RecordAuditLogCommand(
+                    userId,
+                    AuditAction.CREATE,
+                    EntityType.JOURNAL_ENTRY,
+                    jobId,
+                    description,
+                    httpServletRequest.getRemoteAddr()
+            ));
+        } catch (RuntimeException ex) {
+            LOGGER.warn("監査ログ記録に失敗しました。 userId={}, actionType={}", userId, AuditAction.CREATE, ex);
+        }
+    }
+}
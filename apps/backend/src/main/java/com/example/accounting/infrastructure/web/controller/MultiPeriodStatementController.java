@@ -0,0 +1,100 @@
+package com.example.accounting.infrastructure.web.controller;
+
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery;
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementUseCase;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult;
+import com.example.accounting.application.service.MultiPeriodStatementExportService;
+import com.example.accounting.infrastructure.web.etag.LedgerVersionETag;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/multi-period-statements")
+@Tag(name = "複数期間財務諸表", description = "月次推移・複数年比較の財務諸表に関する API")
+public class MultiPeriodStatementController {
+    private final GetMultiPeriodStatementUseCase getMultiPeriodStatementUseCase;
+    private final MultiPeriodStatementExportService exportService;
+    private final LedgerVersionETag ledgerVersionETag;
+
+    public MultiPeriodStatementController(GetMultiPeriodStatementUseCase getMultiPeriodStatementUseCase,
+                                          MultiPeriodStatementExportService exportService,
+                                          LedgerVersionETag ledgerVersionETag) {
+        this.getMultiPeriodStatementUseCase = getMultiPeriodStatementUseCase;
+        this.exportService = exportService;
+        this.ledgerVersionETag = ledgerVersionETag;
+    }
+
+    @Operation(summary = "複数期間財務諸表照会",
+            description = "開始月から指定した期間数（最大 36）の貸借対照表または損益計算書を、期間を列として照会します")
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "304", description = "前回の取得以降、帳票の内容に変更なし（If-None-Match が一致）")
+    @ApiResponse(responseCode = "400", description = "入力不正")
+    @Parameter(name = HttpHeaders.IF_NONE_MATCH, in = ParameterIn.HEADER,
+            description = "前回の応答の ETag を指定すると、帳票の内容に変更がなければ本文なしの 304 を返します")
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<GetMultiPeriodStatementResult> getMultiPeriodStatement(
+            @RequestParam String statementType,
+            @RequestParam YearMonth startMonth,
+            @RequestParam(defaultValue = "12") Integer periodCount,
+            @RequestParam(defaultValue = "MONTH") String periodUnit,
+            WebRequest webRequest
+    ) {
+        GetMultiPeriodStatementQuery query = GetMultiPeriodStatementQuery
+                .of(statementType, startMonth, periodCount, periodUnit)
+                .getOrElseThrow(BusinessException::new);
+        return ledgerVersionETag.respond(webRequest, () -> getMultiPeriodStatementUseCase.execute(query));
+    }
+
+    @Operation(summary = "複数期間財務諸表エクスポート",
+            description = "複数期間の貸借対照表または損益計算書を CSV または Excel 形式でエクスポートします")
+    @ApiResponse(responseCode = "200", description = "エクスポート成功")
+    @ApiResponse(responseCode = "400", description = "入力不正")
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<byte[]> exportMultiPeriodStatement(
+            @RequestParam String statementType,
+            @RequestParam YearMonth startMonth,
+            @RequestParam(defaultValue = "12") Integer periodCount,
+            @RequestParam(defaultValue = "MONTH") String periodUnit,
+            @RequestParam(defaultValue = "excel") String format
+    ) {
+        GetMultiPeriodStatementQuery query = GetMultiPeriodStatementQuery
+                .of(statementType, startMonth, periodCount, periodUnit)
+                .getOrElseThrow(BusinessException::new);
+        GetMultiPeriodStatementResult result = getMultiPeriodStatementUseCase.execute(query);
+
+        if ("csv".equalsIgnoreCase(format)) {
+            return exportService.exportToCsv(result)
+                    .map(bytes -> ResponseEntity.ok()
+                            .header(HttpHeaders.CONTENT_DISPOSITION,
+                                    "attachment; filename=multi-period-statement.csv")
+                            .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                            .body(bytes))
+                    .getOrElseGet(error -> ResponseEntity.internalServerError().build());
+        }
+
+        return exportService.exportToExcel(result)
+                .map(bytes -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=multi-period-statement.xlsx")
+                        .contentType(MediaType.parseMediaType(
+                                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                        .body(bytes))
+                .getOrElseGet(error -> ResponseEntity.internalServerError().build());
+    }
+}
@@ -4,7 +4,10 @@ import com.example.accounting.application.port.in.query.GetProfitAndLossQuery;
 import com.example.accounting.application.port.in.query.GetProfitAndLossUseCase;
 import com.example.accounting.application.port.out.GetProfitAndLossResult;
 import com.example.accounting.application.service.ProfitAndLossExportService;
+import com.example.accounting.infrastructure.web.etag.LedgerVersionETag;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpHeaders;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -24,27 +28,33 @@ import java.time.LocalDate;
 public class ProfitAndLossController {
     private final GetProfitAndLossUseCase getProfitAndLossUseCase;
     private final ProfitAndLossExportService exportService;
+    private final LedgerVersionETag ledgerVersionETag;
 
     public ProfitAndLossController(GetProfitAndLossUseCase getProfitAndLossUseCase,
-                                    ProfitAndLossExportService exportService) {
+                                    ProfitAndLossExportService exportService,
+                                    LedgerVersionETag ledgerVersionETag) {
         this.getProfitAndLossUseCase = getProfitAndLossUseCase;
         this.exportService = exportService;
+        this.ledgerVersionETag = ledgerVersionETag;
     }
 
     @Operation(summary = "損益計算書照会", description = "指定した期間の損益計算書を照会します")
     @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "304", description = "前回の取得以降、帳票の内容に変更なし（If-None-Match が一致）")
+    @Parameter(name = HttpHeaders.IF_NONE_MATCH, in = ParameterIn.HEADER,
+            description = "前回の応答の ETag を指定すると、帳票の内容に変更がなければ本文なしの 304 を返します")
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     public ResponseEntity<GetProfitAndLossResult> getProfitAndLoss(
             @RequestParam(required = false) LocalDate dateFrom,
             @RequestParam(required = false) LocalDate dateTo,
             @RequestParam(required = false) LocalDate comparativeDateFrom,
-            @RequestParam(required = false) LocalDate comparativeDateTo
+            @RequestParam(required = false) LocalDate comparativeDateTo,
+            WebRequest webRequest
     ) {
         GetProfitAndLossQuery query = new GetProfitAndLossQuery(
                 dateFrom, dateTo, comparativeDateFrom, comparativeDateTo);
-        GetProfitAndLossResult result = getProfitAndLossUseCase.execute(query);
-        return ResponseEntity.ok(result);
+        return ledgerVersionETag.respond(webRequest, () -> getProfitAndLossUseCase.execute(query));
     }
 
     @Operation(summary = "損益計算書エクスポート", description = "損益計算書を PDF または Excel 形式でエクスポートします")
@@ -3,6 +3,8 @@ package com.example.accounting.infrastructure.web.controller;
 import com.example.accounting.application.port.in.GetSubsidiaryLedgerUseCase;
 import com.example.accounting.application.port.in.query.GetSubsidiaryLedgerQuery;
 import com.example.accounting.application.port.out.GetSubsidiaryLedgerResult;
+import com.example.accounting.application.port.out.LedgerCursor;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -33,7 +35,9 @@ public class SubsidiaryLedgerController {
      */
     @Operation(
             summary = "補助元帳照会",
-            description = "経理担当者以上が補助元帳を照会します（ページネーション対応）"
+            description = "経理担当者以上が補助元帳を照会します（ページネーション対応）。"
+                    + "withTotal=false の場合は総件数を数えず hasNext のみ返します。"
+                    + "cursor を指定した場合は page を無視し、前ページの nextCursor の続きから取得します"
     )
     @ApiResponse(
             responseCode = "200",
@@ -47,7 +51,9 @@ public class SubsidiaryLedgerController {
             @RequestParam(required = false) LocalDate dateFrom,
             @RequestParam(required = false) LocalDate dateTo,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal
     ) {
         GetSubsidiaryLedgerQuery query = new GetSubsidiaryLedgerQuery(
                 accountCode,
@@ -55,9 +61,20 @@ public class SubsidiaryLedgerController {
                 dateFrom,
                 dateTo,
                 page,
-                size
+                size,
+                withTotal,
+                decodeCursor(cursor)
         );
         GetSubsidiaryLedgerResult result = getSubsidiaryLedgerUseCase.execute(query);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * カーソル文字列を復元する（未指定の場合はオフセットページングとして null を返す）
+     */
+    private LedgerCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank()
+                ? null
+                : LedgerCursor.decode(cursor).getOrElseThrow(BusinessException::new);
+    }
 }
@@ -4,7 +4,10 @@ import com.example.accounting.application.port.in.query.GetTrialBalanceQuery;
 import com.example.accounting.application.port.in.query.GetTrialBalanceUseCase;
 import com.example.accounting.application.port.out.GetTrialBalanceResult;
 import com.example.accounting.application.service.TrialBalanceExportService;
+import com.example.accounting.infrastructure.web.etag.LedgerVersionETag;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpHeaders;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDate;
 
 @RestController
@@ -23,23 +27,29 @@ import java.time.LocalDate;
 public class TrialBalanceController {
     private final GetTrialBalanceUseCase getTrialBalanceUseCase;
     private final TrialBalanceExportService exportService;
+    private final LedgerVersionETag ledgerVersionETag;
 
     public TrialBalanceController(GetTrialBalanceUseCase getTrialBalanceUseCase,
-                                   TrialBalanceExportService exportService) {
+                                   TrialBalanceExportService exportService,
+                                   LedgerVersionETag ledgerVersionETag) {
         this.getTrialBalanceUseCase = getTrialBalanceUseCase;
         this.exportService = exportService;
+        this.ledgerVersionETag = ledgerVersionETag;
     }
 
     @Operation(summary = "残高試算表照会", description = "指定した基準日の残高試算表を照会します")
     @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "304", description = "前回の取得以降、帳票の内容に変更なし（If-None-Match が一致）")
+    @Parameter(name = HttpHeaders.IF_NONE_MATCH, in = ParameterIn.HEADER,
+            description = "前回の応答の ETag を指定すると、帳票の内容に変更がなければ本文なしの 304 を返します")
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     public ResponseEntity<GetTrialBalanceResult> getTrialBalance(
-            @RequestParam(required = false) LocalDate date
+            @RequestParam(required = false) LocalDate date,
+            WebRequest webRequest
     ) {
         GetTrialBalanceQuery query = new GetTrialBalanceQuery(date);
-        GetTrialBalanceResult result = getTrialBalanceUseCase.execute(query);
-        return ResponseEntity.ok(result);
+        return ledgerVersionETag.respond(webRequest, () -> getTrialBalanceUseCase.execute(query));
     }
 
     @Operation(summary = "残高試算表エクスポート", description = "残高試算表を CSV、Excel または PDF 形式でエクスポートします")
@@ -0,0 +1,20 @@
+package com.example.accounting.infrastructure.web.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 仕訳一括承認・確定・差し戻しリクエスト
+ *
+ * <p>対象は仕訳IDの一覧、または仕訳日付の範囲のどちらか一方で指定する。</p>
+ */
+public record BulkJournalEntryTransitionRequest(
+        List<Integer> journalEntryIds,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        @Size(max = 500, message = "差し戻し理由は500文字以内で入力してください")
+        String rejectionReason
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.accounting.infrastructure.web.dto;
+
+public record CancelJournalEntryConfirmationResponse(
+        boolean success,
+        Integer journalEntryId,
+        String status,
+        String message,
+        String errorMessage
+) {
+    public static CancelJournalEntryConfirmationResponse success(Integer journalEntryId, String status,
+                                                                 String message) {
+        return new CancelJournalEntryConfirmationResponse(true, journalEntryId, status, message, null);
+    }
+
+    public static CancelJournalEntryConfirmationResponse failure(String errorMessage) {
+        return new CancelJournalEntryConfirmationResponse(false, null, null, null, errorMessage);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.accounting.infrastructure.web.etag;
+
+import com.example.accounting.application.service.report.LedgerVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 元帳の版による帳票照会 API の条件付き応答
+ *
+ * <p>DB で共有する {@link LedgerVersion} から強い ETag を作る。If-None-Match が現在の ETag と一致する場合は
+ * 帳票を集計せずに 304 を返す。版はすべてのインスタンスで共通で再起動しても戻らないため、
+ * 別のインスタンスが返した ETag でも元帳が変わっていなければ一致する。
+ * 応答は利用者ごとにキャッシュし、毎回再検証させる（Cache-Control: private, no-cache）。</p>
+ */
+@Component
+public class LedgerVersionETag {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final LedgerVersion ledgerVersion;
+
+    public LedgerVersionETag(LedgerVersion ledgerVersion) {
+        this.ledgerVersion = ledgerVersion;
+    }
+
+    /**
+     * 現在の ETag を返す
+     *
+     * @return 引用符で囲んだ強い ETag
+     */
+    public String current() {
+        return "\"" + ledgerVersion.current() + "\"";
+    }
+
+    /**
+     * 要求の If-None-Match が現在の ETag と一致すれば 304、一致しなければ帳票を ETag 付きで返す
+     *
+     * @param webRequest 要求
+     * @param report     帳票の集計処理（304 の場合は実行しない）
+     * @return 応答
+     */
+    public <T> ResponseEntity<T> respond(WebRequest webRequest, Supplier<T> report) {
+        // 集計より前に版を読むことで、ETag が応答の内容より新しい版を指さないようにする
+        String etag = current();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CACHE_CONTROL).body(report.get());
+    }
+}
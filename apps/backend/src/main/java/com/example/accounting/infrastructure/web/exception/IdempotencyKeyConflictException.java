@@ -0,0 +1,11 @@
+package com.example.accounting.infrastructure.web.exception;
+
+/**
+ * 同じ Idempotency-Key の要求が処理中の場合の例外
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.accounting.infrastructure.web.idempotency;
+
+import com.example.accounting.infrastructure.config.IdempotencyProperties;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import com.example.accounting.infrastructure.web.exception.IdempotencyKeyConflictException;
+import io.vavr.control.Try;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key ヘッダによる要求の重複排除
+ *
+ * <p>同じ利用者・操作・キーの要求が再送された場合は処理を実行せず、最初の応答をそのまま返す
+ * （{@value #REPLAYED_HEADER} ヘッダを付ける）。最初の要求が処理中の場合は 409、
+ * 同じキーで内容の異なる要求の場合は 400 を返す。処理が例外で終わった場合はキーを解放し、再送で再実行できるようにする。</p>
+ *
+ * <p>キーごとに要求内容のハッシュと応答だけを保持し、有効期限を過ぎたものは定期的にまとめて破棄する。
+ * 保持件数が上限を超えた場合は有効期限の近い応答から破棄する。保持はアプリケーションのインスタンス単位。</p>
+ */
+@Component
+@SuppressWarnings("PMD.AvoidThrowStatement")
+public class IdempotencyKeyStore {
+
+    /** 要求ヘッダ名 */
+    public static final String HEADER = "Idempotency-Key";
+
+    /** 再送に対して保持していた応答を返したことを示す応答ヘッダ名 */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final AtomicReference<Instant> nextSweepAt;
+
+    public IdempotencyKeyStore(IdempotencyProperties properties, Clock clock) {
+        this.ttl = properties.ttl();
+        this.maxEntries = properties.maxEntries();
+        this.clock = clock;
+        this.nextSweepAt = new AtomicReference<>(clock.instant().plus(SWEEP_INTERVAL));
+    }
+
+    /**
+     * Idempotency-Key ヘッダがあれば重複排除して処理を実行する（ヘッダがなければそのまま実行する）
+     *
+     * @param httpServletRequest HTTP リクエスト
+     * @param scope              操作の種類（エンドポイントごとに一意）
+     * @param userId             要求した利用者
+     * @param requestBody        要求内容（同じキーで内容が異なる要求の検出に使う）
+     * @param action             実行する処理
+     * @return 処理の応答、または再送の場合は最初の応答
+     */
+    public <T> ResponseEntity<T> execute(HttpServletRequest httpServletRequest,
+                                         String scope,
+                                         String userId,
+                                         Object requestBody,
+                                         Supplier<ResponseEntity<T>> action) {
+        String key = httpServletRequest.getHeader(HEADER);
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException("INVALID_IDEMPOTENCY_KEY",
+                    HEADER + " は " + MAX_KEY_LENGTH + " 文字以内で指定してください");
+        }
+
+        Instant now = clock.instant();
+        evictExpired(now);
+        String storeKey = scope + '\n' + userId + '\n' + key;
+        Entry created = new Entry(fingerprint(requestBody), now.plus(ttl));
+        Entry entry = entries.compute(storeKey,
+                (k, current) -> current == null || current.isExpired(now) ? created : current);
+        if (entry != created) {
+            return replay(entry, created.fingerprint);
+        }
+        return Try.ofSupplier(action)
+                .peek(created.response::set)
+                .onFailure(ex -> entries.remove(storeKey, created))
+                .get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> replay(Entry entry, String fingerprint) {
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw new BusinessException("IDEMPOTENCY_KEY_REUSED",
+                    "この " + HEADER + " は別の内容の要求に使用されています");
+        }
+        ResponseEntity<?> response = entry.response.get();
+        if (response == null) {
+            throw new IdempotencyKeyConflictException(
+                    "同じ " + HEADER + " の要求を処理中です。しばらくしてから再送してください");
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body((T) response.getBody());
+    }
+
+    /**
+     * 有効期限を過ぎたキーを破棄する（1 分に 1 回、または上限を超えたときに 1 スレッドだけが行う）
+     */
+    private void evictExpired(Instant now) {
+        Instant next = nextSweepAt.get();
+        boolean due = !now.isBefore(next) || entries.size() > maxEntries;
+        if (!due || !nextSweepAt.compareAndSet(next, now.plus(SWEEP_INTERVAL))) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        int overflow = entries.size() - maxEntries;
+        if (overflow > 0) {
+            entries.entrySet().stream()
+                    .filter(entry -> entry.getValue().response.get() != null)
+                    .sorted(Comparator.comparing(entry -> entry.getValue().expiresAt))
+                    .limit(overflow)
+                    .toList()
+                    .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private static String fingerprint(Object requestBody) {
+        return Try.of(() -> MessageDigest.getInstance("SHA-256"))
+                .map(digest -> digest.digest(String.valueOf(requestBody).getBytes(StandardCharsets.UTF_8)))
+                .map(HexFormat.of()::formatHex)
+                .get();
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final Instant expiresAt;
+        private final AtomicReference<ResponseEntity<?>> response = new AtomicReference<>();
+
+        private Entry(String fingerprint, Instant expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
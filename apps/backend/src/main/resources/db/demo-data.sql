@@ -139,6 +139,11 @@ VALUES (5, 1, (SELECT id FROM accounts WHERE code = '162'), 50000.00, 0.00);
 INSERT INTO journal_entry_lines (journal_entry_id, line_number, account_id, debit_amount, credit_amount)
 VALUES (5, 2, (SELECT id FROM accounts WHERE code = '211'), 0.00, 50000.00);
 
+-- 仕訳ヘッダの借方・貸方合計を明細から設定
+UPDATE journal_entries je SET
+    total_debit_amount = (SELECT COALESCE(SUM(jel.debit_amount), 0) FROM journal_entry_lines jel WHERE jel.journal_entry_id = je.id),
+    total_credit_amount = (SELECT COALESCE(SUM(jel.credit_amount), 0) FROM journal_entry_lines jel WHERE jel.journal_entry_id = je.id);
+
 -- ============================================
 -- 仕訳貸借明細データ
 -- ============================================
@@ -0,0 +1,2 @@
+-- 仕訳一覧のキーセットページング用（ORDER BY journal_date, id / (journal_date, id) > (?, ?) の範囲走査）
+CREATE INDEX idx_journal_entries_date_id ON journal_entries(journal_date, id);
@@ -0,0 +1,45 @@
+-- ============================================
+-- 残高チェックポイントテーブル
+-- 月末時点の確定仕訳の借方・貸方累計を保持し、
+-- 開始残高を「直近のチェックポイント + それ以降の明細」で求める
+-- ============================================
+
+-- 勘定科目残高チェックポイント（journal_entry_lines の勘定科目単位）
+CREATE TABLE IF NOT EXISTS account_balance_checkpoints (
+    checkpoint_date DATE NOT NULL,
+    account_id INTEGER NOT NULL,
+    debit_total NUMERIC(18,2) NOT NULL DEFAULT 0,
+    credit_total NUMERIC(18,2) NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (checkpoint_date, account_id),
+    FOREIGN KEY (account_id)
+        REFERENCES accounts (id)
+);
+
+-- 補助科目残高チェックポイント（journal_entry_debit_credit の勘定科目・補助科目単位）
+CREATE TABLE IF NOT EXISTS sub_account_balance_checkpoints (
+    checkpoint_date DATE NOT NULL,
+    account_code VARCHAR(10) NOT NULL,
+    sub_account_code VARCHAR(10) NOT NULL DEFAULT '',
+    debit_total NUMERIC(18,2) NOT NULL DEFAULT 0,
+    credit_total NUMERIC(18,2) NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (checkpoint_date, account_code, sub_account_code),
+    FOREIGN KEY (account_code)
+        REFERENCES accounts (code)
+);
+
+COMMENT ON TABLE account_balance_checkpoints IS '勘定科目残高チェックポイント';
+COMMENT ON COLUMN account_balance_checkpoints.checkpoint_date IS 'チェックポイント日（月末日、この日を含む累計）';
+COMMENT ON COLUMN account_balance_checkpoints.account_id IS '勘定科目ID';
+COMMENT ON COLUMN account_balance_checkpoints.debit_total IS '借方累計';
+COMMENT ON COLUMN account_balance_checkpoints.credit_total IS '貸方累計';
+
+COMMENT ON TABLE sub_account_balance_checkpoints IS '補助科目残高チェックポイント';
+COMMENT ON COLUMN sub_account_balance_checkpoints.checkpoint_date IS 'チェックポイント日（月末日、この日を含む累計）';
+COMMENT ON COLUMN sub_account_balance_checkpoints.account_code IS '勘定科目コード';
+COMMENT ON COLUMN sub_account_balance_checkpoints.sub_account_code IS '補助科目コード（補助科目なしは空文字）';
+COMMENT ON COLUMN sub_account_balance_checkpoints.debit_total IS '借方累計';
+COMMENT ON COLUMN sub_account_balance_checkpoints.credit_total IS '貸方累計';
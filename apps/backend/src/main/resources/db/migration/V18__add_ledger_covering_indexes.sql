@@ -0,0 +1,23 @@
+-- ============================================
+-- 元帳・検索クエリ用の複合（カバリング）インデックス
+-- 明細は勘定科目で、ヘッダは確定ステータス + 仕訳日付で絞り込む
+-- ============================================
+
+-- 勘定科目別の明細取得・残高集計（総勘定元帳・日次残高・繰越残高・勘定科目での仕訳検索）
+-- 金額と行番号を INCLUDE し、明細本体を読まずにインデックスのみで集計できるようにする
+CREATE INDEX idx_journal_entry_lines_account_entry
+    ON journal_entry_lines(account_id, journal_entry_id)
+    INCLUDE (line_number, debit_amount, credit_amount);
+
+-- 確定仕訳の期間絞り込み（status = 'CONFIRMED' AND journal_date 範囲、journal_date, id 順）
+CREATE INDEX idx_journal_entries_status_date_id
+    ON journal_entries(status, journal_date, id);
+
+-- 補助元帳: 勘定科目・補助科目別の貸借明細
+CREATE INDEX idx_journal_entry_debit_credit_account_sub_entry
+    ON journal_entry_debit_credit(account_code, sub_account_code, journal_entry_id)
+    INCLUDE (line_number, debit_credit_type, amount);
+
+-- 上記インデックスの先頭列と重複するため削除
+DROP INDEX IF EXISTS idx_journal_entries_status;
+DROP INDEX IF EXISTS idx_journal_entry_debit_credit_account;
@@ -0,0 +1,23 @@
+-- 仕訳ヘッダに明細の借方・貸方合計を保持する（金額範囲検索・一覧表示で明細を集計しないため）
+ALTER TABLE journal_entries ADD COLUMN total_debit_amount NUMERIC(15,2) NOT NULL DEFAULT 0;
+ALTER TABLE journal_entries ADD COLUMN total_credit_amount NUMERIC(15,2) NOT NULL DEFAULT 0;
+
+-- 既存仕訳の合計を明細から設定する
+UPDATE journal_entries je SET
+    total_debit_amount = t.total_debit_amount,
+    total_credit_amount = t.total_credit_amount
+FROM (
+    SELECT
+        journal_entry_id,
+        SUM(COALESCE(debit_amount, 0)) AS total_debit_amount,
+        SUM(COALESCE(credit_amount, 0)) AS total_credit_amount
+    FROM journal_entry_lines
+    GROUP BY journal_entry_id
+) t
+WHERE je.id = t.journal_entry_id;
+
+-- 金額範囲検索（total_debit_amount BETWEEN ? AND ?）の範囲走査用
+CREATE INDEX idx_journal_entries_total_debit ON journal_entries(total_debit_amount);
+
+COMMENT ON COLUMN journal_entries.total_debit_amount IS '借方合計金額（明細の借方金額の合計）';
+COMMENT ON COLUMN journal_entries.total_credit_amount IS '貸方合計金額（明細の貸方金額の合計）';
@@ -0,0 +1,9 @@
+-- 摘要の部分一致検索（LIKE '%語%'）用のトライグラムインデックス
+-- B-tree では中間一致を支援できないため、pg_trgm の GIN インデックスを使用する
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_journal_entries_description_trgm
+    ON journal_entries USING gin (description gin_trgm_ops);
+
+CREATE INDEX idx_journal_entry_lines_description_trgm
+    ON journal_entry_lines USING gin (line_description gin_trgm_ops);
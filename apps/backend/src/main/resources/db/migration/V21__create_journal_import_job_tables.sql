@@ -0,0 +1,51 @@
+-- ============================================
+-- 仕訳一括取込ジョブテーブル
+-- チャンクのコミットと同じトランザクションでチェックポイントを更新し、
+-- 中断したジョブを最後にコミットしたチャンクの次の行から再開する
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS journal_import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL,
+    file_format VARCHAR(10) NOT NULL,
+    file_location VARCHAR(1000) NOT NULL,
+    created_by VARCHAR(36) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_committed_row BIGINT NOT NULL DEFAULT 0,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    imported_entries INTEGER NOT NULL DEFAULT 0,
+    failed_entries INTEGER NOT NULL DEFAULT 0,
+    reported_errors INTEGER NOT NULL DEFAULT 0,
+    run_started_at TIMESTAMP NOT NULL,
+    run_start_rows BIGINT NOT NULL DEFAULT 0,
+    error_message TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_journal_import_jobs_status ON journal_import_jobs (status);
+
+CREATE TABLE IF NOT EXISTS journal_import_job_errors (
+    id BIGSERIAL PRIMARY KEY,
+    job_id VARCHAR(36) NOT NULL,
+    source_row BIGINT NOT NULL,
+    entry_key TEXT,
+    message TEXT NOT NULL,
+    FOREIGN KEY (job_id)
+        REFERENCES journal_import_jobs (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_journal_import_job_errors_job_id ON journal_import_job_errors (job_id, id);
+
+COMMENT ON TABLE journal_import_jobs IS '仕訳一括取込ジョブ';
+COMMENT ON COLUMN journal_import_jobs.file_location IS '再開用に保管した取込ファイルの場所';
+COMMENT ON COLUMN journal_import_jobs.status IS 'ステータス（RUNNING, COMPLETED, FAILED, CANCELLED）';
+COMMENT ON COLUMN journal_import_jobs.last_committed_row IS '最後にコミットしたチャンクの最終行番号（再開時はこの行まで読み飛ばす）';
+COMMENT ON COLUMN journal_import_jobs.processed_rows IS 'コミット済みのデータ行数';
+COMMENT ON COLUMN journal_import_jobs.reported_errors IS '記録したエラー件数（上限 1000 件）';
+COMMENT ON COLUMN journal_import_jobs.run_started_at IS '今回の実行（開始または再開）の開始日時';
+COMMENT ON COLUMN journal_import_jobs.run_start_rows IS '今回の実行開始時点の processed_rows（スループット算出用）';
+
+COMMENT ON TABLE journal_import_job_errors IS '仕訳一括取込ジョブのエラー';
+COMMENT ON COLUMN journal_import_job_errors.source_row IS '取込ファイル上の行番号（0 はファイル全体のエラー）';
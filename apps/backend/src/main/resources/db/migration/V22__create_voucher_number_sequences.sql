@@ -0,0 +1,20 @@
+-- ============================================
+-- 仕訳伝票番号の採番テーブル
+-- 伝票区分・会計年度ごとに、次に予約するブロックの先頭番号を保持する。
+-- アプリケーションは番号をブロック単位で予約してメモリ上で払い出すため、
+-- この行のロックはブロックを予約する短いトランザクションの間だけ保持される。
+-- 予約したまま使われなかった番号は欠番になる
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS voucher_number_sequences (
+    voucher_type INTEGER NOT NULL,
+    fiscal_year INTEGER NOT NULL,
+    next_value BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (voucher_type, fiscal_year)
+);
+
+COMMENT ON TABLE voucher_number_sequences IS '仕訳伝票番号の採番（ブロック予約）';
+COMMENT ON COLUMN voucher_number_sequences.voucher_type IS '仕訳伝票区分';
+COMMENT ON COLUMN voucher_number_sequences.fiscal_year IS '会計年度';
+COMMENT ON COLUMN voucher_number_sequences.next_value IS '次に予約するブロックの先頭番号';
@@ -0,0 +1,29 @@
+-- ============================================
+-- 仕訳イベントのアウトボックステーブル
+-- 仕訳の登録・更新・状態遷移・削除と同じトランザクションでイベントを追加し、
+-- ディスパッチャが event_id の順に非同期で投影ハンドラへ配信する。
+-- ハンドラごとの配信済み位置は journal_entry_event_offsets に保持する
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS journal_entry_events (
+    event_id BIGSERIAL PRIMARY KEY,
+    journal_entry_id INTEGER NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20),
+    version INTEGER,
+    occurred_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE journal_entry_events IS '仕訳イベント（アウトボックス）';
+COMMENT ON COLUMN journal_entry_events.event_type IS 'イベント種別（CREATED, UPDATED, SUBMITTED, APPROVED, REJECTED, CONFIRMED, DELETED）';
+COMMENT ON COLUMN journal_entry_events.status IS 'イベント後の仕訳ステータス（削除の場合は NULL）';
+COMMENT ON COLUMN journal_entry_events.version IS 'イベント後の仕訳バージョン（削除の場合は NULL）';
+
+CREATE TABLE IF NOT EXISTS journal_entry_event_offsets (
+    consumer VARCHAR(100) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE journal_entry_event_offsets IS '仕訳イベントのハンドラごとの配信済み位置';
+COMMENT ON COLUMN journal_entry_event_offsets.last_event_id IS '配信済みの最後の event_id';
@@ -0,0 +1,15 @@
+-- ============================================
+-- 残高更新の排他制御テーブル
+-- 仕訳の転記と残高の再構築が同じ残高を同時に書き換えないよう、行ロックの対象として使う。
+-- lock_key は全体ロック（'ALL'）または月ロック（'YYYY-MM'、初回の転記・再構築時に登録）。
+-- 転記は共有ロック、再構築は排他ロックを取得し、ロックはトランザクション終了まで保持される
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS balance_locks (
+    lock_key VARCHAR(7) PRIMARY KEY
+);
+
+INSERT INTO balance_locks (lock_key) VALUES ('ALL');
+
+COMMENT ON TABLE balance_locks IS '残高更新の排他制御（転記と再構築のロック対象）';
+COMMENT ON COLUMN balance_locks.lock_key IS '全体（ALL）または月（YYYY-MM）';
@@ -0,0 +1,25 @@
+-- ============================================
+-- 仕訳イベントの配信順をトランザクション ID 基準にする
+-- event_id は採番順でコミット順ではないため、event_id だけを配信位置にすると、
+-- 先に採番したトランザクションが後からコミットしたイベントを読み飛ばす。
+-- イベントを記録したトランザクションの ID を保持し、実行中のトランザクションのうち最も古いものより前の
+-- トランザクション（すべて終了済み）のイベントだけを (transaction_id, event_id) の順に配信する
+-- ============================================
+
+-- 既存のイベントにはこのマイグレーションのトランザクション ID が入る
+ALTER TABLE journal_entry_events
+    ADD COLUMN transaction_id BIGINT NOT NULL DEFAULT CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT);
+
+CREATE INDEX IF NOT EXISTS idx_journal_entry_events_position
+    ON journal_entry_events (transaction_id, event_id);
+
+COMMENT ON COLUMN journal_entry_events.transaction_id IS 'イベントを記録したトランザクションの ID（配信順の第 1 キー）';
+
+-- 既存の配信位置は、既存のイベントと同じトランザクション ID の中の event_id の位置として引き継ぐ
+ALTER TABLE journal_entry_event_offsets
+    ADD COLUMN last_transaction_id BIGINT NOT NULL DEFAULT 0;
+
+UPDATE journal_entry_event_offsets
+SET last_transaction_id = CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT);
+
+COMMENT ON COLUMN journal_entry_event_offsets.last_transaction_id IS '配信済みの最後のイベントの transaction_id';
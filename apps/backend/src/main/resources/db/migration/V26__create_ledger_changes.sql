@@ -0,0 +1,32 @@
+-- ============================================
+-- 元帳の版と変更履歴テーブル
+-- 日次残高・勘定科目を変更したトランザクションは、コミットの直前に版を 1 つ進め、
+-- 新しい版と残高が変わった期間を変更履歴に記録する。版の行ロックはコミットまで保持されるため、
+-- 版はコミット順に欠番なく並ぶ。各インスタンスは照会のたびに版を読み、
+-- 前回読んだ版より後の変更履歴で集計結果のキャッシュを破棄する。
+-- 変更履歴は保存期間を過ぎると削除する（履歴が途切れたインスタンスはキャッシュをすべて破棄する）
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS ledger_version (
+    id INTEGER PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO ledger_version (id, version) VALUES (1, 0);
+
+CREATE TABLE IF NOT EXISTS ledger_changes (
+    version BIGINT PRIMARY KEY,
+    date_from DATE,
+    date_to DATE,
+    recorded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_changes_recorded_at ON ledger_changes (recorded_at);
+
+COMMENT ON TABLE ledger_version IS '元帳の版（1 行のみ）';
+COMMENT ON COLUMN ledger_version.version IS '元帳の版（日次残高・勘定科目の変更をコミットするたびに増える）';
+COMMENT ON TABLE ledger_changes IS '元帳の変更履歴（集計結果キャッシュの破棄に使う）';
+COMMENT ON COLUMN ledger_changes.version IS '変更で進めた元帳の版';
+COMMENT ON COLUMN ledger_changes.date_from IS '残高が変わった期間の開始日（NULL は制限なし）';
+COMMENT ON COLUMN ledger_changes.date_to IS '残高が変わった期間の終了日（NULL は制限なし）';
+COMMENT ON COLUMN ledger_changes.recorded_at IS '記録日時';
@@ -0,0 +1,9 @@
+-- ============================================
+-- 決算振替仕訳の日次残高を勘定科目・日付で引くインデックス
+-- 基準日時点の残高は月末残高チェックポイント（決算振替仕訳を含む累計）から求めるため、
+-- チェックポイント日までの決算振替分を勘定科目ごとに差し引く。
+-- 決算振替仕訳の行は少ないため、全期間の日次残高を走査せずに取得できる
+-- ============================================
+
+CREATE INDEX IF NOT EXISTS idx_daily_account_balances_closing
+    ON daily_account_balances (is_closing_entry, account_code, posting_date);
@@ -0,0 +1,7 @@
+-- ============================================
+-- 仕訳イベントを記録日時で引くインデックス
+-- ハンドラが登録されていない間は配信済みとして削除できるイベントがないため、
+-- 保存期間を過ぎたイベントを記録日時で削除する
+-- ============================================
+
+CREATE INDEX IF NOT EXISTS idx_journal_entry_events_occurred_at ON journal_entry_events (occurred_at);
@@ -79,6 +79,8 @@ CREATE TABLE IF NOT EXISTS journal_entries (
     is_red_slip INTEGER DEFAULT 0 NOT NULL,
     red_black_voucher_number VARCHAR(20),
     version INTEGER NOT NULL DEFAULT 1,
+    total_debit_amount DECIMAL(15, 2) NOT NULL DEFAULT 0,
+    total_credit_amount DECIMAL(15, 2) NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT fk_journal_entries_user FOREIGN KEY (created_by) REFERENCES users(id),
@@ -89,7 +91,10 @@ CREATE TABLE IF NOT EXISTS journal_entries (
 
 -- インデックス
 CREATE INDEX IF NOT EXISTS idx_journal_entries_date ON journal_entries(journal_date);
-CREATE INDEX IF NOT EXISTS idx_journal_entries_status ON journal_entries(status);
+CREATE INDEX IF NOT EXISTS idx_journal_entries_date_id ON journal_entries(journal_date, id);
+CREATE INDEX IF NOT EXISTS idx_journal_entries_status_date_id ON journal_entries(status, journal_date, id);
+CREATE INDEX IF NOT EXISTS idx_journal_entries_total_debit ON journal_entries(total_debit_amount);
+-- 摘要のトライグラムインデックス（V20）は pg_trgm を使うため PostgreSQL のみ
 CREATE INDEX IF NOT EXISTS idx_journal_entries_approved_by ON journal_entries(approved_by);
 CREATE INDEX IF NOT EXISTS idx_journal_entries_rejected_by ON journal_entries(rejected_by);
 CREATE INDEX IF NOT EXISTS idx_journal_entries_confirmed_by ON journal_entries(confirmed_by);
@@ -116,6 +121,8 @@ CREATE TABLE IF NOT EXISTS journal_entry_lines (
 
 -- インデックス
 CREATE INDEX IF NOT EXISTS idx_journal_entry_lines_journal_entry ON journal_entry_lines(journal_entry_id);
+-- H2 は INCLUDE 句に未対応のため、PostgreSQL 版（V18）のカバリング列は複合キーに含める
+CREATE INDEX IF NOT EXISTS idx_journal_entry_lines_account_entry ON journal_entry_lines(account_id, journal_entry_id, line_number, debit_amount, credit_amount);
 
 -- ============================================
 -- 仕訳貸借明細テーブル (V8)
@@ -151,7 +158,7 @@ CREATE TABLE IF NOT EXISTS journal_entry_debit_credit (
 
 -- インデックス
 CREATE INDEX IF NOT EXISTS idx_journal_entry_debit_credit_entry ON journal_entry_debit_credit(journal_entry_id);
-CREATE INDEX IF NOT EXISTS idx_journal_entry_debit_credit_account ON journal_entry_debit_credit(account_code);
+CREATE INDEX IF NOT EXISTS idx_journal_entry_debit_credit_account_sub_entry ON journal_entry_debit_credit(account_code, sub_account_code, journal_entry_id, line_number, debit_credit_type, amount);
 CREATE INDEX IF NOT EXISTS idx_journal_entry_debit_credit_department ON journal_entry_debit_credit(department_code);
 CREATE INDEX IF NOT EXISTS idx_journal_entry_debit_credit_project ON journal_entry_debit_credit(project_code);
 
@@ -235,6 +242,34 @@ CREATE TABLE IF NOT EXISTS monthly_account_balances (
 CREATE INDEX IF NOT EXISTS idx_monthly_account_balances_period_month ON monthly_account_balances(fiscal_period, "month");
 CREATE INDEX IF NOT EXISTS idx_monthly_account_balances_account ON monthly_account_balances(account_code);
 
+-- ============================================
+-- 残高チェックポイントテーブル (V17)
+-- ============================================
+-- 勘定科目残高チェックポイント（月末時点の借方・貸方累計）
+CREATE TABLE IF NOT EXISTS account_balance_checkpoints (
+    checkpoint_date DATE NOT NULL,
+    account_id INTEGER NOT NULL,
+    debit_total NUMERIC(18,2) NOT NULL DEFAULT 0,
+    credit_total NUMERIC(18,2) NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (checkpoint_date, account_id),
+    CONSTRAINT fk_account_checkpoint_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+-- 補助科目残高チェックポイント（月末時点の借方・貸方累計）
+CREATE TABLE IF NOT EXISTS sub_account_balance_checkpoints (
+    checkpoint_date DATE NOT NULL,
+    account_code VARCHAR(10) NOT NULL,
+    sub_account_code VARCHAR(10) NOT NULL DEFAULT '',
+    debit_total NUMERIC(18,2) NOT NULL DEFAULT 0,
+    credit_total NUMERIC(18,2) NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (checkpoint_date, account_code, sub_account_code),
+    CONSTRAINT fk_sub_account_checkpoint_account FOREIGN KEY (account_code) REFERENCES accounts (code)
+);
+
 -- ============================================
 -- 自動仕訳管理テーブル (V9)
 -- ============================================
@@ -330,3 +365,119 @@ CREATE INDEX IF NOT EXISTS idx_audit_logs_user_id ON audit_logs(user_id);
 CREATE INDEX IF NOT EXISTS idx_audit_logs_action_type ON audit_logs(action_type);
 CREATE INDEX IF NOT EXISTS idx_audit_logs_entity_type ON audit_logs(entity_type);
 CREATE INDEX IF NOT EXISTS idx_audit_logs_created_at ON audit_logs(created_at);
+
+-- ============================================
+-- 仕訳一括取込ジョブテーブル (V21)
+-- H2 用: BIGINT GENERATED BY DEFAULT AS IDENTITY, IF NOT EXISTS 付きインデックス
+-- PostgreSQL 版は V21__create_journal_import_job_tables.sql を参照
+-- ============================================
+CREATE TABLE IF NOT EXISTS journal_import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL,
+    file_format VARCHAR(10) NOT NULL,
+    file_location VARCHAR(1000) NOT NULL,
+    created_by VARCHAR(36) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_committed_row BIGINT NOT NULL DEFAULT 0,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    imported_entries INTEGER NOT NULL DEFAULT 0,
+    failed_entries INTEGER NOT NULL DEFAULT 0,
+    reported_errors INTEGER NOT NULL DEFAULT 0,
+    run_started_at TIMESTAMP NOT NULL,
+    run_start_rows BIGINT NOT NULL DEFAULT 0,
+    error_message CLOB,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_journal_import_jobs_status ON journal_import_jobs (status);
+
+CREATE TABLE IF NOT EXISTS journal_import_job_errors (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id VARCHAR(36) NOT NULL,
+    source_row BIGINT NOT NULL,
+    entry_key CLOB,
+    message CLOB NOT NULL,
+    CONSTRAINT fk_journal_import_job_errors_job FOREIGN KEY (job_id)
+        REFERENCES journal_import_jobs (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_journal_import_job_errors_job_id ON journal_import_job_errors (job_id, id);
+
+-- ============================================
+-- 仕訳伝票番号の採番テーブル (V22)
+-- PostgreSQL 版は V22__create_voucher_number_sequences.sql を参照
+-- ============================================
+CREATE TABLE IF NOT EXISTS voucher_number_sequences (
+    voucher_type INTEGER NOT NULL,
+    fiscal_year INTEGER NOT NULL,
+    next_value BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (voucher_type, fiscal_year)
+);
+
+-- ============================================
+-- 仕訳イベントのアウトボックステーブル (V23, V25)
+-- PostgreSQL 版は V23__create_journal_entry_events.sql, V25__add_transaction_id_to_journal_entry_events.sql を参照
+-- H2 はトランザクション ID を持たないため transaction_id は常に 0（配信順は event_id のみ）
+-- ============================================
+CREATE TABLE IF NOT EXISTS journal_entry_events (
+    event_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    transaction_id BIGINT DEFAULT 0 NOT NULL,
+    journal_entry_id INTEGER NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20),
+    version INTEGER,
+    occurred_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS journal_entry_event_offsets (
+    consumer VARCHAR(100) PRIMARY KEY,
+    last_transaction_id BIGINT DEFAULT 0 NOT NULL,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- ============================================
+-- 残高更新の排他制御テーブル (V24)
+-- PostgreSQL 版は V24__create_balance_locks.sql を参照
+-- ============================================
+CREATE TABLE IF NOT EXISTS balance_locks (
+    lock_key VARCHAR(7) PRIMARY KEY
+);
+
+MERGE INTO balance_locks KEY (lock_key) VALUES ('ALL');
+
+-- ============================================
+-- 元帳の版と変更履歴テーブル (V26)
+-- PostgreSQL 版は V26__create_ledger_changes.sql を参照
+-- ============================================
+CREATE TABLE IF NOT EXISTS ledger_version (
+    id INTEGER PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO ledger_version (id, version) SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM ledger_version);
+
+CREATE TABLE IF NOT EXISTS ledger_changes (
+    version BIGINT PRIMARY KEY,
+    date_from DATE,
+    date_to DATE,
+    recorded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_changes_recorded_at ON ledger_changes (recorded_at);
+
+-- ============================================
+-- 決算振替仕訳の日次残高インデックス (V27)
+-- PostgreSQL 版は V27__add_closing_entry_index_to_daily_account_balances.sql を参照
+-- ============================================
+CREATE INDEX IF NOT EXISTS idx_daily_account_balances_closing
+    ON daily_account_balances (is_closing_entry, account_code, posting_date);
+
+-- ============================================
+-- 仕訳イベントの記録日時インデックス (V28)
+-- PostgreSQL 版は V28__add_occurred_at_index_to_journal_entry_events.sql を参照
+-- ============================================
+CREATE INDEX IF NOT EXISTS idx_journal_entry_events_occurred_at ON journal_entry_events (occurred_at);
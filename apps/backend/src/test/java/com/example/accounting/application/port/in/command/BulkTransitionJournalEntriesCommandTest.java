@@ -0,0 +1,100 @@
+package com.example.accounting.application.port.in.command;
+
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand.Action;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkTransitionJournalEntriesCommand")
+class BulkTransitionJournalEntriesCommandTest {
+
+    @Nested
+    @DisplayName("of")
+    class Of {
+
+        @Test
+        @DisplayName("仕訳IDの重複を取り除いて生成する")
+        void shouldRemoveDuplicateIds() {
+            BulkTransitionJournalEntriesCommand command = BulkTransitionJournalEntriesCommand
+                    .of(Action.APPROVE, List.of(3, 1, 3), null, null, "manager", null)
+                    .get();
+
+            assertThat(command.journalEntryIds()).containsExactly(3, 1);
+            assertThat(command.isRangeSelection()).isFalse();
+        }
+
+        @Test
+        @DisplayName("仕訳日付の範囲だけで生成できる")
+        void shouldCreateWithDateRange() {
+            BulkTransitionJournalEntriesCommand command = BulkTransitionJournalEntriesCommand
+                    .of(Action.CONFIRM, null, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30), "manager", null)
+                    .get();
+
+            assertThat(command.journalEntryIds()).isEmpty();
+            assertThat(command.isRangeSelection()).isTrue();
+        }
+
+        @Test
+        @DisplayName("仕訳IDと範囲の両方、またはどちらも指定しない場合はエラーになる")
+        void shouldRequireExactlyOneSelection() {
+            assertThat(BulkTransitionJournalEntriesCommand
+                    .of(Action.APPROVE, List.of(1), LocalDate.of(2024, 4, 1), null, "manager", null).getLeft())
+                    .isEqualTo("仕訳IDの一覧または仕訳日付の範囲のどちらか一方を指定してください");
+            assertThat(BulkTransitionJournalEntriesCommand
+                    .of(Action.APPROVE, List.of(), null, null, "manager", null).getLeft())
+                    .isEqualTo("仕訳IDの一覧または仕訳日付の範囲のどちらか一方を指定してください");
+        }
+
+        @Test
+        @DisplayName("null の仕訳IDを含む場合はエラーになる")
+        void shouldRejectNullId() {
+            assertThat(BulkTransitionJournalEntriesCommand
+                    .of(Action.APPROVE, Arrays.asList(1, null), null, null, "manager", null).getLeft())
+                    .isEqualTo("仕訳IDは必須です");
+        }
+
+        @Test
+        @DisplayName("上限件数を超える仕訳IDはエラーになる")
+        void shouldRejectTooManyIds() {
+            List<Integer> ids = IntStream.rangeClosed(1, BulkTransitionJournalEntriesCommand.MAX_ENTRIES + 1)
+                    .boxed()
+                    .toList();
+
+            assertThat(BulkTransitionJournalEntriesCommand
+                    .of(Action.CONFIRM, ids, null, null, "manager", null).getLeft())
+                    .isEqualTo("一度に操作できる仕訳は 10000 件までです");
+        }
+
+        @Test
+        @DisplayName("開始日が終了日より後の場合はエラーになる")
+        void shouldRejectReversedRange() {
+            assertThat(BulkTransitionJournalEntriesCommand
+                    .of(Action.APPROVE, null, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 4, 1), "manager", null)
+                    .getLeft())
+                    .isEqualTo("仕訳日付の範囲が正しくありません");
+        }
+
+        @Test
+        @DisplayName("操作者IDが空白の場合はエラーになる")
+        void shouldRequireOperator() {
+            assertThat(BulkTransitionJournalEntriesCommand
+                    .of(Action.APPROVE, List.of(1), null, null, " ", null).getLeft())
+                    .isEqualTo("操作者IDは必須です");
+        }
+
+        @Test
+        @DisplayName("差し戻しは差し戻し理由が必須")
+        void shouldRequireRejectionReason() {
+            assertThat(BulkTransitionJournalEntriesCommand
+                    .of(Action.REJECT, List.of(1), null, null, "manager", " ").getLeft())
+                    .isEqualTo("差し戻し理由は必須です");
+        }
+    }
+}
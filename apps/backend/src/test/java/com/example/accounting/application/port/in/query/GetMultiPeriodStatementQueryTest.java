@@ -0,0 +1,86 @@
+package com.example.accounting.application.port.in.query;
+
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery.PeriodUnit;
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery.StatementType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GetMultiPeriodStatementQuery")
+class GetMultiPeriodStatementQueryTest {
+
+    @Nested
+    @DisplayName("バリデーション")
+    class Validation {
+
+        @Test
+        @DisplayName("帳票の種類が不正な場合はバリデーションエラーになる")
+        void shouldReturnLeftWhenStatementTypeIsInvalid() {
+            assertThat(GetMultiPeriodStatementQuery.of("CASH_FLOW", YearMonth.of(2024, 4), 12, "MONTH").isLeft())
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("開始月が null の場合はバリデーションエラーになる")
+        void shouldReturnLeftWhenStartMonthIsNull() {
+            assertThat(GetMultiPeriodStatementQuery.of("BALANCE_SHEET", null, 12, "MONTH").getLeft())
+                    .isEqualTo("開始月は必須です");
+        }
+
+        @Test
+        @DisplayName("期間数が上限を超える場合はバリデーションエラーになる")
+        void shouldReturnLeftWhenPeriodCountExceedsMax() {
+            assertThat(GetMultiPeriodStatementQuery.of("BALANCE_SHEET", YearMonth.of(2024, 4),
+                    GetMultiPeriodStatementQuery.MAX_PERIODS + 1, "MONTH").isLeft()).isTrue();
+            assertThat(GetMultiPeriodStatementQuery.of("BALANCE_SHEET", YearMonth.of(2024, 4), 0, "MONTH").isLeft())
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("期間の単位が不正な場合はバリデーションエラーになる")
+        void shouldReturnLeftWhenPeriodUnitIsInvalid() {
+            assertThat(GetMultiPeriodStatementQuery.of("BALANCE_SHEET", YearMonth.of(2024, 4), 12, "WEEK").isLeft())
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("大文字・小文字を区別せずにクエリを作成できる")
+        void shouldCreateQueryIgnoringCase() {
+            GetMultiPeriodStatementQuery query = GetMultiPeriodStatementQuery
+                    .of("profit_and_loss", YearMonth.of(2024, 4), 3, "year").get();
+
+            assertThat(query.statementType()).isEqualTo(StatementType.PROFIT_AND_LOSS);
+            assertThat(query.periodUnit()).isEqualTo(PeriodUnit.YEAR);
+        }
+    }
+
+    @Nested
+    @DisplayName("期間の範囲")
+    class PeriodRange {
+
+        @Test
+        @DisplayName("月単位は各月の初日から末日まで")
+        void shouldComputeMonthlyRange() {
+            GetMultiPeriodStatementQuery query = GetMultiPeriodStatementQuery
+                    .of("PROFIT_AND_LOSS", YearMonth.of(2024, 1), 12, "MONTH").get();
+
+            assertThat(query.periodStart(1)).isEqualTo(LocalDate.of(2024, 2, 1));
+            assertThat(query.periodEnd(1)).isEqualTo(LocalDate.of(2024, 2, 29));
+        }
+
+        @Test
+        @DisplayName("年単位は開始月から 12 か月")
+        void shouldComputeYearlyRange() {
+            GetMultiPeriodStatementQuery query = GetMultiPeriodStatementQuery
+                    .of("PROFIT_AND_LOSS", YearMonth.of(2024, 4), 3, "YEAR").get();
+
+            assertThat(query.periodStart(1)).isEqualTo(LocalDate.of(2025, 4, 1));
+            assertThat(query.periodEnd(1)).isEqualTo(LocalDate.of(2026, 3, 31));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.accounting.application.port.out;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JournalEntryCursor")
+class JournalEntryCursorTest {
+
+    @Test
+    @DisplayName("エンコードしたカーソルを復元できる")
+    void shouldRoundTrip() {
+        JournalEntryCursor cursor = new JournalEntryCursor(LocalDate.of(2024, 12, 31), 12345);
+
+        assertThat(JournalEntryCursor.decode(cursor.encode()).get()).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("不正な文字列の場合はエラーメッセージを返す")
+    void shouldReturnLeftWhenTokenIsInvalid() {
+        assertThat(JournalEntryCursor.decode("invalid").getLeft()).isEqualTo("カーソルが不正です");
+        assertThat(JournalEntryCursor.decode("!!!").isLeft()).isTrue();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.accounting.application.port.out;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JournalEntryEventPosition")
+class JournalEntryEventPositionTest {
+
+    @Test
+    @DisplayName("トランザクション ID の順に並べ、同じトランザクションの中はイベントID の順に並べる")
+    void shouldOrderByTransactionIdThenEventId() {
+        List<JournalEntryEventPosition> sorted = Stream.of(
+                        new JournalEntryEventPosition(702, 11),
+                        new JournalEntryEventPosition(701, 13),
+                        new JournalEntryEventPosition(701, 12))
+                .sorted()
+                .toList();
+
+        assertThat(sorted).containsExactly(
+                new JournalEntryEventPosition(701, 12),
+                new JournalEntryEventPosition(701, 13),
+                new JournalEntryEventPosition(702, 11));
+    }
+
+    @Test
+    @DisplayName("先頭の位置はどの記録済みイベントよりも前")
+    void shouldStartBeforeAnyEvent() {
+        assertThat(JournalEntryEventPosition.START).isLessThan(new JournalEntryEventPosition(0, 1));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.accounting.application.port.out;
+
+import com.example.accounting.application.port.out.JournalEntryEvent.Type;
+import com.example.accounting.domain.model.account.AccountId;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.model.journal.JournalEntryLine;
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
+import com.example.accounting.domain.model.journal.Money;
+import com.example.accounting.domain.model.user.UserId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JournalEntryEvent")
+class JournalEntryEventTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 4, 1, 10, 0);
+
+    @Test
+    @DisplayName("呼び出し元が渡した種別と、保存後のステータス・バージョンを持つ")
+    void shouldCreateSavedEvent() {
+        JournalEntryEvent event = JournalEntryEvent.saved(
+                entry(JournalEntryStatus.DRAFT, null, CREATED_AT), Type.CREATED);
+
+        assertThat(event).isEqualTo(new JournalEntryEvent(null, null, 1, Type.CREATED, "DRAFT", 2, null));
+    }
+
+    @Test
+    @DisplayName("種別は仕訳の状態から推測しない（差し戻し直後の下書きの編集も UPDATED）")
+    void shouldNotInferTypeFromEntry() {
+        LocalDateTime rejectedAt = CREATED_AT.plusHours(1);
+
+        assertThat(JournalEntryEvent.saved(entry(JournalEntryStatus.DRAFT, rejectedAt, rejectedAt), Type.UPDATED)
+                .type())
+                .isEqualTo(Type.UPDATED);
+        assertThat(JournalEntryEvent.saved(entry(JournalEntryStatus.DRAFT, rejectedAt, rejectedAt), Type.REJECTED)
+                .type())
+                .isEqualTo(Type.REJECTED);
+    }
+
+    @Test
+    @DisplayName("削除はステータスとバージョンを持たない")
+    void shouldCreateDeletedEvent() {
+        assertThat(JournalEntryEvent.deleted(JournalEntryId.of(5)))
+                .isEqualTo(new JournalEntryEvent(null, null, 5, Type.DELETED, null, null, null));
+    }
+
+    @Test
+    @DisplayName("記録済みのイベントは（トランザクション ID, イベントID）を配信位置とする")
+    void shouldExposePosition() {
+        JournalEntryEvent event = new JournalEntryEvent(12L, 701L, 1, Type.UPDATED, "DRAFT", 2, CREATED_AT);
+
+        assertThat(event.position()).isEqualTo(new JournalEntryEventPosition(701, 12));
+    }
+
+    private JournalEntry entry(JournalEntryStatus status, LocalDateTime rejectedAt, LocalDateTime updatedAt) {
+        return JournalEntry.reconstruct(
+                JournalEntryId.of(1),
+                LocalDate.of(2024, 4, 1),
+                "売上計上",
+                status,
+                2,
+                List.of(JournalEntryLine.of(1, AccountId.of(1), Money.of(new BigDecimal("1000")), null)),
+                UserId.of("user-1"),
+                null,
+                null,
+                rejectedAt == null ? null : UserId.of("manager"),
+                rejectedAt,
+                rejectedAt == null ? null : "金額誤り",
+                null,
+                null,
+                CREATED_AT,
+                updatedAt
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.accounting.application.port.out;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LedgerCursor")
+class LedgerCursorTest {
+
+    @Test
+    @DisplayName("エンコードしたカーソルを復元できる")
+    void shouldRoundTrip() {
+        LedgerCursor cursor = new LedgerCursor(LocalDate.of(2024, 12, 31), 12345, 2, null);
+
+        assertThat(LedgerCursor.decode(cursor.encode()).get()).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("補助元帳の貸借区分も復元できる")
+    void shouldRoundTripWithDebitCreditType() {
+        LedgerCursor cursor = new LedgerCursor(LocalDate.of(2024, 12, 31), 12345, 2, "C");
+
+        assertThat(LedgerCursor.decode(cursor.encode()).get()).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("残高を含む旧形式のカーソルは残高を無視して位置だけを復元する")
+    void shouldIgnoreBalanceOfLegacyToken() {
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-12-31|12345|2||999999".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(LedgerCursor.decode(legacy).get())
+                .isEqualTo(new LedgerCursor(LocalDate.of(2024, 12, 31), 12345, 2, null));
+    }
+
+    @Test
+    @DisplayName("不正な文字列の場合はエラーメッセージを返す")
+    void shouldReturnLeftWhenTokenIsInvalid() {
+        assertThat(LedgerCursor.decode("invalid").getLeft()).isEqualTo("カーソルが不正です");
+        assertThat(LedgerCursor.decode("!!!").isLeft()).isTrue();
+    }
+}
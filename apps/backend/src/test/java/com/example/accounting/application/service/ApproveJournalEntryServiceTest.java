@@ -2,6 +2,7 @@ package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.command.ApproveJournalEntryCommand;
 import com.example.accounting.application.port.out.ApproveJournalEntryResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.account.AccountId;
 import com.example.accounting.domain.model.journal.JournalEntry;
@@ -28,6 +29,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -61,7 +63,7 @@ class ApproveJournalEntryServiceTest {
 
             when(journalEntryRepository.findById(JournalEntryId.of(10)))
                     .thenReturn(Try.success(Optional.of(existingEntry)));
-            when(journalEntryRepository.save(any(JournalEntry.class)))
+            when(journalEntryRepository.save(any(JournalEntry.class), any()))
                     .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
 
             ApproveJournalEntryResult result = approveJournalEntryService.execute(command);
@@ -75,7 +77,7 @@ class ApproveJournalEntryServiceTest {
             assertThat(result.errorMessage()).isNull();
 
             ArgumentCaptor<JournalEntry> captor = ArgumentCaptor.forClass(JournalEntry.class);
-            verify(journalEntryRepository).save(captor.capture());
+            verify(journalEntryRepository).save(captor.capture(), eq(JournalEntryEvent.Type.APPROVED));
             JournalEntry savedEntry = captor.getValue();
 
             assertThat(savedEntry.getStatus()).isEqualTo(JournalEntryStatus.APPROVED);
@@ -100,7 +102,7 @@ class ApproveJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("仕訳が見つかりません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
 
         @Test
@@ -140,7 +142,7 @@ class ApproveJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("承認待ち状態の仕訳のみ承認可能です");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
 
         @Test
@@ -180,7 +182,7 @@ class ApproveJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("承認待ち状態の仕訳のみ承認可能です");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
     }
 
@@ -0,0 +1,160 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.BalanceCheckpointRepository;
+import com.example.accounting.application.port.out.BalanceLockRepository;
+import com.example.accounting.application.port.out.DailyAccountBalanceRepository;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 残高再構築チャンク処理サービスのテスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("残高再構築チャンク処理サービス")
+class BalanceRebuildChunkServiceTest {
+
+    @Mock
+    private BalanceLockRepository balanceLockRepository;
+
+    @Mock
+    private DailyAccountBalanceRepository dailyAccountBalanceRepository;
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Mock
+    private MonthlyBalanceRollUpService monthlyBalanceRollUpService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private BalanceRebuildChunkService balanceRebuildChunkService;
+
+    @BeforeEach
+    void setUp() {
+        balanceRebuildChunkService = new BalanceRebuildChunkService(balanceLockRepository,
+                dailyAccountBalanceRepository, balanceCheckpointRepository, monthlyBalanceRollUpService,
+                applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("月初から翌月初までの日次残高を再構築する")
+    void shouldRebuildDailyBalancesForMonth() {
+        when(balanceLockRepository.lockMonthForRebuild(YearMonth.of(2024, 2))).thenReturn(Try.success(null));
+        when(dailyAccountBalanceRepository.rebuild(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)))
+                .thenReturn(Try.success(5));
+
+        int rows = balanceRebuildChunkService.rebuildDailyBalances(YearMonth.of(2024, 2));
+
+        assertThat(rows).isEqualTo(5);
+        verify(applicationEventPublisher).publishEvent(
+                new LedgerChangedEvent(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    @DisplayName("日次残高の再構築に失敗した場合は例外を送出する")
+    void shouldThrowWhenDailyRebuildFails() {
+        when(balanceLockRepository.lockMonthForRebuild(YearMonth.of(2024, 12))).thenReturn(Try.success(null));
+        when(dailyAccountBalanceRepository.rebuild(LocalDate.of(2024, 12, 1), LocalDate.of(2025, 1, 1)))
+                .thenReturn(Try.failure(new RuntimeException("DB error")));
+
+        assertThatThrownBy(() -> balanceRebuildChunkService.rebuildDailyBalances(YearMonth.of(2024, 12)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+    }
+
+    @Test
+    @DisplayName("月次残高の再構築をロールアップサービスへ委譲する")
+    void shouldDelegateMonthlyRebuild() {
+        when(balanceLockRepository.lockAllForRebuild()).thenReturn(Try.success(null));
+        when(balanceCheckpointRepository.findCheckpointDatesAfter(LocalDate.of(2024, 12, 31)))
+                .thenReturn(Try.success(List.of()));
+        when(balanceCheckpointRepository.rebuild(any())).thenReturn(Try.success(3));
+
+        balanceRebuildChunkService.rebuildMonthlyBalances(2024);
+
+        verify(monthlyBalanceRollUpService).rebuild(2024);
+    }
+
+    @Test
+    @DisplayName("月次残高の再構築後に各月末のチェックポイントを期首から順に再構築する")
+    void shouldRebuildCheckpointsForEachMonthEndInOrder() {
+        when(balanceLockRepository.lockAllForRebuild()).thenReturn(Try.success(null));
+        when(balanceCheckpointRepository.findCheckpointDatesAfter(LocalDate.of(2024, 12, 31)))
+                .thenReturn(Try.success(List.of()));
+        when(balanceCheckpointRepository.rebuild(any())).thenReturn(Try.success(3));
+
+        balanceRebuildChunkService.rebuildMonthlyBalances(2024);
+
+        InOrder inOrder = inOrder(balanceLockRepository, monthlyBalanceRollUpService, balanceCheckpointRepository);
+        inOrder.verify(balanceLockRepository).lockAllForRebuild();
+        inOrder.verify(monthlyBalanceRollUpService).rebuild(2024);
+        inOrder.verify(balanceCheckpointRepository).rebuild(LocalDate.of(2024, 1, 31));
+        inOrder.verify(balanceCheckpointRepository).rebuild(LocalDate.of(2024, 2, 29));
+        inOrder.verify(balanceCheckpointRepository).rebuild(LocalDate.of(2024, 12, 31));
+        verify(balanceCheckpointRepository, times(12)).rebuild(any());
+    }
+
+    @Test
+    @DisplayName("期末より後の既存チェックポイントも期末の再構築に続けて古い順に再構築する")
+    void shouldCascadeToCheckpointsOfLaterPeriods() {
+        when(balanceLockRepository.lockAllForRebuild()).thenReturn(Try.success(null));
+        when(balanceCheckpointRepository.findCheckpointDatesAfter(LocalDate.of(2024, 12, 31)))
+                .thenReturn(Try.success(List.of(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 28))));
+        when(balanceCheckpointRepository.rebuild(any())).thenReturn(Try.success(3));
+
+        balanceRebuildChunkService.rebuildMonthlyBalances(2024);
+
+        InOrder inOrder = inOrder(balanceCheckpointRepository);
+        inOrder.verify(balanceCheckpointRepository).rebuild(LocalDate.of(2024, 12, 31));
+        inOrder.verify(balanceCheckpointRepository).rebuild(LocalDate.of(2025, 1, 31));
+        inOrder.verify(balanceCheckpointRepository).rebuild(LocalDate.of(2025, 2, 28));
+        verify(balanceCheckpointRepository, times(14)).rebuild(any());
+    }
+
+    @Test
+    @DisplayName("チェックポイントの再構築に失敗した場合は例外を送出する")
+    void shouldThrowWhenCheckpointRebuildFails() {
+        when(balanceLockRepository.lockAllForRebuild()).thenReturn(Try.success(null));
+        when(balanceCheckpointRepository.findCheckpointDatesAfter(LocalDate.of(2024, 12, 31)))
+                .thenReturn(Try.success(List.of()));
+        when(balanceCheckpointRepository.rebuild(any()))
+                .thenReturn(Try.failure(new RuntimeException("DB error")));
+
+        assertThatThrownBy(() -> balanceRebuildChunkService.rebuildMonthlyBalances(2024))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+    }
+
+    @Test
+    @DisplayName("ロックの取得に失敗した場合は日次残高を再構築しない")
+    void shouldNotRebuildWhenLockFails() {
+        when(balanceLockRepository.lockMonthForRebuild(YearMonth.of(2024, 2)))
+                .thenReturn(Try.failure(new RuntimeException("lock timeout")));
+
+        assertThatThrownBy(() -> balanceRebuildChunkService.rebuildDailyBalances(YearMonth.of(2024, 2)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+        verify(dailyAccountBalanceRepository, never()).rebuild(any(), any());
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand;
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand.Action;
+import com.example.accounting.application.port.out.BulkTransitionJournalEntriesResult;
+import com.example.accounting.application.port.out.BulkTransitionJournalEntriesResult.Failure;
+import com.example.accounting.application.port.out.GetJournalEntriesResult.JournalEntrySummary;
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import com.example.accounting.application.port.out.JournalEntryRepository;
+import com.example.accounting.domain.model.account.AccountId;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.model.journal.JournalEntryLine;
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
+import com.example.accounting.domain.model.journal.Money;
+import com.example.accounting.domain.model.user.UserId;
+import com.example.accounting.domain.shared.OptimisticLockException;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 仕訳一括状態遷移サービスのテスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳一括状態遷移サービス")
+class BulkTransitionJournalEntriesServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 9, 0);
+
+    @Mock
+    private JournalEntryRepository journalEntryRepository;
+
+    @Mock
+    private JournalPostingService journalPostingService;
+
+    private BulkTransitionJournalEntriesService service;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId zone = ZoneId.of("Asia/Tokyo");
+        Clock clock = Clock.fixed(NOW.atZone(zone).toInstant(), zone);
+        service = new BulkTransitionJournalEntriesService(journalEntryRepository, journalPostingService, clock);
+    }
+
+    @Test
+    @DisplayName("承認待ちの仕訳をまとめて承認し、遷移できない仕訳は理由とともに返す")
+    @SuppressWarnings("unchecked")
+    void shouldApprovePendingEntriesAndReportFailures() {
+        when(journalEntryRepository.findAllByIds(List.of(JournalEntryId.of(1), JournalEntryId.of(2),
+                JournalEntryId.of(3))))
+                .thenReturn(Try.success(List.of(entry(2, JournalEntryStatus.APPROVED), entry(1, JournalEntryStatus.PENDING))));
+        when(journalEntryRepository.saveTransitions(anyList(), any()))
+                .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
+
+        BulkTransitionJournalEntriesResult result = execute(Action.APPROVE, List.of(1, 2, 3), null);
+
+        assertThat(result.action()).isEqualTo("APPROVE");
+        assertThat(result.status()).isEqualTo("APPROVED");
+        assertThat(result.requested()).isEqualTo(3);
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.journalEntryIds()).containsExactly(1);
+        assertThat(result.failures()).containsExactly(
+                new Failure(2, "承認待ち状態の仕訳のみ承認可能です"),
+                new Failure(3, "仕訳が見つかりません"));
+
+        ArgumentCaptor<List<JournalEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(journalEntryRepository).saveTransitions(captor.capture(), eq(JournalEntryEvent.Type.APPROVED));
+        assertThat(captor.getValue()).singleElement().satisfies(saved -> {
+            assertThat(saved.getStatus()).isEqualTo(JournalEntryStatus.APPROVED);
+            assertThat(saved.getApprovedBy()).isEqualTo(UserId.of("manager"));
+            assertThat(saved.getApprovedAt()).isEqualTo(NOW);
+        });
+        verify(journalPostingService, never()).postAll(any());
+    }
+
+    @Test
+    @DisplayName("確定した仕訳はまとめて残高へ転記する")
+    void shouldPostConfirmedEntries() {
+        when(journalEntryRepository.findAllByIds(List.of(JournalEntryId.of(1), JournalEntryId.of(2))))
+                .thenReturn(Try.success(List.of(entry(1, JournalEntryStatus.APPROVED),
+                        entry(2, JournalEntryStatus.APPROVED))));
+        List<JournalEntry> saved = List.of(entry(1, JournalEntryStatus.CONFIRMED), entry(2, JournalEntryStatus.CONFIRMED));
+        when(journalEntryRepository.saveTransitions(anyList(), eq(JournalEntryEvent.Type.CONFIRMED)))
+                .thenReturn(Try.success(saved));
+
+        BulkTransitionJournalEntriesResult result = execute(Action.CONFIRM, List.of(1, 2), null);
+
+        assertThat(result.status()).isEqualTo("CONFIRMED");
+        assertThat(result.journalEntryIds()).containsExactly(1, 2);
+        verify(journalPostingService).postAll(saved);
+    }
+
+    @Test
+    @DisplayName("差し戻しでは差し戻し理由を設定して下書きに戻す")
+    @SuppressWarnings("unchecked")
+    void shouldRejectWithReason() {
+        when(journalEntryRepository.findAllByIds(List.of(JournalEntryId.of(1))))
+                .thenReturn(Try.success(List.of(entry(1, JournalEntryStatus.PENDING))));
+        when(journalEntryRepository.saveTransitions(anyList(), any()))
+                .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
+
+        BulkTransitionJournalEntriesResult result = execute(Action.REJECT, List.of(1), "金額誤り");
+
+        assertThat(result.status()).isEqualTo("DRAFT");
+        ArgumentCaptor<List<JournalEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(journalEntryRepository).saveTransitions(captor.capture(), eq(JournalEntryEvent.Type.REJECTED));
+        assertThat(captor.getValue().getFirst().getRejectionReason()).isEqualTo("金額誤り");
+    }
+
+    @Test
+    @DisplayName("仕訳日付の範囲で指定した場合は遷移元ステータスの仕訳を対象にする")
+    void shouldResolveTargetsByDateRange() {
+        LocalDate from = LocalDate.of(2024, 4, 1);
+        LocalDate to = LocalDate.of(2024, 4, 30);
+        when(journalEntryRepository.findSummariesByConditions(
+                List.of("APPROVED"), from, to, 0, BulkTransitionJournalEntriesCommand.MAX_ENTRIES + 1))
+                .thenReturn(Try.success(List.of(summary(5))));
+        when(journalEntryRepository.findAllByIds(List.of(JournalEntryId.of(5))))
+                .thenReturn(Try.success(List.of(entry(5, JournalEntryStatus.APPROVED))));
+        when(journalEntryRepository.saveTransitions(anyList(), any()))
+                .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
+
+        Either<String, BulkTransitionJournalEntriesResult> result = service.execute(BulkTransitionJournalEntriesCommand
+                .of(Action.CONFIRM, null, from, to, "manager", null).get());
+
+        assertThat(result.get().journalEntryIds()).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("範囲内の対象が上限件数を超える場合はエラーを返し、更新しない")
+    void shouldRejectWhenRangeExceedsLimit() {
+        List<JournalEntrySummary> summaries = IntStream.rangeClosed(1, BulkTransitionJournalEntriesCommand.MAX_ENTRIES + 1)
+                .mapToObj(this::summary)
+                .toList();
+        when(journalEntryRepository.findSummariesByConditions(any(), any(), any(), any(Integer.class), any(Integer.class)))
+                .thenReturn(Try.success(summaries));
+
+        Either<String, BulkTransitionJournalEntriesResult> result = service.execute(BulkTransitionJournalEntriesCommand
+                .of(Action.APPROVE, null, LocalDate.of(2024, 1, 1), null, "manager", null).get());
+
+        assertThat(result.getLeft()).startsWith("対象の仕訳が 10000 件を超えています");
+        verify(journalEntryRepository, never()).saveTransitions(any(), any());
+    }
+
+    @Test
+    @DisplayName("読み込み後に他の操作で更新された仕訳がある場合は楽観ロック例外を送出し、転記しない")
+    void shouldPropagateOptimisticLockFailure() {
+        when(journalEntryRepository.findAllByIds(List.of(JournalEntryId.of(1))))
+                .thenReturn(Try.success(List.of(entry(1, JournalEntryStatus.APPROVED))));
+        when(journalEntryRepository.saveTransitions(anyList(), any()))
+                .thenReturn(Try.failure(new OptimisticLockException("仕訳の更新に失敗しました。再読み込みしてください。")));
+        BulkTransitionJournalEntriesCommand command = BulkTransitionJournalEntriesCommand
+                .of(Action.CONFIRM, List.of(1), null, null, "manager", null).get();
+
+        assertThatThrownBy(() -> service.execute(command))
+                .isInstanceOf(OptimisticLockException.class);
+        verify(journalPostingService, never()).postAll(any());
+    }
+
+    private BulkTransitionJournalEntriesResult execute(Action action, List<Integer> ids, String rejectionReason) {
+        return service.execute(BulkTransitionJournalEntriesCommand
+                        .of(action, ids, null, null, "manager", rejectionReason).get())
+                .get();
+    }
+
+    private JournalEntrySummary summary(int id) {
+        return new JournalEntrySummary(id, LocalDate.of(2024, 4, 1), "売上計上",
+                new BigDecimal("1000"), new BigDecimal("1000"), "APPROVED", 1);
+    }
+
+    private JournalEntry entry(int id, JournalEntryStatus status) {
+        return JournalEntry.reconstruct(
+                JournalEntryId.of(id),
+                LocalDate.of(2024, 4, 1),
+                "売上計上",
+                status,
+                1,
+                List.of(JournalEntryLine.of(1, AccountId.of(1), Money.of(new BigDecimal("1000")), null)),
+                UserId.of("user-1"),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                LocalDateTime.of(2024, 4, 1, 10, 0),
+                LocalDateTime.of(2024, 4, 1, 10, 0)
+        );
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.in.command.CancelJournalEntryConfirmationCommand;
+import com.example.accounting.application.port.out.CancelJournalEntryConfirmationResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import com.example.accounting.application.port.out.JournalEntryRepository;
+import com.example.accounting.domain.model.account.AccountId;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.model.journal.JournalEntryLine;
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
+import com.example.accounting.domain.model.journal.Money;
+import com.example.accounting.domain.model.user.UserId;
+import com.example.accounting.domain.shared.OptimisticLockException;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 仕訳確定取消サービスのテスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳確定取消サービス")
+class CancelJournalEntryConfirmationServiceTest {
+
+    @Mock
+    private JournalEntryRepository journalEntryRepository;
+
+    @Mock
+    private JournalPostingService journalPostingService;
+
+    private CancelJournalEntryConfirmationService cancelJournalEntryConfirmationService;
+
+    @BeforeEach
+    void setUp() {
+        cancelJournalEntryConfirmationService =
+                new CancelJournalEntryConfirmationService(journalEntryRepository, journalPostingService);
+    }
+
+    @Nested
+    @DisplayName("確定取消成功")
+    class SuccessfulCancellation {
+
+        @Test
+        @DisplayName("確定済み仕訳を承認済みに戻して保存した後に転記を取り消す")
+        void shouldSaveTransitionBeforeUnposting() {
+            JournalEntry existingEntry = entryWithStatus(JournalEntryStatus.CONFIRMED);
+
+            when(journalEntryRepository.findById(JournalEntryId.of(10)))
+                    .thenReturn(Try.success(Optional.of(existingEntry)));
+            when(journalEntryRepository.save(any(JournalEntry.class), any()))
+                    .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
+
+            CancelJournalEntryConfirmationResult result =
+                    cancelJournalEntryConfirmationService.execute(new CancelJournalEntryConfirmationCommand(10));
+
+            assertThat(result.success()).isTrue();
+            assertThat(result.journalEntryId()).isEqualTo(10);
+            assertThat(result.status()).isEqualTo(JournalEntryStatus.APPROVED.name());
+            assertThat(result.message()).isEqualTo("仕訳の確定を取り消しました");
+
+            ArgumentCaptor<JournalEntry> captor = ArgumentCaptor.forClass(JournalEntry.class);
+            InOrder inOrder = inOrder(journalEntryRepository, journalPostingService);
+            inOrder.verify(journalEntryRepository).save(captor.capture(), eq(JournalEntryEvent.Type.UNCONFIRMED));
+            inOrder.verify(journalPostingService).unpost(existingEntry);
+            assertThat(captor.getValue().getStatus()).isEqualTo(JournalEntryStatus.APPROVED);
+            assertThat(captor.getValue().getVersion()).isEqualTo(existingEntry.getVersion());
+            verify(journalEntryRepository, never()).deleteById(any(JournalEntryId.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("確定取消失敗")
+    class FailedCancellation {
+
+        @Test
+        @DisplayName("仕訳が存在しない場合はエラー")
+        void shouldFailWhenJournalEntryNotFound() {
+            when(journalEntryRepository.findById(JournalEntryId.of(99)))
+                    .thenReturn(Try.success(Optional.empty()));
+
+            CancelJournalEntryConfirmationResult result =
+                    cancelJournalEntryConfirmationService.execute(new CancelJournalEntryConfirmationCommand(99));
+
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorMessage()).isEqualTo("仕訳が見つかりません");
+            verify(journalPostingService, never()).unpost(any(JournalEntry.class));
+        }
+
+        @Test
+        @DisplayName("確定済み以外のステータスでは確定取消できない")
+        void shouldFailWhenStatusIsNotConfirmed() {
+            when(journalEntryRepository.findById(JournalEntryId.of(10)))
+                    .thenReturn(Try.success(Optional.of(entryWithStatus(JournalEntryStatus.APPROVED))));
+
+            CancelJournalEntryConfirmationResult result =
+                    cancelJournalEntryConfirmationService.execute(new CancelJournalEntryConfirmationCommand(10));
+
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorMessage()).isEqualTo("確定済み状態の仕訳のみ確定取消可能です");
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
+            verify(journalPostingService, never()).unpost(any(JournalEntry.class));
+        }
+
+        @Test
+        @DisplayName("他の操作で先に更新されていた場合は転記を取り消さずに楽観ロック例外をそのまま送出する")
+        void shouldNotUnpostWhenVersionConflicts() {
+            when(journalEntryRepository.findById(JournalEntryId.of(10)))
+                    .thenReturn(Try.success(Optional.of(entryWithStatus(JournalEntryStatus.CONFIRMED))));
+            when(journalEntryRepository.save(any(JournalEntry.class), any()))
+                    .thenReturn(Try.failure(new OptimisticLockException("仕訳の更新に失敗しました。再読み込みしてください。")));
+
+            assertThatThrownBy(() ->
+                    cancelJournalEntryConfirmationService.execute(new CancelJournalEntryConfirmationCommand(10)))
+                    .isInstanceOf(OptimisticLockException.class);
+            verify(journalPostingService, never()).unpost(any(JournalEntry.class));
+        }
+    }
+
+    private JournalEntry entryWithStatus(JournalEntryStatus status) {
+        boolean confirmed = status == JournalEntryStatus.CONFIRMED;
+        return JournalEntry.reconstruct(
+                JournalEntryId.of(10),
+                LocalDate.of(2024, 1, 31),
+                "売上計上",
+                status,
+                3,
+                List.of(
+                        JournalEntryLine.of(
+                                1,
+                                AccountId.of(1),
+                                Money.of(new BigDecimal("1000")),
+                                null
+                        )
+                ),
+                UserId.of("user-1"),
+                UserId.of("approver-1"),
+                LocalDateTime.of(2024, 2, 1, 10, 0),
+                null,
+                null,
+                null,
+                confirmed ? UserId.of("confirmer-1") : null,
+                confirmed ? LocalDateTime.of(2024, 2, 2, 10, 0) : null,
+                LocalDateTime.of(2024, 1, 31, 10, 0),
+                LocalDateTime.of(2024, 1, 31, 10, 0)
+        );
+    }
+}
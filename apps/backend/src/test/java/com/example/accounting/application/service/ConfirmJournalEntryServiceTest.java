@@ -2,6 +2,7 @@ package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.command.ConfirmJournalEntryCommand;
 import com.example.accounting.application.port.out.ConfirmJournalEntryResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.account.AccountId;
 import com.example.accounting.domain.model.journal.JournalEntry;
@@ -28,6 +29,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,11 +44,14 @@ class ConfirmJournalEntryServiceTest {
     @Mock
     private JournalEntryRepository journalEntryRepository;
 
+    @Mock
+    private JournalPostingService journalPostingService;
+
     private ConfirmJournalEntryService confirmJournalEntryService;
 
     @BeforeEach
     void setUp() {
-        confirmJournalEntryService = new ConfirmJournalEntryService(journalEntryRepository);
+        confirmJournalEntryService = new ConfirmJournalEntryService(journalEntryRepository, journalPostingService);
     }
 
     @Nested
@@ -61,7 +66,7 @@ class ConfirmJournalEntryServiceTest {
 
             when(journalEntryRepository.findById(JournalEntryId.of(10)))
                     .thenReturn(Try.success(Optional.of(existingEntry)));
-            when(journalEntryRepository.save(any(JournalEntry.class)))
+            when(journalEntryRepository.save(any(JournalEntry.class), any()))
                     .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
 
             ConfirmJournalEntryResult result = confirmJournalEntryService.execute(command);
@@ -75,12 +80,13 @@ class ConfirmJournalEntryServiceTest {
             assertThat(result.errorMessage()).isNull();
 
             ArgumentCaptor<JournalEntry> captor = ArgumentCaptor.forClass(JournalEntry.class);
-            verify(journalEntryRepository).save(captor.capture());
+            verify(journalEntryRepository).save(captor.capture(), eq(JournalEntryEvent.Type.CONFIRMED));
             JournalEntry savedEntry = captor.getValue();
 
             assertThat(savedEntry.getStatus()).isEqualTo(JournalEntryStatus.CONFIRMED);
             assertThat(savedEntry.getConfirmedBy()).isEqualTo(UserId.of("confirmer-1"));
             assertThat(savedEntry.getConfirmedAt()).isNotNull();
+            verify(journalPostingService).post(savedEntry);
         }
     }
 
@@ -100,7 +106,8 @@ class ConfirmJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("仕訳が見つかりません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
+            verify(journalPostingService, never()).post(any(JournalEntry.class));
         }
 
         @Test
@@ -116,7 +123,8 @@ class ConfirmJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("承認済み状態の仕訳のみ確定可能です");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
+            verify(journalPostingService, never()).post(any(JournalEntry.class));
         }
     }
 
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,11 +34,14 @@ class CreateAccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private CreateAccountService createAccountService;
 
     @BeforeEach
     void setUp() {
-        createAccountService = new CreateAccountService(accountRepository);
+        createAccountService = new CreateAccountService(accountRepository, applicationEventPublisher);
     }
 
     @Nested
@@ -76,6 +80,7 @@ class CreateAccountServiceTest {
 
             ArgumentCaptor<Account> accountCaptor = ArgumentCaptor.forClass(Account.class);
             verify(accountRepository).save(accountCaptor.capture());
+            verify(applicationEventPublisher).publishEvent(LedgerChangedEvent.allDates());
             Account accountToSave = accountCaptor.getValue();
             assertThat(accountToSave.getId()).isNull(); // 保存前は null
             assertThat(accountToSave.getAccountCode().value()).isEqualTo("1100");
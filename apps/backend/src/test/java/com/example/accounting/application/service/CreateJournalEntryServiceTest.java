@@ -3,6 +3,7 @@ package com.example.accounting.application.service;
 import com.example.accounting.application.port.in.command.CreateJournalEntryCommand;
 import com.example.accounting.application.port.out.AccountRepository;
 import com.example.accounting.application.port.out.CreateJournalEntryResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.account.Account;
 import com.example.accounting.domain.model.account.AccountCode;
@@ -23,14 +24,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -48,17 +56,62 @@ class CreateJournalEntryServiceTest {
     @Mock
     private JournalEntryRepository journalEntryRepository;
 
+    @Mock
+    private VoucherNumberAllocator voucherNumberAllocator;
+
     private CreateJournalEntryService createJournalEntryService;
 
     @BeforeEach
     void setUp() {
-        createJournalEntryService = new CreateJournalEntryService(accountRepository, journalEntryRepository);
+        createJournalEntryService = new CreateJournalEntryService(accountRepository, journalEntryRepository,
+                voucherNumberAllocator, TransactionOperations.withoutTransaction());
+        lenient().when(voucherNumberAllocator.assign(any(JournalEntry.class)))
+                .thenAnswer(invocation -> invocation.<JournalEntry>getArgument(0).withVoucherNumber("00-2024-0000001"));
     }
 
     @Nested
     @DisplayName("登録成功")
     class SuccessfulRegister {
 
+        @Test
+        @DisplayName("伝票番号は仕訳登録のトランザクションを開始する前に払い出す")
+        void shouldAssignVoucherNumberBeforeTransaction() {
+            AtomicBoolean inTransaction = new AtomicBoolean(false);
+            createJournalEntryService = new CreateJournalEntryService(accountRepository, journalEntryRepository,
+                    voucherNumberAllocator, new TransactionOperations() {
+                        @Override
+                        public <T> T execute(TransactionCallback<T> action) {
+                            inTransaction.set(true);
+                            try {
+                                return action.doInTransaction(new SimpleTransactionStatus());
+                            } finally {
+                                inTransaction.set(false);
+                            }
+                        }
+                    });
+            List<Boolean> assignedInTransaction = new ArrayList<>();
+            when(voucherNumberAllocator.assign(any(JournalEntry.class))).thenAnswer(invocation -> {
+                assignedInTransaction.add(inTransaction.get());
+                return invocation.<JournalEntry>getArgument(0).withVoucherNumber("00-2024-0000001");
+            });
+            List<Boolean> savedInTransaction = new ArrayList<>();
+            when(accountRepository.findById(any(AccountId.class)))
+                    .thenReturn(Try.success(Optional.of(dummyAccount(1))));
+            when(journalEntryRepository.save(any(JournalEntry.class), any())).thenAnswer(invocation -> {
+                savedInTransaction.add(inTransaction.get());
+                return Try.success(invocation.<JournalEntry>getArgument(0).withId(JournalEntryId.of(10)));
+            });
+
+            CreateJournalEntryResult result = createJournalEntryService.execute(new CreateJournalEntryCommand(
+                    LocalDate.of(2024, 1, 31), "売上計上", "user-1", List.of(
+                            new CreateJournalEntryCommand.JournalEntryLineInput(1, 1, new BigDecimal("1000"), null),
+                            new CreateJournalEntryCommand.JournalEntryLineInput(2, 2, null, new BigDecimal("1000")))));
+
+            assertThat(result.success()).isTrue();
+            assertThat(assignedInTransaction).containsExactly(false);
+            assertThat(savedInTransaction).containsExactly(true);
+        }
+
         @Test
         @DisplayName("有効な情報で仕訳を登録できる")
         void shouldCreateJournalEntryWithValidCommand() {
@@ -86,7 +139,7 @@ class CreateJournalEntryServiceTest {
                     .thenReturn(Try.success(Optional.of(dummyAccount(1))));
             when(accountRepository.findById(AccountId.of(2)))
                     .thenReturn(Try.success(Optional.of(dummyAccount(2))));
-            when(journalEntryRepository.save(any(JournalEntry.class)))
+            when(journalEntryRepository.save(any(JournalEntry.class), any()))
                     .thenAnswer(invocation -> {
                         JournalEntry entry = invocation.getArgument(0);
                         return Try.success(entry.withId(JournalEntryId.of(10)));
@@ -102,10 +155,11 @@ class CreateJournalEntryServiceTest {
             assertThat(result.errorMessage()).isNull();
 
             ArgumentCaptor<JournalEntry> captor = ArgumentCaptor.forClass(JournalEntry.class);
-            verify(journalEntryRepository).save(captor.capture());
+            verify(journalEntryRepository).save(captor.capture(), eq(JournalEntryEvent.Type.CREATED));
             JournalEntry entry = captor.getValue();
 
             assertThat(entry.getId()).isNull();
+            assertThat(entry.getVoucherNumber()).isEqualTo("00-2024-0000001");
             assertThat(entry.getStatus()).isEqualTo(JournalEntryStatus.DRAFT);
             assertThat(entry.getCreatedBy()).isEqualTo(UserId.of("user-1"));
             assertThat(entry.getLines()).hasSize(2);
@@ -151,7 +205,7 @@ class CreateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("勘定科目が存在しません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
 
         @Test
@@ -186,7 +240,7 @@ class CreateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("貸借一致していません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
 
         @Test
@@ -203,7 +257,7 @@ class CreateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("仕訳明細は 1 行以上必要です");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
     }
 
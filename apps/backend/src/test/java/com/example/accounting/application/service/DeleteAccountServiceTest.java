@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -38,11 +39,15 @@ class DeleteAccountServiceTest {
     @Mock
     private AccountUsageChecker accountUsageChecker;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private DeleteAccountService deleteAccountService;
 
     @BeforeEach
     void setUp() {
-        deleteAccountService = new DeleteAccountService(accountRepository, accountUsageChecker);
+        deleteAccountService = new DeleteAccountService(accountRepository, accountUsageChecker,
+                applicationEventPublisher);
     }
 
     @Nested
@@ -75,6 +80,7 @@ class DeleteAccountServiceTest {
             assertThat(result.errorMessage()).isNull();
 
             verify(accountRepository).deleteById(AccountId.of(1));
+            verify(applicationEventPublisher).publishEvent(LedgerChangedEvent.allDates());
             verify(accountUsageChecker).isAccountInUse(AccountId.of(1));
         }
     }
@@ -5,6 +5,7 @@ import com.example.accounting.application.port.out.AccountRepository;
 import com.example.accounting.application.port.out.AutoJournalLogRepository;
 import com.example.accounting.application.port.out.AutoJournalPatternRepository;
 import com.example.accounting.application.port.out.GenerateAutoJournalResult;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.domain.model.account.Account;
 import com.example.accounting.domain.model.account.AccountCode;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,6 +36,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,11 +58,17 @@ class GenerateAutoJournalServiceTest {
     @Mock
     private AutoJournalLogRepository logRepository;
 
+    @Mock
+    private VoucherNumberAllocator voucherNumberAllocator;
+
     private GenerateAutoJournalService service;
 
     @BeforeEach
     void setUp() {
-        service = new GenerateAutoJournalService(patternRepository, accountRepository, journalEntryRepository, logRepository);
+        service = new GenerateAutoJournalService(patternRepository, accountRepository, journalEntryRepository,
+                logRepository, voucherNumberAllocator, TransactionOperations.withoutTransaction());
+        lenient().when(voucherNumberAllocator.assign(any(JournalEntry.class)))
+                .thenAnswer(invocation -> invocation.<JournalEntry>getArgument(0).withVoucherNumber("00-2024-0000001"));
     }
 
     @Test
@@ -88,7 +98,7 @@ class GenerateAutoJournalServiceTest {
         when(patternRepository.findById(AutoJournalPatternId.of(1L))).thenReturn(Try.success(Optional.of(pattern)));
         when(accountRepository.findByCode("1110")).thenReturn(Try.success(Optional.of(dummyAccount(1, "1110"))));
         when(accountRepository.findByCode("4100")).thenReturn(Try.success(Optional.of(dummyAccount(2, "4100"))));
-        when(journalEntryRepository.save(any(JournalEntry.class)))
+        when(journalEntryRepository.save(any(JournalEntry.class), any()))
                 .thenAnswer(invocation -> {
                     JournalEntry entry = invocation.getArgument(0);
                     return Try.success(entry.withId(JournalEntryId.of(10)));
@@ -104,9 +114,10 @@ class GenerateAutoJournalServiceTest {
         assertThat(result.errorMessage()).isNull();
 
         ArgumentCaptor<JournalEntry> captor = ArgumentCaptor.forClass(JournalEntry.class);
-        verify(journalEntryRepository).save(captor.capture());
+        verify(journalEntryRepository).save(captor.capture(), eq(JournalEntryEvent.Type.CREATED));
         JournalEntry savedTarget = captor.getValue();
 
+        assertThat(savedTarget.getVoucherNumber()).isEqualTo("00-2024-0000001");
         assertThat(savedTarget.getLines()).hasSize(2);
         assertThat(savedTarget.getLines().get(0).accountId()).isEqualTo(AccountId.of(1));
         assertThat(savedTarget.getLines().get(0).debitAmount().value()).isEqualByComparingTo("10000");
@@ -141,7 +152,7 @@ class GenerateAutoJournalServiceTest {
 
         assertThat(result.success()).isFalse();
         assertThat(result.errorMessage()).isEqualTo("指定されたパターンが見つかりません");
-        verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+        verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         verify(logRepository).save(any(AutoJournalLog.class));
     }
 
@@ -173,7 +184,7 @@ class GenerateAutoJournalServiceTest {
 
         assertThat(result.success()).isFalse();
         assertThat(result.errorMessage()).isEqualTo("指定されたパターンは無効です");
-        verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+        verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         verify(logRepository).save(any(AutoJournalLog.class));
     }
 
@@ -204,7 +215,7 @@ class GenerateAutoJournalServiceTest {
 
         assertThat(result.success()).isFalse();
         assertThat(result.errorMessage()).isEqualTo("パターンに明細が定義されていません");
-        verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+        verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         verify(logRepository).save(any(AutoJournalLog.class));
     }
 
@@ -236,7 +247,7 @@ class GenerateAutoJournalServiceTest {
 
         assertThat(result.success()).isFalse();
         assertThat(result.errorMessage()).isEqualTo("勘定科目コード '9999' が見つかりません");
-        verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+        verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         verify(logRepository).save(any(AutoJournalLog.class));
     }
 
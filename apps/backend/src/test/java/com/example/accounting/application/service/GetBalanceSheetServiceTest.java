@@ -1,11 +1,16 @@
 package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.query.GetBalanceSheetQuery;
-import com.example.accounting.application.port.out.BalanceSheetRepository;
 import com.example.accounting.application.port.out.GetBalanceSheetResult;
 import com.example.accounting.application.port.out.GetBalanceSheetResult.BalanceSheetEntry;
 import com.example.accounting.application.port.out.GetBalanceSheetResult.BalanceSheetSection;
-import com.example.accounting.infrastructure.persistence.entity.BalanceSheetEntity;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.port.out.StatementColumnsRepository;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.application.service.report.MultiPeriodReportEngine;
+import com.example.accounting.application.service.report.ReportCache;
 import io.vavr.control.Try;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,37 +20,46 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("貸借対照表サービス")
 class GetBalanceSheetServiceTest {
 
+    private static final List<Column> ALL_DATES = List.of(Column.upTo(null));
+
+    @Mock
+    private StatementColumnsRepository statementColumnsRepository;
+
     @Mock
-    private BalanceSheetRepository balanceSheetRepository;
+    private LedgerVersion ledgerVersion;
 
     private GetBalanceSheetService service;
 
     @BeforeEach
     void setUp() {
-        service = new GetBalanceSheetService(balanceSheetRepository);
+        service = new GetBalanceSheetService(new MultiPeriodReportEngine(statementColumnsRepository),
+                new ReportCache(ledgerVersion, 100, Duration.ofMinutes(10), Clock.systemUTC()));
     }
 
     @Test
     @DisplayName("資産合計 = 負債合計 + 純資産合計 のとき balanced が true")
     void shouldReturnBalancedTrueWhenAssetsEqualLiabilitiesPlusEquity() {
-        BalanceSheetEntity cash = createEntity("100", "現金", "ASSET",
-                new BigDecimal("5000"), BigDecimal.ZERO, new BigDecimal("5000"));
-        BalanceSheetEntity ap = createEntity("200", "買掛金", "LIABILITY",
-                BigDecimal.ZERO, new BigDecimal("3000"), new BigDecimal("-3000"));
-        BalanceSheetEntity capital = createEntity("300", "資本金", "EQUITY",
-                BigDecimal.ZERO, new BigDecimal("2000"), new BigDecimal("-2000"));
-
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of(cash, ap, capital)));
+        stubBalances(ALL_DATES,
+                row("100", "現金", "ASSET", "5000"),
+                row("200", "買掛金", "LIABILITY", "-3000"),
+                row("300", "資本金", "EQUITY", "-2000"));
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(null, null));
 
@@ -60,14 +74,10 @@ class GetBalanceSheetServiceTest {
     @Test
     @DisplayName("資産合計 != 負債合計 + 純資産合計 のとき balanced が false")
     void shouldReturnBalancedFalseWhenNotEqual() {
-        BalanceSheetEntity cash = createEntity("100", "現金", "ASSET",
-                new BigDecimal("6000"), BigDecimal.ZERO, new BigDecimal("6000"));
-        BalanceSheetEntity ap = createEntity("200", "買掛金", "LIABILITY",
-                BigDecimal.ZERO, new BigDecimal("3000"), new BigDecimal("-3000"));
-        BalanceSheetEntity capital = createEntity("300", "資本金", "EQUITY",
-                BigDecimal.ZERO, new BigDecimal("2000"), new BigDecimal("-2000"));
-
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of(cash, ap, capital)));
+        stubBalances(ALL_DATES,
+                row("100", "現金", "ASSET", "6000"),
+                row("200", "買掛金", "LIABILITY", "-3000"),
+                row("300", "資本金", "EQUITY", "-2000"));
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(null, null));
 
@@ -78,14 +88,10 @@ class GetBalanceSheetServiceTest {
     @Test
     @DisplayName("セクションが ASSET, LIABILITY, EQUITY の3つ生成される")
     void shouldBuildThreeSections() {
-        BalanceSheetEntity cash = createEntity("100", "現金", "ASSET",
-                new BigDecimal("5000"), BigDecimal.ZERO, new BigDecimal("5000"));
-        BalanceSheetEntity ap = createEntity("200", "買掛金", "LIABILITY",
-                BigDecimal.ZERO, new BigDecimal("3000"), new BigDecimal("-3000"));
-        BalanceSheetEntity capital = createEntity("300", "資本金", "EQUITY",
-                BigDecimal.ZERO, new BigDecimal("2000"), new BigDecimal("-2000"));
-
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of(cash, ap, capital)));
+        stubBalances(ALL_DATES,
+                row("100", "現金", "ASSET", "5000"),
+                row("200", "買掛金", "LIABILITY", "-3000"),
+                row("300", "資本金", "EQUITY", "-2000"));
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(null, null));
 
@@ -101,12 +107,9 @@ class GetBalanceSheetServiceTest {
     @Test
     @DisplayName("セクション内のエントリが正しい金額を持つ")
     void shouldCalculateEntryAmountsCorrectly() {
-        BalanceSheetEntity cash = createEntity("100", "現金", "ASSET",
-                new BigDecimal("5000"), BigDecimal.ZERO, new BigDecimal("5000"));
-        BalanceSheetEntity ap = createEntity("200", "買掛金", "LIABILITY",
-                BigDecimal.ZERO, new BigDecimal("3000"), new BigDecimal("-3000"));
-
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of(cash, ap)));
+        stubBalances(ALL_DATES,
+                row("100", "現金", "ASSET", "5000"),
+                row("200", "買掛金", "LIABILITY", "-3000"));
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(null, null));
 
@@ -129,24 +132,10 @@ class GetBalanceSheetServiceTest {
         LocalDate currentDate = LocalDate.of(2026, 3, 31);
         LocalDate prevDate = LocalDate.of(2025, 3, 31);
 
-        BalanceSheetEntity currentCash = createEntity("100", "現金", "ASSET",
-                new BigDecimal("8000"), BigDecimal.ZERO, new BigDecimal("8000"));
-        BalanceSheetEntity currentAp = createEntity("200", "買掛金", "LIABILITY",
-                BigDecimal.ZERO, new BigDecimal("5000"), new BigDecimal("-5000"));
-        BalanceSheetEntity currentCapital = createEntity("300", "資本金", "EQUITY",
-                BigDecimal.ZERO, new BigDecimal("3000"), new BigDecimal("-3000"));
-
-        BalanceSheetEntity prevCash = createEntity("100", "現金", "ASSET",
-                new BigDecimal("5000"), BigDecimal.ZERO, new BigDecimal("5000"));
-        BalanceSheetEntity prevAp = createEntity("200", "買掛金", "LIABILITY",
-                BigDecimal.ZERO, new BigDecimal("3000"), new BigDecimal("-3000"));
-        BalanceSheetEntity prevCapital = createEntity("300", "資本金", "EQUITY",
-                BigDecimal.ZERO, new BigDecimal("2000"), new BigDecimal("-2000"));
-
-        when(balanceSheetRepository.findBalanceSheet(currentDate))
-                .thenReturn(Try.success(List.of(currentCash, currentAp, currentCapital)));
-        when(balanceSheetRepository.findBalanceSheet(prevDate))
-                .thenReturn(Try.success(List.of(prevCash, prevAp, prevCapital)));
+        stubBalances(List.of(Column.upTo(currentDate), Column.upTo(prevDate)),
+                row("100", "現金", "ASSET", "8000", "5000"),
+                row("200", "買掛金", "LIABILITY", "-5000", "-3000"),
+                row("300", "資本金", "EQUITY", "-3000", "-2000"));
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(currentDate, prevDate));
 
@@ -163,15 +152,29 @@ class GetBalanceSheetServiceTest {
         // セクション小計の比較データ
         assertThat(assetSection.comparativeSubtotal()).isNotNull();
         assertThat(assetSection.comparativeSubtotal().previousAmount()).isEqualByComparingTo(new BigDecimal("5000"));
+
+        // 負債は貸方残高を正の値で比較する
+        BalanceSheetEntry apEntry = result.sections().get(1).entries().get(0);
+        assertThat(apEntry.comparative().previousAmount()).isEqualByComparingTo(new BigDecimal("3000"));
+    }
+
+    @Test
+    @DisplayName("当期と前期比較日の残高を 1 回の問い合わせで取得する")
+    void shouldQueryCurrentAndComparativeDatesOnce() {
+        LocalDate currentDate = LocalDate.of(2026, 3, 31);
+        LocalDate prevDate = LocalDate.of(2025, 3, 31);
+        stubBalances(List.of(Column.upTo(currentDate), Column.upTo(prevDate)),
+                row("100", "現金", "ASSET", "8000", "5000"));
+
+        service.execute(new GetBalanceSheetQuery(currentDate, prevDate));
+
+        verify(statementColumnsRepository, times(1)).findColumns(any(), any());
     }
 
     @Test
     @DisplayName("前期比較日が null の場合は比較データなし")
     void shouldNotIncludeComparativeDataWhenNoPreviousDate() {
-        BalanceSheetEntity cash = createEntity("100", "現金", "ASSET",
-                new BigDecimal("5000"), BigDecimal.ZERO, new BigDecimal("5000"));
-
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of(cash)));
+        stubBalances(ALL_DATES, row("100", "現金", "ASSET", "5000"));
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(null, null));
 
@@ -184,7 +187,7 @@ class GetBalanceSheetServiceTest {
     @Test
     @DisplayName("データがない場合は空の結果を返す")
     void shouldReturnEmptyResultWhenNoData() {
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of()));
+        stubBalances(ALL_DATES);
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(null, null));
 
@@ -199,7 +202,7 @@ class GetBalanceSheetServiceTest {
     @DisplayName("指定日の貸借対照表を取得できる")
     void shouldExecuteQueryWithSpecifiedDate() {
         LocalDate date = LocalDate.of(2026, 1, 31);
-        when(balanceSheetRepository.findBalanceSheet(date)).thenReturn(Try.success(List.of()));
+        stubBalances(List.of(Column.upTo(date)));
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(date, null));
 
@@ -207,54 +210,30 @@ class GetBalanceSheetServiceTest {
     }
 
     @Test
-    @DisplayName("前期にだけ存在する勘定の増減率を正しく計算する")
+    @DisplayName("前期にだけ残高がある勘定は当期 0 として比較する")
     void shouldHandleAccountOnlyInPreviousPeriod() {
         LocalDate currentDate = LocalDate.of(2026, 3, 31);
         LocalDate prevDate = LocalDate.of(2025, 3, 31);
 
-        // 当期にはデータなし
-        when(balanceSheetRepository.findBalanceSheet(currentDate)).thenReturn(Try.success(List.of()));
-
-        BalanceSheetEntity prevCash = createEntity("100", "現金", "ASSET",
-                new BigDecimal("5000"), BigDecimal.ZERO, new BigDecimal("5000"));
-        when(balanceSheetRepository.findBalanceSheet(prevDate)).thenReturn(Try.success(List.of(prevCash)));
+        // 当期の残高は 0（勘定科目はすべての列に現れる）
+        stubBalances(List.of(Column.upTo(currentDate), Column.upTo(prevDate)),
+                row("100", "現金", "ASSET", "0", "5000"));
 
         GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(currentDate, prevDate));
 
-        // 当期にデータがないので entries は空
-        BalanceSheetSection assetSection = result.sections().get(0);
-        assertThat(assetSection.entries()).isEmpty();
+        BalanceSheetEntry cashEntry = result.sections().get(0).entries().get(0);
+        assertThat(cashEntry.amount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(cashEntry.comparative().previousAmount()).isEqualByComparingTo(new BigDecimal("5000"));
+        assertThat(cashEntry.comparative().difference()).isEqualByComparingTo(new BigDecimal("-5000"));
+        assertThat(cashEntry.comparative().changeRate()).isEqualByComparingTo(new BigDecimal("-100.00"));
     }
 
-    @Test
-    @DisplayName("null の balance を 0 として扱う")
-    void shouldHandleNullBalanceAsZero() {
-        BalanceSheetEntity entityWithNullBalance = new BalanceSheetEntity();
-        entityWithNullBalance.setAccountCode("100");
-        entityWithNullBalance.setAccountName("現金");
-        entityWithNullBalance.setAccountType("ASSET");
-        entityWithNullBalance.setTotalDebit(BigDecimal.ZERO);
-        entityWithNullBalance.setTotalCredit(BigDecimal.ZERO);
-        entityWithNullBalance.setBalance(null);
-
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of(entityWithNullBalance)));
-
-        GetBalanceSheetResult result = service.execute(new GetBalanceSheetQuery(null, null));
-
-        assertThat(result.sections().get(0).entries()).hasSize(1);
-        assertThat(result.sections().get(0).entries().get(0).amount())
-                .isEqualByComparingTo(BigDecimal.ZERO);
+    private void stubBalances(List<Column> columns, Row... rows) {
+        when(statementColumnsRepository.findColumns(eq("B"), eq(columns)))
+                .thenReturn(Try.success(new StatementColumns(columns, List.of(rows))));
     }
 
-    private BalanceSheetEntity createEntity(String code, String name, String type,
-                                             BigDecimal debit, BigDecimal credit, BigDecimal balance) {
-        BalanceSheetEntity entity = new BalanceSheetEntity();
-        entity.setAccountCode(code);
-        entity.setAccountName(name);
-        entity.setAccountType(type);
-        entity.setTotalDebit(debit);
-        entity.setTotalCredit(credit);
-        entity.setBalance(balance);
-        return entity;
+    private static Row row(String code, String name, String type, String... amounts) {
+        return new Row(code, name, type, Arrays.stream(amounts).map(BigDecimal::new).toList());
     }
 }
@@ -1,13 +1,16 @@
 package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.query.GetFinancialAnalysisQuery;
-import com.example.accounting.application.port.out.BalanceSheetRepository;
 import com.example.accounting.application.port.out.GetFinancialAnalysisResult;
 import com.example.accounting.application.port.out.GetFinancialAnalysisResult.FinancialIndicator;
 import com.example.accounting.application.port.out.GetFinancialAnalysisResult.IndicatorCategory;
-import com.example.accounting.application.port.out.ProfitAndLossRepository;
-import com.example.accounting.infrastructure.persistence.entity.BalanceSheetEntity;
-import com.example.accounting.infrastructure.persistence.entity.ProfitAndLossEntity;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.port.out.StatementColumnsRepository;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.application.service.report.MultiPeriodReportEngine;
+import com.example.accounting.application.service.report.ReportCache;
 import io.vavr.control.Try;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,41 +20,50 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("財務分析サービス")
 class GetFinancialAnalysisServiceTest {
 
+    private static final List<Column> BS_ALL_DATES = List.of(Column.upTo(null));
+    private static final List<Column> PL_ALL_DATES = List.of(new Column(null, null));
+
     @Mock
-    private BalanceSheetRepository balanceSheetRepository;
+    private StatementColumnsRepository statementColumnsRepository;
 
     @Mock
-    private ProfitAndLossRepository profitAndLossRepository;
+    private LedgerVersion ledgerVersion;
 
     private GetFinancialAnalysisService service;
 
     @BeforeEach
     void setUp() {
-        service = new GetFinancialAnalysisService(balanceSheetRepository, profitAndLossRepository);
+        service = new GetFinancialAnalysisService(new MultiPeriodReportEngine(statementColumnsRepository),
+                new ReportCache(ledgerVersion, 100, Duration.ofMinutes(10), Clock.systemUTC()));
     }
 
     @Test
     @DisplayName("基本的な財務指標が正しく計算される")
     void shouldCalculateBasicFinancialIndicators() {
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of(
-                createBalanceSheetEntity("100", "現金", "ASSET", new BigDecimal("10000")),
-                createBalanceSheetEntity("200", "買掛金", "LIABILITY", new BigDecimal("-4000")),
-                createBalanceSheetEntity("300", "資本金", "EQUITY", new BigDecimal("-6000"))
-        )));
-        when(profitAndLossRepository.findProfitAndLoss(null, null)).thenReturn(Try.success(List.of(
-                createProfitAndLossEntity("400", "売上", "REVENUE", new BigDecimal("20000")),
-                createProfitAndLossEntity("500", "費用", "EXPENSE", new BigDecimal("15000"))
-        )));
+        stub("B", BS_ALL_DATES,
+                row("100", "現金", "ASSET", "10000"),
+                row("200", "買掛金", "LIABILITY", "-4000"),
+                row("300", "資本金", "EQUITY", "-6000"));
+        stub("P", PL_ALL_DATES,
+                row("400", "売上", "REVENUE", "-20000"),
+                row("500", "費用", "EXPENSE", "15000"));
 
         GetFinancialAnalysisResult result = service.execute(new GetFinancialAnalysisQuery(null, null, null, null));
 
@@ -67,8 +79,8 @@ class GetFinancialAnalysisServiceTest {
     @Test
     @DisplayName("カテゴリが PROFITABILITY、SAFETY、EFFICIENCY の 3 つ生成される")
     void shouldBuildThreeCategories() {
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of()));
-        when(profitAndLossRepository.findProfitAndLoss(null, null)).thenReturn(Try.success(List.of()));
+        stub("B", BS_ALL_DATES);
+        stub("P", PL_ALL_DATES);
 
         GetFinancialAnalysisResult result = service.execute(new GetFinancialAnalysisQuery(null, null, null, null));
 
@@ -86,25 +98,13 @@ class GetFinancialAnalysisServiceTest {
         LocalDate comparativeDateFrom = LocalDate.of(2025, 4, 1);
         LocalDate comparativeDateTo = LocalDate.of(2026, 3, 31);
 
-        when(balanceSheetRepository.findBalanceSheet(dateTo)).thenReturn(Try.success(List.of(
-                createBalanceSheetEntity("100", "現金", "ASSET", new BigDecimal("10000")),
-                createBalanceSheetEntity("200", "買掛金", "LIABILITY", new BigDecimal("-4000")),
-                createBalanceSheetEntity("300", "資本金", "EQUITY", new BigDecimal("-6000"))
-        )));
-        when(profitAndLossRepository.findProfitAndLoss(dateFrom, dateTo)).thenReturn(Try.success(List.of(
-                createProfitAndLossEntity("400", "売上", "REVENUE", new BigDecimal("20000")),
-                createProfitAndLossEntity("500", "費用", "EXPENSE", new BigDecimal("15000"))
-        )));
-
-        when(balanceSheetRepository.findBalanceSheet(comparativeDateTo)).thenReturn(Try.success(List.of(
-                createBalanceSheetEntity("100", "現金", "ASSET", new BigDecimal("8000")),
-                createBalanceSheetEntity("200", "買掛金", "LIABILITY", new BigDecimal("-3000")),
-                createBalanceSheetEntity("300", "資本金", "EQUITY", new BigDecimal("-5000"))
-        )));
-        when(profitAndLossRepository.findProfitAndLoss(comparativeDateFrom, comparativeDateTo)).thenReturn(Try.success(List.of(
-                createProfitAndLossEntity("400", "売上", "REVENUE", new BigDecimal("16000")),
-                createProfitAndLossEntity("500", "費用", "EXPENSE", new BigDecimal("13000"))
-        )));
+        stub("B", List.of(Column.upTo(dateTo), Column.upTo(comparativeDateTo)),
+                row("100", "現金", "ASSET", "10000", "8000"),
+                row("200", "買掛金", "LIABILITY", "-4000", "-3000"),
+                row("300", "資本金", "EQUITY", "-6000", "-5000"));
+        stub("P", List.of(new Column(dateFrom, dateTo), new Column(comparativeDateFrom, comparativeDateTo)),
+                row("400", "売上", "REVENUE", "-20000", "-16000"),
+                row("500", "費用", "EXPENSE", "15000", "13000"));
 
         GetFinancialAnalysisResult result = service.execute(
                 new GetFinancialAnalysisQuery(dateFrom, dateTo, comparativeDateFrom, comparativeDateTo));
@@ -118,20 +118,21 @@ class GetFinancialAnalysisServiceTest {
         assertThat(currentRatio.previousValue()).isEqualByComparingTo(new BigDecimal("266.67"));
         assertThat(currentRatio.difference()).isEqualByComparingTo(new BigDecimal("-16.67"));
         assertThat(currentRatio.changeRate()).isEqualByComparingTo(new BigDecimal("-6.25"));
+
+        // 当期・前期の貸借対照表と損益計算書をそれぞれ 1 回の問い合わせで取得する
+        verify(statementColumnsRepository, times(2)).findColumns(any(), any());
     }
 
     @Test
     @DisplayName("前期比較がない場合は previousValue、difference、changeRate が null")
     void shouldNotSetComparativeFieldsWhenNoComparativePeriod() {
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of(
-                createBalanceSheetEntity("100", "現金", "ASSET", new BigDecimal("10000")),
-                createBalanceSheetEntity("200", "買掛金", "LIABILITY", new BigDecimal("-4000")),
-                createBalanceSheetEntity("300", "資本金", "EQUITY", new BigDecimal("-6000"))
-        )));
-        when(profitAndLossRepository.findProfitAndLoss(null, null)).thenReturn(Try.success(List.of(
-                createProfitAndLossEntity("400", "売上", "REVENUE", new BigDecimal("20000")),
-                createProfitAndLossEntity("500", "費用", "EXPENSE", new BigDecimal("15000"))
-        )));
+        stub("B", BS_ALL_DATES,
+                row("100", "現金", "ASSET", "10000"),
+                row("200", "買掛金", "LIABILITY", "-4000"),
+                row("300", "資本金", "EQUITY", "-6000"));
+        stub("P", PL_ALL_DATES,
+                row("400", "売上", "REVENUE", "-20000"),
+                row("500", "費用", "EXPENSE", "15000"));
 
         GetFinancialAnalysisResult result = service.execute(new GetFinancialAnalysisQuery(null, null, null, null));
 
@@ -147,8 +148,8 @@ class GetFinancialAnalysisServiceTest {
     @Test
     @DisplayName("データがない場合はすべてゼロで計算される")
     void shouldReturnZeroWhenNoData() {
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of()));
-        when(profitAndLossRepository.findProfitAndLoss(null, null)).thenReturn(Try.success(List.of()));
+        stub("B", BS_ALL_DATES);
+        stub("P", PL_ALL_DATES);
 
         GetFinancialAnalysisResult result = service.execute(new GetFinancialAnalysisQuery(null, null, null, null));
 
@@ -162,8 +163,8 @@ class GetFinancialAnalysisServiceTest {
     @Test
     @DisplayName("各指標に formula と industryAverage が設定される")
     void shouldSetFormulaAndIndustryAverage() {
-        when(balanceSheetRepository.findBalanceSheet(null)).thenReturn(Try.success(List.of()));
-        when(profitAndLossRepository.findProfitAndLoss(null, null)).thenReturn(Try.success(List.of()));
+        stub("B", BS_ALL_DATES);
+        stub("P", PL_ALL_DATES);
 
         GetFinancialAnalysisResult result = service.execute(new GetFinancialAnalysisQuery(null, null, null, null));
 
@@ -194,25 +195,12 @@ class GetFinancialAnalysisServiceTest {
         assertThat(indicator.value()).isEqualByComparingTo(expected);
     }
 
-    private BalanceSheetEntity createBalanceSheetEntity(String code, String name, String type, BigDecimal balance) {
-        BalanceSheetEntity entity = new BalanceSheetEntity();
-        entity.setAccountCode(code);
-        entity.setAccountName(name);
-        entity.setAccountType(type);
-        entity.setTotalDebit(BigDecimal.ZERO);
-        entity.setTotalCredit(BigDecimal.ZERO);
-        entity.setBalance(balance);
-        return entity;
+    private void stub(String bsplCategory, List<Column> columns, Row... rows) {
+        when(statementColumnsRepository.findColumns(eq(bsplCategory), eq(columns)))
+                .thenReturn(Try.success(new StatementColumns(columns, List.of(rows))));
     }
 
-    private ProfitAndLossEntity createProfitAndLossEntity(String code, String name, String type, BigDecimal amount) {
-        ProfitAndLossEntity entity = new ProfitAndLossEntity();
-        entity.setAccountCode(code);
-        entity.setAccountName(name);
-        entity.setAccountType(type);
-        entity.setTotalDebit(BigDecimal.ZERO);
-        entity.setTotalCredit(BigDecimal.ZERO);
-        entity.setAmount(amount);
-        return entity;
+    private static Row row(String code, String name, String type, String... amounts) {
+        return new Row(code, name, type, Arrays.stream(amounts).map(BigDecimal::new).toList());
     }
 }
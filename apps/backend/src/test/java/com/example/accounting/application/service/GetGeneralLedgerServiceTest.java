@@ -5,6 +5,7 @@ import com.example.accounting.application.port.out.AccountRepository;
 import com.example.accounting.application.port.out.GetGeneralLedgerResult;
 import com.example.accounting.application.port.out.GetGeneralLedgerResult.GeneralLedgerEntry;
 import com.example.accounting.application.port.out.JournalEntryRepository;
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.domain.model.account.Account;
 import com.example.accounting.domain.model.account.AccountCode;
 import com.example.accounting.domain.model.account.AccountId;
@@ -24,6 +25,10 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -135,5 +140,136 @@ class GetGeneralLedgerServiceTest {
             assertThat(result.closingBalance()).isEqualByComparingTo("600");
             assertThat(result.content().get(0).runningBalance()).isEqualByComparingTo("600");
         }
+
+        @Test
+        @DisplayName("2 ページ目以降はページ先頭より前の行を繰越残高に含めて累計を計算する")
+        void shouldCarryForwardBalanceOnLaterPages() {
+            LocalDate dateFrom = LocalDate.of(2024, 1, 1);
+            LocalDate dateTo = LocalDate.of(2024, 1, 31);
+            GetGeneralLedgerQuery query = new GetGeneralLedgerQuery(1, dateFrom, dateTo, 2, 10);
+
+            Account account = Account.reconstruct(
+                    AccountId.of(1), AccountCode.of("1101"), "現金", AccountType.ASSET);
+
+            when(accountRepository.findById(AccountId.of(1)))
+                    .thenReturn(Try.success(Optional.of(account)));
+            when(journalEntryRepository.calculateBalanceBeforeDate(1, dateFrom))
+                    .thenReturn(Try.success(new BigDecimal("1000")));
+            when(journalEntryRepository.countPostedLinesByAccountAndPeriod(1, dateFrom, dateTo))
+                    .thenReturn(Try.success(21L));
+            when(journalEntryRepository.calculateBalanceBeforeOffset(1, dateFrom, dateTo, 20))
+                    .thenReturn(Try.success(new BigDecimal("2500")));
+            when(journalEntryRepository.findPostedLinesByAccountAndPeriod(1, dateFrom, dateTo, 20, 10))
+                    .thenReturn(Try.success(List.of(
+                            new GeneralLedgerEntry(30, LocalDate.of(2024, 1, 31), "支払",
+                                    BigDecimal.ZERO, new BigDecimal("500"), null)
+                    )));
+
+            GetGeneralLedgerResult result = service.execute(query);
+
+            assertThat(result.openingBalance()).isEqualByComparingTo("1000");
+            assertThat(result.carriedForwardBalance()).isEqualByComparingTo("3500");
+            assertThat(result.content().get(0).runningBalance()).isEqualByComparingTo("3000");
+            assertThat(result.closingBalance()).isEqualByComparingTo("3000");
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("件数を数えないモードでは 1 件先読みして次ページの有無を判定する")
+        void shouldLookAheadWithoutCounting() {
+            LocalDate dateFrom = LocalDate.of(2024, 1, 1);
+            LocalDate dateTo = LocalDate.of(2024, 1, 31);
+            GetGeneralLedgerQuery query = new GetGeneralLedgerQuery(1, dateFrom, dateTo, 0, 1, false);
+
+            Account account = Account.reconstruct(
+                    AccountId.of(1), AccountCode.of("1101"), "現金", AccountType.ASSET);
+
+            when(accountRepository.findById(AccountId.of(1)))
+                    .thenReturn(Try.success(Optional.of(account)));
+            when(journalEntryRepository.calculateBalanceBeforeDate(1, dateFrom))
+                    .thenReturn(Try.success(BigDecimal.ZERO));
+            when(journalEntryRepository.findPostedLinesByAccountAndPeriod(1, dateFrom, dateTo, 0, 2))
+                    .thenReturn(Try.success(List.of(
+                            new GeneralLedgerEntry(10, LocalDate.of(2024, 1, 10), "売上計上",
+                                    new BigDecimal("500"), BigDecimal.ZERO, null),
+                            new GeneralLedgerEntry(11, LocalDate.of(2024, 1, 20), "支払",
+                                    BigDecimal.ZERO, new BigDecimal("200"), null)
+                    )));
+
+            GetGeneralLedgerResult result = service.execute(query);
+
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.closingBalance()).isEqualByComparingTo("500");
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.totalElements()).isEqualTo(-1L);
+            assertThat(result.totalPages()).isEqualTo(-1);
+            verify(journalEntryRepository, never()).countPostedLinesByAccountAndPeriod(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("カーソル指定時は続きからキーセットで取得し、カーソルの行までの残高を SQL で求めて前頁繰越とする")
+        void shouldContinueFromCursorWithoutSummingPreviousRows() {
+            LocalDate dateFrom = LocalDate.of(2024, 1, 1);
+            LocalDate dateTo = LocalDate.of(2024, 1, 31);
+            LedgerCursor cursor = new LedgerCursor(LocalDate.of(2024, 1, 10), 10, 1, null);
+            GetGeneralLedgerQuery query = new GetGeneralLedgerQuery(1, dateFrom, dateTo, 0, 1, false, cursor);
+
+            Account account = Account.reconstruct(
+                    AccountId.of(1), AccountCode.of("1101"), "現金", AccountType.ASSET);
+
+            when(accountRepository.findById(AccountId.of(1)))
+                    .thenReturn(Try.success(Optional.of(account)));
+            when(journalEntryRepository.calculateBalanceBeforeDate(1, dateFrom))
+                    .thenReturn(Try.success(new BigDecimal("1000")));
+            when(journalEntryRepository.calculateBalanceThroughCursor(1, cursor))
+                    .thenReturn(Try.success(new BigDecimal("3500")));
+            when(journalEntryRepository.findPostedLinesByAccountAndPeriodAfter(1, dateFrom, dateTo, cursor, 2))
+                    .thenReturn(Try.success(List.of(
+                            new GeneralLedgerEntry(11, 2, LocalDate.of(2024, 1, 20), "支払",
+                                    BigDecimal.ZERO, new BigDecimal("500"), null),
+                            new GeneralLedgerEntry(12, 1, LocalDate.of(2024, 1, 25), "売上計上",
+                                    new BigDecimal("100"), BigDecimal.ZERO, null)
+                    )));
+
+            GetGeneralLedgerResult result = service.execute(query);
+
+            assertThat(result.carriedForwardBalance()).isEqualByComparingTo("3500");
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.closingBalance()).isEqualByComparingTo("3000");
+            assertThat(result.hasNext()).isTrue();
+            assertThat(LedgerCursor.decode(result.nextCursor()).get())
+                    .isEqualTo(new LedgerCursor(LocalDate.of(2024, 1, 20), 11, 2, null));
+            verify(journalEntryRepository, never()).calculateBalanceBeforeOffset(any(), any(), any(), anyInt());
+            verify(journalEntryRepository, never()).findPostedLinesByAccountAndPeriod(any(), any(), any(), anyInt(),
+                    anyInt());
+        }
+
+        @Test
+        @DisplayName("期間の開始日より前を指すカーソルでは期首残高を前頁繰越とする")
+        void shouldUseOpeningBalanceWhenCursorIsBeforePeriod() {
+            LocalDate dateFrom = LocalDate.of(2024, 2, 1);
+            LocalDate dateTo = LocalDate.of(2024, 2, 29);
+            LedgerCursor cursor = new LedgerCursor(LocalDate.of(2024, 1, 10), 10, 1, null);
+            GetGeneralLedgerQuery query = new GetGeneralLedgerQuery(1, dateFrom, dateTo, 0, 1, false, cursor);
+
+            Account account = Account.reconstruct(
+                    AccountId.of(1), AccountCode.of("1101"), "現金", AccountType.ASSET);
+
+            when(accountRepository.findById(AccountId.of(1)))
+                    .thenReturn(Try.success(Optional.of(account)));
+            when(journalEntryRepository.calculateBalanceBeforeDate(1, dateFrom))
+                    .thenReturn(Try.success(new BigDecimal("1000")));
+            when(journalEntryRepository.findPostedLinesByAccountAndPeriodAfter(1, dateFrom, dateTo, cursor, 2))
+                    .thenReturn(Try.success(List.of(
+                            new GeneralLedgerEntry(20, 1, LocalDate.of(2024, 2, 5), "売上計上",
+                                    new BigDecimal("100"), BigDecimal.ZERO, null)
+                    )));
+
+            GetGeneralLedgerResult result = service.execute(query);
+
+            assertThat(result.carriedForwardBalance()).isEqualByComparingTo("1000");
+            assertThat(result.closingBalance()).isEqualByComparingTo("1100");
+            verify(journalEntryRepository, never()).calculateBalanceThroughCursor(any(), any());
+        }
     }
 }
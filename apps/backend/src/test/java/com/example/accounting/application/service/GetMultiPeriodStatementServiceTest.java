@@ -0,0 +1,142 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.PeriodColumn;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Section;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Total;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.port.out.StatementColumnsRepository;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.application.service.report.MultiPeriodReportEngine;
+import com.example.accounting.application.service.report.ReportCache;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("複数期間財務諸表サービス")
+class GetMultiPeriodStatementServiceTest {
+
+    @Mock
+    private StatementColumnsRepository statementColumnsRepository;
+
+    @Mock
+    private LedgerVersion ledgerVersion;
+
+    private GetMultiPeriodStatementService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GetMultiPeriodStatementService(new MultiPeriodReportEngine(statementColumnsRepository),
+                new ReportCache(ledgerVersion, 100, Duration.ofMinutes(10), Clock.systemUTC()));
+    }
+
+    @Test
+    @DisplayName("12 か月の損益計算書を 1 回の問い合わせで月ごとの列として集計する")
+    @SuppressWarnings("unchecked")
+    void shouldAggregateTwelveMonthsInOneQuery() {
+        GetMultiPeriodStatementQuery query = query("PROFIT_AND_LOSS", YearMonth.of(2024, 4), 12, "MONTH");
+        when(statementColumnsRepository.findColumns(eq("P"), any())).thenAnswer(invocation -> {
+            List<Column> columns = invocation.getArgument(1);
+            return Try.success(new StatementColumns(columns, List.of(
+                    new Row("4000", "売上高", "REVENUE", Collections.nCopies(12, new BigDecimal("-1000"))),
+                    new Row("5000", "給料", "EXPENSE", Collections.nCopies(12, new BigDecimal("600"))))));
+        });
+
+        GetMultiPeriodStatementResult result = service.execute(query);
+
+        ArgumentCaptor<List<Column>> captor = ArgumentCaptor.forClass(List.class);
+        verify(statementColumnsRepository, times(1)).findColumns(eq("P"), captor.capture());
+        assertThat(captor.getValue()).hasSize(12);
+        assertThat(captor.getValue().getFirst())
+                .isEqualTo(new Column(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)));
+        assertThat(captor.getValue().getLast())
+                .isEqualTo(new Column(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)));
+
+        assertThat(result.statementType()).isEqualTo("PROFIT_AND_LOSS");
+        assertThat(result.periods()).extracting(PeriodColumn::label).startsWith("2024-04", "2024-05");
+        assertThat(result.sections()).extracting(Section::sectionType)
+                .containsExactly("REVENUE", "EXPENSE");
+        assertThat(result.sections().getFirst().subtotals()).hasSize(12)
+                .allSatisfy(amount -> assertThat(amount).isEqualByComparingTo("1000"));
+        assertThat(findTotal(result, "当期純利益").amounts())
+                .allSatisfy(amount -> assertThat(amount).isEqualByComparingTo("400"));
+    }
+
+    @Test
+    @DisplayName("複数年の貸借対照表は各年度末時点の残高を列とする")
+    void shouldUseYearEndBalancesForBalanceSheet() {
+        GetMultiPeriodStatementQuery query = query("BALANCE_SHEET", YearMonth.of(2023, 4), 2, "YEAR");
+        List<Column> columns = List.of(Column.upTo(LocalDate.of(2024, 3, 31)), Column.upTo(LocalDate.of(2025, 3, 31)));
+        when(statementColumnsRepository.findColumns("B", columns)).thenReturn(Try.success(new StatementColumns(columns,
+                List.of(row("100", "現金", "ASSET", "5000", "8000"),
+                        row("200", "買掛金", "LIABILITY", "-3000", "-5000"),
+                        row("300", "資本金", "EQUITY", "-2000", "-3000")))));
+
+        GetMultiPeriodStatementResult result = service.execute(query);
+
+        assertThat(result.periods()).extracting(PeriodColumn::label)
+                .containsExactly("2023-04〜2024-03", "2024-04〜2025-03");
+        assertThat(result.sections()).extracting(Section::sectionType)
+                .containsExactly("ASSET", "LIABILITY", "EQUITY");
+        assertThat(result.sections().get(1).entries().getFirst().amounts())
+                .containsExactly(new BigDecimal("3000"), new BigDecimal("5000"));
+        assertThat(findTotal(result, "資産合計").amounts())
+                .containsExactly(new BigDecimal("5000"), new BigDecimal("8000"));
+        assertThat(findTotal(result, "負債・純資産合計").amounts())
+                .containsExactly(new BigDecimal("5000"), new BigDecimal("8000"));
+    }
+
+    @Test
+    @DisplayName("同じ照会条件の結果はキャッシュから返す")
+    void shouldReturnCachedResult() {
+        GetMultiPeriodStatementQuery query = query("BALANCE_SHEET", YearMonth.of(2024, 4), 1, "MONTH");
+        List<Column> columns = List.of(Column.upTo(LocalDate.of(2024, 4, 30)));
+        when(statementColumnsRepository.findColumns("B", columns))
+                .thenReturn(Try.success(new StatementColumns(columns, List.of())));
+
+        service.execute(query);
+        service.execute(query);
+
+        verify(statementColumnsRepository, times(1)).findColumns(any(), any());
+    }
+
+    private static GetMultiPeriodStatementQuery query(String type, YearMonth start, int count, String unit) {
+        return GetMultiPeriodStatementQuery.of(type, start, count, unit).get();
+    }
+
+    private static Total findTotal(GetMultiPeriodStatementResult result, String name) {
+        return result.totals().stream()
+                .filter(total -> name.equals(total.name()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Row row(String code, String name, String type, String... amounts) {
+        return new Row(code, name, type, Arrays.stream(amounts).map(BigDecimal::new).toList());
+    }
+}
@@ -4,8 +4,13 @@ import com.example.accounting.application.port.in.query.GetProfitAndLossQuery;
 import com.example.accounting.application.port.out.GetProfitAndLossResult;
 import com.example.accounting.application.port.out.GetProfitAndLossResult.ProfitAndLossEntry;
 import com.example.accounting.application.port.out.GetProfitAndLossResult.ProfitAndLossSection;
-import com.example.accounting.application.port.out.ProfitAndLossRepository;
-import com.example.accounting.infrastructure.persistence.entity.ProfitAndLossEntity;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.port.out.StatementColumnsRepository;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.application.service.report.MultiPeriodReportEngine;
+import com.example.accounting.application.service.report.ReportCache;
 import io.vavr.control.Try;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,10 +20,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,26 +35,28 @@ import static org.mockito.Mockito.when;
 @DisplayName("損益計算書サービス")
 class GetProfitAndLossServiceTest {
 
+    private static final List<Column> ALL_DATES = List.of(new Column(null, null));
+
+    @Mock
+    private StatementColumnsRepository statementColumnsRepository;
+
     @Mock
-    private ProfitAndLossRepository profitAndLossRepository;
+    private LedgerVersion ledgerVersion;
 
     private GetProfitAndLossService service;
 
     @BeforeEach
     void setUp() {
-        service = new GetProfitAndLossService(profitAndLossRepository);
+        service = new GetProfitAndLossService(new MultiPeriodReportEngine(statementColumnsRepository),
+                new ReportCache(ledgerVersion, 100, Duration.ofMinutes(10), Clock.systemUTC()));
     }
 
     @Test
     @DisplayName("当期純利益 = 収益合計 - 費用合計")
     void shouldReturnCorrectNetIncome() {
-        ProfitAndLossEntity revenue = createEntity("4000", "売上高", "REVENUE",
-                BigDecimal.ZERO, new BigDecimal("100000"), new BigDecimal("100000"));
-        ProfitAndLossEntity expense = createEntity("5000", "給料", "EXPENSE",
-                new BigDecimal("60000"), BigDecimal.ZERO, new BigDecimal("60000"));
-
-        when(profitAndLossRepository.findProfitAndLoss(null, null))
-                .thenReturn(Try.success(List.of(revenue, expense)));
+        stubAmounts(ALL_DATES,
+                row("4000", "売上高", "REVENUE", "-100000"),
+                row("5000", "給料", "EXPENSE", "60000"));
 
         GetProfitAndLossResult result = service.execute(
                 new GetProfitAndLossQuery(null, null, null, null));
@@ -58,13 +69,9 @@ class GetProfitAndLossServiceTest {
     @Test
     @DisplayName("セクションが REVENUE, EXPENSE の 2 つ生成される")
     void shouldBuildTwoSections() {
-        ProfitAndLossEntity revenue = createEntity("4000", "売上高", "REVENUE",
-                BigDecimal.ZERO, new BigDecimal("100000"), new BigDecimal("100000"));
-        ProfitAndLossEntity expense = createEntity("5000", "給料", "EXPENSE",
-                new BigDecimal("60000"), BigDecimal.ZERO, new BigDecimal("60000"));
-
-        when(profitAndLossRepository.findProfitAndLoss(null, null))
-                .thenReturn(Try.success(List.of(revenue, expense)));
+        stubAmounts(ALL_DATES,
+                row("4000", "売上高", "REVENUE", "-100000"),
+                row("5000", "給料", "EXPENSE", "60000"));
 
         GetProfitAndLossResult result = service.execute(
                 new GetProfitAndLossQuery(null, null, null, null));
@@ -77,13 +84,9 @@ class GetProfitAndLossServiceTest {
     }
 
     @Test
-    @DisplayName("収益の金額はそのまま表示される")
+    @DisplayName("収益は貸方の発生額を正の値で表示する")
     void shouldCalculateRevenueAmountsCorrectly() {
-        ProfitAndLossEntity revenue = createEntity("4000", "売上高", "REVENUE",
-                BigDecimal.ZERO, new BigDecimal("100000"), new BigDecimal("100000"));
-
-        when(profitAndLossRepository.findProfitAndLoss(null, null))
-                .thenReturn(Try.success(List.of(revenue)));
+        stubAmounts(ALL_DATES, row("4000", "売上高", "REVENUE", "-100000"));
 
         GetProfitAndLossResult result = service.execute(
                 new GetProfitAndLossQuery(null, null, null, null));
@@ -97,13 +100,9 @@ class GetProfitAndLossServiceTest {
     }
 
     @Test
-    @DisplayName("費用の金額はそのまま表示される")
+    @DisplayName("費用は借方の発生額をそのまま表示する")
     void shouldCalculateExpenseAmountsCorrectly() {
-        ProfitAndLossEntity expense = createEntity("5000", "給料", "EXPENSE",
-                new BigDecimal("60000"), BigDecimal.ZERO, new BigDecimal("60000"));
-
-        when(profitAndLossRepository.findProfitAndLoss(null, null))
-                .thenReturn(Try.success(List.of(expense)));
+        stubAmounts(ALL_DATES, row("5000", "給料", "EXPENSE", "60000"));
 
         GetProfitAndLossResult result = service.execute(
                 new GetProfitAndLossQuery(null, null, null, null));
@@ -124,20 +123,9 @@ class GetProfitAndLossServiceTest {
         LocalDate compDateFrom = LocalDate.of(2025, 4, 1);
         LocalDate compDateTo = LocalDate.of(2026, 3, 31);
 
-        ProfitAndLossEntity currentRevenue = createEntity("4000", "売上高", "REVENUE",
-                BigDecimal.ZERO, new BigDecimal("120000"), new BigDecimal("120000"));
-        ProfitAndLossEntity currentExpense = createEntity("5000", "給料", "EXPENSE",
-                new BigDecimal("80000"), BigDecimal.ZERO, new BigDecimal("80000"));
-
-        ProfitAndLossEntity prevRevenue = createEntity("4000", "売上高", "REVENUE",
-                BigDecimal.ZERO, new BigDecimal("100000"), new BigDecimal("100000"));
-        ProfitAndLossEntity prevExpense = createEntity("5000", "給料", "EXPENSE",
-                new BigDecimal("60000"), BigDecimal.ZERO, new BigDecimal("60000"));
-
-        when(profitAndLossRepository.findProfitAndLoss(dateFrom, dateTo))
-                .thenReturn(Try.success(List.of(currentRevenue, currentExpense)));
-        when(profitAndLossRepository.findProfitAndLoss(compDateFrom, compDateTo))
-                .thenReturn(Try.success(List.of(prevRevenue, prevExpense)));
+        stubAmounts(List.of(new Column(dateFrom, dateTo), new Column(compDateFrom, compDateTo)),
+                row("4000", "売上高", "REVENUE", "-120000", "-100000"),
+                row("5000", "給料", "EXPENSE", "80000", "60000"));
 
         GetProfitAndLossResult result = service.execute(
                 new GetProfitAndLossQuery(dateFrom, dateTo, compDateFrom, compDateTo));
@@ -163,11 +151,7 @@ class GetProfitAndLossServiceTest {
     @Test
     @DisplayName("前期比較期間が null の場合は比較データなし")
     void shouldNotIncludeComparativeDataWhenNoPreviousPeriod() {
-        ProfitAndLossEntity revenue = createEntity("4000", "売上高", "REVENUE",
-                BigDecimal.ZERO, new BigDecimal("100000"), new BigDecimal("100000"));
-
-        when(profitAndLossRepository.findProfitAndLoss(null, null))
-                .thenReturn(Try.success(List.of(revenue)));
+        stubAmounts(ALL_DATES, row("4000", "売上高", "REVENUE", "-100000"));
 
         GetProfitAndLossResult result = service.execute(
                 new GetProfitAndLossQuery(null, null, null, null));
@@ -182,8 +166,7 @@ class GetProfitAndLossServiceTest {
     @Test
     @DisplayName("データがない場合は空の結果を返す")
     void shouldReturnEmptyResultWhenNoData() {
-        when(profitAndLossRepository.findProfitAndLoss(null, null))
-                .thenReturn(Try.success(List.of()));
+        stubAmounts(ALL_DATES);
 
         GetProfitAndLossResult result = service.execute(
                 new GetProfitAndLossQuery(null, null, null, null));
@@ -199,9 +182,9 @@ class GetProfitAndLossServiceTest {
     void shouldExecuteQueryWithSpecifiedPeriod() {
         LocalDate dateFrom = LocalDate.of(2026, 4, 1);
         LocalDate dateTo = LocalDate.of(2027, 3, 31);
+        List<Column> columns = List.of(new Column(dateFrom, dateTo));
 
-        when(profitAndLossRepository.findProfitAndLoss(dateFrom, dateTo))
-                .thenReturn(Try.success(List.of()));
+        stubAmounts(columns);
 
         GetProfitAndLossResult result = service.execute(
                 new GetProfitAndLossQuery(dateFrom, dateTo, null, null));
@@ -209,40 +192,15 @@ class GetProfitAndLossServiceTest {
         assertThat(result.dateFrom()).isEqualTo(dateFrom);
         assertThat(result.dateTo()).isEqualTo(dateTo);
 
-        verify(profitAndLossRepository).findProfitAndLoss(dateFrom, dateTo);
+        verify(statementColumnsRepository).findColumns("P", columns);
     }
 
-    @Test
-    @DisplayName("null の amount を 0 として扱う")
-    void shouldHandleNullAmountAsZero() {
-        ProfitAndLossEntity entityWithNullAmount = new ProfitAndLossEntity();
-        entityWithNullAmount.setAccountCode("4000");
-        entityWithNullAmount.setAccountName("売上高");
-        entityWithNullAmount.setAccountType("REVENUE");
-        entityWithNullAmount.setTotalDebit(BigDecimal.ZERO);
-        entityWithNullAmount.setTotalCredit(BigDecimal.ZERO);
-        entityWithNullAmount.setAmount(null);
-
-        when(profitAndLossRepository.findProfitAndLoss(null, null))
-                .thenReturn(Try.success(List.of(entityWithNullAmount)));
-
-        GetProfitAndLossResult result = service.execute(
-                new GetProfitAndLossQuery(null, null, null, null));
-
-        assertThat(result.sections().get(0).entries()).hasSize(1);
-        assertThat(result.sections().get(0).entries().get(0).amount())
-                .isEqualByComparingTo(BigDecimal.ZERO);
+    private void stubAmounts(List<Column> columns, Row... rows) {
+        when(statementColumnsRepository.findColumns(eq("P"), eq(columns)))
+                .thenReturn(Try.success(new StatementColumns(columns, List.of(rows))));
     }
 
-    private ProfitAndLossEntity createEntity(String code, String name, String type,
-                                              BigDecimal debit, BigDecimal credit, BigDecimal amount) {
-        ProfitAndLossEntity entity = new ProfitAndLossEntity();
-        entity.setAccountCode(code);
-        entity.setAccountName(name);
-        entity.setAccountType(type);
-        entity.setTotalDebit(debit);
-        entity.setTotalCredit(credit);
-        entity.setAmount(amount);
-        return entity;
+    private static Row row(String code, String name, String type, String... amounts) {
+        return new Row(code, name, type, Arrays.stream(amounts).map(BigDecimal::new).toList());
     }
 }
@@ -4,6 +4,7 @@ import com.example.accounting.application.port.in.query.GetSubsidiaryLedgerQuery
 import com.example.accounting.application.port.out.AccountRepository;
 import com.example.accounting.application.port.out.GetSubsidiaryLedgerResult;
 import com.example.accounting.application.port.out.GetSubsidiaryLedgerResult.SubsidiaryLedgerEntry;
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.application.port.out.SubsidiaryLedgerRepository;
 import com.example.accounting.domain.model.account.Account;
 import com.example.accounting.domain.model.account.AccountCode;
@@ -24,6 +25,10 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -155,5 +160,81 @@ class GetSubsidiaryLedgerServiceTest {
             assertThat(result.closingBalance()).isEqualByComparingTo("600");
             assertThat(result.content().get(0).runningBalance()).isEqualByComparingTo("600");
         }
+
+        @Test
+        @DisplayName("2 ページ目以降はページ先頭より前の行を繰越残高に含めて累計を計算する")
+        void shouldCarryForwardBalanceOnLaterPages() {
+            LocalDate dateFrom = LocalDate.of(2024, 4, 1);
+            LocalDate dateTo = LocalDate.of(2024, 4, 30);
+            GetSubsidiaryLedgerQuery query = new GetSubsidiaryLedgerQuery(
+                    "2101", null, dateFrom, dateTo, 1, 20);
+
+            Account account = Account.reconstruct(
+                    AccountId.of(2), AccountCode.of("2101"), "買掛金", AccountType.LIABILITY);
+
+            when(accountRepository.findByCode("2101"))
+                    .thenReturn(Try.success(Optional.of(account)));
+            when(subsidiaryLedgerRepository.calculateBalanceBeforeDateByAccountAndSubAccount(
+                    "2101", null, dateFrom))
+                    .thenReturn(Try.success(new BigDecimal("-300")));
+            when(subsidiaryLedgerRepository.countPostedLinesByAccountAndSubAccountAndPeriod(
+                    "2101", null, dateFrom, dateTo))
+                    .thenReturn(Try.success(21L));
+            when(subsidiaryLedgerRepository.calculateBalanceBeforeOffsetByAccountAndSubAccount(
+                    "2101", null, dateFrom, dateTo, 20))
+                    .thenReturn(Try.success(new BigDecimal("-1000")));
+            when(subsidiaryLedgerRepository.findPostedLinesByAccountAndSubAccountAndPeriod(
+                    "2101", null, dateFrom, dateTo, 20, 20))
+                    .thenReturn(Try.success(List.of(
+                            new SubsidiaryLedgerEntry(
+                                    41, LocalDate.of(2024, 4, 28), "仕入計上",
+                                    BigDecimal.ZERO, new BigDecimal("200"), null)
+                    )));
+
+            GetSubsidiaryLedgerResult result = service.execute(query);
+
+            assertThat(result.openingBalance()).isEqualByComparingTo("300");
+            assertThat(result.carriedForwardBalance()).isEqualByComparingTo("1300");
+            assertThat(result.content().get(0).runningBalance()).isEqualByComparingTo("1500");
+            assertThat(result.closingBalance()).isEqualByComparingTo("1500");
+        }
+
+        @Test
+        @DisplayName("カーソル指定時は続きからキーセットで取得し、カーソルの行までの残高を SQL で求めて前頁繰越とする")
+        void shouldContinueFromCursor() {
+            LocalDate dateFrom = LocalDate.of(2024, 4, 1);
+            LocalDate dateTo = LocalDate.of(2024, 4, 30);
+            LedgerCursor cursor = new LedgerCursor(LocalDate.of(2024, 4, 27), 40, 1, "D");
+            GetSubsidiaryLedgerQuery query = new GetSubsidiaryLedgerQuery(
+                    "2101", null, dateFrom, dateTo, 0, 20, false, cursor);
+
+            Account account = Account.reconstruct(
+                    AccountId.of(2), AccountCode.of("2101"), "買掛金", AccountType.LIABILITY);
+
+            when(accountRepository.findByCode("2101"))
+                    .thenReturn(Try.success(Optional.of(account)));
+            when(subsidiaryLedgerRepository.calculateBalanceBeforeDateByAccountAndSubAccount(
+                    "2101", null, dateFrom))
+                    .thenReturn(Try.success(new BigDecimal("-300")));
+            when(subsidiaryLedgerRepository.calculateBalanceThroughCursorByAccountAndSubAccount(
+                    "2101", null, cursor))
+                    .thenReturn(Try.success(new BigDecimal("-1300")));
+            when(subsidiaryLedgerRepository.findPostedLinesByAccountAndSubAccountAndPeriodAfter(
+                    "2101", null, dateFrom, dateTo, cursor, 21))
+                    .thenReturn(Try.success(List.of(
+                            new SubsidiaryLedgerEntry(
+                                    40, 1, LocalDate.of(2024, 4, 27), "仕入計上",
+                                    BigDecimal.ZERO, new BigDecimal("200"), null)
+                    )));
+
+            GetSubsidiaryLedgerResult result = service.execute(query);
+
+            assertThat(result.carriedForwardBalance()).isEqualByComparingTo("1300");
+            assertThat(result.closingBalance()).isEqualByComparingTo("1500");
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            verify(subsidiaryLedgerRepository, never()).calculateBalanceBeforeOffsetByAccountAndSubAccount(
+                    any(), any(), any(), any(), anyInt());
+        }
     }
 }
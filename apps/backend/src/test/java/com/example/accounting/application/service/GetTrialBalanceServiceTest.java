@@ -3,7 +3,10 @@ package com.example.accounting.application.service;
 import com.example.accounting.application.port.in.query.GetTrialBalanceQuery;
 import com.example.accounting.application.port.out.GetTrialBalanceResult;
 import com.example.accounting.application.port.out.GetTrialBalanceResult.CategorySubtotal;
+import com.example.accounting.application.port.out.LedgerChange;
 import com.example.accounting.application.port.out.TrialBalanceRepository;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.application.service.report.ReportCache;
 import com.example.accounting.infrastructure.persistence.entity.TrialBalanceEntity;
 import io.vavr.control.Try;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,10 +16,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +32,17 @@ class GetTrialBalanceServiceTest {
     @Mock
     private TrialBalanceRepository trialBalanceRepository;
 
+    @Mock
+    private LedgerVersion ledgerVersion;
+
+    private ReportCache reportCache;
+
     private GetTrialBalanceService service;
 
     @BeforeEach
     void setUp() {
-        service = new GetTrialBalanceService(trialBalanceRepository);
+        reportCache = new ReportCache(ledgerVersion, 100, Duration.ofMinutes(10), Clock.systemUTC());
+        service = new GetTrialBalanceService(trialBalanceRepository, reportCache);
     }
 
     @Test
@@ -112,6 +125,24 @@ class GetTrialBalanceServiceTest {
         assertThat(result.balanced()).isTrue();
     }
 
+    @Test
+    void shouldReuseCachedResultUntilLedgerChangesOnOrBeforeDate() {
+        LocalDate date = LocalDate.of(2026, 1, 31);
+        when(trialBalanceRepository.findTrialBalance(date)).thenReturn(Try.success(List.of()));
+
+        LocalDate nextDay = LocalDate.of(2026, 2, 1);
+        when(ledgerVersion.current()).thenReturn(0L, 1L, 2L);
+        when(ledgerVersion.changesAfter(0L)).thenReturn(List.of(new LedgerChange(1, nextDay, nextDay)));
+        when(ledgerVersion.changesAfter(1L)).thenReturn(List.of(new LedgerChange(2, date, date)));
+
+        GetTrialBalanceResult first = service.execute(new GetTrialBalanceQuery(date));
+        GetTrialBalanceResult cached = service.execute(new GetTrialBalanceQuery(date));
+        service.execute(new GetTrialBalanceQuery(date));
+
+        assertThat(cached).isSameAs(first);
+        verify(trialBalanceRepository, times(2)).findTrialBalance(date);
+    }
+
     @Test
     void shouldReturnEmptyResultWhenNoData() {
         when(trialBalanceRepository.findTrialBalance(null)).thenReturn(Try.success(List.of()));
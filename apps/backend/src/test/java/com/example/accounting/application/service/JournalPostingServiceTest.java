@@ -0,0 +1,218 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.BalanceCheckpointRepository;
+import com.example.accounting.application.port.out.BalanceLockRepository;
+import com.example.accounting.application.port.out.DailyAccountBalanceRepository;
+import com.example.accounting.domain.model.account.AccountId;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.model.journal.JournalEntryLine;
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
+import com.example.accounting.domain.model.journal.Money;
+import com.example.accounting.domain.model.user.UserId;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 仕訳転記サービスのテスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳転記サービス")
+class JournalPostingServiceTest {
+
+    @Mock
+    private BalanceLockRepository balanceLockRepository;
+
+    @Mock
+    private DailyAccountBalanceRepository dailyAccountBalanceRepository;
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Mock
+    private MonthlyBalanceRollUpService monthlyBalanceRollUpService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private JournalPostingService journalPostingService;
+
+    @BeforeEach
+    void setUp() {
+        journalPostingService = new JournalPostingService(balanceLockRepository,
+                dailyAccountBalanceRepository, balanceCheckpointRepository, monthlyBalanceRollUpService,
+                applicationEventPublisher);
+        lenient().when(balanceLockRepository.lockForPosting(any())).thenReturn(Try.success(null));
+    }
+
+    @Test
+    @DisplayName("確定仕訳を日次残高へ転記できる")
+    void shouldPostConfirmedEntry() {
+        when(dailyAccountBalanceRepository.post(JournalEntryId.of(10))).thenReturn(Try.success(2));
+        when(balanceCheckpointRepository.post(JournalEntryId.of(10))).thenReturn(Try.success(4));
+
+        journalPostingService.post(entryWithStatus(JournalEntryStatus.CONFIRMED));
+
+        InOrder inOrder = inOrder(balanceLockRepository, dailyAccountBalanceRepository);
+        inOrder.verify(balanceLockRepository).lockForPosting(List.of(YearMonth.of(2024, 1)));
+        inOrder.verify(dailyAccountBalanceRepository).post(JournalEntryId.of(10));
+        verify(balanceCheckpointRepository).post(JournalEntryId.of(10));
+        verify(monthlyBalanceRollUpService).rollUp(JournalEntryId.of(10));
+        verify(applicationEventPublisher).publishEvent(LedgerChangedEvent.on(LocalDate.of(2024, 1, 31)));
+    }
+
+    @Test
+    @DisplayName("確定仕訳の転記を取り消せる")
+    void shouldUnpostConfirmedEntry() {
+        when(dailyAccountBalanceRepository.unpost(JournalEntryId.of(10))).thenReturn(Try.success(2));
+        when(balanceCheckpointRepository.unpost(JournalEntryId.of(10))).thenReturn(Try.success(4));
+
+        journalPostingService.unpost(entryWithStatus(JournalEntryStatus.CONFIRMED));
+
+        verify(balanceLockRepository).lockForPosting(List.of(YearMonth.of(2024, 1)));
+        verify(dailyAccountBalanceRepository).unpost(JournalEntryId.of(10));
+        verify(balanceCheckpointRepository).unpost(JournalEntryId.of(10));
+        verify(monthlyBalanceRollUpService).rollUp(JournalEntryId.of(10));
+    }
+
+    @Test
+    @DisplayName("ロックの取得に失敗した場合は残高を更新しない")
+    void shouldNotPostWhenLockFails() {
+        when(balanceLockRepository.lockForPosting(any()))
+                .thenReturn(Try.failure(new RuntimeException("lock timeout")));
+        JournalEntry confirmed = entryWithStatus(JournalEntryStatus.CONFIRMED);
+
+        assertThatThrownBy(() -> journalPostingService.post(confirmed))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+        verify(dailyAccountBalanceRepository, never()).post(any());
+    }
+
+    @Test
+    @DisplayName("確定済み以外の仕訳は転記できない")
+    void shouldRejectNonConfirmedEntry() {
+        JournalEntry approved = entryWithStatus(JournalEntryStatus.APPROVED);
+
+        assertThatThrownBy(() -> journalPostingService.post(approved))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("確定済みの仕訳のみ転記可能です");
+        verify(balanceLockRepository, never()).lockForPosting(any());
+        verify(dailyAccountBalanceRepository, never()).post(any());
+        verify(balanceCheckpointRepository, never()).post(any());
+        verify(monthlyBalanceRollUpService, never()).rollUp(any());
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("残高更新に失敗した場合は例外を送出する")
+    void shouldThrowWhenRepositoryFails() {
+        when(dailyAccountBalanceRepository.post(JournalEntryId.of(10)))
+                .thenReturn(Try.failure(new RuntimeException("DB error")));
+        JournalEntry confirmed = entryWithStatus(JournalEntryStatus.CONFIRMED);
+
+        assertThatThrownBy(() -> journalPostingService.post(confirmed))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+    }
+
+    @Test
+    @DisplayName("チェックポイント更新に失敗した場合は例外を送出する")
+    void shouldThrowWhenCheckpointRepositoryFails() {
+        when(dailyAccountBalanceRepository.post(JournalEntryId.of(10))).thenReturn(Try.success(2));
+        when(balanceCheckpointRepository.post(JournalEntryId.of(10)))
+                .thenReturn(Try.failure(new RuntimeException("DB error")));
+        JournalEntry confirmed = entryWithStatus(JournalEntryStatus.CONFIRMED);
+
+        assertThatThrownBy(() -> journalPostingService.post(confirmed))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+        verify(monthlyBalanceRollUpService, never()).rollUp(any());
+    }
+
+    @Test
+    @DisplayName("複数の確定仕訳をまとめて転記できる")
+    void shouldPostAllConfirmedEntries() {
+        List<JournalEntryId> ids = List.of(JournalEntryId.of(10), JournalEntryId.of(11));
+        when(dailyAccountBalanceRepository.postAll(ids)).thenReturn(Try.success(4));
+        when(balanceCheckpointRepository.postAll(ids)).thenReturn(Try.success(8));
+
+        journalPostingService.postAll(List.of(
+                entryWithStatus(JournalEntryStatus.CONFIRMED),
+                entryWithStatus(11, JournalEntryStatus.CONFIRMED)));
+
+        verify(monthlyBalanceRollUpService).rollUpAll(ids);
+        verify(applicationEventPublisher).publishEvent(LedgerChangedEvent.on(LocalDate.of(2024, 1, 31)));
+    }
+
+    @Test
+    @DisplayName("確定済み以外の仕訳を含む場合はまとめて転記しない")
+    void shouldRejectPostAllWithNonConfirmedEntry() {
+        List<JournalEntry> entries = List.of(
+                entryWithStatus(JournalEntryStatus.CONFIRMED),
+                entryWithStatus(11, JournalEntryStatus.APPROVED));
+
+        assertThatThrownBy(() -> journalPostingService.postAll(entries))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("確定済みの仕訳のみ転記可能です");
+        verify(dailyAccountBalanceRepository, never()).postAll(any());
+    }
+
+    @Test
+    @DisplayName("対象がない場合は何もしない")
+    void shouldDoNothingWhenPostingNoEntries() {
+        journalPostingService.postAll(List.of());
+
+        verifyNoInteractions(balanceLockRepository, dailyAccountBalanceRepository, balanceCheckpointRepository,
+                monthlyBalanceRollUpService, applicationEventPublisher);
+    }
+
+    private JournalEntry entryWithStatus(JournalEntryStatus status) {
+        return entryWithStatus(10, status);
+    }
+
+    private JournalEntry entryWithStatus(int id, JournalEntryStatus status) {
+        return JournalEntry.reconstruct(
+                JournalEntryId.of(id),
+                LocalDate.of(2024, 1, 31),
+                "売上計上",
+                status,
+                1,
+                List.of(
+                        JournalEntryLine.of(1, AccountId.of(1), Money.of(new BigDecimal("1000")), null),
+                        JournalEntryLine.of(2, AccountId.of(2), null, Money.of(new BigDecimal("1000")))
+                ),
+                UserId.of("user-1"),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                LocalDateTime.of(2024, 1, 31, 10, 0),
+                LocalDateTime.of(2024, 1, 31, 10, 0)
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.BalanceCheckpointRepository;
+import com.example.accounting.application.port.out.BalanceLockRepository;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("月末残高チェックポイントの作成サービス")
+class MonthEndCheckpointServiceTest {
+
+    private static final LocalDate LAST_CLOSED_MONTH_END = LocalDate.of(2024, 9, 30);
+
+    @Mock
+    private BalanceLockRepository balanceLockRepository;
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    private MonthEndCheckpointService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-10-17T00:30:00Z"), ZoneId.of("UTC"));
+        service = new MonthEndCheckpointService(balanceLockRepository, balanceCheckpointRepository, clock);
+    }
+
+    @Test
+    @DisplayName("最新のチェックポイントの翌月から前月まで、足りない月末を古い順に作成する")
+    void shouldCreateMissingMonthEndsInOrder() {
+        when(balanceLockRepository.lockAllForRebuild()).thenReturn(Try.success(null));
+        when(balanceCheckpointRepository.findLatestCheckpointDateOnOrBefore(LAST_CLOSED_MONTH_END))
+                .thenReturn(Try.success(Optional.of(LocalDate.of(2024, 6, 30))));
+        when(balanceCheckpointRepository.rebuild(any())).thenReturn(Try.success(3));
+
+        assertThat(service.createClosedMonthCheckpoints()).containsExactly(
+                LocalDate.of(2024, 7, 31), LocalDate.of(2024, 8, 31), LAST_CLOSED_MONTH_END);
+
+        InOrder inOrder = inOrder(balanceLockRepository, balanceCheckpointRepository);
+        inOrder.verify(balanceLockRepository).lockAllForRebuild();
+        inOrder.verify(balanceCheckpointRepository).rebuild(LocalDate.of(2024, 7, 31));
+        inOrder.verify(balanceCheckpointRepository).rebuild(LocalDate.of(2024, 8, 31));
+        inOrder.verify(balanceCheckpointRepository).rebuild(LAST_CLOSED_MONTH_END);
+    }
+
+    @Test
+    @DisplayName("前月末のチェックポイントが作成済みの場合は何もしない")
+    void shouldDoNothingWhenUpToDate() {
+        when(balanceLockRepository.lockAllForRebuild()).thenReturn(Try.success(null));
+        when(balanceCheckpointRepository.findLatestCheckpointDateOnOrBefore(LAST_CLOSED_MONTH_END))
+                .thenReturn(Try.success(Optional.of(LAST_CLOSED_MONTH_END)));
+
+        assertThat(service.createClosedMonthCheckpoints()).isEmpty();
+        verify(balanceCheckpointRepository, never()).rebuild(any());
+    }
+
+    @Test
+    @DisplayName("チェックポイントが 1 件も無い場合は前月末の 1 件だけを作成する")
+    void shouldCreateOnlyLastClosedMonthWhenNoCheckpointExists() {
+        when(balanceLockRepository.lockAllForRebuild()).thenReturn(Try.success(null));
+        when(balanceCheckpointRepository.findLatestCheckpointDateOnOrBefore(LAST_CLOSED_MONTH_END))
+                .thenReturn(Try.success(Optional.empty()));
+        when(balanceCheckpointRepository.rebuild(LAST_CLOSED_MONTH_END)).thenReturn(Try.success(3));
+
+        assertThat(service.createClosedMonthCheckpoints()).containsExactly(LAST_CLOSED_MONTH_END);
+    }
+
+    @Test
+    @DisplayName("ロックの取得に失敗した場合はチェックポイントを作成しない")
+    void shouldNotCreateWhenLockFails() {
+        when(balanceLockRepository.lockAllForRebuild())
+                .thenReturn(Try.failure(new RuntimeException("lock timeout")));
+
+        assertThatThrownBy(() -> service.createClosedMonthCheckpoints())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+        verify(balanceCheckpointRepository, never()).rebuild(any());
+    }
+}
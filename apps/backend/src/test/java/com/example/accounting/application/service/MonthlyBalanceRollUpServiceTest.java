@@ -0,0 +1,218 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.AccountRepository;
+import com.example.accounting.application.port.out.MonthlyAccountBalanceRepository;
+import com.example.accounting.domain.model.account.Account;
+import com.example.accounting.domain.model.account.AccountCode;
+import com.example.accounting.domain.model.account.AccountType;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.infrastructure.persistence.entity.MonthlyAccountBalanceEntity;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 月次残高ロールアップサービスのテスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("月次残高ロールアップサービス")
+class MonthlyBalanceRollUpServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private MonthlyAccountBalanceRepository monthlyAccountBalanceRepository;
+
+    private MonthlyBalanceRollUpService monthlyBalanceRollUpService;
+
+    @BeforeEach
+    void setUp() {
+        monthlyBalanceRollUpService = new MonthlyBalanceRollUpService(
+                accountRepository, monthlyAccountBalanceRepository);
+    }
+
+    @Test
+    @DisplayName("影響月度から期末までを前月度の月末残高から積み上げる")
+    void shouldRecomputeFromTouchedMonthUsingPreviousClosing() {
+        MonthlyAccountBalanceEntity target = target("111", 2024, 3);
+        givenTargets(target);
+        givenAccount("111", AccountType.ASSET);
+        when(monthlyAccountBalanceRepository.findByKey(target, 2024, 2))
+                .thenReturn(Try.success(Optional.of(closing(new BigDecimal("1000")))));
+        when(monthlyAccountBalanceRepository.findLatestFiscalPeriod(target))
+                .thenReturn(Try.success(Optional.of(2024)));
+        when(monthlyAccountBalanceRepository.sumDailyBalances(target, 2024))
+                .thenReturn(Try.success(List.of(
+                        total(3, "500", "0"),
+                        total(5, "0", "200"))));
+        when(monthlyAccountBalanceRepository.saveAll(any())).thenReturn(Try.success(10));
+
+        monthlyBalanceRollUpService.rollUp(JournalEntryId.of(1));
+
+        List<MonthlyAccountBalanceEntity> rows = captureSavedRows(1).getFirst();
+        assertThat(rows).hasSize(10);
+        assertThat(rows.getFirst().getMonth()).isEqualTo(3);
+        assertThat(rows.getFirst().getOpeningBalance()).isEqualByComparingTo("1000");
+        assertThat(rows.getFirst().getClosingBalance()).isEqualByComparingTo("1500");
+        assertThat(rows.get(1).getOpeningBalance()).isEqualByComparingTo("1500");
+        assertThat(rows.get(1).getDebitAmount()).isEqualByComparingTo("0");
+        assertThat(rows.get(2).getClosingBalance()).isEqualByComparingTo("1300");
+        assertThat(rows.getLast().getMonth()).isEqualTo(12);
+        assertThat(rows.getLast().getClosingBalance()).isEqualByComparingTo("1300");
+        assertThat(rows.getLast().getAccountCode()).isEqualTo("111");
+    }
+
+    @Test
+    @DisplayName("損益科目は期首残高 0 から貸方残で積み上げ、翌期へ繰り越さない")
+    void shouldStartProfitAndLossAccountFromZero() {
+        MonthlyAccountBalanceEntity target = target("411", 2024, 1);
+        givenTargets(target);
+        givenAccount("411", AccountType.REVENUE);
+        when(monthlyAccountBalanceRepository.sumDailyBalances(target, 2024))
+                .thenReturn(Try.success(List.of(total(1, "0", "300"))));
+        when(monthlyAccountBalanceRepository.saveAll(any())).thenReturn(Try.success(12));
+
+        monthlyBalanceRollUpService.rollUp(JournalEntryId.of(1));
+
+        List<MonthlyAccountBalanceEntity> rows = captureSavedRows(1).getFirst();
+        assertThat(rows).hasSize(12);
+        assertThat(rows.getFirst().getOpeningBalance()).isEqualByComparingTo("0");
+        assertThat(rows.getFirst().getClosingBalance()).isEqualByComparingTo("300");
+        verify(monthlyAccountBalanceRepository, never()).findByKey(any(), anyInt(), anyInt());
+        verify(monthlyAccountBalanceRepository, never()).findLatestFiscalPeriod(any());
+    }
+
+    @Test
+    @DisplayName("前月度の行がない場合は前期末残高から期首月度より積み上げ、既存の翌期へ繰り越す")
+    void shouldRecomputeWholePeriodAndCarryForward() {
+        MonthlyAccountBalanceEntity target = target("111", 2024, 6);
+        givenTargets(target);
+        givenAccount("111", AccountType.ASSET);
+        when(monthlyAccountBalanceRepository.findByKey(target, 2024, 5))
+                .thenReturn(Try.success(Optional.empty()));
+        when(monthlyAccountBalanceRepository.findByKey(target, 2023, 12))
+                .thenReturn(Try.success(Optional.of(closing(new BigDecimal("100")))));
+        when(monthlyAccountBalanceRepository.findLatestFiscalPeriod(target))
+                .thenReturn(Try.success(Optional.of(2025)));
+        when(monthlyAccountBalanceRepository.sumDailyBalances(eq(target), anyInt()))
+                .thenReturn(Try.success(List.of(total(6, "50", "0"))));
+        when(monthlyAccountBalanceRepository.saveAll(any())).thenReturn(Try.success(12));
+
+        monthlyBalanceRollUpService.rollUp(JournalEntryId.of(1));
+
+        List<List<MonthlyAccountBalanceEntity>> saved = captureSavedRows(2);
+        assertThat(saved.getFirst()).hasSize(12);
+        assertThat(saved.getFirst().getFirst().getOpeningBalance()).isEqualByComparingTo("100");
+        assertThat(saved.getFirst().getLast().getClosingBalance()).isEqualByComparingTo("150");
+        assertThat(saved.getLast().getFirst().getFiscalPeriod()).isEqualTo(2025);
+        assertThat(saved.getLast().getFirst().getOpeningBalance()).isEqualByComparingTo("150");
+        assertThat(saved.getLast().getLast().getClosingBalance()).isEqualByComparingTo("200");
+    }
+
+    @Test
+    @DisplayName("会計期間の再構築では対象期間から既存の最新期まで期間ごとに作り直す")
+    void shouldRebuildFiscalPeriodAndLaterPeriods() {
+        when(monthlyAccountBalanceRepository.findLatestFiscalPeriod()).thenReturn(Try.success(Optional.of(2025)));
+        when(monthlyAccountBalanceRepository.rebuildFiscalPeriod(anyInt())).thenReturn(Try.success(24));
+
+        monthlyBalanceRollUpService.rebuild(2024);
+
+        InOrder inOrder = inOrder(monthlyAccountBalanceRepository);
+        inOrder.verify(monthlyAccountBalanceRepository).rebuildFiscalPeriod(2024);
+        inOrder.verify(monthlyAccountBalanceRepository).rebuildFiscalPeriod(2025);
+        verify(monthlyAccountBalanceRepository, never()).saveAll(any());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("月次残高が無い場合は対象期間だけを作り直す")
+    void shouldRebuildOnlyTargetPeriodWhenNoBalancesExist() {
+        when(monthlyAccountBalanceRepository.findLatestFiscalPeriod()).thenReturn(Try.success(Optional.empty()));
+        when(monthlyAccountBalanceRepository.rebuildFiscalPeriod(2024)).thenReturn(Try.success(0));
+
+        monthlyBalanceRollUpService.rebuild(2024);
+
+        verify(monthlyAccountBalanceRepository, times(1)).rebuildFiscalPeriod(anyInt());
+    }
+
+    @Test
+    @DisplayName("複数仕訳の再計算では影響するキーごとに 1 回だけ積み上げる")
+    void shouldRollUpEachTargetOnceForMultipleEntries() {
+        MonthlyAccountBalanceEntity target = target("411", 2024, 1);
+        List<JournalEntryId> ids = List.of(JournalEntryId.of(1), JournalEntryId.of(2));
+        when(monthlyAccountBalanceRepository.findRollUpTargets(ids)).thenReturn(Try.success(List.of(target)));
+        givenAccount("411", AccountType.REVENUE);
+        when(monthlyAccountBalanceRepository.sumDailyBalances(target, 2024))
+                .thenReturn(Try.success(List.of(total(1, "0", "300"))));
+        when(monthlyAccountBalanceRepository.saveAll(any())).thenReturn(Try.success(12));
+
+        monthlyBalanceRollUpService.rollUpAll(ids);
+
+        assertThat(captureSavedRows(1).getFirst()).hasSize(12);
+    }
+
+    private void givenTargets(MonthlyAccountBalanceEntity... targets) {
+        when(monthlyAccountBalanceRepository.findRollUpTargets(JournalEntryId.of(1)))
+                .thenReturn(Try.success(List.of(targets)));
+    }
+
+    private void givenAccount(String code, AccountType type) {
+        when(accountRepository.findByCode(code))
+                .thenReturn(Try.success(Optional.of(Account.create(AccountCode.of(code), "科目", type))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<MonthlyAccountBalanceEntity>> captureSavedRows(int times) {
+        ArgumentCaptor<List<MonthlyAccountBalanceEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(monthlyAccountBalanceRepository, times(times)).saveAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private MonthlyAccountBalanceEntity target(String accountCode, int fiscalPeriod, int month) {
+        MonthlyAccountBalanceEntity entity = new MonthlyAccountBalanceEntity();
+        entity.setFiscalPeriod(fiscalPeriod);
+        entity.setMonth(month);
+        entity.setAccountCode(accountCode);
+        entity.setSubAccountCode("");
+        entity.setDepartmentCode("");
+        entity.setProjectCode("");
+        entity.setClosingEntryFlag(0);
+        return entity;
+    }
+
+    private MonthlyAccountBalanceEntity total(int month, String debit, String credit) {
+        MonthlyAccountBalanceEntity entity = new MonthlyAccountBalanceEntity();
+        entity.setMonth(month);
+        entity.setDebitAmount(new BigDecimal(debit));
+        entity.setCreditAmount(new BigDecimal(credit));
+        return entity;
+    }
+
+    private MonthlyAccountBalanceEntity closing(BigDecimal closingBalance) {
+        MonthlyAccountBalanceEntity entity = new MonthlyAccountBalanceEntity();
+        entity.setClosingBalance(closingBalance);
+        return entity;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Entry;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.PeriodColumn;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Section;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult.Total;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MultiPeriodStatementExportService")
+class MultiPeriodStatementExportServiceTest {
+
+    private MultiPeriodStatementExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MultiPeriodStatementExportService();
+    }
+
+    private GetMultiPeriodStatementResult createTestResult() {
+        List<BigDecimal> revenue = List.of(new BigDecimal("1000"), new BigDecimal("1200"));
+        List<BigDecimal> expense = List.of(new BigDecimal("600"), new BigDecimal("700"));
+        return new GetMultiPeriodStatementResult(
+                "PROFIT_AND_LOSS",
+                List.of(new PeriodColumn(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30), "2024-04"),
+                        new PeriodColumn(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31), "2024-05")),
+                List.of(new Section("REVENUE", "収益の部",
+                                List.of(new Entry("4000", "売上高", "REVENUE", revenue)), revenue),
+                        new Section("EXPENSE", "費用の部",
+                                List.of(new Entry("5000", "給料", "EXPENSE", expense)), expense)),
+                List.of(new Total("当期純利益", List.of(new BigDecimal("400"), new BigDecimal("500")))));
+    }
+
+    @Nested
+    @DisplayName("CSV エクスポート")
+    class ExportToCsv {
+
+        @Test
+        @DisplayName("期間を列として横に並べた CSV を出力する")
+        void shouldWritePeriodsAsColumns() {
+            byte[] bytes = service.exportToCsv(createTestResult()).get();
+
+            String csv = new String(bytes, StandardCharsets.UTF_8);
+            assertThat(csv).contains("区分,科目コード,科目名,2024-04,2024-05\r\n");
+            assertThat(csv).contains("収益の部,4000,売上高,1000,1200\r\n");
+            assertThat(csv).contains(",,当期純利益,400,500\r\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("Excel エクスポート")
+    class ExportToExcel {
+
+        @Test
+        @DisplayName("期間ごとの金額を列に出力する")
+        void shouldWritePeriodsAsColumns() throws IOException {
+            byte[] bytes = service.exportToExcel(createTestResult()).get();
+
+            try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+                Sheet sheet = workbook.getSheetAt(0);
+                assertThat(sheet.getSheetName()).isEqualTo("損益計算書（期間比較）");
+                assertThat(sheet.getRow(2).getCell(2).getStringCellValue()).isEqualTo("2024-05");
+                assertThat(sheet.getRow(4).getCell(2).getNumericCellValue()).isEqualTo(1200.0);
+            }
+        }
+
+        @Test
+        @DisplayName("セクションが空でも例外が発生しない")
+        void shouldExportWithEmptySections() {
+            GetMultiPeriodStatementResult result =
+                    new GetMultiPeriodStatementResult("BALANCE_SHEET", List.of(), List.of(), List.of());
+
+            byte[] bytes = service.exportToExcel(result).get();
+
+            assertThat(bytes).isNotEmpty();
+        }
+    }
+}
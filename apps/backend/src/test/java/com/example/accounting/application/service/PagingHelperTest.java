@@ -0,0 +1,40 @@
+package com.example.accounting.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PagingHelper")
+class PagingHelperTest {
+
+    @Test
+    @DisplayName("先読みした件数がページサイズを超える場合は次ページありとして切り詰める")
+    void shouldTrimLookAheadRow() {
+        List<Integer> fetched = List.of(1, 2, 3);
+
+        assertThat(PagingHelper.lookAheadLimit(2)).isEqualTo(3);
+        assertThat(PagingHelper.hasNext(fetched, 2)).isTrue();
+        assertThat(PagingHelper.trim(fetched, 2)).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("先読みした件数がページサイズ以下の場合は最終ページ")
+    void shouldKeepLastPageAsIs() {
+        List<Integer> fetched = List.of(1, 2);
+
+        assertThat(PagingHelper.hasNext(fetched, 2)).isFalse();
+        assertThat(PagingHelper.trim(fetched, 2)).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("総件数から次ページの有無と総ページ数を算出できる")
+    void shouldDeriveFromTotal() {
+        assertThat(PagingHelper.hasNext(1, 2, 5L)).isTrue();
+        assertThat(PagingHelper.hasNext(2, 2, 5L)).isFalse();
+        assertThat(PagingHelper.totalPages(5L, 2)).isEqualTo(3);
+        assertThat(PagingHelper.totalPages(0L, 2)).isZero();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.in.command.RebuildBalancesCommand;
+import com.example.accounting.application.port.out.RebuildBalancesResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 残高再構築サービスのテスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("残高再構築サービス")
+class RebuildBalancesServiceTest {
+
+    private static final Clock FIXED_CLOCK =
+            Clock.fixed(Instant.parse("2024-04-01T00:00:00Z"), ZoneId.of("UTC"));
+
+    @Mock
+    private BalanceRebuildChunkService balanceRebuildChunkService;
+
+    private final List<Runnable> pending = new ArrayList<>();
+
+    private RebuildBalancesService rebuildBalancesService;
+
+    @BeforeEach
+    void setUp() {
+        pending.clear();
+    }
+
+    @Test
+    @DisplayName("12 か月分の日次残高と月次残高を再構築して完了する")
+    void shouldRebuildAllChunks() {
+        rebuildBalancesService = new RebuildBalancesService(balanceRebuildChunkService, Runnable::run, FIXED_CLOCK);
+        when(balanceRebuildChunkService.rebuildDailyBalances(any(YearMonth.class))).thenReturn(10);
+
+        RebuildBalancesResult started = rebuildBalancesService.start(new RebuildBalancesCommand(2024)).get();
+
+        verify(balanceRebuildChunkService, times(12)).rebuildDailyBalances(any(YearMonth.class));
+        verify(balanceRebuildChunkService).rebuildDailyBalances(YearMonth.of(2024, 1));
+        verify(balanceRebuildChunkService).rebuildDailyBalances(YearMonth.of(2024, 12));
+        verify(balanceRebuildChunkService).rebuildMonthlyBalances(2024);
+
+        RebuildBalancesResult job = rebuildBalancesService.findJob(started.jobId()).orElseThrow();
+        assertThat(job.status()).isEqualTo(RebuildBalancesResult.COMPLETED);
+        assertThat(job.completedChunks()).isEqualTo(13);
+        assertThat(job.totalChunks()).isEqualTo(13);
+        assertThat(job.finishedAt()).isEqualTo(LocalDateTime.of(2024, 4, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("日次チャンクが失敗した場合は月次を実行せず FAILED になる")
+    void shouldFailWhenDailyChunkFails() {
+        rebuildBalancesService = new RebuildBalancesService(balanceRebuildChunkService, Runnable::run, FIXED_CLOCK);
+        when(balanceRebuildChunkService.rebuildDailyBalances(any(YearMonth.class))).thenReturn(10);
+        when(balanceRebuildChunkService.rebuildDailyBalances(YearMonth.of(2024, 3)))
+                .thenThrow(new RuntimeException("Data access error"));
+
+        RebuildBalancesResult started = rebuildBalancesService.start(new RebuildBalancesCommand(2024)).get();
+
+        verify(balanceRebuildChunkService, never()).rebuildMonthlyBalances(anyInt());
+        RebuildBalancesResult job = rebuildBalancesService.findJob(started.jobId()).orElseThrow();
+        assertThat(job.status()).isEqualTo(RebuildBalancesResult.FAILED);
+        assertThat(job.completedChunks()).isEqualTo(11);
+        assertThat(job.errorMessage()).isEqualTo("Data access error");
+    }
+
+    @Test
+    @DisplayName("同じ会計期間の再構築が実行中の場合は開始しない")
+    void shouldRejectWhenSamePeriodIsRunning() {
+        Executor deferred = pending::add;
+        rebuildBalancesService = new RebuildBalancesService(balanceRebuildChunkService, deferred, FIXED_CLOCK);
+
+        RebuildBalancesResult first = rebuildBalancesService.start(new RebuildBalancesCommand(2024)).get();
+        var second = rebuildBalancesService.start(new RebuildBalancesCommand(2024));
+        var otherPeriod = rebuildBalancesService.start(new RebuildBalancesCommand(2023));
+
+        assertThat(first.status()).isEqualTo(RebuildBalancesResult.RUNNING);
+        assertThat(second.isLeft()).isTrue();
+        assertThat(second.getLeft()).isEqualTo("会計期間 2024 の残高再構築は実行中です");
+        assertThat(otherPeriod.isRight()).isTrue();
+    }
+
+    @Test
+    @DisplayName("存在しないジョブは empty")
+    void shouldReturnEmptyForUnknownJob() {
+        rebuildBalancesService = new RebuildBalancesService(balanceRebuildChunkService, Runnable::run, FIXED_CLOCK);
+
+        assertThat(rebuildBalancesService.findJob("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("終了から保持期間を過ぎたジョブは破棄する")
+    void shouldEvictFinishedJobsAfterRetention() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-04-01T00:00:00Z"));
+        rebuildBalancesService = new RebuildBalancesService(balanceRebuildChunkService, Runnable::run, clock);
+        when(balanceRebuildChunkService.rebuildDailyBalances(any(YearMonth.class))).thenReturn(10);
+        RebuildBalancesResult started = rebuildBalancesService.start(new RebuildBalancesCommand(2024)).get();
+
+        clock.advance(RebuildBalancesService.FINISHED_JOB_RETENTION);
+        assertThat(rebuildBalancesService.findJob(started.jobId())).isPresent();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(rebuildBalancesService.findJob(started.jobId())).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
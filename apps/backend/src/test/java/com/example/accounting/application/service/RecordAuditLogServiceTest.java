@@ -14,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -93,4 +94,33 @@ class RecordAuditLogServiceTest {
         assertThat(result.getLeft()).contains("監査ログの保存に失敗しました");
         assertThat(result.getLeft()).contains("db save error");
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void savesAllCommandsInOneCall() {
+        List<RecordAuditLogUseCase.RecordAuditLogCommand> commands = List.of(
+                new RecordAuditLogUseCase.RecordAuditLogCommand(
+                        "manager", AuditAction.CONFIRM, EntityType.JOURNAL_ENTRY, "1", "bulk confirm", "127.0.0.1"),
+                new RecordAuditLogUseCase.RecordAuditLogCommand(
+                        "manager", AuditAction.CONFIRM, EntityType.JOURNAL_ENTRY, "2", "bulk confirm", "127.0.0.1"));
+        when(auditLogRepository.saveAll(any())).thenReturn(Try.success(2));
+
+        var result = service.executeAll(commands);
+
+        assertThat(result.isRight()).isTrue();
+        ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditLogRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AuditLog::getEntityId).containsExactly("1", "2");
+    }
+
+    @Test
+    void returnsLeftWhenSaveAllFails() {
+        when(auditLogRepository.saveAll(any())).thenReturn(Try.failure(new RuntimeException("db save error")));
+
+        var result = service.executeAll(List.of(new RecordAuditLogUseCase.RecordAuditLogCommand(
+                "manager", AuditAction.APPROVE, EntityType.JOURNAL_ENTRY, "1", "bulk approve", "127.0.0.1")));
+
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.getLeft()).contains("db save error");
+    }
 }
@@ -0,0 +1,88 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.application.port.out.GetDailyBalanceResult.DailyBalanceEntry;
+import com.example.accounting.domain.model.account.AccountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RunningBalanceCalculator")
+class RunningBalanceCalculatorTest {
+
+    private static final RunningBalanceCalculator.RowFactory<DailyBalanceEntry, DailyBalanceEntry> FACTORY =
+            (entry, debit, credit, running) ->
+                    new DailyBalanceEntry(entry.date(), debit, credit, running, entry.transactionCount());
+
+    @Test
+    @DisplayName("借方残高科目は借方で増加し、貸方で減少する")
+    void shouldAccumulateForDebitBalanceAccount() {
+        List<DailyBalanceEntry> rows = List.of(
+                entry(1, "500", "0"),
+                entry(2, "0", "200"));
+
+        RunningBalanceCalculator.Result<DailyBalanceEntry> result = RunningBalanceCalculator.calculate(
+                AccountType.ASSET, new BigDecimal("1000"), rows,
+                DailyBalanceEntry::debitTotal, DailyBalanceEntry::creditTotal, FACTORY);
+
+        assertThat(result.entries()).extracting(DailyBalanceEntry::balance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("1500"), new BigDecimal("1300"));
+        assertThat(result.debitTotal()).isEqualByComparingTo("500");
+        assertThat(result.creditTotal()).isEqualByComparingTo("200");
+        assertThat(result.closingBalance()).isEqualByComparingTo("1300");
+    }
+
+    @Test
+    @DisplayName("貸方残高科目は貸方で増加し、null の金額は 0 として扱う")
+    void shouldAccumulateForCreditBalanceAccount() {
+        List<DailyBalanceEntry> rows = List.of(
+                new DailyBalanceEntry(LocalDate.of(2024, 4, 1), null, new BigDecimal("400"), null, 1L),
+                new DailyBalanceEntry(LocalDate.of(2024, 4, 2), new BigDecimal("100"), null, null, 1L));
+
+        RunningBalanceCalculator.Result<DailyBalanceEntry> result = RunningBalanceCalculator.calculate(
+                AccountType.LIABILITY, new BigDecimal("300"), rows,
+                DailyBalanceEntry::debitTotal, DailyBalanceEntry::creditTotal, FACTORY);
+
+        assertThat(result.entries().get(0).balance()).isEqualByComparingTo("700");
+        assertThat(result.entries().get(1).balance()).isEqualByComparingTo("600");
+        assertThat(result.entries().get(1).creditTotal()).isEqualByComparingTo("0");
+        assertThat(result.closingBalance()).isEqualByComparingTo("600");
+    }
+
+    @Test
+    @DisplayName("行が無い場合は開始残高がそのまま期末残高になる")
+    void shouldReturnOpeningBalanceWhenNoRows() {
+        RunningBalanceCalculator.Result<DailyBalanceEntry> result = RunningBalanceCalculator.calculate(
+                AccountType.ASSET, new BigDecimal("1000"), List.of(),
+                DailyBalanceEntry::debitTotal, DailyBalanceEntry::creditTotal, FACTORY);
+
+        assertThat(result.entries()).isEmpty();
+        assertThat(result.closingBalance()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("1 年分の日次行を 1 パスで累計できる")
+    void shouldHandleFullYearOfRows() {
+        List<DailyBalanceEntry> rows = IntStream.range(0, 366)
+                .mapToObj(day -> new DailyBalanceEntry(LocalDate.of(2024, 1, 1).plusDays(day),
+                        BigDecimal.TEN, BigDecimal.ONE, null, 1L))
+                .toList();
+
+        RunningBalanceCalculator.Result<DailyBalanceEntry> result = RunningBalanceCalculator.calculate(
+                AccountType.ASSET, BigDecimal.ZERO, rows,
+                DailyBalanceEntry::debitTotal, DailyBalanceEntry::creditTotal, FACTORY);
+
+        assertThat(result.entries()).hasSize(366);
+        assertThat(result.closingBalance()).isEqualByComparingTo(new BigDecimal(366 * 9));
+    }
+
+    private DailyBalanceEntry entry(int day, String debit, String credit) {
+        return new DailyBalanceEntry(LocalDate.of(2024, 1, day), new BigDecimal(debit), new BigDecimal(credit), null, 1L);
+    }
+}
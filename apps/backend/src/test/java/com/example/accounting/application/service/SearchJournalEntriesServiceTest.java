@@ -2,6 +2,7 @@ package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.query.SearchJournalEntriesQuery;
 import com.example.accounting.application.port.out.GetJournalEntriesResult;
+import com.example.accounting.application.port.out.JournalEntryCursor;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.application.port.out.JournalEntrySearchCriteria;
 import com.example.accounting.application.service.journal.SearchJournalEntriesService;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -25,9 +27,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -255,6 +259,142 @@ class SearchJournalEntriesServiceTest {
             assertThat(result.size()).isEqualTo(2);
             assertThat(result.totalElements()).isEqualTo(5L);
             assertThat(result.totalPages()).isEqualTo(3);
+            assertThat(result.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("カーソル指定時はカーソル位置の続きから取得し、次のカーソルを返す")
+        void shouldSearchAfterCursor() {
+            JournalEntryCursor cursor = new JournalEntryCursor(LocalDate.of(2024, 3, 31), 6);
+            SearchJournalEntriesQuery query = new SearchJournalEntriesQuery(
+                    0, 2, List.of(), null, null, null, null, null, null, cursor, true);
+            JournalEntry entry1 = createEntry(7, "売上計上", 1, new BigDecimal("1000"));
+            JournalEntry entry2 = createEntry(8, "交通費", 3, new BigDecimal("2000"));
+
+            when(journalEntryRepository.countBySearchConditions(any(JournalEntrySearchCriteria.class)))
+                    .thenReturn(Try.success(5L));
+            when(journalEntryRepository.searchByConditionsAfter(any(JournalEntrySearchCriteria.class), eq(cursor)))
+                    .thenReturn(Try.success(List.of(entry1, entry2)));
+
+            GetJournalEntriesResult result = searchJournalEntriesService.execute(query);
+
+            assertThat(result.content()).extracting(GetJournalEntriesResult.JournalEntrySummary::journalEntryId)
+                    .containsExactly(7, 8);
+            assertThat(result.nextCursor())
+                    .isEqualTo(new JournalEntryCursor(LocalDate.of(2024, 4, 1), 8).encode());
+            verify(journalEntryRepository, never()).searchByConditions(any(JournalEntrySearchCriteria.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("件数を数えないモード")
+    class WithoutTotal {
+
+        @Test
+        @DisplayName("ページサイズ + 1 件を先読みして次ページの有無を判定し、件数は数えない")
+        void shouldLookAheadInsteadOfCounting() {
+            SearchJournalEntriesQuery query = new SearchJournalEntriesQuery(
+                    0, 2, List.of(), null, null, null, null, null, null, null, false);
+            JournalEntry entry1 = createEntry(1, "売上計上", 1, new BigDecimal("1000"));
+            JournalEntry entry2 = createEntry(2, "交通費", 3, new BigDecimal("2000"));
+            JournalEntry entry3 = createEntry(3, "消耗品費", 4, new BigDecimal("3000"));
+
+            ArgumentCaptor<JournalEntrySearchCriteria> captor = ArgumentCaptor.forClass(JournalEntrySearchCriteria.class);
+            when(journalEntryRepository.searchByConditions(captor.capture()))
+                    .thenReturn(Try.success(List.of(entry1, entry2, entry3)));
+
+            GetJournalEntriesResult result = searchJournalEntriesService.execute(query);
+
+            assertThat(captor.getValue().limit()).isEqualTo(3);
+            assertThat(result.content()).extracting(GetJournalEntriesResult.JournalEntrySummary::journalEntryId)
+                    .containsExactly(1, 2);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.totalElements()).isEqualTo(-1L);
+            assertThat(result.totalPages()).isEqualTo(-1);
+            verify(journalEntryRepository, never()).countBySearchConditions(any(JournalEntrySearchCriteria.class));
+        }
+
+        @Test
+        @DisplayName("先読み分が無ければ最終ページと判定する")
+        void shouldReportLastPage() {
+            SearchJournalEntriesQuery query = new SearchJournalEntriesQuery(
+                    0, 2, List.of(), null, null, null, null, null, null, null, false);
+            JournalEntry entry1 = createEntry(1, "売上計上", 1, new BigDecimal("1000"));
+
+            when(journalEntryRepository.searchByConditions(any(JournalEntrySearchCriteria.class)))
+                    .thenReturn(Try.success(List.of(entry1)));
+
+            GetJournalEntriesResult result = searchJournalEntriesService.execute(query);
+
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("摘要検索のハイライト・関連度順")
+    class DescriptionSearch {
+
+        @Test
+        @DisplayName("ヘッダの摘要が一致しない仕訳は行摘要でハイライトする")
+        void shouldHighlightHeaderOrLineDescription() {
+            SearchJournalEntriesQuery query = new SearchJournalEntriesQuery(
+                    0, 20, List.of(), null, null, null, null, null, "売上");
+            JournalEntry headerMatch = createEntry(1, "売上計上", 1, new BigDecimal("1000"));
+            JournalEntry lineMatch = createEntry(2, "月末振替", 3, new BigDecimal("2000"));
+
+            when(journalEntryRepository.countBySearchConditions(any(JournalEntrySearchCriteria.class)))
+                    .thenReturn(Try.success(2L));
+            when(journalEntryRepository.searchByConditions(any(JournalEntrySearchCriteria.class)))
+                    .thenReturn(Try.success(List.of(headerMatch, lineMatch)));
+            when(journalEntryRepository.findMatchedLineDescriptions(List.of(2), "売上"))
+                    .thenReturn(Try.success(Map.of(2, "売上高<振替>")));
+
+            GetJournalEntriesResult result = searchJournalEntriesService.execute(query);
+
+            assertThat(result.content()).extracting(GetJournalEntriesResult.JournalEntrySummary::highlight)
+                    .containsExactly("<mark>売上</mark>計上", "<mark>売上</mark>高&lt;振替&gt;");
+        }
+
+        @Test
+        @DisplayName("摘要を指定しない場合はハイライトしない")
+        void shouldNotHighlightWithoutDescription() {
+            SearchJournalEntriesQuery query = SearchJournalEntriesQuery.defaultQuery();
+            JournalEntry entry = createEntry(1, "売上計上", 1, new BigDecimal("1000"));
+
+            when(journalEntryRepository.countBySearchConditions(any(JournalEntrySearchCriteria.class)))
+                    .thenReturn(Try.success(1L));
+            when(journalEntryRepository.searchByConditions(any(JournalEntrySearchCriteria.class)))
+                    .thenReturn(Try.success(List.of(entry)));
+
+            GetJournalEntriesResult result = searchJournalEntriesService.execute(query);
+
+            assertThat(result.content().get(0).highlight()).isNull();
+            verify(journalEntryRepository, never()).findMatchedLineDescriptions(any(), any());
+        }
+
+        @Test
+        @DisplayName("関連度順ではカーソルを使わずオフセットで取得し、次のカーソルを返さない")
+        void shouldUseOffsetPagingWhenRankingByRelevance() {
+            JournalEntryCursor cursor = new JournalEntryCursor(LocalDate.of(2024, 3, 31), 6);
+            SearchJournalEntriesQuery query = new SearchJournalEntriesQuery(
+                    1, 1, List.of(), null, null, null, null, null, "売上", cursor, true, true);
+            JournalEntry entry = createEntry(7, "売上計上", 1, new BigDecimal("1000"));
+
+            ArgumentCaptor<JournalEntrySearchCriteria> captor = ArgumentCaptor.forClass(JournalEntrySearchCriteria.class);
+            when(journalEntryRepository.countBySearchConditions(any(JournalEntrySearchCriteria.class)))
+                    .thenReturn(Try.success(3L));
+            when(journalEntryRepository.searchByConditions(captor.capture()))
+                    .thenReturn(Try.success(List.of(entry)));
+
+            GetJournalEntriesResult result = searchJournalEntriesService.execute(query);
+
+            assertThat(captor.getValue().rankByRelevance()).isTrue();
+            assertThat(captor.getValue().offset()).isEqualTo(1);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isNull();
+            verify(journalEntryRepository, never()).searchByConditionsAfter(any(), any());
         }
     }
 
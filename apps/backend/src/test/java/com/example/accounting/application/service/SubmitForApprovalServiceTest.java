@@ -1,6 +1,7 @@
 package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.command.SubmitForApprovalCommand;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.application.port.out.SubmitForApprovalResult;
 import com.example.accounting.domain.model.journal.JournalEntry;
@@ -28,6 +29,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -61,7 +63,7 @@ class SubmitForApprovalServiceTest {
 
             when(journalEntryRepository.findById(JournalEntryId.of(10)))
                     .thenReturn(Try.success(Optional.of(existingEntry)));
-            when(journalEntryRepository.save(any(JournalEntry.class)))
+            when(journalEntryRepository.save(any(JournalEntry.class), any()))
                     .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
 
             SubmitForApprovalResult result = submitForApprovalService.execute(command);
@@ -73,7 +75,7 @@ class SubmitForApprovalServiceTest {
             assertThat(result.errorMessage()).isNull();
 
             ArgumentCaptor<JournalEntry> captor = ArgumentCaptor.forClass(JournalEntry.class);
-            verify(journalEntryRepository).save(captor.capture());
+            verify(journalEntryRepository).save(captor.capture(), eq(JournalEntryEvent.Type.SUBMITTED));
             JournalEntry savedEntry = captor.getValue();
 
             assertThat(savedEntry.getStatus()).isEqualTo(JournalEntryStatus.PENDING);
@@ -96,7 +98,7 @@ class SubmitForApprovalServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("仕訳が見つかりません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
 
         @Test
@@ -136,7 +138,7 @@ class SubmitForApprovalServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("下書き状態の仕訳のみ承認申請可能です");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
     }
 
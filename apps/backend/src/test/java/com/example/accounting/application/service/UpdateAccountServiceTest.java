@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -39,11 +40,15 @@ class UpdateAccountServiceTest {
     @Mock
     private AccountUsageChecker accountUsageChecker;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     private UpdateAccountService updateAccountService;
 
     @BeforeEach
     void setUp() {
-        updateAccountService = new UpdateAccountService(accountRepository, accountUsageChecker);
+        updateAccountService = new UpdateAccountService(accountRepository, accountUsageChecker,
+                applicationEventPublisher);
     }
 
     @Nested
@@ -89,6 +94,7 @@ class UpdateAccountServiceTest {
 
             ArgumentCaptor<Account> accountCaptor = ArgumentCaptor.forClass(Account.class);
             verify(accountRepository).save(accountCaptor.capture());
+            verify(applicationEventPublisher).publishEvent(LedgerChangedEvent.allDates());
             Account accountToSave = accountCaptor.getValue();
             assertThat(accountToSave.getId().value()).isEqualTo(1);
             assertThat(accountToSave.getAccountCode().value()).isEqualTo("1100");
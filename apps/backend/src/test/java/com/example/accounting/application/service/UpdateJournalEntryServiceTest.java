@@ -2,6 +2,7 @@ package com.example.accounting.application.service;
 
 import com.example.accounting.application.port.in.command.UpdateJournalEntryCommand;
 import com.example.accounting.application.port.out.AccountRepository;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.application.port.out.UpdateJournalEntryResult;
 import com.example.accounting.domain.model.account.Account;
@@ -32,6 +33,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -89,7 +91,7 @@ class UpdateJournalEntryServiceTest {
             assertThat(result.errorMessage()).isNull();
 
             ArgumentCaptor<JournalEntry> captor = ArgumentCaptor.forClass(JournalEntry.class);
-            verify(journalEntryRepository).save(captor.capture());
+            verify(journalEntryRepository).save(captor.capture(), eq(JournalEntryEvent.Type.UPDATED));
             JournalEntry updatedEntry = captor.getValue();
 
             assertThat(updatedEntry.getId()).isEqualTo(JournalEntryId.of(10));
@@ -123,7 +125,7 @@ class UpdateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("仕訳が見つかりません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
             verify(accountRepository, never()).findById(any(AccountId.class));
         }
 
@@ -169,7 +171,7 @@ class UpdateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("下書き状態の仕訳のみ編集可能です");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
             verify(accountRepository, never()).findById(any(AccountId.class));
         }
 
@@ -215,7 +217,7 @@ class UpdateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("仕訳のバージョンが一致しません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
             verify(accountRepository, never()).findById(any(AccountId.class));
         }
 
@@ -237,7 +239,7 @@ class UpdateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("仕訳明細は 1 行以上必要です");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
             verify(accountRepository, never()).findById(any(AccountId.class));
         }
 
@@ -261,7 +263,7 @@ class UpdateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("勘定科目が存在しません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
 
         @Test
@@ -286,7 +288,7 @@ class UpdateJournalEntryServiceTest {
 
             assertThat(result.success()).isFalse();
             assertThat(result.errorMessage()).isEqualTo("貸借一致していません");
-            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class), any());
         }
     }
 
@@ -372,7 +374,7 @@ class UpdateJournalEntryServiceTest {
     }
 
     private void stubSavePassThrough() {
-        when(journalEntryRepository.save(any(JournalEntry.class)))
+        when(journalEntryRepository.save(any(JournalEntry.class), any()))
                 .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
     }
 
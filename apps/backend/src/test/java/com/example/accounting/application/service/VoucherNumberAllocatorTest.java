@@ -0,0 +1,152 @@
+package com.example.accounting.application.service;
+
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.user.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 仕訳伝票番号払い出しサービスのテスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳伝票番号払い出しサービス")
+class VoucherNumberAllocatorTest {
+
+    @Mock
+    private VoucherNumberBlockService voucherNumberBlockService;
+
+    private VoucherNumberAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new VoucherNumberAllocator(voucherNumberBlockService);
+    }
+
+    @Test
+    @DisplayName("予約したブロックから連番で払い出し、使い切ったときだけ次のブロックを予約する")
+    void shouldHandOutFromReservedBlock() {
+        when(voucherNumberBlockService.reserve(0, 2024, VoucherNumberAllocator.BLOCK_SIZE))
+                .thenReturn(1L, 501L);
+
+        List<String> numbers = IntStream.range(0, VoucherNumberAllocator.BLOCK_SIZE + 1)
+                .mapToObj(i -> allocator.next(0, 2024))
+                .toList();
+
+        assertThat(numbers.getFirst()).isEqualTo("00-2024-0000001");
+        assertThat(numbers.get(VoucherNumberAllocator.BLOCK_SIZE - 1)).isEqualTo("00-2024-0000100");
+        assertThat(numbers.getLast()).isEqualTo("00-2024-0000501");
+        verify(voucherNumberBlockService, times(2)).reserve(0, 2024, VoucherNumberAllocator.BLOCK_SIZE);
+    }
+
+    @Test
+    @DisplayName("伝票区分・会計年度ごとに別の番号系列から払い出す")
+    void shouldKeepSequencePerVoucherTypeAndFiscalYear() {
+        when(voucherNumberBlockService.reserve(0, 2024, VoucherNumberAllocator.BLOCK_SIZE)).thenReturn(1L);
+        when(voucherNumberBlockService.reserve(0, 2025, VoucherNumberAllocator.BLOCK_SIZE)).thenReturn(1L);
+        when(voucherNumberBlockService.reserve(1, 2024, VoucherNumberAllocator.BLOCK_SIZE)).thenReturn(101L);
+
+        assertThat(allocator.next(0, 2024)).isEqualTo("00-2024-0000001");
+        assertThat(allocator.next(0, 2025)).isEqualTo("00-2025-0000001");
+        assertThat(allocator.next(1, 2024)).isEqualTo("01-2024-0000101");
+        assertThat(allocator.next(0, 2024)).isEqualTo("00-2024-0000002");
+    }
+
+    @Test
+    @DisplayName("ブロックの予約に 1 回失敗しても再試行して払い出す")
+    void shouldRetryReservationOnce() {
+        when(voucherNumberBlockService.reserve(0, 2024, VoucherNumberAllocator.BLOCK_SIZE))
+                .thenThrow(new RuntimeException("duplicate key"))
+                .thenReturn(1L);
+
+        assertThat(allocator.next(0, 2024)).isEqualTo("00-2024-0000001");
+    }
+
+    @Test
+    @DisplayName("並行に払い出しても番号は重複しない")
+    void shouldNotDuplicateUnderConcurrency() throws Exception {
+        AtomicLong sequence = new AtomicLong(1);
+        when(voucherNumberBlockService.reserve(anyInt(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> sequence.getAndAdd(invocation.<Integer>getArgument(2)));
+        Callable<List<String>> task = () -> IntStream.range(0, 1000)
+                .mapToObj(i -> allocator.next(0, 2024))
+                .toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> futures = executor.invokeAll(IntStream.range(0, 8)
+                    .mapToObj(i -> task)
+                    .toList());
+            List<String> numbers = futures.stream()
+                    .flatMap(future -> {
+                        try {
+                            return future.get().stream();
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .toList();
+
+            assertThat(numbers).hasSize(8000).doesNotHaveDuplicates();
+            assertThat(sequence.get()).isEqualTo(8001L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("トランザクションの中ではブロックを予約しない")
+    void shouldRejectReservationInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> allocator.next(0, 2024))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verifyNoInteractions(voucherNumberBlockService);
+    }
+
+    @Test
+    @DisplayName("未採番の仕訳には仕訳日の年を会計年度として伝票番号を割り当てる")
+    void shouldAssignVoucherNumberByJournalDateYear() {
+        when(voucherNumberBlockService.reserve(VoucherNumberAllocator.DEFAULT_VOUCHER_TYPE, 2024,
+                VoucherNumberAllocator.BLOCK_SIZE)).thenReturn(1L);
+        JournalEntry entry = JournalEntry.create(LocalDate.of(2024, 4, 1), "売上計上", UserId.of("user-1"), 0);
+
+        JournalEntry assigned = allocator.assign(entry);
+
+        assertThat(assigned.getVoucherNumber()).isEqualTo("00-2024-0000001");
+    }
+
+    @Test
+    @DisplayName("採番済みの仕訳はそのまま返す")
+    void shouldKeepExistingVoucherNumber() {
+        JournalEntry entry = JournalEntry.create(LocalDate.of(2024, 4, 1), "売上計上", UserId.of("user-1"), 0)
+                .withVoucherNumber("00-2024-0000009");
+
+        assertThat(allocator.assign(entry)).isSameAs(entry);
+        verifyNoInteractions(voucherNumberBlockService);
+    }
+}
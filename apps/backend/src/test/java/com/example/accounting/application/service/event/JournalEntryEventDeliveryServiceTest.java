@@ -0,0 +1,90 @@
+package com.example.accounting.application.service.event;
+
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import com.example.accounting.application.port.out.JournalEntryEventPosition;
+import com.example.accounting.application.port.out.JournalEntryEventRepository;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳イベント配信サービス")
+class JournalEntryEventDeliveryServiceTest {
+
+    private static final JournalEntryEventPosition OFFSET = new JournalEntryEventPosition(700, 10);
+
+    @Mock
+    private JournalEntryEventRepository journalEntryEventRepository;
+
+    @Mock
+    private JournalEntryEventHandler handler;
+
+    private JournalEntryEventDeliveryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JournalEntryEventDeliveryService(journalEntryEventRepository);
+        lenient().when(handler.name()).thenReturn("cache");
+    }
+
+    @Test
+    @DisplayName("配信位置の続きのイベントをハンドラへ渡し、最後のイベントの位置まで配信位置を進める")
+    void shouldDeliverEventsAndAdvanceOffset() {
+        List<JournalEntryEvent> events = List.of(event(11), event(12));
+        when(journalEntryEventRepository.lockOffset("cache")).thenReturn(Try.success(OFFSET));
+        when(journalEntryEventRepository.findDeliverableAfter(OFFSET, 500)).thenReturn(Try.success(events));
+        when(journalEntryEventRepository.saveOffset("cache", new JournalEntryEventPosition(701, 12)))
+                .thenReturn(Try.success(null));
+
+        assertThat(service.deliver(handler, 500)).isEqualTo(2);
+
+        InOrder inOrder = inOrder(handler, journalEntryEventRepository);
+        inOrder.verify(handler).handle(events);
+        inOrder.verify(journalEntryEventRepository).saveOffset("cache", new JournalEntryEventPosition(701, 12));
+    }
+
+    @Test
+    @DisplayName("配信するイベントがない場合はハンドラを呼ばない")
+    void shouldSkipWhenNoEvents() {
+        when(journalEntryEventRepository.lockOffset("cache")).thenReturn(Try.success(OFFSET));
+        when(journalEntryEventRepository.findDeliverableAfter(OFFSET, 500)).thenReturn(Try.success(List.of()));
+
+        assertThat(service.deliver(handler, 500)).isZero();
+        verify(handler, never()).handle(any());
+        verify(journalEntryEventRepository, never()).saveOffset(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("ハンドラが失敗した場合は配信位置を進めない")
+    void shouldNotAdvanceOffsetWhenHandlerFails() {
+        List<JournalEntryEvent> events = List.of(event(11));
+        when(journalEntryEventRepository.lockOffset("cache")).thenReturn(Try.success(OFFSET));
+        when(journalEntryEventRepository.findDeliverableAfter(OFFSET, 500)).thenReturn(Try.success(events));
+        doThrow(new IllegalStateException("projection error")).when(handler).handle(events);
+
+        assertThatThrownBy(() -> service.deliver(handler, 500)).isInstanceOf(IllegalStateException.class);
+        verify(journalEntryEventRepository, never()).saveOffset(anyString(), any());
+    }
+
+    private JournalEntryEvent event(long eventId) {
+        return new JournalEntryEvent(eventId, 701L, 1, JournalEntryEvent.Type.UPDATED, "DRAFT", 2, null);
+    }
+}
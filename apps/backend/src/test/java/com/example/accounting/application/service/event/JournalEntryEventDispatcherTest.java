@@ -0,0 +1,107 @@
+package com.example.accounting.application.service.event;
+
+import com.example.accounting.application.port.out.JournalEntryEventRepository;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳イベントディスパッチャ")
+class JournalEntryEventDispatcherTest {
+
+    @Mock
+    private JournalEntryEventDeliveryService journalEntryEventDeliveryService;
+
+    @Mock
+    private JournalEntryEventRepository journalEntryEventRepository;
+
+    @Mock
+    private ObjectProvider<JournalEntryEventHandler> handlers;
+
+    @Mock
+    private JournalEntryEventHandler cacheHandler;
+
+    @Mock
+    private JournalEntryEventHandler watermarkHandler;
+
+    private JournalEntryEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new JournalEntryEventDispatcher(journalEntryEventDeliveryService, journalEntryEventRepository,
+                handlers, Clock.fixed(Instant.parse("2024-04-02T03:45:00Z"), ZoneOffset.UTC), Duration.ofDays(1));
+        lenient().when(cacheHandler.name()).thenReturn("cache");
+        lenient().when(watermarkHandler.name()).thenReturn("watermark");
+        lenient().when(handlers.orderedStream()).thenAnswer(invocation -> Stream.of(cacheHandler, watermarkHandler));
+        lenient().when(journalEntryEventRepository.purgeDelivered(List.of("cache", "watermark")))
+                .thenReturn(Try.success(0));
+    }
+
+    @Test
+    @DisplayName("1 回の配信が上限件数に達した場合は未配信がなくなるまで続けて配信する")
+    void shouldDeliverUntilBatchIsNotFull() {
+        when(journalEntryEventDeliveryService.deliver(cacheHandler, JournalEntryEventDispatcher.BATCH_SIZE))
+                .thenReturn(JournalEntryEventDispatcher.BATCH_SIZE, JournalEntryEventDispatcher.BATCH_SIZE, 3);
+        when(journalEntryEventDeliveryService.deliver(watermarkHandler, JournalEntryEventDispatcher.BATCH_SIZE))
+                .thenReturn(0);
+
+        dispatcher.dispatch();
+
+        verify(journalEntryEventDeliveryService, times(3))
+                .deliver(cacheHandler, JournalEntryEventDispatcher.BATCH_SIZE);
+        verify(journalEntryEventDeliveryService).deliver(watermarkHandler, JournalEntryEventDispatcher.BATCH_SIZE);
+        verify(journalEntryEventRepository).purgeDelivered(List.of("cache", "watermark"));
+    }
+
+    @Test
+    @DisplayName("1 つのハンドラの配信が失敗しても他のハンドラへ配信する")
+    void shouldContinueWhenHandlerFails() {
+        when(journalEntryEventDeliveryService.deliver(cacheHandler, JournalEntryEventDispatcher.BATCH_SIZE))
+                .thenThrow(new IllegalStateException("projection error"));
+        when(journalEntryEventDeliveryService.deliver(watermarkHandler, JournalEntryEventDispatcher.BATCH_SIZE))
+                .thenReturn(1);
+
+        dispatcher.dispatch();
+
+        verify(journalEntryEventDeliveryService).deliver(watermarkHandler, JournalEntryEventDispatcher.BATCH_SIZE);
+        verify(journalEntryEventRepository).purgeDelivered(List.of("cache", "watermark"));
+    }
+
+    @Test
+    @DisplayName("ハンドラが登録されていない場合は保存期間を過ぎたイベントを削除する")
+    void shouldDeleteExpiredEventsWithoutHandlers() {
+        when(handlers.orderedStream()).thenAnswer(invocation -> Stream.empty());
+        when(journalEntryEventRepository.deleteRecordedBefore(LocalDateTime.of(2024, 4, 1, 3, 45)))
+                .thenReturn(Try.success(100_000));
+
+        assertThat(dispatcher.deleteExpiredEvents()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("ハンドラが登録されている場合は配信前のイベントを残すため保存期間で削除しない")
+    void shouldNotDeleteExpiredEventsWithHandlers() {
+        assertThat(dispatcher.deleteExpiredEvents()).isZero();
+        verify(journalEntryEventRepository, never()).deleteRecordedBefore(any());
+    }
+}
@@ -0,0 +1,363 @@
+package com.example.accounting.application.service.journal;
+
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand;
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand.Format;
+import com.example.accounting.application.port.out.AccountRepository;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+import com.example.accounting.application.port.out.JournalImportCheckpoint;
+import com.example.accounting.application.port.out.JournalImportFileStore;
+import com.example.accounting.application.port.out.JournalImportJob;
+import com.example.accounting.application.port.out.JournalImportJobRepository;
+import com.example.accounting.application.service.VoucherNumberAllocator;
+import com.example.accounting.domain.model.account.Account;
+import com.example.accounting.domain.model.account.AccountCode;
+import com.example.accounting.domain.model.account.AccountId;
+import com.example.accounting.domain.model.account.AccountType;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳一括取込サービス")
+class ImportJournalEntriesServiceTest {
+
+    private static final String CSV = "伝票キー,仕訳日,摘要,行番号,勘定科目コード,借方金額,貸方金額\n"
+            + "A1,2024-04-01,売上計上,1,1100,1000,\n"
+            + "A1,2024-04-01,売上計上,2,4100,,1000\n"
+            + "A2,2024-04-02,現金売上,1,1100,500,\n"
+            + "A2,2024-04-02,現金売上,2,4100,,500\n";
+    private static final String LOCATION = "/tmp/journal-import/job-1.upload";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 4, 1, 9, 0);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private JournalImportJobRepository journalImportJobRepository;
+
+    @Mock
+    private JournalImportFileStore journalImportFileStore;
+
+    @Mock
+    private JournalEntryImportChunkService chunkService;
+
+    @Mock
+    private VoucherNumberAllocator voucherNumberAllocator;
+
+    private ImportJournalEntriesService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        service = new ImportJournalEntriesService(accountRepository, journalImportJobRepository,
+                journalImportFileStore, chunkService, voucherNumberAllocator, Runnable::run, clock, Duration.ofDays(7));
+        lenient().when(voucherNumberAllocator.assign(any(JournalEntry.class)))
+                .thenAnswer(invocation -> invocation.<JournalEntry>getArgument(0).withVoucherNumber("00-2024-0000001"));
+    }
+
+    @Nested
+    @DisplayName("開始")
+    class Start {
+
+        @Test
+        @DisplayName("ファイルを保管してジョブを登録し、チャンクごとにチェックポイントをコミットして完了する")
+        void shouldStoreFileAndRunJob() {
+            when(journalImportFileStore.save(anyString(), any(InputStream.class))).thenReturn(Try.success(LOCATION));
+            when(journalImportJobRepository.create(any(JournalImportJob.class)))
+                    .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
+            stubAccountsAndFile();
+            when(journalImportJobRepository.finish(anyString(), eq(JournalImportJob.COMPLETED), isNull(), eq(NOW)))
+                    .thenReturn(Try.success(null));
+            when(journalImportFileStore.delete(LOCATION)).thenReturn(Try.success(null));
+
+            Either<String, ImportJournalEntriesResult> result = service.start(command());
+
+            assertThat(result.isRight()).isTrue();
+            assertThat(result.get().status()).isEqualTo(JournalImportJob.RUNNING);
+            assertThat(result.get().fileName()).isEqualTo("entries.csv");
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<JournalEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<JournalImportCheckpoint> checkpointCaptor =
+                    ArgumentCaptor.forClass(JournalImportCheckpoint.class);
+            verify(chunkService).commitChunk(entriesCaptor.capture(), checkpointCaptor.capture());
+            assertThat(entriesCaptor.getValue()).hasSize(2);
+            assertThat(checkpointCaptor.getValue().jobId()).isEqualTo(result.get().jobId());
+            assertThat(checkpointCaptor.getValue().lastCommittedRow()).isEqualTo(5);
+            assertThat(checkpointCaptor.getValue().importedEntries()).isEqualTo(2);
+            verify(journalImportFileStore).delete(LOCATION);
+        }
+
+        @Test
+        @DisplayName("ファイルを保管できない場合はジョブを登録しない")
+        void shouldRejectWhenFileCannotBeStored() {
+            when(journalImportFileStore.save(anyString(), any(InputStream.class)))
+                    .thenReturn(Try.failure(new IOException("disk full")));
+
+            Either<String, ImportJournalEntriesResult> result = service.start(command());
+
+            assertThat(result.getLeft()).isEqualTo("取込ファイルを保管できませんでした: disk full");
+            verify(journalImportJobRepository, never()).create(any());
+        }
+
+        @Test
+        @DisplayName("ファイルを読み込めない場合はジョブを失敗にし、再開できるようファイルを残す")
+        void shouldFailJobWhenFileCannotBeRead() {
+            when(journalImportFileStore.save(anyString(), any(InputStream.class))).thenReturn(Try.success(LOCATION));
+            when(journalImportJobRepository.create(any(JournalImportJob.class)))
+                    .thenAnswer(invocation -> Try.success(invocation.getArgument(0)));
+            when(accountRepository.findAll()).thenReturn(Try.success(accounts()));
+            when(journalImportFileStore.open(LOCATION)).thenReturn(Try.failure(new IOException("not found")));
+            when(journalImportJobRepository.finish(anyString(), eq(JournalImportJob.FAILED),
+                    eq("取込ファイルを読み込めませんでした: not found"), eq(NOW)))
+                    .thenReturn(Try.success(null));
+
+            service.start(command());
+
+            verify(chunkService, never()).commitChunk(anyList(), any());
+            verify(journalImportFileStore, never()).delete(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("進捗照会")
+    class FindJob {
+
+        @Test
+        @DisplayName("件数・スループット・エラーを返す")
+        void shouldReturnProgress() {
+            JournalImportJob job = new JournalImportJob("job-1", "entries.csv", "CSV", LOCATION, "user-1",
+                    JournalImportJob.RUNNING, 1501, 1500, 700, 1, 1,
+                    NOW.minusSeconds(10), 500, null, NOW.minusMinutes(5), NOW, null);
+            List<ImportError> errors = List.of(new ImportError(4, "E1", "貸借一致していません"));
+            when(journalImportJobRepository.findById("job-1")).thenReturn(Try.success(Optional.of(job)));
+            when(journalImportJobRepository.findErrors("job-1", ImportJournalEntriesResult.MAX_REPORTED_ERRORS))
+                    .thenReturn(Try.success(errors));
+
+            Optional<ImportJournalEntriesResult> result = service.findJob("job-1");
+
+            assertThat(result).hasValueSatisfying(progress -> {
+                assertThat(progress.processedRows()).isEqualTo(1500);
+                assertThat(progress.lastCommittedRow()).isEqualTo(1501);
+                assertThat(progress.importedEntries()).isEqualTo(700);
+                assertThat(progress.rowsPerSecond()).isEqualTo(100.0);
+                assertThat(progress.startedAt()).isEqualTo(NOW.minusMinutes(5));
+                assertThat(progress.errors()).isEqualTo(errors);
+            });
+        }
+
+        @Test
+        @DisplayName("存在しないジョブは空を返す")
+        void shouldReturnEmptyWhenNotFound() {
+            when(journalImportJobRepository.findById("missing")).thenReturn(Try.success(Optional.empty()));
+
+            assertThat(service.findJob("missing")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("ジョブを開始したユーザーを返す")
+        void shouldReturnOwner() {
+            when(journalImportJobRepository.findById("job-1"))
+                    .thenReturn(Try.success(Optional.of(job(JournalImportJob.RUNNING, 5))));
+
+            assertThat(service.findOwner("job-1")).contains("user-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("中止")
+    class Cancel {
+
+        @Test
+        @DisplayName("実行中でないジョブは中止できない")
+        void shouldRejectWhenNotRunning() {
+            when(journalImportJobRepository.findById("job-1"))
+                    .thenReturn(Try.success(Optional.of(job(JournalImportJob.COMPLETED, 5))));
+
+            assertThat(service.cancel("job-1").getLeft()).isEqualTo("実行中の取込ジョブではありません");
+            verify(journalImportJobRepository, never()).finish(anyString(), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("このプロセスで実行していない RUNNING のジョブはチェックポイントの状態のまま中止にする")
+        void shouldCancelOrphanedJob() {
+            when(journalImportJobRepository.findById("job-1")).thenReturn(
+                    Try.success(Optional.of(job(JournalImportJob.RUNNING, 5))),
+                    Try.success(Optional.of(job(JournalImportJob.CANCELLED, 5))));
+            when(journalImportJobRepository.finish("job-1", JournalImportJob.CANCELLED, null, NOW))
+                    .thenReturn(Try.success(null));
+            when(journalImportJobRepository.findErrors("job-1", ImportJournalEntriesResult.MAX_REPORTED_ERRORS))
+                    .thenReturn(Try.success(List.of()));
+
+            Either<String, ImportJournalEntriesResult> result = service.cancel("job-1");
+
+            assertThat(result.get().status()).isEqualTo(JournalImportJob.CANCELLED);
+            assertThat(result.get().lastCommittedRow()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("再開")
+    class Resume {
+
+        @Test
+        @DisplayName("失敗・中止以外のジョブは再開できない")
+        void shouldRejectWhenNotResumable() {
+            when(journalImportJobRepository.restart(
+                    "job-1", List.of(JournalImportJob.FAILED, JournalImportJob.CANCELLED), NOW))
+                    .thenReturn(Try.success(false));
+
+            assertThat(service.resume("job-1").getLeft()).isEqualTo("再開できる取込ジョブではありません");
+            verify(journalImportFileStore, never()).open(anyString());
+        }
+
+        @Test
+        @DisplayName("最終コミット行の次の行から取り込む")
+        void shouldResumeAfterLastCommittedRow() {
+            when(journalImportJobRepository.restart(
+                    "job-1", List.of(JournalImportJob.FAILED, JournalImportJob.CANCELLED), NOW))
+                    .thenReturn(Try.success(true));
+            when(journalImportJobRepository.findById("job-1")).thenReturn(
+                    Try.success(Optional.of(job(JournalImportJob.RUNNING, 3))),
+                    Try.success(Optional.of(job(JournalImportJob.COMPLETED, 5))));
+            stubAccountsAndFile();
+            when(journalImportJobRepository.finish("job-1", JournalImportJob.COMPLETED, null, NOW))
+                    .thenReturn(Try.success(null));
+            when(journalImportFileStore.delete(LOCATION)).thenReturn(Try.success(null));
+            when(journalImportJobRepository.findErrors("job-1", ImportJournalEntriesResult.MAX_REPORTED_ERRORS))
+                    .thenReturn(Try.success(List.of()));
+
+            Either<String, ImportJournalEntriesResult> result = service.resume("job-1");
+
+            assertThat(result.get().status()).isEqualTo(JournalImportJob.COMPLETED);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<JournalEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(chunkService).commitChunk(entriesCaptor.capture(), any(JournalImportCheckpoint.class));
+            assertThat(entriesCaptor.getValue()).extracting(JournalEntry::getDescription)
+                    .containsExactly("現金売上");
+        }
+
+        @Test
+        @DisplayName("起動時に RUNNING のまま残っているジョブを再開する")
+        void shouldResumeInterruptedJobsOnStartup() {
+            JournalImportJob interrupted = job(JournalImportJob.RUNNING, 3);
+            when(journalImportJobRepository.findByStatus(JournalImportJob.RUNNING))
+                    .thenReturn(Try.success(List.of(interrupted)));
+            when(journalImportJobRepository.restart("job-1", List.of(JournalImportJob.RUNNING), NOW))
+                    .thenReturn(Try.success(true));
+            when(journalImportJobRepository.findById("job-1")).thenReturn(Try.success(Optional.of(interrupted)));
+            stubAccountsAndFile();
+            when(journalImportJobRepository.finish("job-1", JournalImportJob.COMPLETED, null, NOW))
+                    .thenReturn(Try.success(null));
+            when(journalImportFileStore.delete(LOCATION)).thenReturn(Try.success(null));
+
+            service.resumeInterruptedJobs();
+
+            verify(chunkService).commitChunk(anyList(), any(JournalImportCheckpoint.class));
+            verify(journalImportJobRepository).finish("job-1", JournalImportJob.COMPLETED, null, NOW);
+        }
+    }
+
+    @Nested
+    @DisplayName("取込ファイルの削除")
+    class DeleteExpiredFiles {
+
+        private static final List<String> RESUMABLE = List.of(JournalImportJob.FAILED, JournalImportJob.CANCELLED);
+
+        @Test
+        @DisplayName("保管期間を過ぎた失敗・中止ジョブを期限切れにしてからファイルを削除する")
+        void shouldExpireJobsAndDeleteFiles() {
+            JournalImportJob failed = finishedJob("job-1", JournalImportJob.FAILED, NOW.minusDays(8));
+            JournalImportJob cancelled = finishedJob("job-2", JournalImportJob.CANCELLED, NOW.minusDays(10));
+            JournalImportJob recent = finishedJob("job-3", JournalImportJob.FAILED, NOW.minusDays(1));
+            when(journalImportJobRepository.findByStatus(JournalImportJob.FAILED))
+                    .thenReturn(Try.success(List.of(failed, recent)));
+            when(journalImportJobRepository.findByStatus(JournalImportJob.CANCELLED))
+                    .thenReturn(Try.success(List.of(cancelled)));
+            when(journalImportJobRepository.expire(anyString(), eq(RESUMABLE), eq(NOW.minusDays(7)), eq(NOW)))
+                    .thenReturn(Try.success(true));
+            when(journalImportFileStore.delete(anyString())).thenReturn(Try.success(null));
+
+            assertThat(service.deleteExpiredFiles()).isEqualTo(2);
+
+            verify(journalImportFileStore).delete("/tmp/journal-import/job-1.upload");
+            verify(journalImportFileStore).delete("/tmp/journal-import/job-2.upload");
+            verify(journalImportJobRepository, never()).expire(eq("job-3"), anyList(), any(), any());
+        }
+
+        @Test
+        @DisplayName("期限切れにする前に再開されたジョブのファイルは削除しない")
+        void shouldKeepFileWhenJobWasResumed() {
+            JournalImportJob failed = finishedJob("job-1", JournalImportJob.FAILED, NOW.minusDays(8));
+            when(journalImportJobRepository.findByStatus(JournalImportJob.FAILED))
+                    .thenReturn(Try.success(List.of(failed)));
+            when(journalImportJobRepository.findByStatus(JournalImportJob.CANCELLED))
+                    .thenReturn(Try.success(List.of()));
+            when(journalImportJobRepository.expire("job-1", RESUMABLE, NOW.minusDays(7), NOW))
+                    .thenReturn(Try.success(false));
+
+            assertThat(service.deleteExpiredFiles()).isZero();
+
+            verify(journalImportFileStore, never()).delete(anyString());
+        }
+    }
+
+    private void stubAccountsAndFile() {
+        when(accountRepository.findAll()).thenReturn(Try.success(accounts()));
+        when(journalImportFileStore.open(LOCATION)).thenReturn(Try.success(
+                new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static ImportJournalEntriesCommand command() {
+        return new ImportJournalEntriesCommand(
+                new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)), "entries.csv", Format.CSV, "user-1");
+    }
+
+    private static JournalImportJob job(String status, long lastCommittedRow) {
+        return new JournalImportJob("job-1", "entries.csv", "CSV", LOCATION, "user-1",
+                status, lastCommittedRow, lastCommittedRow - 1, 1, 0, 0,
+                NOW, lastCommittedRow - 1, null, NOW, NOW, null);
+    }
+
+    private static JournalImportJob finishedJob(String jobId, String status, LocalDateTime finishedAt) {
+        return new JournalImportJob(jobId, "entries.csv", "CSV", "/tmp/journal-import/" + jobId + ".upload",
+                "user-1", status, 3, 2, 1, 0, 0, NOW, 0, null, NOW, finishedAt, finishedAt);
+    }
+
+    private static List<Account> accounts() {
+        return List.of(
+                Account.reconstruct(AccountId.of(1), AccountCode.of("1100"), "現金", AccountType.ASSET),
+                Account.reconstruct(AccountId.of(2), AccountCode.of("4100"), "売上高", AccountType.REVENUE));
+    }
+}
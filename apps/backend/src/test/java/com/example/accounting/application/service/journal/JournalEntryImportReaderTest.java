@@ -0,0 +1,155 @@
+package com.example.accounting.application.service.journal;
+
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand.Format;
+import io.vavr.control.Try;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("仕訳取込ファイル読み込み")
+class JournalEntryImportReaderTest {
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("見出し行を除いたデータ行をファイル上の行番号付きで読み込む")
+        void shouldReadDataRows() {
+            String csv = """
+                    伝票キー,仕訳日,摘要,行番号,勘定科目コード,借方金額,貸方金額
+                    A1,2024-04-01,売上計上,1,1100,1000,
+                    A1,2024-04-01,売上計上,2,4100,,1000
+                    """;
+
+            List<JournalEntryImportRow> rows = read(csv.getBytes(StandardCharsets.UTF_8), Format.CSV);
+
+            assertThat(rows).containsExactly(
+                    new JournalEntryImportRow(2, "A1", "2024-04-01", "売上計上", "1", "1100", "1000", ""),
+                    new JournalEntryImportRow(3, "A1", "2024-04-01", "売上計上", "2", "4100", "", "1000"));
+        }
+
+        @Test
+        @DisplayName("BOM・引用符・改行を含む値・CRLF を扱える")
+        void shouldHandleBomAndQuotes() {
+            String csv = "\uFEFF見出し\r\n"
+                    + "A1,2024/4/1,\"摘要, \"\"引用\"\"\n2 行目\",1,1100,\"1,000\",\r\n";
+
+            List<JournalEntryImportRow> rows = read(csv.getBytes(StandardCharsets.UTF_8), Format.CSV);
+
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.rowNumber()).isEqualTo(2);
+                assertThat(row.journalDate()).isEqualTo("2024/4/1");
+                assertThat(row.description()).isEqualTo("摘要, \"引用\"\n2 行目");
+                assertThat(row.debitAmount()).isEqualTo("1,000");
+            });
+        }
+
+        @Test
+        @DisplayName("空行は読み飛ばす")
+        void shouldSkipBlankRows() {
+            String csv = "見出し\n\nA1,2024-04-01,摘要,1,1100,1000,\n,,,,,,\n";
+
+            List<JournalEntryImportRow> rows = read(csv.getBytes(StandardCharsets.UTF_8), Format.CSV);
+
+            assertThat(rows).extracting(JournalEntryImportRow::rowNumber).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("受け取り側が false を返した時点で読み込みを止める")
+        void shouldStopWhenConsumerDeclines() {
+            String csv = "見出し\nA1,2024-04-01,摘要,1,1100,1000,\nA1,2024-04-01,摘要,2,4100,,1000\n";
+            List<JournalEntryImportRow> rows = new ArrayList<>();
+
+            Try<Void> result = JournalEntryImportReader.read(
+                    new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), Format.CSV,
+                    row -> {
+                        rows.add(row);
+                        return false;
+                    });
+
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(rows).extracting(JournalEntryImportRow::rowNumber).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Excel")
+    class Xlsx {
+
+        @Test
+        @DisplayName("先頭シートの日付・数値セルを取込用の文字列として読み込む")
+        void shouldReadFirstSheet() throws IOException {
+            byte[] workbook = workbook();
+
+            List<JournalEntryImportRow> rows = read(workbook, Format.XLSX);
+
+            assertThat(rows).containsExactly(
+                    new JournalEntryImportRow(2, "A1", "2024-04-01", "売上計上", "1", "1100", "1000", ""),
+                    new JournalEntryImportRow(3, "A1", "2024-04-01", "売上計上", "2", "4100", "", "1000.5"));
+        }
+
+        @Test
+        @DisplayName("Excel 形式でないファイルは失敗を返す")
+        void shouldFailForInvalidWorkbook() {
+            Try<Void> result = JournalEntryImportReader.read(
+                    new ByteArrayInputStream("not a workbook".getBytes(StandardCharsets.UTF_8)),
+                    Format.XLSX,
+                    row -> true);
+
+            assertThat(result.isFailure()).isTrue();
+        }
+
+        private byte[] workbook() throws IOException {
+            try (XSSFWorkbook workbook = new XSSFWorkbook();
+                 ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                CellStyle dateStyle = workbook.createCellStyle();
+                dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy/mm/dd"));
+                Sheet sheet = workbook.createSheet("仕訳");
+                Row header = sheet.createRow(0);
+                header.createCell(0).setCellValue("伝票キー");
+                writeRow(sheet.createRow(1), dateStyle, 1, "1100", 1000, null);
+                writeRow(sheet.createRow(2), dateStyle, 2, "4100", null, 1000.5);
+                workbook.createSheet("備考").createRow(0).createCell(0).setCellValue("読み込まない");
+                workbook.write(out);
+                return out.toByteArray();
+            }
+        }
+
+        private void writeRow(Row row, CellStyle dateStyle, int lineNumber, String accountCode,
+                              Number debit, Number credit) {
+            row.createCell(0).setCellValue("A1");
+            row.createCell(1).setCellValue(LocalDate.of(2024, 4, 1));
+            row.getCell(1).setCellStyle(dateStyle);
+            row.createCell(2).setCellValue("売上計上");
+            row.createCell(3).setCellValue(lineNumber);
+            row.createCell(4).setCellValue(accountCode);
+            if (debit != null) {
+                row.createCell(5).setCellValue(debit.doubleValue());
+            }
+            if (credit != null) {
+                row.createCell(6).setCellValue(credit.doubleValue());
+            }
+        }
+    }
+
+    private static List<JournalEntryImportRow> read(byte[] content, Format format) {
+        List<JournalEntryImportRow> rows = new ArrayList<>();
+        JournalEntryImportReader.read(new ByteArrayInputStream(content), format, rows::add).get();
+        return rows;
+    }
+}
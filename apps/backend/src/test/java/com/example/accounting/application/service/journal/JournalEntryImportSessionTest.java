@@ -0,0 +1,249 @@
+package com.example.accounting.application.service.journal;
+
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand.Format;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+import com.example.accounting.application.port.out.JournalImportCheckpoint;
+import com.example.accounting.application.port.out.JournalImportJob;
+import com.example.accounting.domain.model.account.AccountId;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
+import com.example.accounting.domain.model.journal.Money;
+import com.example.accounting.domain.model.user.UserId;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("仕訳一括取込の実行状態")
+class JournalEntryImportSessionTest {
+
+    private static final String HEADER = "伝票キー,仕訳日,摘要,行番号,勘定科目コード,借方金額,貸方金額\n";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 4, 1, 9, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+    private static final Map<String, AccountId> ACCOUNTS = Map.of("1100", AccountId.of(1), "4100", AccountId.of(2));
+
+    private final List<List<JournalEntry>> chunks = new ArrayList<>();
+    private final List<JournalImportCheckpoint> checkpoints = new ArrayList<>();
+    private final AtomicBoolean cancelRequested = new AtomicBoolean(false);
+
+    private final JournalEntryImportSession.ChunkCommitter recording = (entries, checkpoint) -> Try.run(() -> {
+        chunks.add(entries);
+        checkpoints.add(checkpoint);
+    });
+
+    @Nested
+    @DisplayName("検証と登録")
+    class Validation {
+
+        @Test
+        @DisplayName("伝票キーごとに仕訳を組み立てて下書きとして登録する")
+        void shouldImportEntriesGroupedByKey() {
+            String csv = HEADER
+                    + "A1,2024-04-01,売上計上,1,1100,\"1,000\",\n"
+                    + "A1,2024-04-01,売上計上,2,4100,,1000\n"
+                    + "A2,2024/4/2,現金売上,1,1100,500,\n"
+                    + "A2,2024/4/2,現金売上,2,4100,,500\n";
+
+            JournalEntryImportSession.Outcome outcome = run(newJob(), csv, recording);
+
+            assertThat(outcome.status()).isEqualTo(JournalImportJob.COMPLETED);
+            assertThat(chunks).singleElement().satisfies(entries -> {
+                assertThat(entries).hasSize(2);
+                JournalEntry first = entries.get(0);
+                assertThat(first.getJournalDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+                assertThat(first.getDescription()).isEqualTo("売上計上");
+                assertThat(first.getStatus()).isEqualTo(JournalEntryStatus.DRAFT);
+                assertThat(first.getCreatedBy()).isEqualTo(UserId.of("user-1"));
+                assertThat(first.getLines()).hasSize(2);
+                assertThat(first.getLines().get(0).accountId()).isEqualTo(AccountId.of(1));
+                assertThat(first.getLines().get(0).debitAmount()).isEqualTo(Money.of(new BigDecimal("1000")));
+                assertThat(entries.get(1).getJournalDate()).isEqualTo(LocalDate.of(2024, 4, 2));
+            });
+            assertThat(checkpoints).singleElement().isEqualTo(new JournalImportCheckpoint(
+                    "job-1", 5, 4, 2, 0, 0, List.of(), NOW));
+        }
+
+        @Test
+        @DisplayName("エラーのある仕訳は登録せず、行番号付きのエラーとしてチェックポイントに含める")
+        void shouldReportInvalidEntries() {
+            String csv = HEADER
+                    + "E1,2024-04-01,科目なし,1,1100,1000,\n"
+                    + "E1,2024-04-01,科目なし,2,9999,,1000\n"
+                    + "E2,2024-04-01,貸借不一致,1,1100,1000,\n"
+                    + "E2,2024-04-01,貸借不一致,2,4100,,900\n"
+                    + "E3,2024-13-01,日付不正,1,1100,1000,\n"
+                    + "E4,2024-04-01,行番号重複,1,1100,1000,\n"
+                    + "E4,2024-04-01,行番号重複,1,4100,,1000\n"
+                    + "OK,2024-04-01,正常,1,1100,1000,\n"
+                    + "OK,2024-04-01,正常,2,4100,,1000\n";
+
+            run(newJob(), csv, recording);
+
+            assertThat(chunks).singleElement().satisfies(entries -> assertThat(entries).hasSize(1));
+            JournalImportCheckpoint checkpoint = checkpoints.get(0);
+            assertThat(checkpoint.processedRows()).isEqualTo(9);
+            assertThat(checkpoint.importedEntries()).isEqualTo(1);
+            assertThat(checkpoint.failedEntries()).isEqualTo(4);
+            assertThat(checkpoint.newErrors()).containsExactly(
+                    new ImportError(3, "E1", "勘定科目コードが存在しません: 9999"),
+                    new ImportError(4, "E2", "貸借一致していません"),
+                    new ImportError(6, "E3", "仕訳日の形式が正しくありません: 2024-13-01"),
+                    new ImportError(7, "E4", "行番号が重複しています"));
+        }
+
+        @Test
+        @DisplayName("記録するエラーは上限件数までとし、件数は上限を超えても数える")
+        void shouldCapReportedErrors() {
+            JournalImportJob job = resumedJob(0, 0, 0, 0, ImportJournalEntriesResult.MAX_REPORTED_ERRORS - 1);
+            String csv = HEADER
+                    + "E1,2024-04-01,摘要,1,9999,1000,\n"
+                    + "E2,2024-04-01,摘要,1,9999,1000,\n";
+
+            run(job, csv, recording);
+
+            JournalImportCheckpoint checkpoint = checkpoints.get(0);
+            assertThat(checkpoint.failedEntries()).isEqualTo(2);
+            assertThat(checkpoint.reportedErrors()).isEqualTo(ImportJournalEntriesResult.MAX_REPORTED_ERRORS);
+            assertThat(checkpoint.newErrors()).extracting(ImportError::entryKey).containsExactly("E1");
+        }
+    }
+
+    @Nested
+    @DisplayName("チェックポイント")
+    class Checkpoints {
+
+        @Test
+        @DisplayName("チャンク件数ごとに仕訳とチェックポイントをコミットする")
+        void shouldCommitInChunks() {
+            int entryCount = JournalEntryImportSession.CHUNK_SIZE + 1;
+
+            run(newJob(), balancedEntries(1, entryCount), recording);
+
+            assertThat(chunks).extracting(List::size)
+                    .containsExactly(JournalEntryImportSession.CHUNK_SIZE, 1);
+            assertThat(checkpoints.get(0).lastCommittedRow()).isEqualTo(JournalEntryImportSession.CHUNK_SIZE * 2L + 1);
+            assertThat(checkpoints.get(0).processedRows()).isEqualTo(JournalEntryImportSession.CHUNK_SIZE * 2L);
+            assertThat(checkpoints.get(1).lastCommittedRow()).isEqualTo(entryCount * 2L + 1);
+            assertThat(checkpoints.get(1).importedEntries()).isEqualTo(entryCount);
+        }
+
+        @Test
+        @DisplayName("登録に失敗したチャンクはエラーとしてチェックポイントだけをコミットし、取込を続ける")
+        void shouldRecordFailedChunk() {
+            AtomicBoolean failFirst = new AtomicBoolean(true);
+            JournalEntryImportSession.ChunkCommitter failingOnce = (entries, checkpoint) ->
+                    !entries.isEmpty() && failFirst.getAndSet(false)
+                            ? Try.failure(new RuntimeException("Data access error"))
+                            : recording.commit(entries, checkpoint);
+            String csv = HEADER
+                    + "A1,2024-04-01,売上計上,1,1100,1000,\n"
+                    + "A1,2024-04-01,売上計上,2,4100,,1000\n";
+
+            JournalEntryImportSession.Outcome outcome = run(newJob(), csv, failingOnce);
+
+            assertThat(outcome.status()).isEqualTo(JournalImportJob.COMPLETED);
+            assertThat(chunks).singleElement().satisfies(entries -> assertThat(entries).isEmpty());
+            assertThat(checkpoints).singleElement().isEqualTo(new JournalImportCheckpoint(
+                    "job-1", 3, 2, 0, 1, 1,
+                    List.of(new ImportError(2, "A1", "登録に失敗しました: Data access error")), NOW));
+        }
+
+        @Test
+        @DisplayName("チェックポイントを保存できない場合は読み込みを止めて失敗とする")
+        void shouldFailWhenCheckpointCannotBeSaved() {
+            JournalEntryImportSession.ChunkCommitter failing =
+                    (entries, checkpoint) -> Try.failure(new RuntimeException("connection refused"));
+
+            JournalEntryImportSession.Outcome outcome = run(newJob(), balancedEntries(1, 1), failing);
+
+            assertThat(outcome).isEqualTo(new JournalEntryImportSession.Outcome(
+                    JournalImportJob.FAILED, "チェックポイントを保存できませんでした: connection refused"));
+        }
+    }
+
+    @Nested
+    @DisplayName("中止と再開")
+    class CancelAndResume {
+
+        @Test
+        @DisplayName("再開時は最終コミット行までを読み飛ばし、件数を引き継ぐ")
+        void shouldResumeAfterLastCommittedRow() {
+            JournalImportJob job = resumedJob(5, 4, 2, 0, 0);
+
+            run(job, balancedEntries(1, 3), recording);
+
+            assertThat(chunks).singleElement().satisfies(entries -> assertThat(entries)
+                    .extracting(JournalEntry::getDescription).containsExactly("摘要3"));
+            assertThat(checkpoints).singleElement().isEqualTo(new JournalImportCheckpoint(
+                    "job-1", 7, 6, 3, 0, 0, List.of(), NOW));
+        }
+
+        @Test
+        @DisplayName("中止が要求されるとコミットしていない仕訳を破棄して読み込みを止める")
+        void shouldStopWhenCancelled() {
+            JournalEntryImportSession session = session(newJob(), recording);
+            List<JournalEntryImportRow> rows = new ArrayList<>();
+            JournalEntryImportReader.read(csv(balancedEntries(1, 3)), Format.CSV, row -> {
+                rows.add(row);
+                cancelRequested.set(rows.size() == 3);
+                return session.accept(row);
+            });
+
+            JournalEntryImportSession.Outcome outcome = session.finish();
+
+            assertThat(outcome.status()).isEqualTo(JournalImportJob.CANCELLED);
+            assertThat(rows).hasSize(3);
+            assertThat(checkpoints).isEmpty();
+        }
+    }
+
+    private JournalEntryImportSession.Outcome run(JournalImportJob job, String csv,
+                                                  JournalEntryImportSession.ChunkCommitter committer) {
+        JournalEntryImportSession session = session(job, committer);
+        JournalEntryImportReader.read(csv(csv), Format.CSV, session::accept).onFailure(session::abort);
+        return session.finish();
+    }
+
+    private JournalEntryImportSession session(JournalImportJob job, JournalEntryImportSession.ChunkCommitter committer) {
+        return new JournalEntryImportSession(job, ACCOUNTS, committer, CLOCK, cancelRequested::get);
+    }
+
+    private static ByteArrayInputStream csv(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String balancedEntries(int from, int to) {
+        return HEADER + IntStream.rangeClosed(from, to)
+                .mapToObj(i -> "K" + i + ",2024-04-01,摘要" + i + ",1,1100,100,\n"
+                        + "K" + i + ",2024-04-01,摘要" + i + ",2,4100,,100\n")
+                .collect(Collectors.joining());
+    }
+
+    private static JournalImportJob newJob() {
+        return JournalImportJob.started("job-1", "entries.csv", "CSV", "/tmp/job-1.upload", "user-1", NOW);
+    }
+
+    private static JournalImportJob resumedJob(long lastCommittedRow, long processedRows,
+                                               int importedEntries, int failedEntries, int reportedErrors) {
+        return new JournalImportJob("job-1", "entries.csv", "CSV", "/tmp/job-1.upload", "user-1",
+                JournalImportJob.RUNNING, lastCommittedRow, processedRows, importedEntries, failedEntries,
+                reportedErrors, NOW, processedRows, null, NOW, NOW, null);
+    }
+}
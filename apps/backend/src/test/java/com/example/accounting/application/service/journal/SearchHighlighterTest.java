@@ -0,0 +1,32 @@
+package com.example.accounting.application.service.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchHighlighter")
+class SearchHighlighterTest {
+
+    @Test
+    @DisplayName("一致箇所をすべて mark で囲む")
+    void shouldMarkAllOccurrences() {
+        assertThat(SearchHighlighter.highlight("売上計上（売上値引）", "売上"))
+                .contains("<mark>売上</mark>計上（<mark>売上</mark>値引）");
+    }
+
+    @Test
+    @DisplayName("本文と検索語を HTML エスケープする")
+    void shouldEscapeHtml() {
+        assertThat(SearchHighlighter.highlight("<b>A&B</b> 取引", "A&B"))
+                .contains("&lt;b&gt;<mark>A&amp;B</mark>&lt;/b&gt; 取引");
+    }
+
+    @Test
+    @DisplayName("検索語を含まない場合は空を返す")
+    void shouldReturnEmptyWhenNotMatched() {
+        assertThat(SearchHighlighter.highlight("仕入計上", "売上")).isEmpty();
+        assertThat(SearchHighlighter.highlight(null, "売上")).isEmpty();
+        assertThat(SearchHighlighter.highlight("売上計上", "")).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.accounting.application.service.report;
+
+import com.example.accounting.application.port.out.LedgerChange;
+import com.example.accounting.application.port.out.LedgerChangeRepository;
+import com.example.accounting.application.service.LedgerChangedEvent;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("元帳の版")
+class LedgerVersionTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-04-02T03:15:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private LedgerChangeRepository ledgerChangeRepository;
+
+    private LedgerVersion ledgerVersion;
+
+    @BeforeEach
+    void setUp() {
+        ledgerVersion = new LedgerVersion(ledgerChangeRepository, CLOCK, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("元帳の変更を残高が変わった期間とともに記録する")
+    void shouldRecordChangedPeriod() {
+        LedgerChangedEvent event = new LedgerChangedEvent(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+        when(ledgerChangeRepository.record(event.from(), event.to())).thenReturn(Try.success(8L));
+
+        ledgerVersion.onLedgerChanged(event);
+
+        verify(ledgerChangeRepository).record(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    @DisplayName("記録に失敗した場合は例外を送出し、発行したトランザクションをロールバックさせる")
+    void shouldThrowWhenRecordFails() {
+        LedgerChangedEvent event = LedgerChangedEvent.allDates();
+        when(ledgerChangeRepository.record(null, null)).thenReturn(Try.failure(new IllegalStateException("db")));
+
+        assertThatThrownBy(() -> ledgerVersion.onLedgerChanged(event))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+    }
+
+    @Test
+    @DisplayName("DB で共有する版と変更履歴を返す")
+    void shouldReadSharedVersionAndChanges() {
+        List<LedgerChange> changes = List.of(new LedgerChange(8, null, null));
+        when(ledgerChangeRepository.currentVersion()).thenReturn(Try.success(8L));
+        when(ledgerChangeRepository.findAfter(7)).thenReturn(Try.success(changes));
+
+        assertThat(ledgerVersion.current()).isEqualTo(8L);
+        assertThat(ledgerVersion.changesAfter(7)).isEqualTo(changes);
+    }
+
+    @Test
+    @DisplayName("保存期間を過ぎた変更履歴を削除する")
+    void shouldDeleteChangesOlderThanRetention() {
+        LocalDateTime recordedBefore = LocalDateTime.of(2024, 4, 1, 3, 15);
+        when(ledgerChangeRepository.deleteRecordedBefore(recordedBefore)).thenReturn(Try.success(3));
+
+        assertThat(ledgerVersion.deleteExpiredChanges()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.accounting.application.service.report;
+
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.port.out.StatementColumnsRepository;
+import com.example.accounting.application.service.report.ReportCache.Period;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("複数期間の財務諸表集計エンジン")
+class MultiPeriodReportEngineTest {
+
+    private static final List<Column> TWO_MONTHS = List.of(
+            new Column(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)),
+            new Column(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)));
+
+    @Mock
+    private StatementColumnsRepository statementColumnsRepository;
+
+    private MultiPeriodReportEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new MultiPeriodReportEngine(statementColumnsRepository);
+    }
+
+    @Test
+    @DisplayName("貸方残高の勘定科目はすべての列の符号を反転し、借方残高の勘定科目はそのまま返す")
+    void shouldConvertAmountsToDisplaySign() {
+        when(statementColumnsRepository.findColumns("P", TWO_MONTHS)).thenReturn(Try.success(
+                new StatementColumns(TWO_MONTHS, List.of(
+                        row("4000", "REVENUE", "-1000", "-1200"),
+                        row("5000", "EXPENSE", "600", "700")))));
+
+        StatementColumns result = engine.profitAndLoss(TWO_MONTHS);
+
+        assertThat(result.rows().get(0).amounts()).containsExactly(new BigDecimal("1000"), new BigDecimal("1200"));
+        assertThat(result.rows().get(1).amounts()).containsExactly(new BigDecimal("600"), new BigDecimal("700"));
+    }
+
+    @Test
+    @DisplayName("損益計算書の区分にある収益・費用以外の勘定科目は 0 とする")
+    void shouldZeroProfitAndLossAccountsOtherThanRevenueAndExpense() {
+        when(statementColumnsRepository.findColumns("P", TWO_MONTHS)).thenReturn(Try.success(
+                new StatementColumns(TWO_MONTHS, List.of(
+                        row("4000", "REVENUE", "-1000", "-1200"),
+                        row("4900", "LIABILITY", "-300", "-400"),
+                        row("4990", null, "50", "60")))));
+
+        StatementColumns result = engine.profitAndLoss(TWO_MONTHS);
+
+        assertThat(result.rows().get(0).amounts()).containsExactly(new BigDecimal("1000"), new BigDecimal("1200"));
+        assertThat(result.rows().get(1).amounts()).containsExactly(BigDecimal.ZERO, BigDecimal.ZERO);
+        assertThat(result.rows().get(2).amounts()).containsExactly(BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("貸借対照表は区分 B で集計する")
+    void shouldQueryBalanceSheetCategory() {
+        List<Column> columns = List.of(Column.upTo(LocalDate.of(2024, 3, 31)));
+        when(statementColumnsRepository.findColumns("B", columns)).thenReturn(Try.success(
+                new StatementColumns(columns, List.of(row("200", "LIABILITY", "-3000")))));
+
+        StatementColumns result = engine.balanceSheet(columns);
+
+        assertThat(result.rows().getFirst().amount(0)).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    @DisplayName("列が 0 件または上限を超える場合は問い合わせずに IllegalArgumentException")
+    void shouldRejectInvalidColumnCount() {
+        List<Column> tooMany = Collections.nCopies(MultiPeriodReportEngine.MAX_COLUMNS + 1, Column.upTo(null));
+
+        assertThatThrownBy(() -> engine.balanceSheet(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.balanceSheet(tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(statementColumnsRepository, never()).findColumns(any(), any());
+    }
+
+    @Test
+    @DisplayName("データアクセスに失敗した場合は RuntimeException")
+    void shouldThrowWhenRepositoryFails() {
+        when(statementColumnsRepository.findColumns("P", TWO_MONTHS))
+                .thenReturn(Try.failure(new IllegalStateException("db down")));
+
+        assertThatThrownBy(() -> engine.profitAndLoss(TWO_MONTHS))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Data access error");
+    }
+
+    @Test
+    @DisplayName("列の期間をキャッシュの期間に変換する")
+    void shouldConvertColumnsToPeriods() {
+        assertThat(MultiPeriodReportEngine.periods(TWO_MONTHS)).containsExactly(
+                new Period(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)),
+                new Period(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)));
+    }
+
+    private static Row row(String code, String type, String... amounts) {
+        return new Row(code, code, type, List.of(amounts).stream().map(BigDecimal::new).toList());
+    }
+}
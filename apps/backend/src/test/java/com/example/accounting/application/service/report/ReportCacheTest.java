@@ -0,0 +1,396 @@
+package com.example.accounting.application.service.report;
+
+import com.example.accounting.application.port.out.LedgerChange;
+import com.example.accounting.application.service.report.ReportCache.Period;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("財務諸表の集計結果キャッシュ")
+class ReportCacheTest {
+
+    private static final LocalDate MARCH_END = LocalDate.of(2024, 3, 31);
+
+    private final AtomicLong version = new AtomicLong();
+    private final List<LedgerChange> changes = new CopyOnWriteArrayList<>();
+
+    private MutableClock clock;
+    private LedgerVersion ledgerVersion;
+    private ReportCache reportCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-04-01T00:00:00Z"));
+        ledgerVersion = mock(LedgerVersion.class);
+        when(ledgerVersion.current()).thenAnswer(invocation -> version.get());
+        when(ledgerVersion.changesAfter(anyLong())).thenAnswer(invocation -> changes.stream()
+                .filter(change -> change.version() > invocation.<Long>getArgument(0))
+                .toList());
+        reportCache = new ReportCache(ledgerVersion, 2, Duration.ofMinutes(10), clock);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("同じ帳票・照会条件の 2 回目以降は集計せずに保持している結果を返す")
+    void shouldReturnCachedResult() {
+        String first = get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+        String second = get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(get("BS", MARCH_END, List.of(Period.upTo(MARCH_END)))).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("基準日以前の残高が変わった場合だけ破棄する")
+    void shouldInvalidateOnlyOverlappingPeriods() {
+        get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+
+        changeLedger(MARCH_END.plusDays(1), MARCH_END.plusDays(1));
+        get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+        assertThat(loads).hasValue(1);
+
+        changeLedger(MARCH_END, MARCH_END);
+        get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("期間の集計は期間外の変更では破棄しない")
+    void shouldKeepRangeResultWhenChangeIsOutsideRange() {
+        List<Period> periods = List.of(new Period(LocalDate.of(2024, 1, 1), MARCH_END));
+        get("PL", MARCH_END, periods);
+
+        changeLedger(LocalDate.of(2023, 12, 31), LocalDate.of(2023, 12, 31));
+        get("PL", MARCH_END, periods);
+        assertThat(loads).hasValue(1);
+
+        changeLedger(LocalDate.of(2023, 12, 1), LocalDate.of(2024, 1, 31));
+        get("PL", MARCH_END, periods);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("有効期限を過ぎた結果は集計し直す")
+    void shouldReloadExpiredResult() {
+        get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+
+        clock.advance(Duration.ofMinutes(10));
+        get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("上限件数を超えた場合は最も長く参照されていない結果を破棄する")
+    void shouldEvictLeastRecentlyUsed() {
+        get("TB", LocalDate.of(2024, 1, 31), List.of());
+        get("TB", LocalDate.of(2024, 2, 29), List.of());
+        get("TB", LocalDate.of(2024, 1, 31), List.of());
+        get("TB", MARCH_END, List.of());
+
+        get("TB", LocalDate.of(2024, 1, 31), List.of());
+        assertThat(loads).hasValue(3);
+        get("TB", LocalDate.of(2024, 2, 29), List.of());
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("集計中に破棄が起きた場合は集計結果を保持しない")
+    void shouldNotCacheResultLoadedDuringInvalidation() {
+        Supplier<String> loader = () -> {
+            changeLedger(MARCH_END, MARCH_END);
+            queryOtherReport();
+            return "stale";
+        };
+        reportCache.get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)), loader);
+
+        get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("同じ照会条件の同時照会は 1 回の集計結果を共有する")
+    void shouldShareOneLoadAmongConcurrentQueries() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            Future<String> leader = executor.submit(() -> reportCache.get("TB", MARCH_END,
+                    List.of(Period.upTo(MARCH_END)), () -> {
+                        started.countDown();
+                        await(release);
+                        return "TB#" + loads.incrementAndGet();
+                    }));
+            started.await();
+            List<Future<String>> followers = IntStream.range(0, 7)
+                    .mapToObj(i -> executor.submit(() -> get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)))))
+                    .toList();
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("TB#1");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("TB#1");
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("集計が失敗した場合は待っていた照会にも同じ例外を送出し、結果を保持しない")
+    void shouldPropagateFailureToWaitingQueries() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("Data access error");
+        AtomicReference<Throwable> received = new AtomicReference<>();
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> leader = executor.submit(() -> reportCache.get("TB", MARCH_END,
+                    List.of(Period.upTo(MARCH_END)), () -> {
+                        started.countDown();
+                        await(release);
+                        throw failure;
+                    }));
+            started.await();
+            Thread follower = Thread.ofPlatform().start(() -> received.set(catchThrowable(
+                    () -> get("TB", MARCH_END, List.of(Period.upTo(MARCH_END))))));
+            while (follower.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            follower.join(5000);
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+        assertThat(received.get()).isSameAs(failure);
+        assertThat(loads).hasValue(0);
+
+        get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("集計中に破棄が起きた後の照会は進行中の集計を待たずに集計し直す")
+    void shouldNotJoinLoadStartedBeforeInvalidation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> leader = executor.submit(() -> reportCache.get("TB", MARCH_END,
+                    List.of(Period.upTo(MARCH_END)), () -> {
+                        started.countDown();
+                        await(release);
+                        return "stale";
+                    }));
+            started.await();
+            changeLedger(MARCH_END, MARCH_END);
+
+            assertThat(get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)))).endsWith("#1");
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        }
+        assertThat(get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)))).endsWith("#1");
+    }
+
+    @Nested
+    @DisplayName("許容遅延を設定した帳票")
+    class StaleWhileRevalidate {
+
+        private final List<Runnable> refreshes = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            reportCache = new ReportCache(ledgerVersion, 2, Duration.ofMinutes(10),
+                    Map.of("FA", Duration.ofSeconds(30)), refreshes::add, clock);
+        }
+
+        @Test
+        @DisplayName("残高が変わった後も許容遅延の間は古い結果をすぐに返し、別スレッドで集計し直す")
+        void shouldServeStaleResultWhileRefreshing() {
+            String first = get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)));
+            changeLedger(MARCH_END, MARCH_END);
+            clock.advance(Duration.ofSeconds(10));
+
+            assertThat(get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)))).isSameAs(first);
+            assertThat(get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)))).isSameAs(first);
+            assertThat(refreshes).hasSize(1);
+            assertThat(loads).hasValue(1);
+
+            refreshes.removeFirst().run();
+            String refreshed = get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)));
+            assertThat(refreshed).isNotEqualTo(first).endsWith("#2");
+            assertThat(refreshes).isEmpty();
+        }
+
+        @Test
+        @DisplayName("許容遅延を過ぎた古い結果は返さずに集計する")
+        void shouldLoadWhenStalenessExceedsBound() {
+            get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)));
+            changeLedger(MARCH_END, MARCH_END);
+            clock.advance(Duration.ofSeconds(30));
+
+            assertThat(get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)))).endsWith("#2");
+            assertThat(refreshes).isEmpty();
+        }
+
+        @Test
+        @DisplayName("有効期限を過ぎた結果も許容遅延の間は返す")
+        void shouldServeExpiredResultWithinBound() {
+            String first = get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)));
+            clock.advance(Duration.ofMinutes(10).plusSeconds(5));
+
+            assertThat(get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)))).isSameAs(first);
+            assertThat(refreshes).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("集計中に破棄が起きた場合は集計を始めた時点から古い結果として保持する")
+        void shouldKeepResultLoadedDuringInvalidationAsStale() {
+            Supplier<String> loader = () -> {
+                changeLedger(MARCH_END, MARCH_END);
+                queryOtherReport();
+                return "stale";
+            };
+            reportCache.get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)), loader);
+
+            assertThat(get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)))).isEqualTo("stale");
+            assertThat(refreshes).hasSize(1);
+            refreshes.removeFirst().run();
+            assertThat(get("FA", MARCH_END, List.of(Period.upTo(MARCH_END)))).endsWith("#1");
+        }
+
+        @Test
+        @DisplayName("許容遅延を設定していない帳票はこれまでどおり破棄する")
+        void shouldInvalidateReportWithoutBound() {
+            get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+            changeLedger(MARCH_END, MARCH_END);
+
+            assertThat(get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)))).endsWith("#2");
+            assertThat(refreshes).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("元帳の版との同期")
+    class LedgerVersionSync {
+
+        @Test
+        @DisplayName("版が変わっていなければ変更履歴を読まない")
+        void shouldNotReadChangesWhileVersionIsUnchanged() {
+            changeLedger(MARCH_END, MARCH_END);
+            get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+            get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+
+            verify(ledgerVersion, never()).changesAfter(anyLong());
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("前回読んだ版より後の変更をすべて反映する")
+        void shouldApplyAllChangesSinceLastSync() {
+            get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+            get("PL", MARCH_END, List.of(new Period(LocalDate.of(2024, 3, 1), MARCH_END)));
+
+            changeLedger(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 1));
+            changeLedger(MARCH_END.plusDays(1), MARCH_END.plusDays(1));
+            get("PL", MARCH_END, List.of(new Period(LocalDate.of(2024, 3, 1), MARCH_END)));
+            assertThat(loads).hasValue(2);
+
+            get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+            assertThat(loads).hasValue(3);
+            verify(ledgerVersion).changesAfter(0L);
+        }
+
+        @Test
+        @DisplayName("変更履歴が途切れている場合（保存期間を過ぎて削除された場合）はすべての結果を破棄する")
+        void shouldClearAllResultsWhenChangesAreMissing() {
+            get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+
+            changeLedger(MARCH_END.plusDays(1), MARCH_END.plusDays(1));
+            changes.clear();
+            get("TB", MARCH_END, List.of(Period.upTo(MARCH_END)));
+
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    private void changeLedger(LocalDate from, LocalDate to) {
+        changes.add(new LedgerChange(version.incrementAndGet(), from, to));
+    }
+
+    /**
+     * 別の帳票を照会し、集計中の照会とは別に元帳の版を同期させる
+     */
+    private void queryOtherReport() {
+        reportCache.get("OTHER", MARCH_END, List.of(), () -> "other");
+    }
+
+    private String get(String reportType, LocalDate date, List<Period> periods) {
+        return reportCache.get(reportType, date, periods, () -> reportType + date + "#" + loads.incrementAndGet());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
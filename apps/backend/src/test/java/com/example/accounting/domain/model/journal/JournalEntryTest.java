@@ -538,6 +538,40 @@ class JournalEntryTest {
         }
     }
 
+    @Nested
+    @DisplayName("cancelConfirmation")
+    class CancelConfirmation {
+
+        @Test
+        @DisplayName("確定済み仕訳の確定を取り消すと承認済みに戻り確定者・確定日時がクリアされる")
+        void shouldCancelConfirmationOfConfirmedJournalEntry() {
+            JournalEntry entry = JournalEntry.create(JOURNAL_DATE, "確定取消", CREATED_BY, 0)
+                    .submitForApproval()
+                    .approve(UserId.of("approver"), LocalDateTime.now())
+                    .confirm(UserId.of("confirmer"), LocalDateTime.now());
+
+            JournalEntry cancelled = entry.cancelConfirmation();
+
+            assertThat(cancelled.getStatus()).isEqualTo(JournalEntryStatus.APPROVED);
+            assertThat(cancelled.getApprovedBy()).isEqualTo(UserId.of("approver"));
+            assertThat(cancelled.getConfirmedBy()).isNull();
+            assertThat(cancelled.getConfirmedAt()).isNull();
+            assertThat(cancelled.getLines()).isEqualTo(entry.getLines());
+        }
+
+        @Test
+        @DisplayName("承認済み仕訳は確定取消できない")
+        void shouldThrowWhenApprovedEntryIsCancelled() {
+            JournalEntry entry = JournalEntry.create(JOURNAL_DATE, "確定取消", CREATED_BY, 0)
+                    .submitForApproval()
+                    .approve(UserId.of("approver"), LocalDateTime.now());
+
+            assertThatThrownBy(entry::cancelConfirmation)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("確定済み状態の仕訳のみ確定取消可能です");
+        }
+    }
+
     @Nested
     @DisplayName("reject")
     class Reject {
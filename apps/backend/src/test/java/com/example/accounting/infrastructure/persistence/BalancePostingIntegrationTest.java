@@ -0,0 +1,138 @@
+package com.example.accounting.infrastructure.persistence;
+
+import com.example.accounting.TestcontainersConfiguration;
+import com.example.accounting.application.service.JournalPostingService;
+import com.example.accounting.application.service.MonthlyBalanceRollUpService;
+import com.example.accounting.domain.model.journal.JournalEntry;
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.domain.model.journal.JournalEntryStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 仕訳転記の統合テスト
+ *
+ * <p>Testcontainers の PostgreSQL 上で日次残高・月次残高の MERGE を実行し、
+ * 転記と転記取消、月次残高の再構築が残高へ正しく反映されることを確認する。生成したデータはテストごとにロールバックする。</p>
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DisplayName("仕訳転記の統合テスト")
+class BalancePostingIntegrationTest {
+
+    private static final String CASH = "BP001";
+    private static final String SALES = "BP002";
+    private static final LocalDate JOURNAL_DATE = LocalDate.of(2024, 3, 15);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JournalPostingService journalPostingService;
+
+    @Autowired
+    private MonthlyBalanceRollUpService monthlyBalanceRollUpService;
+
+    private Integer cashId;
+    private Integer salesId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO accounts (code, name, account_type) VALUES (?, '現金', 'ASSET')", CASH);
+        jdbcTemplate.update("INSERT INTO accounts (code, name, account_type) VALUES (?, '売上', 'REVENUE')", SALES);
+        cashId = jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE code = ?", Integer.class, CASH);
+        salesId = jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE code = ?", Integer.class, SALES);
+    }
+
+    @Test
+    @DisplayName("転記で日次残高の行を作成し、同じキーへの再転記は既存行に加算する")
+    void shouldInsertAndThenAccumulateDailyBalances() {
+        journalPostingService.post(confirmedEntry("1000"));
+        journalPostingService.post(confirmedEntry("500"));
+
+        assertThat(dailyAmounts(CASH)).containsExactly(new BigDecimal("1500.00"), new BigDecimal("0.00"));
+        assertThat(dailyAmounts(SALES)).containsExactly(new BigDecimal("0.00"), new BigDecimal("1500.00"));
+    }
+
+    @Test
+    @DisplayName("転記で月次残高を期首から期末まで積み上げる")
+    void shouldRollUpMonthlyBalances() {
+        journalPostingService.post(confirmedEntry("1000"));
+
+        assertThat(monthlyClosingBalance(CASH, 2)).isEqualByComparingTo("0");
+        assertThat(monthlyClosingBalance(CASH, 3)).isEqualByComparingTo("1000");
+        assertThat(monthlyClosingBalance(CASH, 12)).isEqualByComparingTo("1000");
+        assertThat(monthlyClosingBalance(SALES, 3)).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("転記取消で日次残高と月次残高から仕訳の金額を差し引く")
+    void shouldSubtractOnUnpost() {
+        JournalEntry first = confirmedEntry("1000");
+        journalPostingService.post(first);
+        journalPostingService.post(confirmedEntry("300"));
+
+        journalPostingService.unpost(first);
+
+        assertThat(dailyAmounts(CASH)).containsExactly(new BigDecimal("300.00"), new BigDecimal("0.00"));
+        assertThat(monthlyClosingBalance(CASH, 3)).isEqualByComparingTo("300");
+        assertThat(monthlyClosingBalance(SALES, 12)).isEqualByComparingTo("300");
+    }
+
+    @Test
+    @DisplayName("会計期間の再構築は 1 文の集計で転記時と同じ月次残高を作り直す")
+    void shouldRebuildMonthlyBalancesToSameResultAsRollUp() {
+        journalPostingService.post(confirmedEntry("1000"));
+        jdbcTemplate.update("UPDATE monthly_account_balances SET closing_balance = 0 WHERE account_code IN (?, ?)",
+                CASH, SALES);
+
+        monthlyBalanceRollUpService.rebuild(JOURNAL_DATE.getYear());
+
+        assertThat(monthlyClosingBalance(CASH, 2)).isEqualByComparingTo("0");
+        assertThat(monthlyClosingBalance(CASH, 3)).isEqualByComparingTo("1000");
+        assertThat(monthlyClosingBalance(CASH, 12)).isEqualByComparingTo("1000");
+        assertThat(monthlyClosingBalance(SALES, 12)).isEqualByComparingTo("1000");
+    }
+
+    private JournalEntry confirmedEntry(String amount) {
+        Integer id = jdbcTemplate.queryForObject("""
+            INSERT INTO journal_entries (journal_date, description, status)
+            VALUES (?, '転記検証', 'CONFIRMED')
+            RETURNING id
+            """, Integer.class, JOURNAL_DATE);
+        jdbcTemplate.update("""
+            INSERT INTO journal_entry_lines (journal_entry_id, line_number, account_id, debit_amount, credit_amount)
+            VALUES (?, 1, ?, ?::numeric, 0), (?, 2, ?, 0, ?::numeric)
+            """, id, cashId, amount, id, salesId, amount);
+        return JournalEntry.reconstruct(JournalEntryId.of(id), JOURNAL_DATE, "転記検証",
+                JournalEntryStatus.CONFIRMED, 1, List.of(), null, null, null, null, null, null,
+                null, null, null, null);
+    }
+
+    private List<BigDecimal> dailyAmounts(String accountCode) {
+        return jdbcTemplate.queryForObject("""
+            SELECT debit_amount, credit_amount FROM daily_account_balances
+            WHERE posting_date = ? AND account_code = ?
+            """, (rs, rowNum) -> List.of(rs.getBigDecimal(1), rs.getBigDecimal(2)), JOURNAL_DATE, accountCode);
+    }
+
+    private BigDecimal monthlyClosingBalance(String accountCode, int month) {
+        return jdbcTemplate.queryForObject("""
+            SELECT closing_balance FROM monthly_account_balances
+            WHERE fiscal_period = ? AND month = ? AND account_code = ?
+            """, BigDecimal.class, JOURNAL_DATE.getYear(), month, accountCode);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.accounting.infrastructure.persistence;
+
+import com.example.accounting.TestcontainersConfiguration;
+import com.example.accounting.application.port.out.JournalEntrySearchCriteria;
+import com.example.accounting.application.port.out.LedgerCursor;
+import com.example.accounting.infrastructure.persistence.mapper.BalanceCheckpointMapper;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 元帳・検索クエリの実行計画回帰テスト
+ *
+ * <p>Testcontainers の PostgreSQL に 10 年分の仕訳を生成し、
+ * 各 Mapper ステートメントの EXPLAIN に大きなテーブルの Seq Scan が含まれないことを確認する。
+ * 生成したデータはテストごとにロールバックする。</p>
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DisplayName("元帳・検索クエリの実行計画")
+class LedgerQueryPlanIntegrationTest {
+
+    private static final String JOURNAL_ENTRY_MAPPER =
+            "com.example.accounting.infrastructure.persistence.mapper.JournalEntryMapper.";
+    private static final String SUBSIDIARY_LEDGER_MAPPER =
+            "com.example.accounting.infrastructure.persistence.mapper.SubsidiaryLedgerMapper.";
+    private static final Pattern SEQ_SCAN_ON_BIG_TABLE =
+            Pattern.compile("Seq Scan on (journal_entries|journal_entry_lines|journal_entry_debit_credit)\\b");
+
+    private static final int ENTRY_COUNT = 100_000;
+    private static final int ACCOUNTS_PER_SIDE = 50;
+    private static final LocalDate FIRST_JOURNAL_DATE = LocalDate.of(2015, 1, 1);
+    private static final LocalDate CHECKPOINT_DATE = LocalDate.of(2024, 5, 31);
+    private static final LocalDate DATE_FROM = LocalDate.of(2024, 6, 1);
+    private static final LocalDate DATE_TO = LocalDate.of(2024, 6, 30);
+    private static final String ACCOUNT_CODE = "QP001";
+    private static final String SUB_ACCOUNT_CODE = "S1";
+    private static final int OFFSET = 20;
+    private static final int LIMIT = 21;
+    /** トライグラムを取り出せる 3 文字以上の ASCII で、生成データの摘要に含まれない語 */
+    private static final String DESCRIPTION_TERM = "rent-xq";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private BalanceCheckpointMapper balanceCheckpointMapper;
+
+    private Integer accountId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO accounts (code, name, account_type)
+            SELECT 'QP' || LPAD(g::text, 3, '0'), '実行計画検証' || g, 'ASSET'
+            FROM generate_series(1, ?) g
+            """, ACCOUNTS_PER_SIDE * 2);
+        accountId = jdbcTemplate.queryForObject(
+                "SELECT id FROM accounts WHERE code = ?", Integer.class, ACCOUNT_CODE);
+
+        jdbcTemplate.update("""
+            WITH e AS (
+                INSERT INTO journal_entries (journal_date, description, status)
+                SELECT ?::date + (g % 3650), '実行計画検証 ' || g,
+                       CASE WHEN g % 10 = 0 THEN 'DRAFT' ELSE 'CONFIRMED' END
+                FROM generate_series(1, ?) g
+                RETURNING id
+            )
+            INSERT INTO journal_entry_lines (journal_entry_id, line_number, account_id, debit_amount, credit_amount)
+            SELECT e.id, 1, ? + (e.id % ?), 1000, 0 FROM e
+            UNION ALL
+            SELECT e.id, 2, ? + ? + (e.id % ?), 0, 1000 FROM e
+            """,
+                FIRST_JOURNAL_DATE, ENTRY_COUNT,
+                accountId, ACCOUNTS_PER_SIDE,
+                accountId, ACCOUNTS_PER_SIDE, ACCOUNTS_PER_SIDE);
+
+        jdbcTemplate.update("""
+            INSERT INTO journal_entry_debit_credit (
+                journal_entry_id, line_number, debit_credit_type,
+                account_code, sub_account_code, amount, base_currency_amount
+            )
+            SELECT jel.journal_entry_id, jel.line_number,
+                   CASE WHEN jel.debit_amount > 0 THEN 'D' ELSE 'C' END,
+                   a.code, 'S' || (jel.journal_entry_id % 10), 1000, 1000
+            FROM journal_entry_lines jel
+            INNER JOIN accounts a ON a.id = jel.account_id
+            WHERE a.code LIKE 'QP%'
+            """);
+
+        balanceCheckpointMapper.insertAccountCheckpoints(CHECKPOINT_DATE);
+        balanceCheckpointMapper.insertSubAccountCheckpoints(CHECKPOINT_DATE);
+
+        jdbcTemplate.execute("""
+            ANALYZE journal_entries, journal_entry_lines, journal_entry_debit_credit,
+                    account_balance_checkpoints, sub_account_balance_checkpoints
+            """);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+        JOURNAL_ENTRY_MAPPER + "findPostedLinesByAccountAndPeriod",
+        JOURNAL_ENTRY_MAPPER + "countPostedLinesByAccountAndPeriod",
+        JOURNAL_ENTRY_MAPPER + "calculateBalanceBeforeOffset",
+        JOURNAL_ENTRY_MAPPER + "calculateBalanceBeforeDate",
+        JOURNAL_ENTRY_MAPPER + "findDailyBalanceByAccountAndPeriod",
+        JOURNAL_ENTRY_MAPPER + "findSummariesByConditions",
+        JOURNAL_ENTRY_MAPPER + "searchIdsByConditions",
+        SUBSIDIARY_LEDGER_MAPPER + "findPostedLinesByAccountAndSubAccountAndPeriod",
+        SUBSIDIARY_LEDGER_MAPPER + "countPostedLinesByAccountAndSubAccountAndPeriod",
+        SUBSIDIARY_LEDGER_MAPPER + "calculateBalanceBeforeOffsetByAccountAndSubAccount",
+        SUBSIDIARY_LEDGER_MAPPER + "calculateBalanceBeforeDateByAccountAndSubAccount"
+    })
+    @DisplayName("大きなテーブルを Seq Scan しない")
+    void shouldNotSeqScanBigTables(String statementId) {
+        List<String> plan = explain(statementId, parametersFor(statementId));
+
+        assertThat(plan)
+                .as("%s の実行計画:%n%s", statementId, String.join(System.lineSeparator(), plan))
+                .noneMatch(line -> SEQ_SCAN_ON_BIG_TABLE.matcher(line).find());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+        JOURNAL_ENTRY_MAPPER + "findPostedLinesByAccountAndPeriod",
+        SUBSIDIARY_LEDGER_MAPPER + "findPostedLinesByAccountAndSubAccountAndPeriod"
+    })
+    @DisplayName("カーソル指定の続き取得も大きなテーブルを Seq Scan しない")
+    void shouldNotSeqScanBigTablesWhenReadingAfterCursor(String statementId) {
+        Map<String, Object> params = parametersFor(statementId);
+        params.put("after", new LedgerCursor(DATE_FROM.plusDays(14), Integer.MAX_VALUE, 1, "D"));
+
+        List<String> plan = explain(statementId, params);
+
+        assertThat(plan)
+                .as("%s の実行計画:%n%s", statementId, String.join(System.lineSeparator(), plan))
+                .noneMatch(line -> SEQ_SCAN_ON_BIG_TABLE.matcher(line).find());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+        JOURNAL_ENTRY_MAPPER + "searchIdsByConditions",
+        JOURNAL_ENTRY_MAPPER + "countBySearchConditions"
+    })
+    @DisplayName("摘要の部分一致検索はヘッダ・行摘要のトライグラムインデックスを使う")
+    void shouldUseTrigramIndexesForDescriptionSearch(String statementId) {
+        Map<String, Object> params = parametersFor(statementId);
+        params.put("c", new JournalEntrySearchCriteria(
+                List.of(), null, null, null, null, null, DESCRIPTION_TERM, 0, LIMIT, true));
+
+        List<String> plan = explain(statementId, params);
+
+        assertThat(plan)
+                .as("%s の実行計画:%n%s", statementId, String.join(System.lineSeparator(), plan))
+                .anyMatch(line -> line.contains("idx_journal_entries_description_trgm"))
+                .anyMatch(line -> line.contains("idx_journal_entry_lines_description_trgm"))
+                .noneMatch(line -> SEQ_SCAN_ON_BIG_TABLE.matcher(line).find());
+    }
+
+    private Map<String, Object> parametersFor(String statementId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("accountId", accountId);
+        params.put("accountCode", ACCOUNT_CODE);
+        params.put("subAccountCode", SUB_ACCOUNT_CODE);
+        params.put("dateFrom", DATE_FROM);
+        params.put("dateTo", DATE_TO);
+        params.put("date", DATE_FROM);
+        params.put("offset", OFFSET);
+        params.put("limit", LIMIT);
+        params.put("after", null);
+        params.put("statuses", List.of("CONFIRMED"));
+        if (statementId.endsWith("searchIdsByConditions")) {
+            params.put("c", new JournalEntrySearchCriteria(
+                    List.of("CONFIRMED"), DATE_FROM, DATE_TO, accountId, null, null, null, 0, LIMIT));
+        }
+        return params;
+    }
+
+    private List<String> explain(String statementId, Map<String, Object> params) {
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        MappedStatement statement = configuration.getMappedStatement(statementId);
+        BoundSql boundSql = statement.getBoundSql(params);
+        MetaObject metaObject = configuration.newMetaObject(params);
+        Object[] args = boundSql.getParameterMappings().stream()
+                .map(ParameterMapping::getProperty)
+                .map(property -> boundSql.hasAdditionalParameter(property)
+                        ? boundSql.getAdditionalParameter(property)
+                        : metaObject.getValue(property))
+                .toArray();
+        return jdbcTemplate.queryForList("EXPLAIN " + boundSql.getSql(), String.class, args);
+    }
+}
@@ -69,6 +69,8 @@ class JournalEntryEntityTest {
             assertThat(entity.getApprovedAt()).isNotNull();
             assertThat(entity.getUpdatedAt()).isNotNull();
             assertThat(entity.getLines()).hasSize(2);
+            assertThat(entity.getTotalDebitAmount()).isEqualByComparingTo("1000");
+            assertThat(entity.getTotalCreditAmount()).isEqualByComparingTo("1000");
         }
 
         @Test
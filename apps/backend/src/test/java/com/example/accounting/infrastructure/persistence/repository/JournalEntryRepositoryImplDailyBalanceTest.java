@@ -2,6 +2,7 @@ package com.example.accounting.infrastructure.persistence.repository;
 
 import com.example.accounting.application.port.out.GetDailyBalanceResult.DailyBalanceEntry;
 import com.example.accounting.infrastructure.persistence.entity.DailyBalanceEntryEntity;
+import com.example.accounting.infrastructure.persistence.mapper.JournalEntryEventMapper;
 import com.example.accounting.infrastructure.persistence.mapper.JournalEntryMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,11 +26,18 @@ class JournalEntryRepositoryImplDailyBalanceTest {
     @Mock
     private JournalEntryMapper journalEntryMapper;
 
+    @Mock
+    private JournalEntryBatchWriter journalEntryBatchWriter;
+
+    @Mock
+    private JournalEntryEventMapper journalEntryEventMapper;
+
     private JournalEntryRepositoryImpl repository;
 
     @BeforeEach
     void setUp() {
-        repository = new JournalEntryRepositoryImpl(journalEntryMapper);
+        repository = new JournalEntryRepositoryImpl(journalEntryMapper, journalEntryBatchWriter,
+                journalEntryEventMapper);
     }
 
     @Nested
@@ -2,6 +2,7 @@ package com.example.accounting.infrastructure.persistence.repository;
 
 import com.example.accounting.TestcontainersConfiguration;
 import com.example.accounting.application.port.out.AccountRepository;
+import com.example.accounting.application.port.out.JournalEntryEvent;
 import com.example.accounting.application.port.out.JournalEntryRepository;
 import com.example.accounting.application.port.out.UserRepository;
 import com.example.accounting.domain.model.account.Account;
@@ -104,7 +105,7 @@ class JournalEntryRepositoryImplIntegrationTest {
                     .getOrElse((Account) null);
             JournalEntry entry = createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount);
 
-            JournalEntry savedEntry = journalEntryRepository.save(entry)
+            JournalEntry savedEntry = journalEntryRepository.save(entry, JournalEntryEvent.Type.CREATED)
                     .getOrElse((JournalEntry) null);
 
             assertThat(savedEntry.getId()).isNotNull();
@@ -130,7 +131,8 @@ class JournalEntryRepositoryImplIntegrationTest {
             Account creditAccount = accountRepository.save(createTestAccount("42", "売上", AccountType.REVENUE))
                     .getOrElse((Account) null);
             JournalEntry savedEntry = journalEntryRepository.save(
-                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount)
+                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount),
+                    JournalEntryEvent.Type.CREATED
             ).getOrElse((JournalEntry) null);
 
             Optional<JournalEntry> found = journalEntryRepository.findById(savedEntry.getId())
@@ -157,7 +159,8 @@ class JournalEntryRepositoryImplIntegrationTest {
             Account creditAccount = accountRepository.save(createTestAccount("43", "売上", AccountType.REVENUE))
                     .getOrElse((Account) null);
             JournalEntry savedEntry = journalEntryRepository.save(
-                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount)
+                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount),
+                    JournalEntryEvent.Type.CREATED
             ).getOrElse((JournalEntry) null);
 
             JournalEntry updatedEntry = savedEntry.withDescription("売上計上（更新）")
@@ -176,7 +179,7 @@ class JournalEntryRepositoryImplIntegrationTest {
                             )
                     ));
 
-            JournalEntry result = journalEntryRepository.save(updatedEntry)
+            JournalEntry result = journalEntryRepository.save(updatedEntry, JournalEntryEvent.Type.UPDATED)
                     .getOrElse((JournalEntry) null);
 
             assertThat(result.getDescription()).isEqualTo("売上計上（更新）");
@@ -195,12 +198,13 @@ class JournalEntryRepositoryImplIntegrationTest {
             Account creditAccount = accountRepository.save(createTestAccount("46", "売上", AccountType.REVENUE))
                     .getOrElse((Account) null);
             JournalEntry savedEntry = journalEntryRepository.save(
-                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount)
+                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount),
+                    JournalEntryEvent.Type.CREATED
             ).getOrElse((JournalEntry) null);
 
             JournalEntry updatedEntry = savedEntry.withDescription("売上計上（更新2）");
 
-            JournalEntry result = journalEntryRepository.save(updatedEntry)
+            JournalEntry result = journalEntryRepository.save(updatedEntry, JournalEntryEvent.Type.UPDATED)
                     .getOrElse((JournalEntry) null);
 
             assertThat(savedEntry.getVersion()).isEqualTo(1);
@@ -218,18 +222,19 @@ class JournalEntryRepositoryImplIntegrationTest {
             Account creditAccount = accountRepository.save(createTestAccount("47", "売上", AccountType.REVENUE))
                     .getOrElse((Account) null);
             JournalEntry savedEntry = journalEntryRepository.save(
-                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount)
+                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount),
+                    JournalEntryEvent.Type.CREATED
             ).getOrElse((JournalEntry) null);
 
             JournalEntry firstUpdate = savedEntry.withDescription("売上計上（更新3）");
-            journalEntryRepository.save(firstUpdate)
+            journalEntryRepository.save(firstUpdate, JournalEntryEvent.Type.UPDATED)
                     .getOrElse((JournalEntry) null);
 
             JournalEntry staleEntry = savedEntry.withDescription("売上計上（更新4）");
 
             assertThrows(
                     com.example.accounting.domain.shared.OptimisticLockException.class,
-                    () -> journalEntryRepository.save(staleEntry)
+                    () -> journalEntryRepository.save(staleEntry, JournalEntryEvent.Type.UPDATED)
                             .getOrElseThrow(ex -> (RuntimeException) ex)
             );
         }
@@ -249,7 +254,8 @@ class JournalEntryRepositoryImplIntegrationTest {
                     .getOrElse((Account) null);
             Account creditAccount = accountRepository.save(createTestAccount("44", "売上", AccountType.REVENUE))
                     .getOrElse((Account) null);
-            journalEntryRepository.save(createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount))
+            journalEntryRepository.save(createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount),
+                    JournalEntryEvent.Type.CREATED)
                     .getOrElse((JournalEntry) null);
 
             List<JournalEntry> entries = journalEntryRepository.findAll()
@@ -274,7 +280,8 @@ class JournalEntryRepositoryImplIntegrationTest {
             Account creditAccount = accountRepository.save(createTestAccount("45", "売上", AccountType.REVENUE))
                     .getOrElse((Account) null);
             JournalEntry savedEntry = journalEntryRepository.save(
-                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount)
+                    createTestJournalEntry(savedUser.getId(), debitAccount, creditAccount),
+                    JournalEntryEvent.Type.CREATED
             ).getOrElse((JournalEntry) null);
 
             journalEntryRepository.deleteById(savedEntry.getId())
@@ -2,6 +2,11 @@ package com.example.accounting.infrastructure.persistence.repository;
 
 import com.example.accounting.application.port.out.GetDailyBalanceResult.DailyBalanceEntry;
 import com.example.accounting.application.port.out.GetGeneralLedgerResult.GeneralLedgerEntry;
+import com.example.accounting.application.port.out.GetJournalEntriesResult.JournalEntrySummary;
+import com.example.accounting.application.port.out.JournalEntryCursor;
+import com.example.accounting.application.port.out.JournalEntryEvent.Type;
+import com.example.accounting.application.port.out.JournalEntrySearchCriteria;
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.domain.model.account.AccountId;
 import com.example.accounting.domain.model.journal.JournalEntry;
 import com.example.accounting.domain.model.journal.JournalEntryId;
@@ -12,8 +17,11 @@ import com.example.accounting.domain.model.user.UserId;
 import com.example.accounting.domain.shared.OptimisticLockException;
 import com.example.accounting.infrastructure.persistence.entity.DailyBalanceEntryEntity;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventEntity;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineEntity;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineWithHeaderEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntrySummaryEntity;
+import com.example.accounting.infrastructure.persistence.mapper.JournalEntryEventMapper;
 import com.example.accounting.infrastructure.persistence.mapper.JournalEntryMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,15 +34,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,11 +58,18 @@ class JournalEntryRepositoryImplTest {
     @Mock
     private JournalEntryMapper journalEntryMapper;
 
+    @Mock
+    private JournalEntryBatchWriter journalEntryBatchWriter;
+
+    @Mock
+    private JournalEntryEventMapper journalEntryEventMapper;
+
     private JournalEntryRepositoryImpl repository;
 
     @BeforeEach
     void setUp() {
-        repository = new JournalEntryRepositoryImpl(journalEntryMapper);
+        repository = new JournalEntryRepositoryImpl(journalEntryMapper, journalEntryBatchWriter,
+                journalEntryEventMapper);
     }
 
     @Nested
@@ -56,57 +77,415 @@ class JournalEntryRepositoryImplTest {
     class Save {
 
         @Test
-        @DisplayName("既存仕訳は update と明細再登録を行う")
-        void shouldUpdateExistingJournalEntry() {
-            JournalEntry journalEntry = buildJournalEntryWithId(10, List.of(buildDebitLine(1)));
-            JournalEntryEntity existingEntity = buildEntity(10, "既存");
-            JournalEntryEntity savedEntity = buildEntity(10, "更新後");
-
-            when(journalEntryMapper.findById(10))
-                    .thenReturn(Optional.of(existingEntity), Optional.of(savedEntity));
+        @DisplayName("下書きの更新は変更のあった明細だけを削除・更新・追加し、再読込しない")
+        void shouldSyncOnlyChangedLines() {
+            JournalEntry journalEntry = buildJournalEntryWithId(10, List.of(
+                    buildDebitLine(1),
+                    JournalEntryLine.of(2, AccountId.of(20), null, Money.of(new BigDecimal("300"))),
+                    JournalEntryLine.of(4, AccountId.of(30), null, Money.of(new BigDecimal("50")))));
             when(journalEntryMapper.update(any())).thenReturn(1);
+            when(journalEntryMapper.findLinesByJournalEntryId(10)).thenReturn(List.of(
+                    lineEntity(10, 1, 10, "100.00", "0.00"),
+                    lineEntity(10, 2, 20, "0.00", "200.00"),
+                    lineEntity(10, 3, 30, "0.00", "100.00")));
 
-            JournalEntry result = repository.save(journalEntry.withDescription("更新後"))
+            JournalEntry result = repository.save(journalEntry.withDescription("更新後"), Type.UPDATED)
                     .getOrElse((JournalEntry) null);
 
             assertThat(result.getId()).isEqualTo(JournalEntryId.of(10));
             assertThat(result.getDescription()).isEqualTo("更新後");
-            verify(journalEntryMapper).deleteLines(10);
-            verify(journalEntryMapper).insertLines(any());
+            assertThat(result.getVersion()).isEqualTo(2);
+            verify(journalEntryMapper).deleteLinesByLineNumbers(10, List.of(3));
+            verify(journalEntryMapper).updateLines(eq(10), argThat(lines ->
+                    lines.size() == 1 && lines.getFirst().getLineNumber() == 2));
+            verify(journalEntryMapper).insertLines(argThat(lines ->
+                    lines.size() == 1 && lines.getFirst().getLineNumber() == 4));
+            verify(journalEntryMapper, never()).findById(any());
+            verify(journalEntryMapper, never()).deleteLines(any());
+        }
+
+        @Test
+        @DisplayName("明細に変更がない場合はヘッダのみ更新する")
+        void shouldUpdateHeaderOnlyWhenLinesUnchanged() {
+            JournalEntry journalEntry = buildJournalEntryWithId(11, List.of(buildDebitLine(1)));
+            when(journalEntryMapper.update(any())).thenReturn(1);
+            when(journalEntryMapper.findLinesByJournalEntryId(11))
+                    .thenReturn(List.of(lineEntity(11, 1, 10, "100.00", "0.00")));
+
+            repository.save(journalEntry, Type.UPDATED);
+
+            verify(journalEntryMapper, never()).deleteLinesByLineNumbers(any(), any());
+            verify(journalEntryMapper, never()).updateLines(any(), any());
+            verify(journalEntryMapper, never()).insertLines(any());
+        }
+
+        @Test
+        @DisplayName("イベントは仕訳の状態から推測せず、呼び出し元が渡した種別で記録する")
+        void shouldRecordEventTypeGivenByCaller() {
+            JournalEntry journalEntry = buildJournalEntryWithId(14, List.of(buildDebitLine(1)));
+            when(journalEntryMapper.update(any())).thenReturn(1);
+            when(journalEntryMapper.findLinesByJournalEntryId(14))
+                    .thenReturn(List.of(lineEntity(14, 1, 10, "100.00", "0.00")));
+
+            repository.save(journalEntry, Type.REJECTED);
+
+            verify(journalEntryEventMapper).insert(argThat(event -> event.getJournalEntryId() == 14
+                    && "REJECTED".equals(event.getEventType()) && "DRAFT".equals(event.getStatus())));
+        }
+
+        @Test
+        @DisplayName("下書き以外への状態遷移はヘッダの UPDATE のみ行う")
+        void shouldOnlyUpdateHeaderOnStatusTransition() {
+            JournalEntry journalEntry = buildJournalEntryWithId(12, List.of(buildDebitLine(1)))
+                    .withStatus(JournalEntryStatus.APPROVED);
+            when(journalEntryMapper.update(any())).thenReturn(1);
+
+            JournalEntry result = repository.save(journalEntry, Type.APPROVED).getOrElse((JournalEntry) null);
+
+            assertThat(result.getStatus()).isEqualTo(JournalEntryStatus.APPROVED);
+            assertThat(result.getVersion()).isEqualTo(2);
+            verify(journalEntryMapper).update(any());
+            verifyNoMoreInteractions(journalEntryMapper);
+            verify(journalEntryEventMapper).insert(argThat(event -> event.getJournalEntryId() == 12
+                    && "APPROVED".equals(event.getEventType()) && event.getVersion() == 2));
+        }
+
+        @Test
+        @DisplayName("更新後は DB が付けた更新日時を返す")
+        void shouldReturnUpdatedAtAssignedByDatabase() {
+            JournalEntry journalEntry = buildJournalEntryWithId(13, List.of(buildDebitLine(1)))
+                    .withStatus(JournalEntryStatus.APPROVED);
+            OffsetDateTime persistedAt = OffsetDateTime.of(2024, 4, 2, 9, 30, 0, 0, ZoneOffset.UTC);
+            doAnswer(invocation -> {
+                JournalEntryEntity entity = invocation.getArgument(0);
+                entity.setUpdatedAt(persistedAt);
+                return 1;
+            }).when(journalEntryMapper).update(any());
+
+            JournalEntry result = repository.save(journalEntry, Type.APPROVED).getOrElse((JournalEntry) null);
+
+            assertThat(result.getUpdatedAt()).isEqualTo(persistedAt.toLocalDateTime());
+            assertThat(result.getVersion()).isEqualTo(2);
         }
 
         @Test
         @DisplayName("更新件数が 0 の場合は OptimisticLockException を投げる")
         void shouldThrowOptimisticLockExceptionWhenUpdateFailed() {
             JournalEntry journalEntry = buildJournalEntryWithId(20, List.of(buildDebitLine(1)));
-            JournalEntryEntity existingEntity = buildEntity(20, "既存");
 
-            when(journalEntryMapper.findById(20)).thenReturn(Optional.of(existingEntity));
             when(journalEntryMapper.update(any())).thenReturn(0);
 
-            assertThrows(OptimisticLockException.class, () -> repository.save(journalEntry)
+            assertThrows(OptimisticLockException.class, () -> repository.save(journalEntry, Type.UPDATED)
                     .getOrElseThrow(ex -> (RuntimeException) ex));
-            verify(journalEntryMapper, never()).deleteLines(20);
+            verify(journalEntryMapper, never()).findLinesByJournalEntryId(20);
+            verify(journalEntryMapper, never()).deleteLinesByLineNumbers(any(), any());
+            verify(journalEntryEventMapper, never()).insert(any());
         }
 
         @Test
         @DisplayName("新規仕訳は insert のみ行い明細が空なら登録しない")
         void shouldInsertNewJournalEntryWithoutLines() {
             JournalEntry journalEntry = buildNewJournalEntry();
-            JournalEntryEntity savedEntity = buildEntity(100, "新規");
 
             doAnswer(invocation -> {
                 JournalEntryEntity entity = invocation.getArgument(0);
                 entity.setId(100);
                 return null;
             }).when(journalEntryMapper).insert(any());
-            when(journalEntryMapper.findById(100)).thenReturn(Optional.of(savedEntity));
 
-            JournalEntry result = repository.save(journalEntry)
+            JournalEntry result = repository.save(journalEntry, Type.CREATED)
                     .getOrElse((JournalEntry) null);
 
             assertThat(result.getId()).isEqualTo(JournalEntryId.of(100));
+            assertThat(result.getVersion()).isEqualTo(1);
             verify(journalEntryMapper, never()).insertLines(any());
+            verify(journalEntryMapper, never()).findById(any());
+            verify(journalEntryEventMapper).insert(argThat(event -> event.getJournalEntryId() == 100
+                    && "CREATED".equals(event.getEventType()) && "DRAFT".equals(event.getStatus())));
+        }
+
+        @Test
+        @DisplayName("新規仕訳の明細は 1 文でまとめて登録する")
+        void shouldInsertNewJournalEntryWithLines() {
+            JournalEntry journalEntry = buildNewJournalEntry()
+                    .addLine(buildDebitLine(1))
+                    .addLine(JournalEntryLine.of(2, AccountId.of(20), null, Money.of(new BigDecimal("100"))));
+
+            doAnswer(invocation -> {
+                JournalEntryEntity entity = invocation.getArgument(0);
+                entity.setId(101);
+                return null;
+            }).when(journalEntryMapper).insert(any());
+
+            JournalEntry result = repository.save(journalEntry, Type.CREATED).getOrElse((JournalEntry) null);
+
+            assertThat(result.getId()).isEqualTo(JournalEntryId.of(101));
+            assertThat(result.getLines()).hasSize(2);
+            verify(journalEntryMapper).insertLines(argThat(lines -> lines.size() == 2
+                    && lines.stream().allMatch(line -> line.getJournalEntryId() == 101)));
+        }
+
+        private JournalEntryLineEntity lineEntity(int journalEntryId, int lineNumber, int accountId,
+                                                  String debitAmount, String creditAmount) {
+            JournalEntryLineEntity entity = new JournalEntryLineEntity();
+            entity.setJournalEntryId(journalEntryId);
+            entity.setLineNumber(lineNumber);
+            entity.setAccountId(accountId);
+            entity.setDebitAmount(new BigDecimal(debitAmount));
+            entity.setCreditAmount(new BigDecimal(creditAmount));
+            return entity;
+        }
+    }
+
+    @Nested
+    @DisplayName("insertAll")
+    class InsertAll {
+
+        @Test
+        @DisplayName("バッチ登録で採番した ID と version 1 を設定して引数の順序で返す")
+        void shouldReturnEntriesWithGeneratedIds() {
+            JournalEntry first = buildNewJournalEntry().addLine(buildDebitLine(1));
+            JournalEntry second = buildNewJournalEntry().withDescription("新規2").addLine(buildDebitLine(1));
+            doAnswer(invocation -> {
+                List<JournalEntryEntity> entities = invocation.getArgument(0);
+                entities.get(0).setId(201);
+                entities.get(1).setId(202);
+                return null;
+            }).when(journalEntryBatchWriter).insertAll(any());
+
+            List<JournalEntry> result = repository.insertAll(List.of(first, second)).getOrElse(List.of());
+
+            assertThat(result).extracting(JournalEntry::getId)
+                    .containsExactly(JournalEntryId.of(201), JournalEntryId.of(202));
+            assertThat(result).extracting(JournalEntry::getVersion).containsOnly(1);
+            assertThat(result.get(1).getDescription()).isEqualTo("新規2");
+            verify(journalEntryBatchWriter).insertEvents(argThat(events -> events.size() == 2
+                    && events.get(1).getJournalEntryId() == 202
+                    && events.stream().allMatch(event -> "CREATED".equals(event.getEventType()))));
+            verify(journalEntryEventMapper, never()).insert(any());
+        }
+
+        @Test
+        @DisplayName("空のリストではバッチ登録しない")
+        void shouldSkipWhenEmpty() {
+            assertThat(repository.insertAll(List.of()).get()).isEmpty();
+            verify(journalEntryBatchWriter, never()).insertAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("saveTransitions")
+    class SaveTransitions {
+
+        @Test
+        @DisplayName("同じ遷移の仕訳を (ID, version) 条件の 1 文でまとめて更新し、version を進めて返す")
+        void shouldUpdateAllStatusesInOneStatement() {
+            JournalEntry first = buildJournalEntryWithId(30, List.of(buildDebitLine(1)))
+                    .withStatus(JournalEntryStatus.APPROVED);
+            JournalEntry second = buildJournalEntryWithId(31, List.of(buildDebitLine(1)))
+                    .withStatus(JournalEntryStatus.APPROVED);
+            when(journalEntryMapper.updateStatuses(any(), any())).thenReturn(2);
+
+            List<JournalEntry> result = repository.saveTransitions(List.of(first, second), Type.APPROVED)
+                    .getOrElse(List.of());
+
+            assertThat(result).extracting(JournalEntry::getVersion).containsOnly(2);
+            verify(journalEntryMapper).updateStatuses(
+                    argThat(transition -> "APPROVED".equals(transition.getStatus())),
+                    argThat(entries -> entries.size() == 2 && entries.get(1).getId() == 31));
+            verifyNoMoreInteractions(journalEntryMapper);
+            verify(journalEntryEventMapper).insertAll(argThat(events -> events.size() == 2
+                    && events.stream().map(JournalEntryEventEntity::getEventType).allMatch("APPROVED"::equals)));
+        }
+
+        @Test
+        @DisplayName("更新件数が対象件数と異なる場合は OptimisticLockException を投げる")
+        void shouldThrowOptimisticLockExceptionWhenAnyVersionChanged() {
+            JournalEntry first = buildJournalEntryWithId(30, List.of(buildDebitLine(1)));
+            JournalEntry second = buildJournalEntryWithId(31, List.of(buildDebitLine(1)));
+            when(journalEntryMapper.updateStatuses(any(), any())).thenReturn(1);
+
+            assertThrows(OptimisticLockException.class, () -> repository.saveTransitions(List.of(first, second), Type.APPROVED)
+                    .getOrElseThrow(ex -> (RuntimeException) ex));
+            verify(journalEntryEventMapper, never()).insertAll(any());
+        }
+
+        @Test
+        @DisplayName("空のリストでは更新しない")
+        void shouldSkipWhenEmpty() {
+            assertThat(repository.saveTransitions(List.of(), Type.APPROVED).get()).isEmpty();
+            verifyNoMoreInteractions(journalEntryMapper);
+            verifyNoMoreInteractions(journalEntryEventMapper);
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteById")
+    class DeleteById {
+
+        @Test
+        @DisplayName("仕訳を削除し、削除イベントを記録する")
+        void shouldRecordDeletedEvent() {
+            repository.deleteById(JournalEntryId.of(40)).get();
+
+            verify(journalEntryMapper).deleteById(40);
+            verify(journalEntryEventMapper).insert(argThat(event -> event.getJournalEntryId() == 40
+                    && "DELETED".equals(event.getEventType()) && event.getStatus() == null));
+        }
+    }
+
+    @Nested
+    @DisplayName("ページング")
+    class Paging {
+
+        @Test
+        @DisplayName("一覧はページ分の仕訳 ID を先に取得してから明細付きで取得する")
+        void shouldFetchIdsFirstForConditions() {
+            List<String> statuses = List.of("DRAFT");
+            when(journalEntryMapper.findIdsByConditions(statuses, null, null, null, 20, 10))
+                    .thenReturn(List.of(21, 22));
+            when(journalEntryMapper.findByIds(List.of(21, 22)))
+                    .thenReturn(List.of(buildEntity(21, "仕訳21"), buildEntity(22, "仕訳22")));
+
+            List<JournalEntry> result = repository.findByConditions(statuses, null, null, 20, 10)
+                    .getOrElse(List.of());
+
+            assertThat(result).extracting(JournalEntry::getId)
+                    .containsExactly(JournalEntryId.of(21), JournalEntryId.of(22));
+        }
+
+        @Test
+        @DisplayName("一覧の要約は明細を取得せずヘッダの合計金額から組み立てる")
+        void shouldFetchSummariesWithoutLines() {
+            List<String> statuses = List.of("CONFIRMED");
+            when(journalEntryMapper.findSummariesByConditions(statuses, null, null, null, 20, 10))
+                    .thenReturn(List.of(buildSummaryEntity(21, "仕訳21")));
+
+            List<JournalEntrySummary> result = repository.findSummariesByConditions(statuses, null, null, 20, 10)
+                    .getOrElse(List.of());
+
+            assertThat(result).containsExactly(new JournalEntrySummary(
+                    21, LocalDate.of(2024, 1, 31), "仕訳21",
+                    new BigDecimal("1500"), new BigDecimal("1500"), "CONFIRMED", 3));
+            verify(journalEntryMapper, never()).findByIds(any());
+        }
+
+        @Test
+        @DisplayName("一覧の要約もカーソル指定時はカーソル位置の続きから取得する")
+        void shouldFetchSummariesAfterCursor() {
+            JournalEntryCursor cursor = new JournalEntryCursor(LocalDate.of(2024, 1, 31), 40);
+            when(journalEntryMapper.findSummariesByConditions(List.of(), null, null, cursor, 0, 2))
+                    .thenReturn(List.of(buildSummaryEntity(41, "仕訳41"), buildSummaryEntity(52, "仕訳52")));
+
+            List<JournalEntrySummary> result = repository.findSummariesByConditionsAfter(List.of(), null, null, cursor, 2)
+                    .getOrElse(List.of());
+
+            assertThat(result).extracting(JournalEntrySummary::journalEntryId).containsExactly(41, 52);
+        }
+
+        private JournalEntrySummaryEntity buildSummaryEntity(int id, String description) {
+            JournalEntrySummaryEntity entity = new JournalEntrySummaryEntity();
+            entity.setId(id);
+            entity.setJournalDate(LocalDate.of(2024, 1, 31));
+            entity.setDescription(description);
+            entity.setStatus("CONFIRMED");
+            entity.setVersion(3);
+            entity.setTotalDebitAmount(new BigDecimal("1500"));
+            entity.setTotalCreditAmount(new BigDecimal("1500"));
+            return entity;
+        }
+
+        @Test
+        @DisplayName("検索はページ分の仕訳 ID を先に取得してから明細付きで取得する")
+        void shouldFetchIdsFirstForSearch() {
+            JournalEntrySearchCriteria criteria = new JournalEntrySearchCriteria(
+                    List.of(), null, null, 10, null, null, "売上", 0, 20);
+            when(journalEntryMapper.searchIdsByConditions(criteria, null)).thenReturn(List.of(5));
+            when(journalEntryMapper.findByIds(List.of(5))).thenReturn(List.of(buildEntity(5, "売上")));
+
+            List<JournalEntry> result = repository.searchByConditions(criteria).getOrElse(List.of());
+
+            assertThat(result).hasSize(1);
+            assertThat(result.getFirst().getLines()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("対象ページに仕訳がない場合は明細を取得しない")
+        void shouldSkipFetchWhenNoIds() {
+            when(journalEntryMapper.findIdsByConditions(List.of(), null, null, null, 100, 20))
+                    .thenReturn(List.of());
+
+            List<JournalEntry> result = repository.findByConditions(List.of(), null, null, 100, 20)
+                    .getOrElse(List.of(buildJournalEntryWithId(1, List.of())));
+
+            assertThat(result).isEmpty();
+            verify(journalEntryMapper, never()).findByIds(any());
+        }
+
+        @Test
+        @DisplayName("カーソル指定時はカーソル位置の続きから取得し、1 段階目の並び順を保つ")
+        void shouldFetchAfterCursorInIdOrder() {
+            JournalEntryCursor cursor = new JournalEntryCursor(LocalDate.of(2024, 1, 31), 40);
+            when(journalEntryMapper.findIdsByConditions(List.of(), null, null, cursor, 0, 2))
+                    .thenReturn(List.of(52, 41));
+            when(journalEntryMapper.findByIds(List.of(52, 41)))
+                    .thenReturn(List.of(buildEntity(41, "仕訳41"), buildEntity(52, "仕訳52")));
+
+            List<JournalEntry> result = repository.findByConditionsAfter(List.of(), null, null, cursor, 2)
+                    .getOrElse(List.of());
+
+            assertThat(result).extracting(JournalEntry::getId)
+                    .containsExactly(JournalEntryId.of(52), JournalEntryId.of(41));
+        }
+
+        @Test
+        @DisplayName("検索でもカーソルをマッパーに渡す")
+        void shouldSearchAfterCursor() {
+            JournalEntrySearchCriteria criteria = new JournalEntrySearchCriteria(
+                    List.of(), null, null, null, null, null, null, 0, 20);
+            JournalEntryCursor cursor = new JournalEntryCursor(LocalDate.of(2024, 2, 1), 7);
+            when(journalEntryMapper.searchIdsByConditions(criteria, cursor)).thenReturn(List.of(8));
+            when(journalEntryMapper.findByIds(List.of(8))).thenReturn(List.of(buildEntity(8, "仕訳8")));
+
+            List<JournalEntry> result = repository.searchByConditionsAfter(criteria, cursor).getOrElse(List.of());
+
+            assertThat(result).extracting(JournalEntry::getId).containsExactly(JournalEntryId.of(8));
+        }
+    }
+
+    @Nested
+    @DisplayName("findMatchedLineDescriptions")
+    class FindMatchedLineDescriptions {
+
+        @Test
+        @DisplayName("仕訳ごとに最初に一致した行摘要を返す")
+        void shouldReturnFirstMatchedLinePerEntry() {
+            when(journalEntryMapper.findLinesByDescription(List.of(1, 2), "売上"))
+                    .thenReturn(List.of(lineEntity(1, 1, "売上高"), lineEntity(1, 2, "売上値引"),
+                            lineEntity(2, 1, "売上原価")));
+
+            Map<Integer, String> result = repository.findMatchedLineDescriptions(List.of(1, 2), "売上")
+                    .getOrElse(Map.of());
+
+            assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1, "売上高", 2, "売上原価"));
+        }
+
+        @Test
+        @DisplayName("仕訳 ID が空の場合はマッパーを呼ばない")
+        void shouldSkipMapperWhenIdsAreEmpty() {
+            Map<Integer, String> result = repository.findMatchedLineDescriptions(List.of(), "売上")
+                    .getOrElse(Map.of(0, "error"));
+
+            assertThat(result).isEmpty();
+            verify(journalEntryMapper, never()).findLinesByDescription(any(), any());
+        }
+
+        private JournalEntryLineEntity lineEntity(int journalEntryId, int lineNumber, String lineDescription) {
+            JournalEntryLineEntity entity = new JournalEntryLineEntity();
+            entity.setJournalEntryId(journalEntryId);
+            entity.setLineNumber(lineNumber);
+            entity.setLineDescription(lineDescription);
+            return entity;
         }
     }
 
@@ -129,7 +508,7 @@ class JournalEntryRepositoryImplTest {
         lineSpecific.setDebitAmount(BigDecimal.ZERO);
         lineSpecific.setCreditAmount(new BigDecimal("200"));
 
-        when(journalEntryMapper.findPostedLinesByAccountAndPeriod(1, null, null, 0, 10))
+        when(journalEntryMapper.findPostedLinesByAccountAndPeriod(1, null, null, null, 0, 10))
                 .thenReturn(List.of(headerOnly, lineSpecific));
 
         List<GeneralLedgerEntry> result = repository.findPostedLinesByAccountAndPeriod(1, null, null, 0, 10)
@@ -151,7 +530,7 @@ class JournalEntryRepositoryImplTest {
         entity.setDebitAmount(new BigDecimal("50"));
         entity.setCreditAmount(BigDecimal.ZERO);
 
-        when(journalEntryMapper.findPostedLinesByAccountAndPeriod(1, null, null, 0, 10))
+        when(journalEntryMapper.findPostedLinesByAccountAndPeriod(1, null, null, null, 0, 10))
                 .thenReturn(List.of(entity));
 
         List<GeneralLedgerEntry> result = repository.findPostedLinesByAccountAndPeriod(1, null, null, 0, 10)
@@ -161,6 +540,42 @@ class JournalEntryRepositoryImplTest {
         assertThat(result.get(0).description()).isEqualTo("ヘッダ摘要3");
     }
 
+    @Test
+    @DisplayName("カーソル指定の続き取得はカーソルをマッパーに渡し、行番号をエントリにマッピングする")
+    void shouldFindPostedLinesAfterCursor() {
+        JournalEntryLineWithHeaderEntity entity = new JournalEntryLineWithHeaderEntity();
+        entity.setJournalEntryId(4);
+        entity.setLineNumber(2);
+        entity.setJournalDate(LocalDate.of(2024, 1, 13));
+        entity.setDescription("ヘッダ摘要4");
+        entity.setDebitAmount(new BigDecimal("70"));
+        entity.setCreditAmount(BigDecimal.ZERO);
+        LedgerCursor after = new LedgerCursor(LocalDate.of(2024, 1, 12), 3, 1, null);
+
+        when(journalEntryMapper.findPostedLinesByAccountAndPeriod(1, null, null, after, 0, 10))
+                .thenReturn(List.of(entity));
+
+        List<GeneralLedgerEntry> result = repository.findPostedLinesByAccountAndPeriodAfter(1, null, null, after, 10)
+                .getOrElse(List.of());
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).journalEntryId()).isEqualTo(4);
+        assertThat(result.get(0).lineNumber()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("カーソルの行までの残高計算をマッパーに委譲する")
+    void shouldCalculateBalanceThroughCursor() {
+        LedgerCursor through = new LedgerCursor(LocalDate.of(2024, 1, 12), 3, 1, null);
+
+        when(journalEntryMapper.calculateBalanceThroughCursor(1, through))
+                .thenReturn(new BigDecimal("250"));
+
+        BigDecimal result = repository.calculateBalanceThroughCursor(1, through).get();
+
+        assertThat(result).isEqualByComparingTo("250");
+    }
+
     @Test
     @DisplayName("transactionCount が null の場合は 0 として返す")
     void shouldDefaultTransactionCountToZero() {
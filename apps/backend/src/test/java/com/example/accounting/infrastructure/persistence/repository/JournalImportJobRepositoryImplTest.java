@@ -0,0 +1,81 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.JournalImportCheckpoint;
+import com.example.accounting.application.port.out.JournalImportJob;
+import com.example.accounting.infrastructure.persistence.entity.JournalImportJobEntity;
+import com.example.accounting.infrastructure.persistence.mapper.JournalImportJobMapper;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JournalImportJobRepositoryImpl 単体テスト")
+class JournalImportJobRepositoryImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 4, 1, 9, 0);
+
+    @Mock
+    private JournalImportJobMapper mapper;
+
+    @Mock
+    private JournalImportCheckpointWriter checkpointWriter;
+
+    private JournalImportJobRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JournalImportJobRepositoryImpl(mapper, checkpointWriter);
+    }
+
+    @Test
+    @DisplayName("create で insert を呼び、ジョブをそのまま返す")
+    void createShouldInsert() {
+        JournalImportJob job = JournalImportJob.started("job-1", "entries.csv", "CSV", "/tmp/job-1.upload", "user-1", NOW);
+
+        assertThat(repository.create(job).get()).isEqualTo(job);
+        verify(mapper).insert(any(JournalImportJobEntity.class));
+    }
+
+    @Test
+    @DisplayName("findById でエンティティをジョブに変換する")
+    void findByIdShouldConvertEntity() {
+        JournalImportJob job = JournalImportJob.started("job-1", "entries.csv", "CSV", "/tmp/job-1.upload", "user-1", NOW);
+        when(mapper.findById("job-1")).thenReturn(Optional.of(JournalImportJobEntity.fromDomain(job)));
+
+        assertThat(repository.findById("job-1").get()).contains(job);
+    }
+
+    @Test
+    @DisplayName("restart は更新件数が 0 の場合 false を返す")
+    void restartShouldReturnFalseWhenNotUpdated() {
+        when(mapper.restart("job-1", List.of(JournalImportJob.FAILED), NOW)).thenReturn(0);
+
+        assertThat(repository.restart("job-1", List.of(JournalImportJob.FAILED), NOW).get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("チェックポイントの書き込みに失敗した場合は Failure を返す")
+    void saveCheckpointShouldReturnFailure() {
+        JournalImportCheckpoint checkpoint = new JournalImportCheckpoint("job-1", 3, 2, 1, 0, 0, List.of(), NOW);
+        doThrow(new IllegalStateException("batch error")).when(checkpointWriter).write(checkpoint);
+
+        Try<Void> result = repository.saveCheckpoint(checkpoint);
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCause()).hasMessage("batch error");
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.infrastructure.persistence.mapper.BalanceCheckpointMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MyBatisBalanceCheckpointRepositoryTest {
+
+    @Mock
+    private BalanceCheckpointMapper mapper;
+
+    private MyBatisBalanceCheckpointRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MyBatisBalanceCheckpointRepository(mapper);
+    }
+
+    @Test
+    void shouldMergeBothCheckpointsWithPositiveSignWhenPosting() {
+        when(mapper.mergeAccountCheckpoints(List.of(10), 1)).thenReturn(4);
+        when(mapper.mergeSubAccountCheckpoints(List.of(10), 1)).thenReturn(2);
+
+        Integer result = repository.post(JournalEntryId.of(10)).getOrElse(0);
+
+        assertThat(result).isEqualTo(6);
+        verify(mapper).mergeAccountCheckpoints(List.of(10), 1);
+        verify(mapper).mergeSubAccountCheckpoints(List.of(10), 1);
+    }
+
+    @Test
+    void shouldMergeBothCheckpointsWithNegativeSignWhenUnposting() {
+        when(mapper.mergeAccountCheckpoints(List.of(10), -1)).thenReturn(4);
+        when(mapper.mergeSubAccountCheckpoints(List.of(10), -1)).thenReturn(0);
+
+        Integer result = repository.unpost(JournalEntryId.of(10)).getOrElse(0);
+
+        assertThat(result).isEqualTo(4);
+        verify(mapper).mergeAccountCheckpoints(List.of(10), -1);
+        verify(mapper).mergeSubAccountCheckpoints(List.of(10), -1);
+    }
+
+    @Test
+    void shouldReturnFailureWhenMapperThrows() {
+        when(mapper.mergeAccountCheckpoints(List.of(10), 1)).thenThrow(new RuntimeException("DB error"));
+
+        assertThat(repository.post(JournalEntryId.of(10)).isFailure()).isTrue();
+    }
+
+    @Test
+    void shouldMergeAllJournalEntriesIntoCheckpoints() {
+        when(mapper.mergeAccountCheckpoints(List.of(10, 11), 1)).thenReturn(4);
+        when(mapper.mergeSubAccountCheckpoints(List.of(10, 11), 1)).thenReturn(2);
+
+        Integer result = repository.postAll(List.of(JournalEntryId.of(10), JournalEntryId.of(11))).getOrElse(0);
+
+        assertThat(result).isEqualTo(6);
+    }
+
+    @Test
+    void shouldNotCallMapperWhenPostingNoJournalEntries() {
+        Integer result = repository.postAll(List.of()).getOrElse(-1);
+
+        assertThat(result).isZero();
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void shouldDeleteAndReinsertWhenRebuilding() {
+        LocalDate checkpointDate = LocalDate.of(2024, 1, 31);
+        when(mapper.insertAccountCheckpoints(checkpointDate)).thenReturn(20);
+        when(mapper.insertSubAccountCheckpoints(checkpointDate)).thenReturn(5);
+
+        Integer result = repository.rebuild(checkpointDate).getOrElse(0);
+
+        assertThat(result).isEqualTo(25);
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).deleteAccountCheckpoints(checkpointDate);
+        inOrder.verify(mapper).deleteSubAccountCheckpoints(checkpointDate);
+        inOrder.verify(mapper).insertAccountCheckpoints(checkpointDate);
+        inOrder.verify(mapper).insertSubAccountCheckpoints(checkpointDate);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoCheckpointOnOrBeforeDate() {
+        LocalDate date = LocalDate.of(2024, 9, 30);
+        when(mapper.findLatestCheckpointDateOnOrBefore(date)).thenReturn(null);
+
+        assertThat(repository.findLatestCheckpointDateOnOrBefore(date).get()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnCheckpointDatesAfterDate() {
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(mapper.findCheckpointDatesAfter(date)).thenReturn(List.of(LocalDate.of(2025, 1, 31)));
+
+        assertThat(repository.findCheckpointDatesAfter(date).get()).containsExactly(LocalDate.of(2025, 1, 31));
+    }
+}
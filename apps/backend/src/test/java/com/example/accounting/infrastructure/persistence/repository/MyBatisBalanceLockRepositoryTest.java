@@ -0,0 +1,69 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.infrastructure.persistence.mapper.BalanceLockMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MyBatisBalanceLockRepositoryTest {
+
+    @Mock
+    private BalanceLockMapper mapper;
+
+    private MyBatisBalanceLockRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MyBatisBalanceLockRepository(mapper);
+    }
+
+    @Test
+    void shouldLockAllThenDistinctMonthsInAscendingOrderWhenPosting() {
+        boolean success = repository.lockForPosting(List.of(
+                YearMonth.of(2024, 3), YearMonth.of(2023, 12), YearMonth.of(2024, 3))).isSuccess();
+
+        assertThat(success).isTrue();
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).lockShared(List.of("ALL"));
+        inOrder.verify(mapper).insertMissing(List.of("2023-12", "2024-03"));
+        inOrder.verify(mapper).lockShared(List.of("2023-12", "2024-03"));
+    }
+
+    @Test
+    void shouldOnlyLockAllWhenPostingNoMonths() {
+        repository.lockForPosting(List.of());
+
+        verify(mapper).lockShared(List.of("ALL"));
+        verify(mapper, never()).insertMissing(any());
+    }
+
+    @Test
+    void shouldLockMonthExclusivelyForDailyRebuild() {
+        repository.lockMonthForRebuild(YearMonth.of(2024, 2));
+
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).lockShared(List.of("ALL"));
+        inOrder.verify(mapper).insertMissing(List.of("2024-02"));
+        inOrder.verify(mapper).lockExclusive(List.of("2024-02"));
+    }
+
+    @Test
+    void shouldLockAllExclusivelyForMonthlyRebuild() {
+        repository.lockAllForRebuild();
+
+        verify(mapper).lockExclusive(List.of("ALL"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.domain.model.journal.JournalEntryId;
+import com.example.accounting.infrastructure.persistence.mapper.DailyAccountBalanceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MyBatisDailyAccountBalanceRepositoryTest {
+
+    @Mock
+    private DailyAccountBalanceMapper mapper;
+
+    private MyBatisDailyAccountBalanceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MyBatisDailyAccountBalanceRepository(mapper);
+    }
+
+    @Test
+    void shouldMergeWithPositiveSignWhenPosting() {
+        when(mapper.mergeJournalEntries(List.of(10), 1)).thenReturn(2);
+
+        Integer result = repository.post(JournalEntryId.of(10)).getOrElse(0);
+
+        assertThat(result).isEqualTo(2);
+        verify(mapper).mergeJournalEntries(List.of(10), 1);
+    }
+
+    @Test
+    void shouldMergeWithNegativeSignWhenUnposting() {
+        when(mapper.mergeJournalEntries(List.of(10), -1)).thenReturn(2);
+
+        Integer result = repository.unpost(JournalEntryId.of(10)).getOrElse(0);
+
+        assertThat(result).isEqualTo(2);
+        verify(mapper).mergeJournalEntries(List.of(10), -1);
+    }
+
+    @Test
+    void shouldReturnFailureWhenMapperThrows() {
+        when(mapper.mergeJournalEntries(List.of(10), 1)).thenThrow(new RuntimeException("DB error"));
+
+        assertThat(repository.post(JournalEntryId.of(10)).isFailure()).isTrue();
+    }
+
+    @Test
+    void shouldMergeAllJournalEntriesInOneStatement() {
+        when(mapper.mergeJournalEntries(List.of(10, 11), 1)).thenReturn(3);
+
+        Integer result = repository.postAll(List.of(JournalEntryId.of(10), JournalEntryId.of(11))).getOrElse(0);
+
+        assertThat(result).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCallMapperWhenPostingNoJournalEntries() {
+        Integer result = repository.postAll(List.of()).getOrElse(-1);
+
+        assertThat(result).isZero();
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void shouldDeleteAndReinsertWhenRebuilding() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 2, 1);
+        when(mapper.insertFromConfirmedJournalEntries(from, to)).thenReturn(30);
+
+        Integer result = repository.rebuild(from, to).getOrElse(0);
+
+        assertThat(result).isEqualTo(30);
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).deleteByPostingDateRange(from, to);
+        inOrder.verify(mapper).insertFromConfirmedJournalEntries(from, to);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.JournalEntryEvent;
+import com.example.accounting.application.port.out.JournalEntryEventPosition;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventEntity;
+import com.example.accounting.infrastructure.persistence.entity.JournalEntryEventOffsetEntity;
+import com.example.accounting.infrastructure.persistence.mapper.JournalEntryEventMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MyBatisJournalEntryEventRepository")
+class MyBatisJournalEntryEventRepositoryTest {
+
+    @Mock
+    private JournalEntryEventMapper mapper;
+
+    private MyBatisJournalEntryEventRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MyBatisJournalEntryEventRepository(mapper);
+    }
+
+    @Test
+    @DisplayName("配信位置は未登録なら作成してからロックして取得する")
+    void shouldCreateOffsetBeforeLocking() {
+        when(mapper.lockOffset("cache")).thenReturn(offset(700, 42));
+
+        assertThat(repository.lockOffset("cache").get()).isEqualTo(new JournalEntryEventPosition(700, 42));
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).insertOffsetIfAbsent("cache");
+        inOrder.verify(mapper).lockOffset("cache");
+    }
+
+    @Test
+    @DisplayName("配信してよい範囲を確かめてから、配信位置の続きのイベントを読み出す")
+    void shouldFindEventsAfterCheckingSettledRange() {
+        when(mapper.findSettledEventId()).thenReturn(Long.MAX_VALUE);
+        when(mapper.findAfter(700L, 10L, Long.MAX_VALUE, 100))
+                .thenReturn(List.of(entity(701, 12), entity(702, 11)));
+
+        List<JournalEntryEvent> events = repository.findDeliverableAfter(new JournalEntryEventPosition(700, 10), 100)
+                .get();
+
+        assertThat(events).extracting(JournalEntryEvent::position).containsExactly(
+                new JournalEntryEventPosition(701, 12), new JournalEntryEventPosition(702, 11));
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).findSettledEventId();
+        inOrder.verify(mapper).findAfter(700L, 10L, Long.MAX_VALUE, 100);
+    }
+
+    @Test
+    @DisplayName("他のトランザクションの採番が確定していない間はイベントを読み出さない")
+    void shouldWaitWhileOtherTransactionsAreInFlight() {
+        when(mapper.findSettledEventId()).thenReturn(null);
+
+        assertThat(repository.findDeliverableAfter(JournalEntryEventPosition.START, 100).get()).isEmpty();
+        verify(mapper, never()).findAfter(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("配信位置を（トランザクション ID, イベントID）の組で更新する")
+    void shouldSaveOffsetAsPosition() {
+        repository.saveOffset("cache", new JournalEntryEventPosition(702, 11));
+
+        verify(mapper).updateOffset("cache", 702L, 11L);
+    }
+
+    @Test
+    @DisplayName("すべてのハンドラの配信位置のうち最小の位置まで削除する")
+    void shouldPurgeUpToSlowestConsumer() {
+        when(mapper.findOffsets(List.of("cache", "watermark")))
+                .thenReturn(List.of(offset(702, 5), offset(701, 30)));
+        when(mapper.deleteUpTo(701L, 30L)).thenReturn(25);
+
+        assertThat(repository.purgeDelivered(List.of("cache", "watermark")).get()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("配信位置が未登録のハンドラがある場合は削除しない")
+    void shouldNotPurgeWhenConsumerHasNoOffset() {
+        when(mapper.findOffsets(List.of("cache", "watermark"))).thenReturn(List.of(offset(702, 30)));
+
+        assertThat(repository.purgeDelivered(List.of("cache", "watermark")).get()).isZero();
+        verify(mapper, never()).deleteUpTo(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("ハンドラが登録されていない場合は配信済みとして削除するイベントはない")
+    void shouldKeepEventsWithoutConsumers() {
+        assertThat(repository.purgeDelivered(List.of()).get()).isZero();
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("指定日時より前に記録したイベントを削除する")
+    void shouldDeleteEventsRecordedBefore() {
+        LocalDateTime threshold = LocalDateTime.of(2024, 4, 1, 3, 45);
+        when(mapper.deleteRecordedBefore(threshold)).thenReturn(12);
+
+        assertThat(repository.deleteRecordedBefore(threshold).get()).isEqualTo(12);
+    }
+
+    private JournalEntryEventEntity entity(long transactionId, long eventId) {
+        return JournalEntryEventEntity.fromDomain(new JournalEntryEvent(
+                eventId, transactionId, 1, JournalEntryEvent.Type.UPDATED, "DRAFT", 2, null));
+    }
+
+    private JournalEntryEventOffsetEntity offset(long lastTransactionId, long lastEventId) {
+        JournalEntryEventOffsetEntity entity = new JournalEntryEventOffsetEntity();
+        entity.setLastTransactionId(lastTransactionId);
+        entity.setLastEventId(lastEventId);
+        return entity;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.TestcontainersConfiguration;
+import com.example.accounting.application.port.out.LedgerChange;
+import com.example.accounting.application.port.out.LedgerChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 元帳の版・変更履歴リポジトリ統合テスト
+ *
+ * <p>Testcontainers の PostgreSQL 上で版の更新と変更履歴の記録・読み取り・削除を実行する。
+ * 更新した版と変更履歴はテストごとにロールバックする。</p>
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DisplayName("元帳の版・変更履歴リポジトリ統合テスト")
+class MyBatisLedgerChangeRepositoryIntegrationTest {
+
+    private static final LocalDate MARCH_END = LocalDate.of(2024, 3, 31);
+
+    @Autowired
+    private LedgerChangeRepository ledgerChangeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long initialVersion;
+
+    @BeforeEach
+    void setUp() {
+        initialVersion = ledgerChangeRepository.currentVersion().get();
+    }
+
+    @Test
+    @DisplayName("記録するたびに版を 1 つ進め、進めた版で変更履歴を記録する")
+    void shouldAdvanceVersionAndRecordChange() {
+        long first = ledgerChangeRepository.record(MARCH_END, MARCH_END).get();
+        long second = ledgerChangeRepository.record(null, null).get();
+
+        assertThat(first).isEqualTo(initialVersion + 1);
+        assertThat(second).isEqualTo(initialVersion + 2);
+        assertThat(ledgerChangeRepository.currentVersion().get()).isEqualTo(second);
+        assertThat(ledgerChangeRepository.findAfter(initialVersion).get()).containsExactly(
+                new LedgerChange(first, MARCH_END, MARCH_END),
+                new LedgerChange(second, null, null));
+    }
+
+    @Test
+    @DisplayName("指定した版より後の変更履歴だけを返す")
+    void shouldFindChangesAfterVersion() {
+        long first = ledgerChangeRepository.record(MARCH_END, MARCH_END).get();
+        ledgerChangeRepository.record(MARCH_END.plusDays(1), MARCH_END.plusDays(1)).get();
+
+        assertThat(ledgerChangeRepository.findAfter(first).get())
+                .extracting(LedgerChange::from)
+                .containsExactly(MARCH_END.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("指定日時より前に記録した変更履歴だけを削除し、版は戻さない")
+    void shouldDeleteChangesRecordedBefore() {
+        long old = ledgerChangeRepository.record(MARCH_END, MARCH_END).get();
+        long recent = ledgerChangeRepository.record(MARCH_END, MARCH_END).get();
+        jdbcTemplate.update("UPDATE ledger_changes SET recorded_at = ? WHERE version = ?",
+                LocalDateTime.of(2024, 4, 1, 0, 0), old);
+
+        int deleted = ledgerChangeRepository.deleteRecordedBefore(LocalDateTime.of(2024, 4, 2, 0, 0)).get();
+
+        assertThat(deleted).isGreaterThanOrEqualTo(1);
+        assertThat(ledgerChangeRepository.findAfter(initialVersion).get())
+                .extracting(LedgerChange::version)
+                .containsExactly(recent);
+        assertThat(ledgerChangeRepository.currentVersion().get()).isEqualTo(recent);
+    }
+}
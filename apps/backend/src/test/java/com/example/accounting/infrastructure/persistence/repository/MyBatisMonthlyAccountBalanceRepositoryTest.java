@@ -5,14 +5,22 @@ import com.example.accounting.infrastructure.persistence.mapper.MonthlyAccountBa
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,4 +68,62 @@ class MyBatisMonthlyAccountBalanceRepositoryTest {
         assertThat(result).isEmpty();
         verify(mapper).findByAccountCodeAndFiscalPeriod("1100", null);
     }
+
+    @Test
+    void shouldSumDailyBalancesWithinCalendarYear() {
+        MonthlyAccountBalanceEntity key = new MonthlyAccountBalanceEntity();
+        key.setAccountCode("1100");
+        when(mapper.sumDailyBalancesByKey(key, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)))
+                .thenReturn(List.of());
+
+        List<MonthlyAccountBalanceEntity> result =
+                repository.sumDailyBalances(key, 2024).getOrElse(List.of());
+
+        assertThat(result).isEmpty();
+        verify(mapper).sumDailyBalancesByKey(key, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoLatestFiscalPeriod() {
+        MonthlyAccountBalanceEntity key = new MonthlyAccountBalanceEntity();
+        when(mapper.findLatestFiscalPeriodByKey(key)).thenReturn(null);
+
+        Optional<Integer> result = repository.findLatestFiscalPeriod(key).getOrElse(Optional.of(0));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldUpsertAllRowsInOneStatementAndReturnCount() {
+        MonthlyAccountBalanceEntity january = new MonthlyAccountBalanceEntity();
+        MonthlyAccountBalanceEntity february = new MonthlyAccountBalanceEntity();
+        when(mapper.upsertAll(List.of(january, february))).thenReturn(2);
+
+        Integer result = repository.saveAll(List.of(january, february)).getOrElse(0);
+
+        assertThat(result).isEqualTo(2);
+        verify(mapper, times(1)).upsertAll(List.of(january, february));
+    }
+
+    @Test
+    void shouldNotCallMapperWhenNothingToSave() {
+        Integer result = repository.saveAll(List.of()).getOrElse(-1);
+
+        assertThat(result).isZero();
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void shouldDeleteAndInsertFiscalPeriodForAllMonths() {
+        when(mapper.insertFiscalPeriodFromDailyBalances(eq(2024), eq(LocalDate.of(2024, 1, 1)),
+                eq(LocalDate.of(2025, 1, 1)), any())).thenReturn(36);
+
+        Integer result = repository.rebuildFiscalPeriod(2024).getOrElse(0);
+
+        assertThat(result).isEqualTo(36);
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).deleteByFiscalPeriod(2024);
+        inOrder.verify(mapper).insertFiscalPeriodFromDailyBalances(2024, LocalDate.of(2024, 1, 1),
+                LocalDate.of(2025, 1, 1), List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+    }
 }
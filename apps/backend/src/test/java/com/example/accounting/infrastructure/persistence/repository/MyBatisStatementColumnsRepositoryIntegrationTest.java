@@ -0,0 +1,112 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.TestcontainersConfiguration;
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.application.port.out.StatementColumns.Row;
+import com.example.accounting.application.port.out.StatementColumnsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 複数期間の財務諸表集計リポジトリ統合テスト
+ *
+ * <p>Testcontainers の PostgreSQL 上で、基準日時点の残高を月末残高チェックポイントから求めた結果が
+ * 日次残高の全期間の集計と一致することを確認する。生成したデータはテストごとにロールバックする。</p>
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DisplayName("複数期間の財務諸表集計リポジトリ統合テスト")
+class MyBatisStatementColumnsRepositoryIntegrationTest {
+
+    private static final String CASH = "SC001";
+    private static final String RETAINED_EARNINGS = "SC002";
+    private static final LocalDate CHECKPOINT = LocalDate.of(2024, 1, 31);
+    private static final List<Column> COLUMNS = List.of(
+            Column.upTo(LocalDate.of(2024, 1, 15)),
+            Column.upTo(LocalDate.of(2024, 2, 29)),
+            Column.upTo(LocalDate.of(2024, 3, 31)));
+
+    @Autowired
+    private StatementColumnsRepository statementColumnsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO accounts (code, name, account_type, bspl_category)
+            VALUES (?, '現金', 'ASSET', 'B'), (?, '繰越利益剰余金', 'EQUITY', 'B')
+            """, CASH, RETAINED_EARNINGS);
+        insertDaily(LocalDate.of(2024, 1, 10), CASH, 0, "1000", "0");
+        insertDaily(LocalDate.of(2024, 2, 10), CASH, 0, "200", "0");
+        insertDaily(LocalDate.of(2024, 3, 5), CASH, 0, "0", "50");
+        insertDaily(CHECKPOINT, RETAINED_EARNINGS, 1, "0", "300");
+        insertDaily(LocalDate.of(2024, 2, 20), RETAINED_EARNINGS, 0, "0", "70");
+    }
+
+    @Test
+    @DisplayName("チェックポイントの累計から決算振替分を除き、翌日からの日次残高を加えて基準日時点の残高を求める")
+    void shouldComputeUpToColumnsFromCheckpoint() {
+        insertCheckpoint(CASH, "1000", "0");
+        insertCheckpoint(RETAINED_EARNINGS, "0", "300");
+
+        StatementColumns result = statementColumnsRepository.findColumns("B", COLUMNS).get();
+
+        assertThat(row(result, CASH).amounts()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("1000"), new BigDecimal("1200"), new BigDecimal("1150"));
+        assertThat(row(result, RETAINED_EARNINGS).amounts()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.ZERO, new BigDecimal("-70"), new BigDecimal("-70"));
+    }
+
+    @Test
+    @DisplayName("チェックポイントから求めた残高は日次残高の全期間の集計と一致する")
+    void shouldMatchFullScan() {
+        List<BigDecimal> cashWithoutCheckpoint = row(statementColumnsRepository.findColumns("B", COLUMNS).get(), CASH)
+                .amounts();
+        insertCheckpoint(CASH, "1000", "0");
+        insertCheckpoint(RETAINED_EARNINGS, "0", "300");
+
+        List<BigDecimal> cashWithCheckpoint = row(statementColumnsRepository.findColumns("B", COLUMNS).get(), CASH)
+                .amounts();
+
+        assertThat(cashWithCheckpoint).usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyElementsOf(cashWithoutCheckpoint);
+    }
+
+    private void insertDaily(LocalDate postingDate, String accountCode, int closingEntry, String debit, String credit) {
+        jdbcTemplate.update("""
+            INSERT INTO daily_account_balances
+                (posting_date, account_code, is_closing_entry, debit_amount, credit_amount)
+            VALUES (?, ?, ?, ?::numeric, ?::numeric)
+            """, postingDate, accountCode, closingEntry, debit, credit);
+    }
+
+    private void insertCheckpoint(String accountCode, String debitTotal, String creditTotal) {
+        jdbcTemplate.update("""
+            INSERT INTO account_balance_checkpoints (checkpoint_date, account_id, debit_total, credit_total)
+            SELECT ?, id, ?::numeric, ?::numeric FROM accounts WHERE code = ?
+            """, CHECKPOINT, debitTotal, creditTotal, accountCode);
+    }
+
+    private static Row row(StatementColumns result, String accountCode) {
+        return result.rows().stream()
+                .filter(row -> row.accountCode().equals(accountCode))
+                .findFirst()
+                .orElseThrow();
+    }
+}
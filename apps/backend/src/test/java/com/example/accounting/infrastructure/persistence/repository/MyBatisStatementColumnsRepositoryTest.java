@@ -0,0 +1,135 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.application.port.out.StatementColumns;
+import com.example.accounting.application.port.out.StatementColumns.Column;
+import com.example.accounting.infrastructure.persistence.entity.StatementColumnEntity;
+import com.example.accounting.infrastructure.persistence.mapper.StatementColumnsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MyBatisStatementColumnsRepositoryTest {
+
+    @Mock
+    private StatementColumnsMapper statementColumnsMapper;
+
+    private MyBatisStatementColumnsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MyBatisStatementColumnsRepository(statementColumnsMapper);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldQueryAllColumnsAtOnceWithinOuterRange() {
+        List<Column> columns = List.of(
+                new Column(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)),
+                new Column(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)));
+        when(statementColumnsMapper.findColumns(eq("P"), any(), any(), any()))
+                .thenReturn(List.of(row("4000", "売上高", "REVENUE", new BigDecimal("-1000"), 500L)));
+
+        StatementColumns result = repository.findColumns("P", columns).get();
+
+        ArgumentCaptor<List<StatementColumnEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(statementColumnsMapper).findColumns(eq("P"), captor.capture(),
+                eq(LocalDate.of(2024, 4, 1)), eq(LocalDate.of(2024, 5, 31)));
+        assertThat(captor.getValue()).extracting(StatementColumnEntity::getDateFrom)
+                .containsExactly(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 5, 1));
+
+        assertThat(result.columns()).isEqualTo(columns);
+        assertThat(result.rows()).hasSize(1);
+        assertThat(result.rows().getFirst().accountCode()).isEqualTo("4000");
+        assertThat(result.rows().getFirst().amount(0)).isEqualByComparingTo("-1000");
+        assertThat(result.rows().getFirst().amount(1)).isEqualByComparingTo("500");
+    }
+
+    @Test
+    void shouldNotBoundStartWhenAnyColumnIsUnbounded() {
+        List<Column> columns = List.of(Column.upTo(LocalDate.of(2025, 3, 31)), Column.upTo(LocalDate.of(2024, 3, 31)));
+        when(statementColumnsMapper.findColumns(eq("B"), any(), isNull(), eq(LocalDate.of(2025, 3, 31))))
+                .thenReturn(List.of());
+
+        StatementColumns result = repository.findColumns("B", columns).get();
+
+        assertThat(result.rows()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStartUpToColumnsFromNearestCheckpoint() {
+        List<Column> columns = List.of(Column.upTo(LocalDate.of(2025, 3, 15)), Column.upTo(LocalDate.of(2024, 3, 31)),
+                Column.upTo(LocalDate.of(2023, 1, 31)));
+        when(statementColumnsMapper.findCheckpointDates(LocalDate.of(2025, 3, 15))).thenReturn(List.of(
+                LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31), LocalDate.of(2025, 2, 28)));
+        when(statementColumnsMapper.findColumns(eq("B"), any(), any(), any())).thenReturn(List.of());
+
+        repository.findColumns("B", columns).get();
+
+        ArgumentCaptor<List<StatementColumnEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(statementColumnsMapper).findColumns(eq("B"), captor.capture(),
+                isNull(), eq(LocalDate.of(2025, 3, 15)));
+        assertThat(captor.getValue()).extracting(StatementColumnEntity::getCheckpointDate)
+                .containsExactly(LocalDate.of(2025, 2, 28), LocalDate.of(2024, 3, 31), null);
+        assertThat(captor.getValue()).extracting(StatementColumnEntity::getDateFrom)
+                .containsExactly(LocalDate.of(2025, 3, 1), LocalDate.of(2024, 4, 1), null);
+    }
+
+    @Test
+    void shouldBoundStartByCheckpointWhenEveryUpToColumnHasOne() {
+        List<Column> columns = List.of(Column.upTo(LocalDate.of(2025, 3, 31)), Column.upTo(LocalDate.of(2024, 3, 31)));
+        when(statementColumnsMapper.findCheckpointDates(LocalDate.of(2025, 3, 31))).thenReturn(List.of(
+                LocalDate.of(2024, 3, 31), LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31)));
+        when(statementColumnsMapper.findColumns(eq("B"), any(), eq(LocalDate.of(2024, 4, 1)),
+                eq(LocalDate.of(2025, 3, 31)))).thenReturn(List.of());
+
+        assertThat(repository.findColumns("B", columns).isSuccess()).isTrue();
+    }
+
+    @Test
+    void shouldTreatNullAmountAsZero() {
+        List<Column> columns = List.of(Column.upTo(null));
+        when(statementColumnsMapper.findColumns(eq("B"), any(), isNull(), isNull()))
+                .thenReturn(List.of(row("100", "現金", "ASSET", null, null)));
+
+        StatementColumns result = repository.findColumns("B", columns).get();
+
+        assertThat(result.rows().getFirst().amounts()).containsExactly(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldReturnFailureWhenMapperThrows() {
+        when(statementColumnsMapper.findColumns(any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThat(repository.findColumns("B", List.of(Column.upTo(null))).isFailure()).isTrue();
+    }
+
+    @SuppressWarnings("PMD.AvoidMutableCollectionInstantiation") // Map.of は null 値を持てないため
+    private static Map<String, Object> row(String code, String name, String type, Object amount0, Object amount1) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("account_code", code);
+        row.put("account_name", name);
+        row.put("account_type", type);
+        row.put("amount_0", amount0);
+        row.put("amount_1", amount1);
+        return row;
+    }
+}
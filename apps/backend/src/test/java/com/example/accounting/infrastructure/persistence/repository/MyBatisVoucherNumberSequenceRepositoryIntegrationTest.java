@@ -0,0 +1,87 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.TestcontainersConfiguration;
+import com.example.accounting.application.port.out.VoucherNumberSequenceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 仕訳伝票番号採番リポジトリ統合テスト
+ *
+ * <p>Testcontainers の PostgreSQL 上で採番行の MERGE・ブロック分の更新・次番号の読み取りを実行する。
+ * 生成した採番行はテストごとにロールバックする。</p>
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DisplayName("仕訳伝票番号採番リポジトリ統合テスト")
+class MyBatisVoucherNumberSequenceRepositoryIntegrationTest {
+
+    private static final int VOUCHER_TYPE = 99;
+    private static final int FISCAL_YEAR = 2999;
+
+    @Autowired
+    private VoucherNumberSequenceRepository voucherNumberSequenceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("採番行がなければ 1 から作成し、最初のブロックの先頭番号 1 を返す")
+    void shouldCreateSequenceAndReserveFirstBlock() {
+        long start = voucherNumberSequenceRepository.reserveBlock(VOUCHER_TYPE, FISCAL_YEAR, 100).get();
+
+        assertThat(start).isEqualTo(1L);
+        assertThat(nextValue(VOUCHER_TYPE, FISCAL_YEAR)).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("続けて予約すると前のブロックの次の番号から予約する")
+    void shouldAdvanceByBlockSize() {
+        voucherNumberSequenceRepository.reserveBlock(VOUCHER_TYPE, FISCAL_YEAR, 100).get();
+
+        long second = voucherNumberSequenceRepository.reserveBlock(VOUCHER_TYPE, FISCAL_YEAR, 50).get();
+
+        assertThat(second).isEqualTo(101L);
+        assertThat(nextValue(VOUCHER_TYPE, FISCAL_YEAR)).isEqualTo(151L);
+    }
+
+    @Test
+    @DisplayName("既存の採番行は MERGE で上書きせず、その続きから予約する")
+    void shouldKeepExistingSequence() {
+        jdbcTemplate.update(
+                "INSERT INTO voucher_number_sequences (voucher_type, fiscal_year, next_value) VALUES (?, ?, 501)",
+                VOUCHER_TYPE, FISCAL_YEAR);
+
+        long start = voucherNumberSequenceRepository.reserveBlock(VOUCHER_TYPE, FISCAL_YEAR, 100).get();
+
+        assertThat(start).isEqualTo(501L);
+        assertThat(nextValue(VOUCHER_TYPE, FISCAL_YEAR)).isEqualTo(601L);
+    }
+
+    @Test
+    @DisplayName("伝票区分・会計年度ごとに別の採番行を進める")
+    void shouldKeepSequencePerVoucherTypeAndFiscalYear() {
+        voucherNumberSequenceRepository.reserveBlock(VOUCHER_TYPE, FISCAL_YEAR, 100).get();
+
+        long otherYear = voucherNumberSequenceRepository.reserveBlock(VOUCHER_TYPE, FISCAL_YEAR - 1, 100).get();
+        long otherType = voucherNumberSequenceRepository.reserveBlock(VOUCHER_TYPE - 1, FISCAL_YEAR, 100).get();
+
+        assertThat(otherYear).isEqualTo(1L);
+        assertThat(otherType).isEqualTo(1L);
+        assertThat(nextValue(VOUCHER_TYPE, FISCAL_YEAR)).isEqualTo(101L);
+    }
+
+    private long nextValue(int voucherType, int fiscalYear) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_value FROM voucher_number_sequences WHERE voucher_type = ? AND fiscal_year = ?",
+                Long.class, voucherType, fiscalYear);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.accounting.infrastructure.persistence.repository;
+
+import com.example.accounting.infrastructure.persistence.mapper.VoucherNumberSequenceMapper;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MyBatisVoucherNumberSequenceRepositoryTest {
+
+    @Mock
+    private VoucherNumberSequenceMapper mapper;
+
+    private MyBatisVoucherNumberSequenceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MyBatisVoucherNumberSequenceRepository(mapper);
+    }
+
+    @Test
+    void shouldReserveBlockAndReturnItsFirstNumber() {
+        when(mapper.findNextValue(0, 2024)).thenReturn(301L);
+
+        Try<Long> result = repository.reserveBlock(0, 2024, 100);
+
+        assertThat(result.get()).isEqualTo(201L);
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).insertIfAbsent(0, 2024);
+        inOrder.verify(mapper).advance(0, 2024, 100);
+        inOrder.verify(mapper).findNextValue(0, 2024);
+    }
+
+    @Test
+    void shouldReturnFailureWhenMapperThrows() {
+        when(mapper.insertIfAbsent(0, 2024)).thenThrow(new RuntimeException("db error"));
+
+        Try<Long> result = repository.reserveBlock(0, 2024, 100);
+
+        assertThat(result.isFailure()).isTrue();
+    }
+}
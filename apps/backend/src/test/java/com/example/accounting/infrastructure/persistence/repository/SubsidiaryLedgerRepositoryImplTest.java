@@ -1,6 +1,7 @@
 package com.example.accounting.infrastructure.persistence.repository;
 
 import com.example.accounting.application.port.out.GetSubsidiaryLedgerResult.SubsidiaryLedgerEntry;
+import com.example.accounting.application.port.out.LedgerCursor;
 import com.example.accounting.infrastructure.persistence.entity.JournalEntryLineWithHeaderEntity;
 import com.example.accounting.infrastructure.persistence.mapper.SubsidiaryLedgerMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,7 +55,7 @@ class SubsidiaryLedgerRepositoryImplTest {
                 "テスト仕訳", new BigDecimal("1000"), BigDecimal.ZERO);
 
         when(subsidiaryLedgerMapper.findPostedLinesByAccountAndSubAccountAndPeriod(
-                "1100", "001", dateFrom, dateTo, 0, 20))
+                "1100", "001", dateFrom, dateTo, null, 0, 20))
                 .thenReturn(List.of(entity));
 
         List<SubsidiaryLedgerEntry> result = repository
@@ -71,7 +72,7 @@ class SubsidiaryLedgerRepositoryImplTest {
         assertThat(entry.runningBalance()).isNull();
 
         verify(subsidiaryLedgerMapper).findPostedLinesByAccountAndSubAccountAndPeriod(
-                "1100", "001", dateFrom, dateTo, 0, 20);
+                "1100", "001", dateFrom, dateTo, null, 0, 20);
     }
 
     @Test
@@ -81,7 +82,7 @@ class SubsidiaryLedgerRepositoryImplTest {
         LocalDate dateTo = LocalDate.of(2024, 4, 30);
 
         when(subsidiaryLedgerMapper.findPostedLinesByAccountAndSubAccountAndPeriod(
-                "9999", null, dateFrom, dateTo, 0, 20))
+                "9999", null, dateFrom, dateTo, null, 0, 20))
                 .thenReturn(List.of());
 
         List<SubsidiaryLedgerEntry> result = repository
@@ -91,6 +92,44 @@ class SubsidiaryLedgerRepositoryImplTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("カーソル指定の続き取得はカーソルをマッパーに渡す")
+    void shouldFindEntriesAfterCursor() {
+        LocalDate dateFrom = LocalDate.of(2024, 4, 1);
+        LocalDate dateTo = LocalDate.of(2024, 4, 30);
+        JournalEntryLineWithHeaderEntity entity = createEntity(2, LocalDate.of(2024, 4, 2),
+                "テスト仕訳", BigDecimal.ZERO, new BigDecimal("300"));
+        entity.setLineNumber(1);
+        LedgerCursor after = new LedgerCursor(LocalDate.of(2024, 4, 1), 1, 1, "D");
+
+        when(subsidiaryLedgerMapper.findPostedLinesByAccountAndSubAccountAndPeriod(
+                "1100", "001", dateFrom, dateTo, after, 0, 20))
+                .thenReturn(List.of(entity));
+
+        List<SubsidiaryLedgerEntry> result = repository
+                .findPostedLinesByAccountAndSubAccountAndPeriodAfter("1100", "001", dateFrom, dateTo, after, 20)
+                .getOrElse(List.of());
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).lineNumber()).isEqualTo(1);
+        assertThat(result.get(0).debitCreditType()).isEqualTo("C");
+    }
+
+    @Test
+    @DisplayName("カーソルの行までの残高計算をマッパーに委譲する")
+    void shouldCalculateBalanceThroughCursor() {
+        LedgerCursor through = new LedgerCursor(LocalDate.of(2024, 4, 1), 1, 1, "D");
+
+        when(subsidiaryLedgerMapper.calculateBalanceThroughCursorByAccountAndSubAccount("1100", "001", through))
+                .thenReturn(new BigDecimal("1000"));
+
+        BigDecimal result = repository
+                .calculateBalanceThroughCursorByAccountAndSubAccount("1100", "001", through)
+                .get();
+
+        assertThat(result).isEqualByComparingTo("1000");
+    }
+
     @Test
     @DisplayName("件数取得をマッパーに委譲する")
     void shouldDelegateCountToMapper() {
@@ -127,4 +166,21 @@ class SubsidiaryLedgerRepositoryImplTest {
         verify(subsidiaryLedgerMapper).calculateBalanceBeforeDateByAccountAndSubAccount(
                 "1100", "001", date);
     }
+
+    @Test
+    @DisplayName("ページ先頭より前の合計計算をマッパーに委譲する")
+    void shouldDelegateCalculateBalanceBeforeOffsetToMapper() {
+        LocalDate dateFrom = LocalDate.of(2024, 4, 1);
+        LocalDate dateTo = LocalDate.of(2024, 4, 30);
+
+        when(subsidiaryLedgerMapper.calculateBalanceBeforeOffsetByAccountAndSubAccount(
+                "1100", "001", dateFrom, dateTo, 40))
+                .thenReturn(new BigDecimal("1200"));
+
+        BigDecimal balance = repository.calculateBalanceBeforeOffsetByAccountAndSubAccount(
+                "1100", "001", dateFrom, dateTo, 40)
+                .getOrElse(BigDecimal.ZERO);
+
+        assertThat(balance).isEqualByComparingTo(new BigDecimal("1200"));
+    }
 }
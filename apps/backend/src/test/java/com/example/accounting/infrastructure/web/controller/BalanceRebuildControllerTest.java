@@ -0,0 +1,83 @@
+package com.example.accounting.infrastructure.web.controller;
+
+import com.example.accounting.application.port.in.RebuildBalancesUseCase;
+import com.example.accounting.application.port.in.command.RebuildBalancesCommand;
+import com.example.accounting.application.port.out.RebuildBalancesResult;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("残高再構築コントローラ")
+class BalanceRebuildControllerTest {
+
+    @Mock
+    private RebuildBalancesUseCase rebuildBalancesUseCase;
+
+    private BalanceRebuildController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new BalanceRebuildController(rebuildBalancesUseCase);
+    }
+
+    @Test
+    @DisplayName("再構築を開始すると 202 を返す")
+    void shouldAcceptRebuild() {
+        RebuildBalancesResult job = RebuildBalancesResult.started(
+                "job-1", 2024, 13, LocalDateTime.of(2024, 4, 1, 9, 0));
+        when(rebuildBalancesUseCase.start(new RebuildBalancesCommand(2024))).thenReturn(Either.right(job));
+
+        ResponseEntity<RebuildBalancesResult> response = controller.start(2024);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isEqualTo(job);
+    }
+
+    @Test
+    @DisplayName("会計期間が不正な場合は BusinessException")
+    void shouldRejectInvalidFiscalPeriod() {
+        assertThatThrownBy(() -> controller.start(0))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("会計期間が不正です");
+        verify(rebuildBalancesUseCase, never()).start(any());
+    }
+
+    @Test
+    @DisplayName("実行中の場合は BusinessException")
+    void shouldRejectWhenRunning() {
+        when(rebuildBalancesUseCase.start(new RebuildBalancesCommand(2024)))
+                .thenReturn(Either.left("会計期間 2024 の残高再構築は実行中です"));
+
+        assertThatThrownBy(() -> controller.start(2024))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("会計期間 2024 の残高再構築は実行中です");
+    }
+
+    @Test
+    @DisplayName("存在しないジョブは 404 を返す")
+    void shouldReturnNotFoundForUnknownJob() {
+        when(rebuildBalancesUseCase.findJob("unknown")).thenReturn(Optional.empty());
+
+        ResponseEntity<RebuildBalancesResult> response = controller.findJob("unknown");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -6,6 +6,8 @@ import com.example.accounting.application.port.out.GetBalanceSheetResult;
 import com.example.accounting.application.port.out.GetBalanceSheetResult.BalanceSheetEntry;
 import com.example.accounting.application.port.out.GetBalanceSheetResult.BalanceSheetSection;
 import com.example.accounting.application.service.BalanceSheetExportService;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.infrastructure.web.etag.LedgerVersionETag;
 import io.vavr.control.Try;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +20,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -38,11 +43,15 @@ class BalanceSheetControllerTest {
     @Mock
     private BalanceSheetExportService exportService;
 
+    @Mock
+    private LedgerVersion ledgerVersion;
+
     private BalanceSheetController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new BalanceSheetController(getBalanceSheetUseCase, exportService);
+        controller = new BalanceSheetController(getBalanceSheetUseCase, exportService,
+                new LedgerVersionETag(ledgerVersion));
     }
 
     @Test
@@ -64,7 +73,7 @@ class BalanceSheetControllerTest {
         );
         when(getBalanceSheetUseCase.execute(any(GetBalanceSheetQuery.class))).thenReturn(result);
 
-        ResponseEntity<GetBalanceSheetResult> response = controller.getBalanceSheet(date, null);
+        ResponseEntity<GetBalanceSheetResult> response = controller.getBalanceSheet(date, null, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(result);
@@ -87,7 +96,7 @@ class BalanceSheetControllerTest {
         );
         when(getBalanceSheetUseCase.execute(any(GetBalanceSheetQuery.class))).thenReturn(result);
 
-        ResponseEntity<GetBalanceSheetResult> response = controller.getBalanceSheet(date, comparativeDate);
+        ResponseEntity<GetBalanceSheetResult> response = controller.getBalanceSheet(date, comparativeDate, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 
@@ -107,7 +116,7 @@ class BalanceSheetControllerTest {
         );
         when(getBalanceSheetUseCase.execute(any(GetBalanceSheetQuery.class))).thenReturn(result);
 
-        ResponseEntity<GetBalanceSheetResult> response = controller.getBalanceSheet(null, null);
+        ResponseEntity<GetBalanceSheetResult> response = controller.getBalanceSheet(null, null, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 
@@ -203,4 +212,8 @@ class BalanceSheetControllerTest {
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    private WebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/balance-sheet"));
+    }
 }
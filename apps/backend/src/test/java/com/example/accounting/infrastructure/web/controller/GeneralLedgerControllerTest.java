@@ -4,6 +4,8 @@ import com.example.accounting.application.port.in.GetGeneralLedgerUseCase;
 import com.example.accounting.application.port.in.query.GetGeneralLedgerQuery;
 import com.example.accounting.application.port.out.GetGeneralLedgerResult;
 import com.example.accounting.application.port.out.GetGeneralLedgerResult.GeneralLedgerEntry;
+import com.example.accounting.application.port.out.LedgerCursor;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,7 +74,9 @@ class GeneralLedgerControllerTest {
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31),
                 0,
-                20
+                20,
+                null,
+                true
         );
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -85,5 +90,26 @@ class GeneralLedgerControllerTest {
         assertThat(query.dateTo()).isEqualTo(LocalDate.of(2024, 1, 31));
         assertThat(query.page()).isZero();
         assertThat(query.size()).isEqualTo(20);
+        assertThat(query.withTotal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("cursor を指定した場合はカーソルを復元してクエリに渡す")
+    void shouldPassDecodedCursor() {
+        LedgerCursor cursor = new LedgerCursor(LocalDate.of(2024, 1, 10), 10, 1, null);
+        when(getGeneralLedgerUseCase.execute(any(GetGeneralLedgerQuery.class))).thenReturn(null);
+
+        controller.getGeneralLedger(1, null, null, 0, 20, cursor.encode(), false);
+
+        ArgumentCaptor<GetGeneralLedgerQuery> captor = ArgumentCaptor.forClass(GetGeneralLedgerQuery.class);
+        verify(getGeneralLedgerUseCase).execute(captor.capture());
+        assertThat(captor.getValue().cursor()).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("不正な cursor の場合は BusinessException")
+    void shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> controller.getGeneralLedger(1, null, null, 0, 20, "invalid", false))
+                .isInstanceOf(BusinessException.class);
     }
 }
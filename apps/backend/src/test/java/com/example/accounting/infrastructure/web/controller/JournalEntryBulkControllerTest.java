@@ -0,0 +1,150 @@
+package com.example.accounting.infrastructure.web.controller;
+
+import com.example.accounting.application.port.in.BulkTransitionJournalEntriesUseCase;
+import com.example.accounting.application.port.in.RecordAuditLogUseCase;
+import com.example.accounting.application.port.in.RecordAuditLogUseCase.RecordAuditLogCommand;
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand;
+import com.example.accounting.application.port.in.command.BulkTransitionJournalEntriesCommand.Action;
+import com.example.accounting.application.port.out.BulkTransitionJournalEntriesResult;
+import com.example.accounting.application.port.out.BulkTransitionJournalEntriesResult.Failure;
+import com.example.accounting.domain.model.audit.AuditAction;
+import com.example.accounting.infrastructure.config.IdempotencyProperties;
+import com.example.accounting.infrastructure.web.dto.BulkJournalEntryTransitionRequest;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import com.example.accounting.infrastructure.web.idempotency.IdempotencyKeyStore;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳一括承認・確定・差し戻しコントローラ")
+class JournalEntryBulkControllerTest {
+
+    @Mock
+    private BulkTransitionJournalEntriesUseCase bulkTransitionJournalEntriesUseCase;
+
+    @Mock
+    private RecordAuditLogUseCase recordAuditLogUseCase;
+
+    @Mock
+    private HttpServletRequest httpServletRequest;
+
+    private JournalEntryBulkController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new JournalEntryBulkController(bulkTransitionJournalEntriesUseCase, recordAuditLogUseCase,
+                new IdempotencyKeyStore(new IdempotencyProperties(Duration.ofHours(24), 100), Clock.systemUTC()));
+        lenient().when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+    }
+
+    @Test
+    @DisplayName("一括確定の結果を返し、遷移した仕訳の監査ログを 1 回でまとめて記録する")
+    @SuppressWarnings("unchecked")
+    void shouldConfirmAndRecordAuditLogsInOneCall() {
+        BulkTransitionJournalEntriesResult result = BulkTransitionJournalEntriesResult.of(
+                "CONFIRM", "CONFIRMED", List.of(1, 2), List.of(new Failure(3, "承認済み状態の仕訳のみ確定可能です")));
+        when(bulkTransitionJournalEntriesUseCase.execute(any())).thenReturn(Either.right(result));
+        when(recordAuditLogUseCase.executeAll(any())).thenReturn(Either.right(null));
+
+        ResponseEntity<BulkTransitionJournalEntriesResult> response = controller.confirm(
+                new BulkJournalEntryTransitionRequest(List.of(1, 2, 3), null, null, null),
+                userDetails(), httpServletRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(result);
+
+        ArgumentCaptor<BulkTransitionJournalEntriesCommand> commandCaptor =
+                ArgumentCaptor.forClass(BulkTransitionJournalEntriesCommand.class);
+        verify(bulkTransitionJournalEntriesUseCase).execute(commandCaptor.capture());
+        assertThat(commandCaptor.getValue().action()).isEqualTo(Action.CONFIRM);
+        assertThat(commandCaptor.getValue().operatorId()).isEqualTo("manager");
+
+        ArgumentCaptor<List<RecordAuditLogCommand>> auditCaptor = ArgumentCaptor.forClass(List.class);
+        verify(recordAuditLogUseCase).executeAll(auditCaptor.capture());
+        assertThat(auditCaptor.getValue()).extracting(RecordAuditLogCommand::entityId).containsExactly("1", "2");
+        assertThat(auditCaptor.getValue()).allSatisfy(command -> {
+            assertThat(command.actionType()).isEqualTo(AuditAction.CONFIRM);
+            assertThat(command.description()).isEqualTo("仕訳伝票一括確定");
+        });
+        verify(recordAuditLogUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("遷移した仕訳がない場合は監査ログを記録しない")
+    void shouldSkipAuditLogWhenNothingTransitioned() {
+        when(bulkTransitionJournalEntriesUseCase.execute(any())).thenReturn(Either.right(
+                BulkTransitionJournalEntriesResult.of("APPROVE", "APPROVED", List.of(), List.of())));
+
+        controller.approve(new BulkJournalEntryTransitionRequest(null, LocalDate.of(2024, 4, 1), null, null),
+                userDetails(), httpServletRequest);
+
+        verify(recordAuditLogUseCase, never()).executeAll(any());
+    }
+
+    @Test
+    @DisplayName("監査ログの記録に失敗しても結果を返す")
+    void shouldReturnResultWhenAuditLogFails() {
+        when(bulkTransitionJournalEntriesUseCase.execute(any())).thenReturn(Either.right(
+                BulkTransitionJournalEntriesResult.of("REJECT", "DRAFT", List.of(1), List.of())));
+        when(recordAuditLogUseCase.executeAll(any())).thenThrow(new RuntimeException("audit error"));
+
+        ResponseEntity<BulkTransitionJournalEntriesResult> response = controller.reject(
+                new BulkJournalEntryTransitionRequest(List.of(1), null, null, "金額誤り"),
+                userDetails(), httpServletRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("差し戻し理由がない場合は BusinessException")
+    void shouldRejectMissingRejectionReason() {
+        BulkJournalEntryTransitionRequest request = new BulkJournalEntryTransitionRequest(List.of(1), null, null, null);
+        UserDetails userDetails = userDetails();
+
+        assertThatThrownBy(() -> controller.reject(request, userDetails, httpServletRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("差し戻し理由は必須です");
+        verify(bulkTransitionJournalEntriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("対象件数が上限を超える場合は BusinessException")
+    void shouldRejectWhenUseCaseReturnsError() {
+        when(bulkTransitionJournalEntriesUseCase.execute(any()))
+                .thenReturn(Either.left("対象の仕訳が 10000 件を超えています。仕訳日付の範囲を絞り込んでください"));
+        BulkJournalEntryTransitionRequest request =
+                new BulkJournalEntryTransitionRequest(null, LocalDate.of(2024, 1, 1), null, null);
+        UserDetails userDetails = userDetails();
+
+        assertThatThrownBy(() -> controller.confirm(request, userDetails, httpServletRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("対象の仕訳が 10000 件を超えています");
+    }
+
+    private UserDetails userDetails() {
+        return new org.springframework.security.core.userdetails.User("manager", "password", List.of());
+    }
+}
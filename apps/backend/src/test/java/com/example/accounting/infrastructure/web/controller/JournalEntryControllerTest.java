@@ -3,6 +3,7 @@ package com.example.accounting.infrastructure.web.controller;
 import com.example.accounting.application.port.in.CreateJournalEntryUseCase;
 import com.example.accounting.application.port.in.DeleteJournalEntryUseCase;
 import com.example.accounting.application.port.in.ConfirmJournalEntryUseCase;
+import com.example.accounting.application.port.in.CancelJournalEntryConfirmationUseCase;
 import com.example.accounting.application.port.in.GetJournalEntryUseCase;
 import com.example.accounting.application.port.in.GetJournalEntriesUseCase;
 import com.example.accounting.application.port.in.GenerateAutoJournalUseCase;
@@ -12,6 +13,7 @@ import com.example.accounting.application.port.in.SearchJournalEntriesUseCase;
 import com.example.accounting.application.port.in.SubmitForApprovalUseCase;
 import com.example.accounting.application.port.in.UpdateJournalEntryUseCase;
 import com.example.accounting.application.port.in.RecordAuditLogUseCase;
+import com.example.accounting.application.port.in.command.CancelJournalEntryConfirmationCommand;
 import com.example.accounting.application.port.in.command.CreateJournalEntryCommand;
 import com.example.accounting.application.port.in.command.ApproveJournalEntryCommand;
 import com.example.accounting.application.port.in.command.ConfirmJournalEntryCommand;
@@ -21,12 +23,14 @@ import com.example.accounting.application.port.in.command.GenerateAutoJournalCom
 import com.example.accounting.application.port.in.query.GetJournalEntriesQuery;
 import com.example.accounting.application.port.in.query.SearchJournalEntriesQuery;
 import com.example.accounting.application.port.in.command.RejectJournalEntryCommand;
+import com.example.accounting.application.port.out.CancelJournalEntryConfirmationResult;
 import com.example.accounting.application.port.out.ApproveJournalEntryResult;
 import com.example.accounting.application.port.out.ConfirmJournalEntryResult;
 import com.example.accounting.application.port.out.RejectJournalEntryResult;
 import com.example.accounting.application.port.out.CreateJournalEntryResult;
 import com.example.accounting.application.port.out.DeleteJournalEntryResult;
 import com.example.accounting.application.port.out.GetJournalEntriesResult;
+import com.example.accounting.application.port.out.JournalEntryCursor;
 import com.example.accounting.application.port.out.JournalEntryDetailResult;
 import com.example.accounting.application.port.out.SubmitForApprovalResult;
 import com.example.accounting.application.port.out.UpdateJournalEntryResult;
@@ -41,7 +45,10 @@ import com.example.accounting.domain.model.user.Username;
 import com.example.accounting.domain.shared.OptimisticLockException;
 import com.example.accounting.domain.model.audit.AuditAction;
 import com.example.accounting.domain.model.audit.EntityType;
+import com.example.accounting.infrastructure.config.IdempotencyProperties;
+import com.example.accounting.infrastructure.web.idempotency.IdempotencyKeyStore;
 import io.vavr.control.Try;
+import com.example.accounting.infrastructure.web.dto.CancelJournalEntryConfirmationResponse;
 import com.example.accounting.infrastructure.web.dto.ApproveJournalEntryResponse;
 import com.example.accounting.infrastructure.web.dto.ConfirmJournalEntryResponse;
 import com.example.accounting.infrastructure.web.dto.RejectJournalEntryRequest;
@@ -71,6 +78,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.math.BigDecimal;
 import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -124,6 +133,9 @@ class JournalEntryControllerTest {
     @Mock
     private ConfirmJournalEntryUseCase confirmJournalEntryUseCase;
 
+    @Mock
+    private CancelJournalEntryConfirmationUseCase cancelJournalEntryConfirmationUseCase;
+
     @Mock
     private GenerateAutoJournalUseCase generateAutoJournalUseCase;
 
@@ -155,10 +167,12 @@ class JournalEntryControllerTest {
                 approveJournalEntryUseCase,
                 rejectJournalEntryUseCase,
                 confirmJournalEntryUseCase,
+                cancelJournalEntryConfirmationUseCase,
                 generateAutoJournalUseCase,
                 recordAuditLogUseCase,
                 userRepository,
-                journalEntryExportService
+                journalEntryExportService,
+                new IdempotencyKeyStore(new IdempotencyProperties(Duration.ofHours(24), 100), Clock.systemUTC())
         );
     }
 
@@ -267,6 +281,37 @@ class JournalEntryControllerTest {
             assertThat(response.getBody().errorMessage()).isEqualTo("勘定科目が存在しません");
             verify(recordAuditLogUseCase, never()).execute(any());
         }
+
+        @Test
+        @DisplayName("同じ Idempotency-Key の再送では仕訳を登録せずに最初の応答を返す")
+        void shouldReplayResponseForSameIdempotencyKey() {
+            CreateJournalEntryRequest request = new CreateJournalEntryRequest(
+                    LocalDate.of(2024, 1, 31),
+                    "売上計上",
+                    List.of(
+                            new CreateJournalEntryRequest.JournalEntryLineRequest(1, 1,
+                                    new BigDecimal("1000"), null),
+                            new CreateJournalEntryRequest.JournalEntryLineRequest(2, 2,
+                                    null, new BigDecimal("1000"))
+                    )
+            );
+            when(httpServletRequest.getHeader(IdempotencyKeyStore.HEADER)).thenReturn("retry-key-1");
+            when(userRepository.findByUsername("user1"))
+                    .thenReturn(Try.success(Optional.of(dummyUser("user-1", "user1"))));
+            when(createJournalEntryUseCase.execute(any(CreateJournalEntryCommand.class)))
+                    .thenReturn(CreateJournalEntryResult.success(10, LocalDate.of(2024, 1, 31), "売上計上", "DRAFT"));
+
+            ResponseEntity<CreateJournalEntryResponse> first =
+                    journalEntryController.create(request, principal("user1"), httpServletRequest);
+            ResponseEntity<CreateJournalEntryResponse> replayed =
+                    journalEntryController.create(request, principal("user1"), httpServletRequest);
+
+            assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(replayed.getBody()).isEqualTo(first.getBody());
+            assertThat(replayed.getHeaders().getFirst(IdempotencyKeyStore.REPLAYED_HEADER)).isEqualTo("true");
+            verify(createJournalEntryUseCase).execute(any(CreateJournalEntryCommand.class));
+            verify(recordAuditLogUseCase).execute(any());
+        }
     }
 
     @Nested
@@ -395,7 +440,7 @@ class JournalEntryControllerTest {
             when(getJournalEntriesUseCase.execute(any(GetJournalEntriesQuery.class))).thenReturn(result);
 
             ResponseEntity<GetJournalEntriesResult> response =
-                    journalEntryController.findAllPaged(0, 20, null, null, null);
+                    journalEntryController.findAllPaged(0, 20, null, null, null, null, true);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
@@ -409,7 +454,7 @@ class JournalEntryControllerTest {
             when(getJournalEntriesUseCase.execute(any(GetJournalEntriesQuery.class))).thenReturn(result);
 
             ResponseEntity<GetJournalEntriesResult> response =
-                    journalEntryController.findAllPaged(0, 20, List.of("DRAFT"), null, null);
+                    journalEntryController.findAllPaged(0, 20, List.of("DRAFT"), null, null, null, true);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         }
@@ -422,10 +467,34 @@ class JournalEntryControllerTest {
 
             ResponseEntity<GetJournalEntriesResult> response =
                     journalEntryController.findAllPaged(0, 20, null,
-                            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+                            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, true);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         }
+
+        @Test
+        @DisplayName("カーソル指定時は復元したカーソルをクエリに渡す")
+        void shouldPassDecodedCursorToQuery() {
+            JournalEntryCursor cursor = new JournalEntryCursor(LocalDate.of(2024, 3, 31), 120);
+            when(getJournalEntriesUseCase.execute(any(GetJournalEntriesQuery.class)))
+                    .thenReturn(GetJournalEntriesResult.empty(0, 20));
+
+            journalEntryController.findAllPaged(0, 20, null, null, null, cursor.encode(), true);
+
+            ArgumentCaptor<GetJournalEntriesQuery> captor = ArgumentCaptor.forClass(GetJournalEntriesQuery.class);
+            verify(getJournalEntriesUseCase).execute(captor.capture());
+            assertThat(captor.getValue().cursor()).isEqualTo(cursor);
+            assertThat(captor.getValue().withTotal()).isTrue();
+        }
+
+        @Test
+        @DisplayName("不正なカーソルの場合は BusinessException をスローする")
+        void shouldRejectInvalidCursor() {
+            assertThatThrownBy(() -> journalEntryController.findAllPaged(0, 20, null, null, null, "invalid", true))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage("カーソルが不正です");
+            verify(getJournalEntriesUseCase, never()).execute(any());
+        }
     }
 
     @Nested
@@ -441,7 +510,7 @@ class JournalEntryControllerTest {
             ResponseEntity<GetJournalEntriesResult> response =
                     journalEntryController.search(0, 20, List.of("DRAFT"),
                             LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31),
-                            100, new BigDecimal("1000"), new BigDecimal("5000"), "売上");
+                            100, new BigDecimal("1000"), new BigDecimal("5000"), "売上", null, true, false);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
@@ -454,7 +523,7 @@ class JournalEntryControllerTest {
             when(searchJournalEntriesUseCase.execute(any(SearchJournalEntriesQuery.class))).thenReturn(result);
 
             ResponseEntity<GetJournalEntriesResult> response =
-                    journalEntryController.search(0, 20, null, null, null, null, null, null, null);
+                    journalEntryController.search(0, 20, null, null, null, null, null, null, null, null, true, false);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         }
@@ -833,6 +902,58 @@ class JournalEntryControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("仕訳確定取消")
+    class CancelJournalEntryConfirmation {
+
+        @Test
+        @DisplayName("確定取消が成功した場合は200を返す")
+        void shouldReturnOkWhenCancelSucceeds() {
+            when(cancelJournalEntryConfirmationUseCase.execute(any(CancelJournalEntryConfirmationCommand.class)))
+                    .thenReturn(CancelJournalEntryConfirmationResult.success(1, "APPROVED"));
+
+            ResponseEntity<CancelJournalEntryConfirmationResponse> response =
+                    journalEntryController.cancelConfirmation(1, userDetails("manager"), httpServletRequest);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().success()).isTrue();
+            assertThat(response.getBody().journalEntryId()).isEqualTo(1);
+            assertThat(response.getBody().status()).isEqualTo("APPROVED");
+            assertThat(response.getBody().message()).isEqualTo("仕訳の確定を取り消しました");
+            assertAuditLog("manager", AuditAction.UPDATE, EntityType.JOURNAL_ENTRY, "1", "仕訳伝票確定取消");
+        }
+
+        @Test
+        @DisplayName("仕訳が見つからない場合は404を返す")
+        void shouldReturn404WhenNotFound() {
+            when(cancelJournalEntryConfirmationUseCase.execute(any(CancelJournalEntryConfirmationCommand.class)))
+                    .thenReturn(CancelJournalEntryConfirmationResult.failure("仕訳が見つかりません"));
+
+            ResponseEntity<CancelJournalEntryConfirmationResponse> response =
+                    journalEntryController.cancelConfirmation(999, userDetails("manager"), httpServletRequest);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            verify(recordAuditLogUseCase, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("ステータスエラーの場合は400を返す")
+        void shouldReturn400WhenStatusError() {
+            when(cancelJournalEntryConfirmationUseCase.execute(any(CancelJournalEntryConfirmationCommand.class)))
+                    .thenReturn(CancelJournalEntryConfirmationResult.failure("確定済み状態の仕訳のみ確定取消可能です"));
+
+            ResponseEntity<CancelJournalEntryConfirmationResponse> response =
+                    journalEntryController.cancelConfirmation(1, userDetails("manager"), httpServletRequest);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().success()).isFalse();
+            assertThat(response.getBody().errorMessage()).isEqualTo("確定済み状態の仕訳のみ確定取消可能です");
+            verify(recordAuditLogUseCase, never()).execute(any());
+        }
+    }
+
     @Nested
     @DisplayName("仕訳差し戻し")
     class RejectJournalEntry {
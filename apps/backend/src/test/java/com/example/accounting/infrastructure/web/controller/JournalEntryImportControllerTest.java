@@ -0,0 +1,302 @@
+package com.example.accounting.infrastructure.web.controller;
+
+import com.example.accounting.application.port.in.ImportJournalEntriesUseCase;
+import com.example.accounting.application.port.in.RecordAuditLogUseCase;
+import com.example.accounting.application.port.in.RecordAuditLogUseCase.RecordAuditLogCommand;
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand;
+import com.example.accounting.application.port.in.command.ImportJournalEntriesCommand.Format;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult;
+import com.example.accounting.application.port.out.ImportJournalEntriesResult.ImportError;
+import com.example.accounting.application.port.out.JournalImportJob;
+import com.example.accounting.application.port.out.UserRepository;
+import com.example.accounting.domain.model.audit.AuditAction;
+import com.example.accounting.domain.model.user.Email;
+import com.example.accounting.domain.model.user.Password;
+import com.example.accounting.domain.model.user.Role;
+import com.example.accounting.domain.model.user.User;
+import com.example.accounting.domain.model.user.UserId;
+import com.example.accounting.domain.model.user.Username;
+import com.example.accounting.infrastructure.config.IdempotencyProperties;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import com.example.accounting.infrastructure.web.idempotency.IdempotencyKeyStore;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("仕訳一括取込コントローラ")
+class JournalEntryImportControllerTest {
+
+    @Mock
+    private ImportJournalEntriesUseCase importJournalEntriesUseCase;
+
+    @Mock
+    private RecordAuditLogUseCase recordAuditLogUseCase;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private HttpServletRequest httpServletRequest;
+
+    private JournalEntryImportController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new JournalEntryImportController(importJournalEntriesUseCase, recordAuditLogUseCase, userRepository,
+                new IdempotencyKeyStore(new IdempotencyProperties(Duration.ofHours(24), 100), Clock.systemUTC()));
+        lenient().when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+        lenient().when(userRepository.findByUsername("user1"))
+                .thenReturn(Try.success(Optional.of(dummyUser())));
+    }
+
+    @Test
+    @DisplayName("取込ジョブを開始して 202 を返し、監査ログを 1 件記録する")
+    void shouldStartImportAndRecordAuditLog() {
+        ImportJournalEntriesResult result = progress(JournalImportJob.RUNNING);
+        when(importJournalEntriesUseCase.start(any(ImportJournalEntriesCommand.class))).thenReturn(Either.right(result));
+
+        ResponseEntity<ImportJournalEntriesResult> response =
+                controller.importEntries(csvFile("entries.CSV"), principal(), httpServletRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isEqualTo(result);
+
+        ArgumentCaptor<ImportJournalEntriesCommand> commandCaptor =
+                ArgumentCaptor.forClass(ImportJournalEntriesCommand.class);
+        verify(importJournalEntriesUseCase).start(commandCaptor.capture());
+        assertThat(commandCaptor.getValue().format()).isEqualTo(Format.CSV);
+        assertThat(commandCaptor.getValue().fileName()).isEqualTo("entries.CSV");
+        assertThat(commandCaptor.getValue().createdByUserId()).isEqualTo("user-1");
+
+        ArgumentCaptor<RecordAuditLogCommand> auditCaptor = ArgumentCaptor.forClass(RecordAuditLogCommand.class);
+        verify(recordAuditLogUseCase).execute(auditCaptor.capture());
+        assertThat(auditCaptor.getValue().actionType()).isEqualTo(AuditAction.CREATE);
+        assertThat(auditCaptor.getValue().entityId()).isEqualTo("job-1");
+        assertThat(auditCaptor.getValue().description()).isEqualTo("仕訳一括取込開始（entries.CSV）");
+    }
+
+    @Test
+    @DisplayName("CSV・Excel 以外のファイルは BusinessException")
+    void shouldRejectUnsupportedFile() {
+        assertThatThrownBy(() -> controller.importEntries(csvFile("entries.txt"), principal(), httpServletRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("取込ファイルは CSV（.csv）または Excel（.xlsx）を指定してください");
+        verify(importJournalEntriesUseCase, never()).start(any());
+    }
+
+    @Test
+    @DisplayName("ジョブを開始できない場合は BusinessException")
+    void shouldRejectWhenJobCannotStart() {
+        when(importJournalEntriesUseCase.start(any(ImportJournalEntriesCommand.class)))
+                .thenReturn(Either.left("取込ファイルを保管できませんでした: disk full"));
+
+        assertThatThrownBy(() -> controller.importEntries(csvFile("entries.csv"), principal(), httpServletRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("取込ファイルを保管できませんでした: disk full");
+        verify(recordAuditLogUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("監査ログの記録に失敗しても取込ジョブを返す")
+    void shouldReturnResultWhenAuditLogFails() {
+        ImportJournalEntriesResult result = progress(JournalImportJob.RUNNING);
+        when(importJournalEntriesUseCase.start(any(ImportJournalEntriesCommand.class))).thenReturn(Either.right(result));
+        doThrow(new RuntimeException("audit error")).when(recordAuditLogUseCase).execute(any());
+
+        ResponseEntity<ImportJournalEntriesResult> response =
+                controller.importEntries(csvFile("entries.csv"), principal(), httpServletRequest);
+
+        assertThat(response.getBody()).isEqualTo(result);
+    }
+
+    @Nested
+    @DisplayName("Idempotency-Key")
+    class IdempotencyKey {
+
+        @BeforeEach
+        void setUpKey() {
+            when(httpServletRequest.getHeader(IdempotencyKeyStore.HEADER)).thenReturn("key-1");
+        }
+
+        @Test
+        @DisplayName("同じ内容のファイルの再送は取込ジョブを開始せずに最初の応答を返す")
+        void shouldReplaySameFile() {
+            ImportJournalEntriesResult result = progress(JournalImportJob.RUNNING);
+            when(importJournalEntriesUseCase.start(any(ImportJournalEntriesCommand.class)))
+                    .thenReturn(Either.right(result));
+
+            controller.importEntries(csvFile("entries.csv", "A1"), principal(), httpServletRequest);
+            ResponseEntity<ImportJournalEntriesResult> replayed =
+                    controller.importEntries(csvFile("entries.csv", "A1"), principal(), httpServletRequest);
+
+            assertThat(replayed.getBody()).isEqualTo(result);
+            verify(importJournalEntriesUseCase).start(any(ImportJournalEntriesCommand.class));
+        }
+
+        @Test
+        @DisplayName("ファイル名とサイズが同じでも内容が違えば別の要求として拒否する")
+        void shouldRejectDifferentContentWithSameNameAndSize() {
+            when(importJournalEntriesUseCase.start(any(ImportJournalEntriesCommand.class)))
+                    .thenReturn(Either.right(progress(JournalImportJob.RUNNING)));
+            controller.importEntries(csvFile("entries.csv", "A1"), principal(), httpServletRequest);
+
+            assertThatThrownBy(() -> controller.importEntries(csvFile("entries.csv", "B2"), principal(),
+                    httpServletRequest))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("別の内容の要求");
+        }
+    }
+
+    @Nested
+    @DisplayName("ジョブ操作")
+    class JobOperations {
+
+        @BeforeEach
+        void setUpOwner() {
+            lenient().when(importJournalEntriesUseCase.findOwner("job-1")).thenReturn(Optional.of("user-1"));
+        }
+
+        @Test
+        @DisplayName("進捗を返す")
+        void shouldReturnProgress() {
+            ImportJournalEntriesResult result = progress(JournalImportJob.RUNNING);
+            when(importJournalEntriesUseCase.findJob("job-1")).thenReturn(Optional.of(result));
+
+            ResponseEntity<ImportJournalEntriesResult> response =
+                    controller.findJob("job-1", principal(), httpServletRequest);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo(result);
+        }
+
+        @Test
+        @DisplayName("存在しないジョブは 404")
+        void shouldReturnNotFound() {
+            when(importJournalEntriesUseCase.findJob("missing")).thenReturn(Optional.empty());
+
+            assertThat(controller.findJob("missing", principal(), httpServletRequest).getStatusCode())
+                    .isEqualTo(HttpStatus.NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("他のユーザーが開始したジョブは照会・中止・再開できない")
+        void shouldDenyOtherUsersJob() {
+            when(importJournalEntriesUseCase.findOwner("job-2")).thenReturn(Optional.of("user-2"));
+
+            assertThatThrownBy(() -> controller.findJob("job-2", principal(), httpServletRequest))
+                    .isInstanceOf(AccessDeniedException.class);
+            assertThatThrownBy(() -> controller.cancel("job-2", principal(), httpServletRequest))
+                    .isInstanceOf(AccessDeniedException.class);
+            assertThatThrownBy(() -> controller.resume("job-2", principal(), httpServletRequest))
+                    .isInstanceOf(AccessDeniedException.class);
+            verify(importJournalEntriesUseCase, never()).findJob(any());
+            verify(importJournalEntriesUseCase, never()).cancel(any());
+            verify(importJournalEntriesUseCase, never()).resume(any());
+        }
+
+        @Test
+        @DisplayName("管理者は他のユーザーが開始したジョブも操作できる")
+        void shouldAllowAdminToAccessOtherUsersJob() {
+            ImportJournalEntriesResult result = progress(JournalImportJob.RUNNING);
+            when(httpServletRequest.isUserInRole("ADMIN")).thenReturn(true);
+            when(importJournalEntriesUseCase.findJob("job-2")).thenReturn(Optional.of(result));
+
+            ResponseEntity<ImportJournalEntriesResult> response =
+                    controller.findJob("job-2", principal(), httpServletRequest);
+
+            assertThat(response.getBody()).isEqualTo(result);
+            verify(importJournalEntriesUseCase, never()).findOwner(any());
+        }
+
+        @Test
+        @DisplayName("中止できないジョブは BusinessException")
+        void shouldRejectCancel() {
+            when(importJournalEntriesUseCase.cancel("job-1")).thenReturn(Either.left("実行中の取込ジョブではありません"));
+
+            assertThatThrownBy(() -> controller.cancel("job-1", principal(), httpServletRequest))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage("実行中の取込ジョブではありません");
+        }
+
+        @Test
+        @DisplayName("再開を受け付けて 202 を返す")
+        void shouldResume() {
+            ImportJournalEntriesResult result = progress(JournalImportJob.RUNNING);
+            when(importJournalEntriesUseCase.resume("job-1")).thenReturn(Either.right(result));
+
+            ResponseEntity<ImportJournalEntriesResult> response =
+                    controller.resume("job-1", principal(), httpServletRequest);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            assertThat(response.getBody()).isEqualTo(result);
+        }
+    }
+
+    private ImportJournalEntriesResult progress(String status) {
+        LocalDateTime now = LocalDateTime.of(2024, 4, 1, 9, 0);
+        return new ImportJournalEntriesResult("job-1", "entries.CSV", status, 4, 5, 1, 1, 0,
+                now, now, null, null, List.of(new ImportError(4, "E1", "貸借一致していません")));
+    }
+
+    private MockMultipartFile csvFile(String fileName) {
+        return new MockMultipartFile("file", fileName, "text/csv",
+                "伝票キー,仕訳日,摘要,行番号,勘定科目コード,借方金額,貸方金額\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MockMultipartFile csvFile(String fileName, String entryKey) {
+        return new MockMultipartFile("file", fileName, "text/csv",
+                ("伝票キー,仕訳日,摘要,行番号,勘定科目コード,借方金額,貸方金額\n"
+                        + entryKey + ",2024-04-01,売上計上,1,1100,1000,\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Principal principal() {
+        return () -> "user1";
+    }
+
+    private User dummyUser() {
+        return User.reconstruct(
+                UserId.of("user-1"),
+                Username.reconstruct("user1"),
+                Email.reconstruct("user@example.com"),
+                Password.reconstruct("hashed"),
+                "User",
+                Role.USER,
+                true,
+                false,
+                0,
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+}
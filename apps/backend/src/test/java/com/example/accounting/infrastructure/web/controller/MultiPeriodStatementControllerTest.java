@@ -0,0 +1,141 @@
+package com.example.accounting.infrastructure.web.controller;
+
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery;
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery.PeriodUnit;
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementQuery.StatementType;
+import com.example.accounting.application.port.in.query.GetMultiPeriodStatementUseCase;
+import com.example.accounting.application.port.out.GetMultiPeriodStatementResult;
+import com.example.accounting.application.service.MultiPeriodStatementExportService;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.infrastructure.web.etag.LedgerVersionETag;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("複数期間財務諸表コントローラ")
+class MultiPeriodStatementControllerTest {
+
+    private static final GetMultiPeriodStatementResult EMPTY_RESULT =
+            new GetMultiPeriodStatementResult("PROFIT_AND_LOSS", List.of(), List.of(), List.of());
+
+    @Mock
+    private GetMultiPeriodStatementUseCase getMultiPeriodStatementUseCase;
+
+    @Mock
+    private MultiPeriodStatementExportService exportService;
+
+    @Mock
+    private LedgerVersion ledgerVersion;
+
+    private MultiPeriodStatementController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new MultiPeriodStatementController(getMultiPeriodStatementUseCase, exportService,
+                new LedgerVersionETag(ledgerVersion));
+    }
+
+    @Test
+    @DisplayName("照会条件をクエリに変換して複数期間財務諸表を返す")
+    void shouldGetMultiPeriodStatement() {
+        when(getMultiPeriodStatementUseCase.execute(any(GetMultiPeriodStatementQuery.class))).thenReturn(EMPTY_RESULT);
+
+        ResponseEntity<GetMultiPeriodStatementResult> response = controller.getMultiPeriodStatement(
+                "PROFIT_AND_LOSS", YearMonth.of(2024, 4), 12, "MONTH", webRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(EMPTY_RESULT);
+        assertThat(response.getHeaders().getETag()).isNotNull();
+
+        ArgumentCaptor<GetMultiPeriodStatementQuery> captor = ArgumentCaptor.forClass(GetMultiPeriodStatementQuery.class);
+        verify(getMultiPeriodStatementUseCase).execute(captor.capture());
+        assertThat(captor.getValue().statementType()).isEqualTo(StatementType.PROFIT_AND_LOSS);
+        assertThat(captor.getValue().startMonth()).isEqualTo(YearMonth.of(2024, 4));
+        assertThat(captor.getValue().periodCount()).isEqualTo(12);
+        assertThat(captor.getValue().periodUnit()).isEqualTo(PeriodUnit.MONTH);
+    }
+
+    @Test
+    @DisplayName("期間数が上限を超える場合は BusinessException")
+    void shouldRejectTooManyPeriods() {
+        WebRequest webRequest = webRequest();
+        YearMonth startMonth = YearMonth.of(2024, 4);
+
+        assertThatThrownBy(() -> controller.getMultiPeriodStatement("BALANCE_SHEET", startMonth, 37, "MONTH",
+                webRequest))
+                .isInstanceOf(BusinessException.class);
+        verify(getMultiPeriodStatementUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("CSV 形式でエクスポートできる")
+    void shouldExportToCsv() {
+        when(getMultiPeriodStatementUseCase.execute(any(GetMultiPeriodStatementQuery.class))).thenReturn(EMPTY_RESULT);
+        byte[] csvBytes = "区分,科目コード,科目名".getBytes();
+        when(exportService.exportToCsv(EMPTY_RESULT)).thenReturn(Try.success(csvBytes));
+
+        ResponseEntity<byte[]> response = controller.exportMultiPeriodStatement(
+                "PROFIT_AND_LOSS", YearMonth.of(2024, 4), 12, "MONTH", "csv");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(csvBytes);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .contains("multi-period-statement.csv");
+    }
+
+    @Test
+    @DisplayName("format 未指定時は Excel をデフォルトとする")
+    void shouldDefaultToExcel() {
+        when(getMultiPeriodStatementUseCase.execute(any(GetMultiPeriodStatementQuery.class))).thenReturn(EMPTY_RESULT);
+        byte[] excelBytes = {0x50, 0x4B, 0x03, 0x04};
+        when(exportService.exportToExcel(EMPTY_RESULT)).thenReturn(Try.success(excelBytes));
+
+        ResponseEntity<byte[]> response = controller.exportMultiPeriodStatement(
+                "PROFIT_AND_LOSS", YearMonth.of(2024, 4), 12, "MONTH", "excel");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType())
+                .isEqualTo(MediaType.parseMediaType(
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+    }
+
+    @Test
+    @DisplayName("エクスポート失敗時は 500 エラーを返す")
+    void shouldReturn500WhenExportFails() {
+        when(getMultiPeriodStatementUseCase.execute(any(GetMultiPeriodStatementQuery.class))).thenReturn(EMPTY_RESULT);
+        when(exportService.exportToExcel(EMPTY_RESULT)).thenReturn(Try.failure(new RuntimeException("error")));
+
+        ResponseEntity<byte[]> response = controller.exportMultiPeriodStatement(
+                "PROFIT_AND_LOSS", YearMonth.of(2024, 4), 12, "MONTH", "excel");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private static WebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/multi-period-statements"));
+    }
+}
@@ -6,6 +6,8 @@ import com.example.accounting.application.port.out.GetProfitAndLossResult;
 import com.example.accounting.application.port.out.GetProfitAndLossResult.ProfitAndLossEntry;
 import com.example.accounting.application.port.out.GetProfitAndLossResult.ProfitAndLossSection;
 import com.example.accounting.application.service.ProfitAndLossExportService;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.infrastructure.web.etag.LedgerVersionETag;
 import io.vavr.control.Try;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +20,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -38,11 +43,15 @@ class ProfitAndLossControllerTest {
     @Mock
     private ProfitAndLossExportService exportService;
 
+    @Mock
+    private LedgerVersion ledgerVersion;
+
     private ProfitAndLossController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new ProfitAndLossController(getProfitAndLossUseCase, exportService);
+        controller = new ProfitAndLossController(getProfitAndLossUseCase, exportService,
+                new LedgerVersionETag(ledgerVersion));
     }
 
     @Test
@@ -63,7 +72,7 @@ class ProfitAndLossControllerTest {
         when(getProfitAndLossUseCase.execute(any(GetProfitAndLossQuery.class))).thenReturn(result);
 
         ResponseEntity<GetProfitAndLossResult> response = controller.getProfitAndLoss(
-                dateFrom, dateTo, null, null);
+                dateFrom, dateTo, null, null, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(result);
@@ -88,7 +97,7 @@ class ProfitAndLossControllerTest {
         when(getProfitAndLossUseCase.execute(any(GetProfitAndLossQuery.class))).thenReturn(result);
 
         ResponseEntity<GetProfitAndLossResult> response = controller.getProfitAndLoss(
-                dateFrom, dateTo, compDateFrom, compDateTo);
+                dateFrom, dateTo, compDateFrom, compDateTo, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 
@@ -108,7 +117,7 @@ class ProfitAndLossControllerTest {
         when(getProfitAndLossUseCase.execute(any(GetProfitAndLossQuery.class))).thenReturn(result);
 
         ResponseEntity<GetProfitAndLossResult> response = controller.getProfitAndLoss(
-                null, null, null, null);
+                null, null, null, null, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 
@@ -204,4 +213,8 @@ class ProfitAndLossControllerTest {
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    private WebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/profit-and-loss"));
+    }
 }
@@ -69,7 +69,9 @@ class SubsidiaryLedgerControllerTest {
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31),
                 0,
-                20
+                20,
+                null,
+                true
         );
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
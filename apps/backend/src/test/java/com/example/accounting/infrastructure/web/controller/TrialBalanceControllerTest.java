@@ -4,6 +4,8 @@ import com.example.accounting.application.port.in.query.GetTrialBalanceQuery;
 import com.example.accounting.application.port.in.query.GetTrialBalanceUseCase;
 import com.example.accounting.application.port.out.GetTrialBalanceResult;
 import com.example.accounting.application.port.out.GetTrialBalanceResult.TrialBalanceEntry;
+import com.example.accounting.application.service.report.LedgerVersion;
+import com.example.accounting.infrastructure.web.etag.LedgerVersionETag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,8 +13,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,6 +26,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,11 +40,15 @@ class TrialBalanceControllerTest {
     @Mock
     private com.example.accounting.application.service.TrialBalanceExportService exportService;
 
+    @Mock
+    private LedgerVersion ledgerVersion;
+
     private TrialBalanceController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new TrialBalanceController(getTrialBalanceUseCase, exportService);
+        controller = new TrialBalanceController(getTrialBalanceUseCase, exportService,
+                new LedgerVersionETag(ledgerVersion));
     }
 
     @Test
@@ -58,7 +69,7 @@ class TrialBalanceControllerTest {
         );
         when(getTrialBalanceUseCase.execute(any(GetTrialBalanceQuery.class))).thenReturn(result);
 
-        ResponseEntity<GetTrialBalanceResult> response = controller.getTrialBalance(date);
+        ResponseEntity<GetTrialBalanceResult> response = controller.getTrialBalance(date, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(result);
@@ -79,7 +90,7 @@ class TrialBalanceControllerTest {
         );
         when(getTrialBalanceUseCase.execute(any(GetTrialBalanceQuery.class))).thenReturn(result);
 
-        ResponseEntity<GetTrialBalanceResult> response = controller.getTrialBalance(null);
+        ResponseEntity<GetTrialBalanceResult> response = controller.getTrialBalance(null, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 
@@ -87,4 +98,31 @@ class TrialBalanceControllerTest {
         verify(getTrialBalanceUseCase).execute(captor.capture());
         assertThat(captor.getValue().date()).isNull();
     }
+
+    @Test
+    @DisplayName("If-None-Match が現在の ETag と一致する場合は集計せずに 304 を返す")
+    void shouldReturnNotModifiedWhenETagMatches() {
+        GetTrialBalanceResult result = new GetTrialBalanceResult(
+                null,
+                BigDecimal.ZERO, BigDecimal.ZERO,
+                true, BigDecimal.ZERO,
+                List.of(), List.of()
+        );
+        when(getTrialBalanceUseCase.execute(any(GetTrialBalanceQuery.class))).thenReturn(result);
+        String etag = controller.getTrialBalance(null, webRequest()).getHeaders().getETag();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trial-balance");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        ResponseEntity<GetTrialBalanceResult> response =
+                controller.getTrialBalance(null, new ServletWebRequest(request));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+        verify(getTrialBalanceUseCase, times(1)).execute(any(GetTrialBalanceQuery.class));
+    }
+
+    private WebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/trial-balance"));
+    }
 }
@@ -0,0 +1,92 @@
+package com.example.accounting.infrastructure.web.etag;
+
+import com.example.accounting.application.service.report.LedgerVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("元帳の版による帳票照会 API の条件付き応答")
+class LedgerVersionETagTest {
+
+    private LedgerVersion ledgerVersion;
+    private LedgerVersionETag ledgerVersionETag;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        ledgerVersion = mock(LedgerVersion.class);
+        ledgerVersionETag = new LedgerVersionETag(ledgerVersion);
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("If-None-Match がない場合は帳票を集計し、ETag と Cache-Control を付けて返す")
+    void shouldReturnReportWithETag() {
+        ResponseEntity<String> response = ledgerVersionETag.respond(
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/reports")), this::report);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("report-1");
+        assertThat(response.getHeaders().getETag()).isEqualTo(ledgerVersionETag.current());
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+    }
+
+    @Test
+    @DisplayName("If-None-Match が現在の ETag と一致する場合は集計せずに 304 を返す")
+    void shouldReturnNotModifiedWhenETagMatches() {
+        ResponseEntity<String> response = ledgerVersionETag.respond(
+                requestWithIfNoneMatch(ledgerVersionETag.current()), this::report);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("元帳が変更された後は以前の ETag と一致せず、帳票を集計し直す")
+    void shouldReturnReportAfterLedgerChanged() {
+        String previous = ledgerVersionETag.current();
+        when(ledgerVersion.current()).thenReturn(1L);
+
+        ResponseEntity<String> response = ledgerVersionETag.respond(requestWithIfNoneMatch(previous), this::report);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(previous);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB で共有する版から作るため、別のインスタンスが返した ETag とも一致する")
+    void shouldMatchETagFromAnotherInstance() {
+        when(ledgerVersion.current()).thenReturn(42L);
+        String fromAnotherInstance = new LedgerVersionETag(ledgerVersion).current();
+
+        ResponseEntity<String> response = ledgerVersionETag.respond(
+                requestWithIfNoneMatch(fromAnotherInstance), this::report);
+
+        assertThat(fromAnotherInstance).isEqualTo("\"42\"");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(executions.get()).isZero();
+    }
+
+    private ServletWebRequest requestWithIfNoneMatch(String etag) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reports");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        return new ServletWebRequest(request);
+    }
+
+    private String report() {
+        return "report-" + executions.incrementAndGet();
+    }
+}
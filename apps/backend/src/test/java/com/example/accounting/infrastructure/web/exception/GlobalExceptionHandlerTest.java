@@ -237,6 +237,20 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().path()).isEqualTo("/api/test");
     }
 
+    @Test
+    @DisplayName("IdempotencyKeyConflictExceptionを409で返す")
+    void shouldReturn409ForIdempotencyKeyConflictException() {
+        IdempotencyKeyConflictException ex = new IdempotencyKeyConflictException("同じ Idempotency-Key の要求を処理中です");
+
+        ResponseEntity<ErrorResponse> response = handler.handleIdempotencyKeyConflictException(ex, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(409);
+        assertThat(response.getBody().error()).isEqualTo("Idempotency Key Conflict");
+        assertThat(response.getBody().message()).isEqualTo("同じ Idempotency-Key の要求を処理中です");
+    }
+
     @Test
     @DisplayName("予期しない例外を500で返す")
     void shouldReturn500ForUnexpectedException() {
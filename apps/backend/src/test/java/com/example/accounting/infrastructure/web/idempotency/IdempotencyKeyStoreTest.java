@@ -0,0 +1,188 @@
+package com.example.accounting.infrastructure.web.idempotency;
+
+import com.example.accounting.infrastructure.config.IdempotencyProperties;
+import com.example.accounting.infrastructure.web.exception.BusinessException;
+import com.example.accounting.infrastructure.web.exception.IdempotencyKeyConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Idempotency-Key による要求の重複排除")
+class IdempotencyKeyStoreTest {
+
+    private MutableClock clock;
+    private IdempotencyKeyStore store;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-04-01T00:00:00Z"));
+        store = new IdempotencyKeyStore(new IdempotencyProperties(Duration.ofHours(24), 100), clock);
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("ヘッダがない場合は毎回実行する")
+    void shouldExecuteEveryTimeWithoutKey() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        store.execute(request, "create", "user1", "body", this::created);
+        store.execute(request, "create", "user1", "body", this::created);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("同じキーの再送では実行せず、最初の応答に再送ヘッダを付けて返す")
+    void shouldReplayFirstResponse() {
+        MockHttpServletRequest request = requestWithKey("key-1");
+
+        ResponseEntity<String> first = store.execute(request, "create", "user1", "body", this::created);
+        ResponseEntity<String> replayed = store.execute(request, "create", "user1", "body", this::created);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.getHeaders().containsHeader(IdempotencyKeyStore.REPLAYED_HEADER)).isFalse();
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getBody()).isEqualTo("response-1");
+        assertThat(replayed.getHeaders().getFirst(IdempotencyKeyStore.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("キーは利用者・操作ごとに区別する")
+    void shouldScopeKeyByUserAndOperation() {
+        MockHttpServletRequest request = requestWithKey("key-1");
+
+        store.execute(request, "create", "user1", "body", this::created);
+        store.execute(request, "create", "user2", "body", this::created);
+        store.execute(request, "generate", "user1", "body", this::created);
+
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("同じキーで内容の異なる要求は BusinessException")
+    void shouldRejectKeyReusedForDifferentRequest() {
+        MockHttpServletRequest request = requestWithKey("key-1");
+        store.execute(request, "create", "user1", "body", this::created);
+
+        assertThatThrownBy(() -> store.execute(request, "create", "user1", "other body", this::created))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo("IDEMPOTENCY_KEY_REUSED");
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("最初の要求が処理中の場合は IdempotencyKeyConflictException")
+    void shouldRejectWhileFirstRequestInProgress() {
+        MockHttpServletRequest request = requestWithKey("key-1");
+        Supplier<ResponseEntity<String>> duplicate = () -> store.execute(request, "create", "user1", "body", this::created);
+
+        assertThatThrownBy(() -> store.execute(request, "create", "user1", "body", duplicate))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+    }
+
+    @Test
+    @DisplayName("処理が例外で終わった場合はキーを解放し、再送で再実行する")
+    void shouldReleaseKeyWhenActionFails() {
+        MockHttpServletRequest request = requestWithKey("key-1");
+
+        assertThatThrownBy(() -> store.execute(request, "create", "user1", "body", () -> {
+            throw new IllegalStateException("db error");
+        })).isInstanceOf(IllegalStateException.class);
+        ResponseEntity<String> retried = store.execute(request, "create", "user1", "body", this::created);
+
+        assertThat(retried.getBody()).isEqualTo("response-1");
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("有効期限を過ぎたキーの要求は新しい要求として実行する")
+    void shouldExecuteAgainAfterTtl() {
+        MockHttpServletRequest request = requestWithKey("key-1");
+        store.execute(request, "create", "user1", "body", this::created);
+
+        clock.advance(Duration.ofHours(24));
+        ResponseEntity<String> response = store.execute(request, "create", "user1", "body", this::created);
+
+        assertThat(response.getBody()).isEqualTo("response-2");
+    }
+
+    @Test
+    @DisplayName("保持件数が上限を超えた場合は有効期限の近い応答から破棄する")
+    void shouldEvictOldestWhenOverCapacity() {
+        store = new IdempotencyKeyStore(new IdempotencyProperties(Duration.ofHours(24), 2), clock);
+        store.execute(requestWithKey("key-1"), "create", "user1", "body", this::created);
+        clock.advance(Duration.ofSeconds(1));
+        store.execute(requestWithKey("key-2"), "create", "user1", "body", this::created);
+        clock.advance(Duration.ofSeconds(1));
+        store.execute(requestWithKey("key-3"), "create", "user1", "body", this::created);
+
+        ResponseEntity<String> key2 = store.execute(requestWithKey("key-2"), "create", "user1", "body", this::created);
+        ResponseEntity<String> key1 = store.execute(requestWithKey("key-1"), "create", "user1", "body", this::created);
+
+        assertThat(key2.getBody()).isEqualTo("response-2");
+        assertThat(key1.getBody()).isEqualTo("response-4");
+    }
+
+    @Test
+    @DisplayName("長すぎるキーは BusinessException")
+    void shouldRejectTooLongKey() {
+        MockHttpServletRequest request = requestWithKey("k".repeat(256));
+
+        assertThatThrownBy(() -> store.execute(request, "create", "user1", "body", this::created))
+                .isInstanceOf(BusinessException.class);
+        assertThat(executions.get()).isZero();
+    }
+
+    private ResponseEntity<String> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).body("response-" + executions.incrementAndGet());
+    }
+
+    private MockHttpServletRequest requestWithKey(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdempotencyKeyStore.HEADER, key);
+        return request;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}